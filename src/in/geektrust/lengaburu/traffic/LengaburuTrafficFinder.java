@@ -4,14 +4,37 @@
 */
 package in.geektrust.lengaburu.traffic;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.stream.IntStream;
 
 import in.geektrust.lengaburu.traffic.beans.Orbit;
+import in.geektrust.lengaburu.traffic.beans.TrafficQuery;
 import in.geektrust.lengaburu.traffic.beans.TraverseDetail;
 import in.geektrust.lengaburu.traffic.beans.Vehicle;
 import in.geektrust.lengaburu.traffic.beans.Weather;
+import in.geektrust.lengaburu.traffic.beans.WeatherType;
+import in.geektrust.lengaburu.traffic.cache.ArrivalProfileCache;
+import in.geektrust.lengaburu.traffic.engine.ContractionHierarchies;
+import in.geektrust.lengaburu.traffic.engine.DynamicRouteOptimizer;
+import in.geektrust.lengaburu.traffic.engine.MultiDestinationTourSolver;
+import in.geektrust.lengaburu.traffic.engine.ParetoFront;
+import in.geektrust.lengaburu.traffic.engine.ParetoRouteEngine;
+import in.geektrust.lengaburu.traffic.exception.BusinessException;
+import in.geektrust.lengaburu.traffic.engine.ShortestTimeRouteEngine;
+import in.geektrust.lengaburu.traffic.engine.TravelTimeMatrix;
+import in.geektrust.lengaburu.traffic.engine.TravelTimeMatrixEngine;
 import in.geektrust.lengaburu.traffic.helper.LengaburuTrafficHelper;
+import in.geektrust.lengaburu.traffic.initializer.LengaburuTrafficInitializer;
+import in.geektrust.lengaburu.traffic.metrics.TrafficMetrics;
+import in.geektrust.lengaburu.traffic.metrics.TrafficMetrics.Phase;
+import in.geektrust.lengaburu.traffic.network.RoadNetwork;
+import in.geektrust.lengaburu.traffic.network.SpeedLimitOverlay;
+import in.geektrust.lengaburu.traffic.network.WeatherCostTable;
 import in.geektrust.lengaburu.traffic.utils.ObjectValidationUtils;
 import in.geektrust.lengaburu.traffic.validator.LengaburuTrafficValidator;
 
@@ -21,6 +44,18 @@ import in.geektrust.lengaburu.traffic.validator.LengaburuTrafficValidator;
  * It contains solutions for following problems: 
  * 1. Problem 1 | Goal: To go from Source(e.g. Silk Dorb) to destination (e.g. Hallitharam) in the shortest possible time.
  * 2. Problem 2 | Goal: To go from Source(e.g. Silk Dorb) to two different destinations (e.g. Hallitharam, RK Puram) in the shortest possible time.
+ * 3. Route	   | Goal: To go from Source to destination in the shortest possible time, via any intermediate suburbs (e.g. Bark).
+ * 			   | Route can also depart at a given time of day, with speed profiles of orbits (e.g. evening jam on Silk Drob).
+ * 4. Tour	   | Goal: To go from Source to any number of destinations in the shortest possible time, in any order.
+ * 5. Alternatives | Goal: Best K (vehicle, orbit-sequence) options of Problem 1 or Problem 2, ranked. e.g. fall back when a vehicle is not available.
+ * 6. Matrix	   | Goal: Shortest possible time (and its vehicle) from each of many origins to each of many destinations.
+ * 7. Pareto	   | Goal: Every route from source to destination, for which no other route is as quick with as few craters.
+ * 
+ * Queries of Problem 1 and Problem 2 can also be solved in batches, in parallel (see solveBatch).
+ * 
+ * Note: Speed limits are kept per query and shared orbit details are never modified. 
+ * 		 So one instance can serve any number of threads at once, without locking.
+ * 		 RoadNetwork is read once per query (or batch), see snapshot().
  * 
  * @author - Ritesh Bangal
  * @version 1.0
@@ -34,6 +69,27 @@ public class LengaburuTrafficFinder {
 	// Get the only object available for LengaburuTrafficValidator
 	private static LengaburuTrafficValidator validator = LengaburuTrafficValidator.getInstance();
     
+	// Get the only object available for LengaburuTrafficInitializer
+	private static LengaburuTrafficInitializer initializer = LengaburuTrafficInitializer.getInstance();
+    
+	// Get the only object available for ShortestTimeRouteEngine
+	private static ShortestTimeRouteEngine routeEngine = ShortestTimeRouteEngine.getInstance();
+    
+	// Get the only object available for MultiDestinationTourSolver
+	private static MultiDestinationTourSolver tourSolver = MultiDestinationTourSolver.getInstance();
+    
+	// Get the only object available for TravelTimeMatrixEngine
+	private static TravelTimeMatrixEngine matrixEngine = TravelTimeMatrixEngine.getInstance();
+    
+	// Get the only object available for ParetoRouteEngine
+	private static ParetoRouteEngine paretoEngine = ParetoRouteEngine.getInstance();
+    
+	// Get the only object available for TrafficMetrics
+	private static TrafficMetrics metrics = TrafficMetrics.getInstance();
+    
+	// Precomputed arrival time profiles of busy routes, after 3 queries of the same inputs
+	private static ArrivalProfileCache arrivalProfileCache = new ArrivalProfileCache(256, 3);
+    
 	/**
 	 * Solution for problem 1.
 	 * This method is responsible to calculate optimum time to reach from source to destination.
@@ -41,13 +97,13 @@ public class LengaburuTrafficFinder {
 	 * To do this it performs following operations:
 	 *  1.	Get weather by weather-type.
 	 *  2. 	Based on weather type get all suitable vehicle names and get their corresponding Vehicle objects.
-	 *  3. 	Get all available orbits and update them with user inputs (i.e. speed limit)
+	 *  3. 	Get speed limits of all available orbits from user inputs, as a per-query overlay
 	 * 	4.	Now, based on weather type we can identify actual number of craters for each available orbit.
 	 * 	5.	Find out optimum traverse time for each orbit/route and vehicle combination.
-	 * 	6.	Compare these times and find out the optimized one.
+	 * 	6.	Compare these times on the fly and keep only the optimized one.
 	 * 
 	 * @param pWeatherType - User input
-	 * @param pAvailableOrbits - Updated list of orbit sequences with user's input (speed limit of orbits)
+	 * @param pAvailableOrbits - List of orbit sequences, from LengaburuTrafficHelper.getAvailableOrbits()
 	 * @param pOrbitSpeedLimitMap - This map is used to hold user inputs (orbit's speed limit) corresponding to orbit name.
 	 * 
 	 * @return - Success or failure message after doing calculation for optimum traverse time. 
@@ -55,8 +111,13 @@ public class LengaburuTrafficFinder {
 	public String calculateOptimumTimeForSingleDestination(String pWeatherType, 
 			List<List<Orbit>> pAvailableOrbits, Map<String, Integer> pOrbitSpeedLimitMap) {
 		
+		RoadNetwork network = snapshot();
+		
+		// Count the query by its weather type
+		metrics.countQuery(pWeatherType);
+		
 		// Validate input parameters. If something invalid, it will have invalid message
-		String invalidMessage = validator.validateUserInputs(pWeatherType, pOrbitSpeedLimitMap);
+		String invalidMessage = validator.validateUserInputs(network, pWeatherType, pOrbitSpeedLimitMap);
 		
 		// If all inputs are valid, invalidMessage will be empty. Else if user inputs are not valid, return the invalid message
 		if (ObjectValidationUtils.isNotBlank(invalidMessage)) {
@@ -64,26 +125,22 @@ public class LengaburuTrafficFinder {
 		}
 		
 		// Get weather by weather-type
-		Weather weather = helper.getWeatherByType(pWeatherType);
+		Weather weather = helper.getWeatherByType(network, pWeatherType);
 		
 		// Get all suitable vehicle names for the selected weather and get their corresponding Vehicle objects
-		List<Vehicle> vehicles = helper.getSuitableVehicles(weather.getSuitableVehicleNames());
+		List<Vehicle> vehicles = helper.getSuitableVehicles(network, weather.getSuitableVehicleNames());
 		
-		// Iterate all available orbit-sequences and set it's max speed limit, which came as input.
-		pAvailableOrbits.stream()
-			.forEach(orbitSequence -> orbitSequence.stream()
-				// Update the orbit-sequence with orbit's speed limit
-				.forEach(orbit -> orbit.getVelocityLimit().setSpeed(pOrbitSpeedLimitMap.get(orbit.getOrbitName())))
-			);
+		/*
+		 * Speed limits of this query, which came as input, indexed by orbit id.
+		 * Shared Orbit objects are never updated, so concurrent queries can't see each other's speed limits.
+		 */
+		SpeedLimitOverlay speedLimits = SpeedLimitOverlay.of(pAvailableOrbits, pOrbitSpeedLimitMap);
 
 		/*
-		 * Populate TraverseDetail object with the traverse time, orbit and vehicle.
-		 * Get list of all populated TraverseDetail objects.
+		 * Calculate traverse time for each orbit and vehicle combination, and keep only the optimum one.
+		 * Combinations which can't beat the current optimum, are skipped early.
 		 */
-		List<TraverseDetail> traverseDetails = helper.getTraverseDetails(weather, vehicles, pAvailableOrbits);
-		
-		// Find out the optimum TraverseDetail object from list of traverseDetails
-		TraverseDetail optimumTraverseDetail = helper.findOptimumTraverseDetail(traverseDetails);
+		TraverseDetail optimumTraverseDetail = helper.findOptimumTraverseDetail(weather, vehicles, pAvailableOrbits, speedLimits);
 		
 		// Check optimum TraverseDetail object
 		if (null == optimumTraverseDetail) {
@@ -101,16 +158,17 @@ public class LengaburuTrafficFinder {
 	 * To do this it performs following operations:
 	 *  1.	Get weather by weather-type.
 	 *  2. 	Based on weather type get all suitable vehicle names and get their corresponding Vehicle objects.
-	 *  3. 	Get all available orbit-sequences to traverse multiple destinations and update them with user inputs (i.e. speed limit)
+	 *  3. 	Get speed limits of all available orbit-sequences from user inputs, as a per-query overlay
 	 * 	4.	Now, based on weather type we can identify actual number of craters for each available orbit.
 	 * 	5.	Find out optimum traverse time for each orbit/route - sequence and vehicle combination.
-	 * 	6.	Compare these times and find out the optimized one.
+	 * 	6.	Compare these times on the fly and keep only the optimized one.
 	 * 
-	 * Note: Currently it has been implemented for two destinations. 
-	 * 		 Logic will have slight change in this method to make it more scalable, to support for more than two destinations.
+	 * Note: Orbit-sequences may visit any number of destinations (see LengaburuTrafficHelper.getAvailableOrbitSequences()).
+	 * 		 As they grow factorially with destinations, calculateOptimumTimeForMultipleDestinations(pWeatherType, pSource, 
+	 * 		 pDestinations, pOrbitSpeedLimitMap) solves the same problem from the network, without enumerating them.
 	 * 
 	 * @param pWeatherType - User input
-	 * @param pAvailableOrbitSequences - Updated list of orbit sequences with user's input (speed limit of orbits)
+	 * @param pAvailableOrbitSequences - List of orbit sequences, from LengaburuTrafficHelper.getAvailableOrbitSequences()
 	 * @param pOrbitSpeedLimitMap - This map is used to hold user inputs (orbit's speed limit) corresponding to orbit name.
 	 * 
 	 * @return - Success or failure message after doing calculation for optimum time. 
@@ -118,8 +176,13 @@ public class LengaburuTrafficFinder {
 	public String calculateOptimumTimeForMultipleDestinations(String pWeatherType,
 			List<List<Orbit>> pAvailableOrbitSequences, Map<String, Integer> pOrbitSpeedLimitMap) {
 
+		RoadNetwork network = snapshot();
+		
+		// Count the query by its weather type
+		metrics.countQuery(pWeatherType);
+		
 		// Validate input parameters. If something invalid, it will have invalid message
-		String invalidMessage = validator.validateUserInputs(pWeatherType, pOrbitSpeedLimitMap);
+		String invalidMessage = validator.validateUserInputs(network, pWeatherType, pOrbitSpeedLimitMap);
 		
 		// If all inputs are valid, invalidMessage will be empty. Else if user inputs are not valid, return the invalid message
 		if (ObjectValidationUtils.isNotBlank(invalidMessage)) {
@@ -127,28 +190,23 @@ public class LengaburuTrafficFinder {
 		}
 		
 		// Get weather by weather-type
-		Weather weather = helper.getWeatherByType(pWeatherType);
+		Weather weather = helper.getWeatherByType(network, pWeatherType);
 		
 		// Get all suitable vehicle names for the selected weather and get their corresponding Vehicle objects
-		List<Vehicle> vehicles = helper.getSuitableVehicles(weather.getSuitableVehicleNames());
+		List<Vehicle> vehicles = helper.getSuitableVehicles(network, weather.getSuitableVehicleNames());
 		
-		// Iterate all available orbit-sequences and set it's max speed limit, which came as input.
-		pAvailableOrbitSequences.stream()
-			.forEach(orbitSequence -> orbitSequence.stream()
-				// Update the orbit-sequence with orbit's speed limit
-				.forEach(orbit -> orbit.getVelocityLimit().setSpeed(pOrbitSpeedLimitMap.get(orbit.getOrbitName())))
-			);
+		/*
+		 * Speed limits of this query, which came as input, indexed by orbit id.
+		 * Shared Orbit objects are never updated, so concurrent queries can't see each other's speed limits.
+		 */
+		SpeedLimitOverlay speedLimits = SpeedLimitOverlay.of(pAvailableOrbitSequences, pOrbitSpeedLimitMap);
 
 		/*
-		 * Populate TraverseDetail object with the traverse time, sequence of orbits and vehicle.
-		 * Get list of all populated TraverseDetail objects.
+		 * Calculate traverse time for each orbit-sequence and vehicle combination, and keep only the optimum one.
+		 * Combinations which can't beat the current optimum, are skipped early.
 		 */
-		List<TraverseDetail> traverseDetailsWithCombinations = helper
-				.getTraverseDetails(weather, vehicles, pAvailableOrbitSequences);
-		
-		// Find out the optimum TraverseDetail object from list of traverseDetails
 		TraverseDetail optimumTraverseDetail = helper
-				.findOptimumTraverseDetail(traverseDetailsWithCombinations);
+				.findOptimumTraverseDetail(weather, vehicles, pAvailableOrbitSequences, speedLimits);
 		
 		// Check optimum TraverseDetail object
 		if (null == optimumTraverseDetail) {
@@ -159,6 +217,512 @@ public class LengaburuTrafficFinder {
 		}
 	}
 
+	/**
+	 * Solution for problem 2, from the road network. i.e. same as calculateOptimumTimeForMultipleDestinations(pWeatherType, 
+	 * LengaburuTrafficHelper.getAvailableOrbitSequences(pSource, pDestinations), pOrbitSpeedLimitMap), for any number of destinations.
+	 * 
+	 * To do this it performs following operations:
+	 *  1.	Get weather by weather-type.
+	 *  2. 	Based on weather type get all suitable vehicle names and get their corresponding Vehicle objects, by preference.
+	 *  3. 	Convert user inputs (i.e. speed limit) into speed limits of each orbit of the network.
+	 * 	4.	Find out the fastest orbit-sequence, using MultiDestinationTourSolver (Held-Karp over destinations),
+	 * 		without enumerating all orbit-sequences. Tie rule is same as evaluating them one by one.
+	 * 
+	 * @param pWeatherType - User input
+	 * @param pSource - User input
+	 * @param pDestinations - User inputs, list of destinations. At most MultiDestinationTourSolver.MAX_DESTINATIONS.
+	 * @param pOrbitSpeedLimitMap - This map is used to hold user inputs (orbit's speed limit) corresponding to orbit name.
+	 * 
+	 * @return - Success or failure message after doing calculation for optimum time. 
+	 */
+	public String calculateOptimumTimeForMultipleDestinations(String pWeatherType, String pSource, List<String> pDestinations, 
+			Map<String, Integer> pOrbitSpeedLimitMap) {
+		
+		RoadNetwork network = snapshot();
+		
+		// Count the query by its weather type
+		metrics.countQuery(pWeatherType);
+		
+		// Validate input parameters. If something invalid, it will have invalid message
+		String invalidMessage = validator.validateUserInputs(network, pWeatherType, pOrbitSpeedLimitMap)
+				+ validator.validateSuburbs(network, pSource, pDestinations);
+		if (null != pDestinations && pDestinations.size() > MultiDestinationTourSolver.MAX_DESTINATIONS) {
+			invalidMessage += "At most " + MultiDestinationTourSolver.MAX_DESTINATIONS + " destinations are supported.";
+		}
+		
+		// If all inputs are valid, invalidMessage will be empty. Else if user inputs are not valid, return the invalid message
+		if (ObjectValidationUtils.isNotBlank(invalidMessage)) {
+			return "Validation failed. Error message(s): \n" + invalidMessage;
+		}
+		
+		// Get weather by weather-type
+		Weather weather = helper.getWeatherByType(network, pWeatherType);
+		
+		// Find out the fastest orbit-sequence among all vehicles
+		TraverseDetail optimumTraverseDetail = findFastestOrbitSequence(network, weather, pSource, pDestinations, 
+				pOrbitSpeedLimitMap);
+		
+		// Check optimum TraverseDetail object
+		if (null == optimumTraverseDetail) {
+			return "System Error: Unable to findout shortest possible time";
+		} else {
+			// Generate and return output message from optimized TraverseDetail object
+			return helper.generateOutputmessage(optimumTraverseDetail, "Problem2");
+		}
+	}
+
+	/**
+	 * Solution for fastest route from source to destination, via any intermediate suburbs (e.g. Bark).
+	 * This method is responsible to calculate optimum time to reach from source to destination, using multi-orbit routes.
+	 * 
+	 * To do this it performs following operations:
+	 *  1.	Get weather by weather-type.
+	 *  2. 	Based on weather type get precomputed orbit cost components of its suitable vehicles (see WeatherCostTable).
+	 *  3. 	If contraction hierarchies were built for the network and the same speed limits, query them (see ContractionHierarchies).
+	 *  4. 	Else convert user inputs (i.e. speed limit) into speed limits of each orbit of the network,
+	 * 		and search fastest route over (suburb, vehicle), using ShortestTimeRouteEngine.
+	 * 
+	 * Note: Orbits without a speed limit in the map are treated as closed.
+	 * 
+	 * @param pWeatherType - User input
+	 * @param pSource - User input
+	 * @param pDestination - User input
+	 * @param pOrbitSpeedLimitMap - This map is used to hold user inputs (orbit's speed limit) corresponding to orbit name.
+	 * 
+	 * @return - Success or failure message after doing calculation for optimum traverse time. 
+	 */
+	public String calculateOptimumTimeForRoute(String pWeatherType, String pSource, String pDestination, 
+			Map<String, Integer> pOrbitSpeedLimitMap) {
+		
+		RoadNetwork network = snapshot();
+		
+		// Count the query by its weather type
+		metrics.countQuery(pWeatherType);
+		
+		// Validate input parameters. If something invalid, it will have invalid message
+		String invalidMessage = validator.validateUserInputs(network, pWeatherType, pOrbitSpeedLimitMap)
+				+ validator.validateSuburbs(network, pSource, ObjectValidationUtils.getList(pDestination));
+		
+		// If all inputs are valid, invalidMessage will be empty. Else if user inputs are not valid, return the invalid message
+		if (ObjectValidationUtils.isNotBlank(invalidMessage)) {
+			return "Validation failed. Error message(s): \n" + invalidMessage;
+		}
+		
+		// Get weather by weather-type
+		Weather weather = helper.getWeatherByType(network, pWeatherType);
+		
+		// Get precomputed orbit cost components for the selected weather and its suitable vehicles
+		WeatherCostTable costTable = network.getCostTable(weather.getWeatherType());
+		
+		// Find out the fastest route among all vehicles. Precomputed hierarchies are used, if they are built for these speed limits.
+		long startTime = metrics.startTime();
+		TraverseDetail optimumTraverseDetail;
+		ContractionHierarchies hierarchies = initializer.getContractionHierarchies();
+		if (null != hierarchies && hierarchies.isBuiltFor(network, pOrbitSpeedLimitMap)) {
+			optimumTraverseDetail = hierarchies.findFastestRoute(weather.getWeatherType(), network.getSuburbId(pSource),
+					network.getSuburbId(pDestination));
+		} else {
+			// Speed limits of each orbit, indexed by orbit id
+			SpeedLimitOverlay speedLimits = SpeedLimitOverlay.of(network, pOrbitSpeedLimitMap);
+			optimumTraverseDetail = routeEngine.findFastestRoute(network, network.getSuburbId(pSource),
+					network.getSuburbId(pDestination), costTable, speedLimits);
+		}
+		metrics.record(Phase.FIND_FASTEST_ROUTE, startTime);
+		
+		// Check optimum TraverseDetail object
+		if (null == optimumTraverseDetail) {
+			return "No route/orbit found for the given source-destination.";
+		} else {
+			// Generate and return output message from optimized TraverseDetail object
+			return helper.generateOutputmessage(optimumTraverseDetail, "Route");
+		}
+	}
+
+	/**
+	 * Solution for fastest route from source to destination, departing at the given time of day.
+	 * Same as calculateOptimumTimeForRoute(), but orbits follow their speed profiles by time of day (e.g. evening jam).
+	 * 
+	 * To do this it performs following operations:
+	 *  1.	Get weather by weather-type.
+	 *  2. 	Based on weather type get precomputed orbit cost components of its suitable vehicles (see WeatherCostTable).
+	 *  3. 	Convert user inputs (i.e. speed limit) into speed limits of each orbit of the network.
+	 *  4.	Get speed profiles of orbits, resolved for the network.
+	 * 	5.	Search fastest route over (suburb, vehicle) by arrival time, using TimeDependentRouteEngine.
+	 * 		For busy routes, it is a look-up into the precomputed arrival time profile (see ArrivalProfileCache).
+	 * 
+	 * Note: Orbits without a speed limit in the map are treated as closed.
+	 * 
+	 * @param pWeatherType - User input
+	 * @param pSource - User input
+	 * @param pDestination - User input
+	 * @param pOrbitSpeedLimitMap - This map is used to hold user inputs (orbit's speed limit) corresponding to orbit name.
+	 * @param pDepartureMinute - User input, departure minute of the day (e.g. 17 * 60 for 17:00). Minutes after a day wrap around.
+	 * 
+	 * @return - Success or failure message after doing calculation for optimum traverse time. 
+	 */
+	public String calculateOptimumTimeForRoute(String pWeatherType, String pSource, String pDestination, 
+			Map<String, Integer> pOrbitSpeedLimitMap, int pDepartureMinute) {
+		
+		RoadNetwork network = snapshot();
+		
+		// Count the query by its weather type
+		metrics.countQuery(pWeatherType);
+		
+		// Validate input parameters. If something invalid, it will have invalid message
+		String invalidMessage = validator.validateUserInputs(network, pWeatherType, pOrbitSpeedLimitMap)
+				+ validator.validateSuburbs(network, pSource, ObjectValidationUtils.getList(pDestination));
+		if (pDepartureMinute < 0) {
+			invalidMessage += "Departure time should be 0 or more minutes.";
+		}
+		
+		// If all inputs are valid, invalidMessage will be empty. Else if user inputs are not valid, return the invalid message
+		if (ObjectValidationUtils.isNotBlank(invalidMessage)) {
+			return "Validation failed. Error message(s): \n" + invalidMessage;
+		}
+		
+		// Get weather by weather-type
+		Weather weather = helper.getWeatherByType(network, pWeatherType);
+		
+		// Get precomputed orbit cost components for the selected weather and its suitable vehicles
+		WeatherCostTable costTable = network.getCostTable(weather.getWeatherType());
+		
+		// Speed limits of each orbit, indexed by orbit id
+		SpeedLimitOverlay speedLimits = SpeedLimitOverlay.of(network, pOrbitSpeedLimitMap);
+		
+		// Find out the fastest route among all vehicles, for the departure minute
+		long startTime = metrics.startTime();
+		TraverseDetail optimumTraverseDetail = arrivalProfileCache.findFastestRoute(network, costTable, speedLimits,
+				initializer.getSpeedProfileTable(network), 
+				new TrafficQuery(pWeatherType, pSource, ObjectValidationUtils.getList(pDestination), pOrbitSpeedLimitMap),
+				pDepartureMinute);
+		metrics.record(Phase.FIND_TIME_DEPENDENT_ROUTE, startTime);
+		
+		// Check optimum TraverseDetail object
+		if (null == optimumTraverseDetail) {
+			return "No route/orbit found for the given source-destination.";
+		} else {
+			// Generate and return output message from optimized TraverseDetail object
+			return helper.generateOutputmessage(optimumTraverseDetail, "Route");
+		}
+	}
+
+	/**
+	 * Solution for visiting any number of destinations from source, in the quickest possible time.
+	 * This method is responsible to calculate optimum time to visit all destinations in any order, using multi-orbit routes.
+	 * 
+	 * To do this it performs following operations:
+	 *  1.	Get weather by weather-type.
+	 *  2. 	Based on weather type get precomputed orbit cost components of its suitable vehicles (see WeatherCostTable).
+	 *  3. 	Convert user inputs (i.e. speed limit) into speed limits of each orbit of the network.
+	 * 	4.	Find out the fastest tour, using MultiDestinationTourSolver (Held-Karp over destinations and vehicles).
+	 * 
+	 * Note: You can choose only 1 vehicle for the entire trip. Orbits without a speed limit in the map are treated as closed.
+	 * 
+	 * @param pWeatherType - User input
+	 * @param pSource - User input
+	 * @param pDestinations - User inputs, list of destinations. At most MultiDestinationTourSolver.MAX_DESTINATIONS.
+	 * @param pOrbitSpeedLimitMap - This map is used to hold user inputs (orbit's speed limit) corresponding to orbit name.
+	 * 
+	 * @return - Success or failure message after doing calculation for optimum time. 
+	 */
+	public String calculateOptimumTimeForDestinations(String pWeatherType, String pSource, List<String> pDestinations, 
+			Map<String, Integer> pOrbitSpeedLimitMap) {
+		
+		RoadNetwork network = snapshot();
+		
+		// Count the query by its weather type
+		metrics.countQuery(pWeatherType);
+		
+		// Validate input parameters. If something invalid, it will have invalid message
+		String invalidMessage = validator.validateUserInputs(network, pWeatherType, pOrbitSpeedLimitMap)
+				+ validator.validateSuburbs(network, pSource, pDestinations);
+		if (null != pDestinations && pDestinations.size() > MultiDestinationTourSolver.MAX_DESTINATIONS) {
+			invalidMessage += "At most " + MultiDestinationTourSolver.MAX_DESTINATIONS + " destinations are supported.";
+		}
+		
+		// If all inputs are valid, invalidMessage will be empty. Else if user inputs are not valid, return the invalid message
+		if (ObjectValidationUtils.isNotBlank(invalidMessage)) {
+			return "Validation failed. Error message(s): \n" + invalidMessage;
+		}
+		
+		// Get weather by weather-type
+		Weather weather = helper.getWeatherByType(network, pWeatherType);
+		
+		// Get precomputed orbit cost components for the selected weather and its suitable vehicles
+		WeatherCostTable costTable = network.getCostTable(weather.getWeatherType());
+		
+		// Speed limits of each orbit, indexed by orbit id
+		SpeedLimitOverlay speedLimits = SpeedLimitOverlay.of(network, pOrbitSpeedLimitMap);
+		
+		// Same destination is visited only once
+		int[] destinationIds = pDestinations.stream().mapToInt(network::getSuburbId).distinct().toArray();
+		
+		// Find out the fastest tour among all vehicles
+		long startTime = metrics.startTime();
+		TraverseDetail optimumTraverseDetail = tourSolver.findFastestTour(network, network.getSuburbId(pSource),
+				destinationIds, costTable, speedLimits);
+		metrics.record(Phase.FIND_FASTEST_TOUR, startTime);
+		
+		// Check optimum TraverseDetail object
+		if (null == optimumTraverseDetail) {
+			return "No route/orbit found for the given source-destinations.";
+		} else {
+			// Generate and return output message from optimized TraverseDetail object
+			return helper.generateOutputmessage(optimumTraverseDetail, "Route");
+		}
+	}
+
+	/**
+	 * Solution for trade-off between time and vehicle wear, from source to destination.
+	 * This method is responsible to find out every Pareto-optimal (traverse time, craters crossed) route and vehicle, 
+	 * using multi-orbit routes. Fastest route of calculateOptimumTimeForRoute() is the first point of it.
+	 * 
+	 * To do this it performs following operations:
+	 *  1.	Get weather by weather-type.
+	 *  2. 	Based on weather type get precomputed orbit cost components of its suitable vehicles (see WeatherCostTable).
+	 *  3. 	Convert user inputs (i.e. speed limit) into speed limits of each orbit of the network.
+	 * 	4.	Search the Pareto front over time and craters, using ParetoRouteEngine.
+	 * 
+	 * Note: You can choose only 1 vehicle for the entire trip. Orbits without a speed limit in the map are treated as closed.
+	 * 
+	 * @param pWeatherType - User input
+	 * @param pSource - User input
+	 * @param pDestination - User input
+	 * @param pOrbitSpeedLimitMap - This map is used to hold user inputs (orbit's speed limit) corresponding to orbit name.
+	 * 
+	 * @return - Pareto front, ordered by traverse time. Empty if destination is not reachable.
+	 * @throws BusinessException - If inputs are not valid.
+	 */
+	public ParetoFront calculateParetoRoutes(String pWeatherType, String pSource, String pDestination,
+			Map<String, Integer> pOrbitSpeedLimitMap) throws BusinessException {
+		
+		RoadNetwork network = snapshot();
+		
+		// Count the query by its weather type
+		metrics.countQuery(pWeatherType);
+		
+		// Validate input parameters. If something invalid, it will have invalid message
+		String invalidMessage = validator.validateUserInputs(network, pWeatherType, pOrbitSpeedLimitMap)
+				+ validator.validateSuburbs(network, pSource, ObjectValidationUtils.getList(pDestination));
+		if (ObjectValidationUtils.isNotBlank(invalidMessage)) {
+			throw new BusinessException("Validation failed. Error message(s): \n" + invalidMessage);
+		}
+		
+		// Get weather by weather-type
+		Weather weather = helper.getWeatherByType(network, pWeatherType);
+		
+		// Get precomputed orbit cost components for the selected weather and its suitable vehicles
+		WeatherCostTable costTable = network.getCostTable(weather.getWeatherType());
+		
+		// Speed limits of each orbit, indexed by orbit id
+		SpeedLimitOverlay speedLimits = SpeedLimitOverlay.of(network, pOrbitSpeedLimitMap);
+		
+		// Find out all Pareto-optimal routes among all vehicles
+		long startTime = metrics.startTime();
+		ParetoFront paretoFront = paretoEngine.findParetoRoutes(network, network.getSuburbId(pSource),
+				network.getSuburbId(pDestination), costTable, speedLimits);
+		metrics.record(Phase.FIND_PARETO_ROUTES, startTime);
+		return paretoFront;
+	}
+
+	/**
+	 * Solution for fastest times from many origins to many destinations, e.g. for planners which dispatch vehicles.
+	 * This method is responsible to calculate optimum time and vehicle for each (origin, destination), using multi-orbit routes.
+	 * 
+	 * To do this it performs following operations:
+	 *  1.	Get weather by weather-type.
+	 *  2. 	Based on weather type get precomputed orbit cost components of its suitable vehicles (see WeatherCostTable).
+	 * 	3.	If hierarchies are built for these speed limits, compute the matrix with their buckets (see ContractionHierarchies).
+	 * 		Else convert user inputs (i.e. speed limit) into speed limits of each orbit of the network, and compute the matrix
+	 * 		with one search per origin, in parallel (see TravelTimeMatrixEngine).
+	 * 
+	 * Note: You can choose only 1 vehicle for each trip. Orbits without a speed limit in the map are treated as closed.
+	 * 
+	 * @param pWeatherType - User input
+	 * @param pOrigins - User inputs, list of origins, i.e. rows of the matrix
+	 * @param pDestinations - User inputs, list of destinations, i.e. columns of the matrix
+	 * @param pOrbitSpeedLimitMap - This map is used to hold user inputs (orbit's speed limit) corresponding to orbit name.
+	 * 
+	 * @return - Travel time matrix. Unreachable cells have TraverseCost.INFINITE_TIME and no vehicle.
+	 * @throws BusinessException - If inputs are not valid.
+	 */
+	public TravelTimeMatrix calculateTravelTimeMatrix(String pWeatherType, List<String> pOrigins, List<String> pDestinations,
+			Map<String, Integer> pOrbitSpeedLimitMap) throws BusinessException {
+		
+		RoadNetwork network = snapshot();
+		
+		// Count the query by its weather type
+		metrics.countQuery(pWeatherType);
+		
+		// Validate input parameters. If something invalid, it will have invalid message
+		String invalidMessage = validator.validateUserInputs(network, pWeatherType, pOrbitSpeedLimitMap)
+				+ validator.validateOriginsAndDestinations(network, pOrigins, pDestinations);
+		if (ObjectValidationUtils.isNotBlank(invalidMessage)) {
+			throw new BusinessException("Validation failed. Error message(s): \n" + invalidMessage);
+		}
+		
+		// Get weather by weather-type
+		Weather weather = helper.getWeatherByType(network, pWeatherType);
+		
+		int[] originIds = pOrigins.stream().mapToInt(network::getSuburbId).toArray();
+		int[] destinationIds = pDestinations.stream().mapToInt(network::getSuburbId).toArray();
+		
+		// Compute the matrix among all vehicles. Precomputed hierarchies are used, if they are built for these speed limits.
+		long startTime = metrics.startTime();
+		TravelTimeMatrix matrix;
+		ContractionHierarchies hierarchies = initializer.getContractionHierarchies();
+		if (null != hierarchies && hierarchies.isBuiltFor(network, pOrbitSpeedLimitMap)) {
+			matrix = hierarchies.computeMatrix(weather.getWeatherType(), originIds, destinationIds);
+		} else {
+			// Get precomputed orbit cost components for the selected weather and its suitable vehicles
+			WeatherCostTable costTable = network.getCostTable(weather.getWeatherType());
+			
+			// Speed limits of each orbit, indexed by orbit id
+			SpeedLimitOverlay speedLimits = SpeedLimitOverlay.of(network, pOrbitSpeedLimitMap);
+			matrix = matrixEngine.computeMatrix(network, originIds, destinationIds, costTable, speedLimits);
+		}
+		metrics.record(Phase.COMPUTE_TRAVEL_TIME_MATRIX, startTime);
+		return matrix;
+	}
+
+	/**
+	 * Solve a single query. Query with single destination is solved as Problem 1, and with two destinations as Problem 2.
+	 * 
+	 * @param pQuery - User inputs of the query
+	 * @return - Success or failure message after doing calculation for optimum time.
+	 */
+	public String solve(TrafficQuery pQuery) {
+		return solveBatch(Collections.singletonList(pQuery)).get(0);
+	}
+
+	/**
+	 * Solve a batch of queries in parallel, on all cores.
+	 * 
+	 * To do this it performs following operations:
+	 * 	1.	Group queries by shared route (i.e. source and destinations).
+	 * 	2.	For each group (in parallel), prepare the route only once (see PreparedTrafficQuery).
+	 * 		Group of a single query isn't prepared. Its orbits are enumerated lazily while evaluating (Problem 1),
+	 * 		or its orbit-sequences are solved by Held-Karp without enumerating them (Problem 2).
+	 * 	3.	For each query (in parallel), validate its speed limits and find out the optimum time with the group's details.
+	 * 
+	 * Each result is same as solving the query on its own, i.e. solve(query).
+	 * 
+	 * @param pQueries - User inputs of all queries
+	 * @return - Success or failure message for each query, in input order.
+	 */
+	public List<String> solveBatch(List<TrafficQuery> pQueries) {
+		
+		// Whole batch is solved on one snapshot of the network
+		RoadNetwork network = snapshot();
+		
+		// Group queries by shared route
+		Map<String, RoutePlan> routePlans = new HashMap<>();
+		RoutePlan[] queryPlans = new RoutePlan[pQueries.size()];
+		for (int queryIndex = 0; queryIndex < pQueries.size(); queryIndex++) {
+			TrafficQuery query = pQueries.get(queryIndex);
+			queryPlans[queryIndex] = routePlans.computeIfAbsent(RoutePlan.keyOf(query), key -> new RoutePlan(network, query));
+			queryPlans[queryIndex].queryCount++;
+		}
+		
+		// Prepare each group only once
+		routePlans.values().parallelStream().forEach(RoutePlan::prepare);
+		
+		// Solve each query with its group's details
+		String[] results = new String[pQueries.size()];
+		IntStream.range(0, pQueries.size()).parallel()
+			.forEach(queryIndex -> results[queryIndex] = queryPlans[queryIndex].solve(pQueries.get(queryIndex)));
+		return Arrays.asList(results);
+	}
+
+	/**
+	 * Solution for alternatives, i.e. the best pCount (vehicle, orbit-sequence) options of a Problem 1 or Problem 2 query.
+	 * 
+	 * To do this it performs following operations:
+	 *  1.	Validate the query, same as solve(query), and number of options.
+	 *  2.	Get all available orbit-sequences, weather and its suitable vehicles. Speed limits are kept as a per-query overlay.
+	 *  3.	Find out the best pCount combinations with a bounded heap, i.e. in O(n log k) time and O(k) memory.
+	 * 
+	 * @param pQuery - User inputs of the query
+	 * @param pCount - Number of options to find
+	 * @return - Best options ranked by traverse time, and on a tie by vehicle preference and then orbit-sequence order.
+	 * 			 First one is same as solve(query). Fewer than pCount, if there aren't that many options.
+	 * @throws BusinessException - If the query or number of options is not valid.
+	 */
+	public List<TraverseDetail> findAlternatives(TrafficQuery pQuery, int pCount) throws BusinessException {
+		if (pCount < 1) {
+			throw new BusinessException("Validation failed. Error message(s): \nNumber of alternatives should be +ve integer.");
+		}
+		
+		RoadNetwork network = snapshot();
+		
+		// Count the query by its weather type
+		metrics.countQuery(pQuery.getWeatherType());
+		
+		// Validate input parameters. If something invalid, it will have invalid message
+		List<String> destinations = pQuery.getDestinations();
+		String invalidMessage = validateDestinations(destinations);
+		if (ObjectValidationUtils.isBlank(invalidMessage)) {
+			invalidMessage = validator.validateUserInputs(network, pQuery.getWeatherType(), pQuery.getOrbitSpeedLimitMap());
+		}
+		if (ObjectValidationUtils.isNotBlank(invalidMessage)) {
+			throw new BusinessException("Validation failed. Error message(s): \n" + invalidMessage);
+		}
+		
+		// Get all available orbit-sequences, for single destination (Problem 1) or two destinations (Problem 2)
+		List<List<Orbit>> orbitSequences = (destinations.size() == 1) 
+				? helper.getAvailableOrbits(network, pQuery.getSource(), destinations.get(0))
+				: helper.getAvailableOrbitSequences(network, pQuery.getSource(), destinations);
+		
+		Weather weather = helper.getWeatherByType(network, pQuery.getWeatherType());
+		List<Vehicle> vehicles = helper.getSuitableVehicles(network, weather.getSuitableVehicleNames());
+		SpeedLimitOverlay speedLimits = SpeedLimitOverlay.of(orbitSequences, pQuery.getOrbitSpeedLimitMap());
+		return helper.findTopTraverseDetails(weather, vehicles, orbitSequences, speedLimits, pCount);
+	}
+
+	/**
+	 * Prepare a Problem 1 or Problem 2 query for a fixed source and destinations, to be executed many times 
+	 * with different weathers and speed limits (see PreparedTrafficQuery). Similar to a JDBC PreparedStatement.
+	 * 
+	 * @param pSource - User input
+	 * @param pDestinations - User inputs, one or two destinations
+	 * @return - Prepared query, on the current network
+	 * @throws BusinessException - If destinations are not valid.
+	 */
+	public PreparedTrafficQuery prepare(String pSource, List<String> pDestinations) throws BusinessException {
+		String invalidMessage = validateDestinations(pDestinations);
+		if (ObjectValidationUtils.isNotBlank(invalidMessage)) {
+			throw new BusinessException("Validation failed. Error message(s): \n" + invalidMessage);
+		}
+		return new PreparedTrafficQuery(snapshot(), pSource, pDestinations);
+	}
+
+	/**
+	 * Create a dynamic route optimizer from the source, i.e. fastest routes to all suburbs for all weathers,
+	 * which are repaired incrementally when speed limit of an orbit changes (see DynamicRouteOptimizer).
+	 * 
+	 * @param pSource - User input
+	 * @param pOrbitSpeedLimitMap - Initial speed limits corresponding to orbit name. Orbits without it are closed.
+	 * @return - Dynamic route optimizer, on the current network
+	 * @throws BusinessException - If source is not valid.
+	 */
+	public DynamicRouteOptimizer createDynamicRouteOptimizer(String pSource, Map<String, Integer> pOrbitSpeedLimitMap) 
+			throws BusinessException {
+		RoadNetwork network = snapshot();
+		if (network.getSuburbId(pSource) < 0) {
+			throw new BusinessException("Validation failed. Error message(s): \nPlease enter a valid source. Suburb '" 
+					+ pSource + "' doesn't exist.");
+		}
+		return DynamicRouteOptimizer.of(network, network.getSuburbId(pSource), SpeedLimitOverlay.of(network, pOrbitSpeedLimitMap));
+	}
+
+	/*
+	 * Problem 1 and Problem 2 have one or two destinations. Empty if they are valid, else the invalid message.
+	 */
+	private static String validateDestinations(List<String> pDestinations) {
+		return (ObjectValidationUtils.isEmpty(pDestinations) || pDestinations.size() > 2) 
+				? "Please enter one or two destinations." : "";
+	}
+
 	/**
 	 * Getter method for LengaburuTrafficHelper.
 	 *  
@@ -167,4 +731,112 @@ public class LengaburuTrafficFinder {
 	public LengaburuTrafficHelper getLengaburuTrafficHelper() {
 		return helper;
 	}
+
+	/*
+	 * Fastest orbit-sequence of Problem 2 (i.e. one orbit to each destination) from the network, by Held-Karp.
+	 * Vehicles of the cost table are in preference of the weather, so the tie rule is same as 
+	 * LengaburuTrafficHelper.findOptimumTraverseDetail().
+	 */
+	private static TraverseDetail findFastestOrbitSequence(RoadNetwork pNetwork, Weather pWeather, String pSource, 
+			List<String> pDestinations, Map<String, Integer> pOrbitSpeedLimitMap) {
+		List<Vehicle> vehicles = pNetwork.getCostTable(pWeather.getWeatherType()).getVehicles();
+		
+		long startTime = metrics.startTime();
+		TraverseDetail optimumTraverseDetail = tourSolver.findFastestOrbitSequence(pNetwork, pNetwork.getSuburbId(pSource), 
+				pDestinations.stream().mapToInt(pNetwork::getSuburbId).toArray(), vehicles, pWeather.getCraterChangeRate(), 
+				SpeedLimitOverlay.of(pNetwork, pOrbitSpeedLimitMap));
+		metrics.record(Phase.FIND_FASTEST_TOUR, startTime);
+		return optimumTraverseDetail;
+	}
+
+	/*
+	 * Current road network, to be read only once per query (or batch) and passed down from there.
+	 * Network may be replaced by a reload at any time, so reading it again within a query could mix two versions of it
+	 * (e.g. suburb ids of one with orbits of the other).
+	 */
+	private RoadNetwork snapshot() {
+		return initializer.getRoadNetwork();
+	}
+
+	/*
+	 * Details shared by all queries with same route (i.e. source and destinations), whatever their weather.
+	 * It is prepared once, and then used by many threads (read only) to solve the queries.
+	 */
+	private static final class RoutePlan {
+		
+		private final RoadNetwork network;
+		private final String source;
+		private final List<String> destinations;
+		
+		private PreparedTrafficQuery preparedQuery;
+		private String invalidMessage;
+		
+		// Number of queries of the batch with this plan
+		private int queryCount;
+		
+		private RoutePlan(RoadNetwork pNetwork, TrafficQuery pQuery) {
+			this.network = pNetwork;
+			this.source = pQuery.getSource();
+			this.destinations = pQuery.getDestinations();
+		}
+		
+		private static String keyOf(TrafficQuery pQuery) {
+			return String.valueOf(pQuery.getSource()).toLowerCase(Locale.ENGLISH) + '|' 
+					+ String.valueOf(pQuery.getDestinations()).toLowerCase(Locale.ENGLISH);
+		}
+		
+		private void prepare() {
+			invalidMessage = validateDestinations(destinations);
+			
+			/*
+			 * Orbit-sequences are compiled only if shared by many queries (see PreparedTrafficQuery). 
+			 * Otherwise the only query is solved on its own.
+			 */
+			if (ObjectValidationUtils.isBlank(invalidMessage) && queryCount > 1) {
+				preparedQuery = new PreparedTrafficQuery(network, source, destinations);
+			}
+		}
+		
+		private String solve(TrafficQuery pQuery) {
+			if (null != preparedQuery) {
+				return preparedQuery.execute(pQuery.getWeatherType(), pQuery.getOrbitSpeedLimitMap());
+			}
+			
+			metrics.countQuery(pQuery.getWeatherType());
+			if (ObjectValidationUtils.isNotBlank(invalidMessage)) {
+				return "Validation failed. Error message(s): \n" + invalidMessage;
+			}
+			
+			// Validate input parameters. If something invalid, it will have invalid message
+			String queryInvalidMessage = validator.validateUserInputs(network, pQuery.getWeatherType(), pQuery.getOrbitSpeedLimitMap());
+			if (ObjectValidationUtils.isNotBlank(queryInvalidMessage)) {
+				return "Validation failed. Error message(s): \n" + queryInvalidMessage;
+			}
+			
+			Weather weather = helper.getWeatherByType(network, pQuery.getWeatherType());
+			
+			/*
+			 * Problem 2 is solved by Held-Karp over the destinations. Orbits of Problem 1 are evaluated as they are enumerated, 
+			 * with speed limits of this query indexed by orbit id.
+			 */
+			TraverseDetail optimumTraverseDetail;
+			if (destinations.size() > 1) {
+				optimumTraverseDetail = findFastestOrbitSequence(network, weather, source, destinations, 
+						pQuery.getOrbitSpeedLimitMap());
+			} else {
+				optimumTraverseDetail = helper.findOptimumTraverseDetail(weather, 
+						helper.getSuitableVehicles(network, weather.getSuitableVehicleNames()),
+						helper.streamOrbitSequences(network, source, destinations), 
+						SpeedLimitOverlay.of(network, pQuery.getOrbitSpeedLimitMap()));
+			}
+			
+			// Check optimum TraverseDetail object
+			if (null == optimumTraverseDetail) {
+				return "System Error: Unable to findout shortest possible time";
+			} else {
+				// Generate and return output message from optimized TraverseDetail object
+				return helper.generateOutputmessage(optimumTraverseDetail, destinations.size() == 1 ? "Problem1" : "Problem2");
+			}
+		}
+	}
 }
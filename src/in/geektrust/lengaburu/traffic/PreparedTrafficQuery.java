@@ -0,0 +1,162 @@
+/*
+* Copyright (c) 2017, Ritesh. All rights reserved.
+*
+*/
+package in.geektrust.lengaburu.traffic;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import in.geektrust.lengaburu.traffic.beans.Orbit;
+import in.geektrust.lengaburu.traffic.beans.TraverseDetail;
+import in.geektrust.lengaburu.traffic.beans.Vehicle;
+import in.geektrust.lengaburu.traffic.beans.Weather;
+import in.geektrust.lengaburu.traffic.beans.WeatherType;
+import in.geektrust.lengaburu.traffic.engine.OrbitSequenceTable;
+import in.geektrust.lengaburu.traffic.helper.LengaburuTrafficHelper;
+import in.geektrust.lengaburu.traffic.metrics.TrafficMetrics;
+import in.geektrust.lengaburu.traffic.network.RoadNetwork;
+import in.geektrust.lengaburu.traffic.network.SpeedLimitOverlay;
+import in.geektrust.lengaburu.traffic.utils.ObjectValidationUtils;
+import in.geektrust.lengaburu.traffic.validator.LengaburuTrafficValidator;
+
+/**
+ * DESCRIPTION - This class is a prepared Problem 1 or Problem 2 query, i.e. for a fixed source and destinations.
+ * Similar to a JDBC PreparedStatement, it is prepared once (see LengaburuTrafficFinder.prepare()) and executed many times,
+ * with different weathers and speed limits.
+ *
+ * While preparing, it performs following operations only once:
+ * 	1.	Get all available orbit-sequences, for single destination (Problem 1) or two destinations (Problem 2).
+ * 	2.	Compile them into OrbitSequenceTable, i.e. distinct orbits and total distance and craters of each sequence.
+ * 	3.	Get suitable vehicles of each weather.
+ * So each execution only validates its inputs, looks up speed limits of the distinct orbits and searches the optimum.
+ *
+ * Note: It is immutable, so it can be executed by any number of threads at once.
+ * 		 It is bound to the RoadNetwork it was prepared on. Prepare again, to see a reloaded network.
+ *
+ * @author - Ritesh Bangal
+ * @version 1.0
+ * @since <17-October-2026>
+ */
+public final class PreparedTrafficQuery {
+
+	// Get the only object available for LengaburuTrafficHelper
+	private static LengaburuTrafficHelper helper = LengaburuTrafficHelper.getInstance();
+
+	// Get the only object available for LengaburuTrafficValidator
+	private static LengaburuTrafficValidator validator = LengaburuTrafficValidator.getInstance();
+
+	// Get the only object available for TrafficMetrics
+	private static TrafficMetrics metrics = TrafficMetrics.getInstance();
+
+	private final RoadNetwork network;
+	private final String source;
+	private final List<String> destinations;
+	private final OrbitSequenceTable orbitSequences;
+	private final Set<String> orbitNames;
+	private final Map<WeatherType, List<Vehicle>> weatherVehicles = new EnumMap<>(WeatherType.class);
+
+	/**
+	 * Destinations should already be validated (i.e. one or two of them).
+	 *
+	 * @param pNetwork - Network of the query
+	 * @param pSource - User input
+	 * @param pDestinations - User inputs, one or two destinations
+	 */
+	PreparedTrafficQuery(RoadNetwork pNetwork, String pSource, List<String> pDestinations) {
+		this.network = pNetwork;
+		this.source = pSource;
+		this.destinations = Collections.unmodifiableList(pDestinations);
+		this.orbitSequences = OrbitSequenceTable.compile((pDestinations.size() == 1)
+				? helper.getAvailableOrbits(pNetwork, pSource, pDestinations.get(0))
+				: helper.getAvailableOrbitSequences(pNetwork, pSource, pDestinations));
+
+		Set<String> names = new TreeSet<>();
+		orbitSequences.getOrbits().stream().forEach(orbit -> names.add(orbit.getOrbitName()));
+		this.orbitNames = Collections.unmodifiableSet(names);
+
+		for (WeatherType weatherType : WeatherType.values()) {
+			Weather weather = pNetwork.getWeather(weatherType);
+			if (null != weather) {
+				weatherVehicles.put(weatherType, helper.getSuitableVehicles(pNetwork, weather.getSuitableVehicleNames()));
+			}
+		}
+	}
+
+	/**
+	 * Execute the query, with weather and speed limits. Same result as LengaburuTrafficFinder.solve(), for the same inputs.
+	 *
+	 * @param pWeatherType - User input
+	 * @param pOrbitSpeedLimitMap - This map is used to hold user inputs (orbit's speed limit) corresponding to orbit name.
+	 * @return - Success or failure message after doing calculation for optimum time.
+	 */
+	public String execute(String pWeatherType, Map<String, Integer> pOrbitSpeedLimitMap) {
+
+		// Count the query by its weather type
+		metrics.countQuery(pWeatherType);
+
+		// Validate input parameters. If something invalid, it will have invalid message
+		String invalidMessage = validator.validateUserInputs(network, pWeatherType, pOrbitSpeedLimitMap);
+		if (ObjectValidationUtils.isNotBlank(invalidMessage)) {
+			return "Validation failed. Error message(s): \n" + invalidMessage;
+		}
+
+		TraverseDetail optimumTraverseDetail = findOptimumTraverseDetail(pWeatherType, pOrbitSpeedLimitMap);
+
+		// Check optimum TraverseDetail object
+		if (null == optimumTraverseDetail) {
+			return "System Error: Unable to findout shortest possible time";
+		} else {
+			// Generate and return output message from optimized TraverseDetail object
+			return helper.generateOutputmessage(optimumTraverseDetail, destinations.size() == 1 ? "Problem1" : "Problem2");
+		}
+	}
+
+	/**
+	 * Find out the optimum (vehicle, orbit-sequence) combination, without validating the inputs.
+	 *
+	 * @param pWeatherType - User input, a valid weather type
+	 * @param pOrbitSpeedLimitMap - User inputs (orbit's speed limit) corresponding to orbit name. Orbits without it are closed.
+	 * @return - Optimum TraverseDetail object, or null if there is no candidate.
+	 */
+	public TraverseDetail findOptimumTraverseDetail(String pWeatherType, Map<String, Integer> pOrbitSpeedLimitMap) {
+		Weather weather = helper.getWeatherByType(network, pWeatherType);
+
+		// Speed limits of this query, by orbit index of the compiled orbit-sequences
+		List<Orbit> orbits = orbitSequences.getOrbits();
+		int[] speedLimits = new int[orbits.size()];
+		for (int orbitIndex = 0; orbitIndex < speedLimits.length; orbitIndex++) {
+			Integer speedLimit = pOrbitSpeedLimitMap.get(orbits.get(orbitIndex).getOrbitName());
+			speedLimits[orbitIndex] = (null == speedLimit) ? SpeedLimitOverlay.CLOSED : speedLimit;
+		}
+		return helper.findOptimumTraverseDetail(weather, weatherVehicles.get(weather.getWeatherType()), orbitSequences,
+				speedLimits);
+	}
+
+	public RoadNetwork getNetwork() {
+		return network;
+	}
+
+	public String getSource() {
+		return source;
+	}
+
+	public List<String> getDestinations() {
+		return destinations;
+	}
+
+	/**
+	 * @return - Names of all orbits of the query, sorted. i.e. orbits whose speed limits are needed.
+	 */
+	public Set<String> getOrbitNames() {
+		return orbitNames;
+	}
+
+	public List<List<Orbit>> getOrbitSequences() {
+		return orbitSequences.getOrbitSequences();
+	}
+}
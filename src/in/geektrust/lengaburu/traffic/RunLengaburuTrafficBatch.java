@@ -0,0 +1,230 @@
+/*
+* Copyright (c) 2017, Ritesh. All rights reserved.
+*
+*/
+package in.geektrust.lengaburu.traffic;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import in.geektrust.lengaburu.traffic.beans.TrafficQuery;
+import in.geektrust.lengaburu.traffic.helper.LengaburuTrafficHelper;
+import in.geektrust.lengaburu.traffic.metrics.TrafficMetrics;
+
+/**
+ * DESCRIPTION - This class is responsible to run Lengaburu Traffic queries from a file, without any prompt.
+ *
+ * Input file has one query per line, in following format (blank lines and lines starting with '#' are skipped):
+ * 		Weather|Source|Destination1[,Destination2]|OrbitName=SpeedLimit[,OrbitName=SpeedLimit ...]
+ * 		e.g. Sunny|Silk Drob|Hallitharam|Orbit1=12,Orbit2=10
+ * 			 Windy|Silk Drob|Hallitharam,RK Puram|Orbit1=14,Orbit2=20,Orbit3=15,Orbit4=12
+ *
+ * Query with single destination is solved as Problem 1, and with two destinations as Problem 2.
+ * Output file has one line per query: LineNumber|Output. Line breaks of the output are replaced with a space.
+ *
+ * It performs following operations:
+ * 	1.	Read the input file in chunks of READ_BUFFER_SIZE bytes, through a FileChannel. Split the chunks into lines.
+ * 	2.	Collect up to batch size queries, and solve them with LengaburuTrafficFinder.solveBatch() (on all cores).
+ * 	3.	Write outputs to the output file, through a FileChannel and a buffer of WRITE_BUFFER_SIZE bytes.
+ * So memory is bounded by the batch size, irrespective of the file size.
+ * Latency of each phase of the queries is exposed through JMX, while the file is processed (see TrafficMetrics).
+ *
+ * Usage: java in.geektrust.lengaburu.traffic.RunLengaburuTrafficBatch <input file> <output file> [batch size]
+ *
+ * @author - Ritesh Bangal
+ * @version 1.0
+ * @since <17-October-2026>
+ */
+public class RunLengaburuTrafficBatch {
+
+	private static final int READ_BUFFER_SIZE = 1 << 20;
+	private static final int WRITE_BUFFER_SIZE = 1 << 20;
+	private static final int DEFAULT_BATCH_SIZE = 10000;
+
+	private static final String FIELD_SEPARATOR = "|";
+	private static final String COMMENT = "#";
+	private static final Pattern LINE_BREAKS = Pattern.compile("\\s*[\\r\\n]+\\s*");
+
+	private final LengaburuTrafficFinder trafficFinder = new LengaburuTrafficFinder();
+	private final LengaburuTrafficHelper helper = trafficFinder.getLengaburuTrafficHelper();
+	private final int batchSize;
+
+	// Current batch: queries along with their line numbers. Invalid lines have their output instead of a query.
+	private final List<TrafficQuery> queries = new ArrayList<>();
+	private final List<Long> queryLineNumbers = new ArrayList<>();
+	private final Map<Long, String> lineErrors = new LinkedHashMap<>();
+
+	// Bytes of the current line, which may span over chunks
+	private byte[] lineBytes = new byte[256];
+	private int lineLength;
+
+	private final ByteBuffer writeBuffer = ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE);
+	private long queryCount;
+
+	private RunLengaburuTrafficBatch(int pBatchSize) {
+		this.batchSize = pBatchSize;
+	}
+
+	public static void main(String[] args) throws IOException {
+		if (args.length < 2) {
+			System.out.println("Usage: java " + RunLengaburuTrafficBatch.class.getName()
+					+ " <input file> <output file> [batch size]");
+			return;
+		}
+		int batchSize = (args.length > 2) ? Integer.parseInt(args[2]) : DEFAULT_BATCH_SIZE;
+		TrafficMetrics.getInstance().registerMXBeans();
+
+		long startTime = System.nanoTime();
+		long queryCount = new RunLengaburuTrafficBatch(Math.max(1, batchSize)).run(args[0], args[1]);
+		long elapsedMillis = (System.nanoTime() - startTime) / 1000000;
+		System.out.println("Processed " + queryCount + " queries in " + elapsedMillis + " ms.");
+	}
+
+	/*
+	 * Read, solve and write all queries. Returns number of processed queries.
+	 */
+	private long run(String pInputFile, String pOutputFile) throws IOException {
+		try (FileChannel input = FileChannel.open(Paths.get(pInputFile), StandardOpenOption.READ);
+			 FileChannel output = FileChannel.open(Paths.get(pOutputFile), StandardOpenOption.CREATE,
+					StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+
+			ByteBuffer readBuffer = ByteBuffer.allocateDirect(READ_BUFFER_SIZE);
+			long lineNumber = 0;
+			while (input.read(readBuffer) != -1) {
+				readBuffer.flip();
+				while (readBuffer.hasRemaining()) {
+					byte nextByte = readBuffer.get();
+					if (nextByte == '\n') {
+						acceptLine(++lineNumber, output);
+					} else {
+						appendToLine(nextByte);
+					}
+				}
+				readBuffer.clear();
+			}
+
+			// Last line may not end with a line break
+			if (lineLength > 0) {
+				acceptLine(++lineNumber, output);
+			}
+			solveBatch(output);
+			flush(output);
+		}
+		return queryCount;
+	}
+
+	private void appendToLine(byte pByte) {
+		if (lineLength == lineBytes.length) {
+			lineBytes = Arrays.copyOf(lineBytes, lineLength * 2);
+		}
+		lineBytes[lineLength++] = pByte;
+	}
+
+	/*
+	 * Parse the current line into a query, and solve the batch once it is full.
+	 */
+	private void acceptLine(long pLineNumber, FileChannel pOutput) throws IOException {
+		String line = new String(lineBytes, 0, lineLength, StandardCharsets.UTF_8).trim();
+		lineLength = 0;
+		if (line.isEmpty() || line.startsWith(COMMENT)) {
+			return;
+		}
+
+		queryCount++;
+		TrafficQuery query = parseQuery(line);
+		if (null == query) {
+			lineErrors.put(pLineNumber, "Invalid query. Expected format: Weather|Source|Destination1[,Destination2]"
+					+ "|OrbitName=SpeedLimit[,OrbitName=SpeedLimit ...]");
+		} else {
+			queries.add(query);
+			queryLineNumbers.add(pLineNumber);
+		}
+		if (queries.size() + lineErrors.size() >= batchSize) {
+			solveBatch(pOutput);
+		}
+	}
+
+	/*
+	 * Parse a line into a TrafficQuery, or return null if the line is not in the expected format.
+	 */
+	private TrafficQuery parseQuery(String pLine) {
+		String[] fields = pLine.split("\\" + FIELD_SEPARATOR, -1);
+		if (fields.length != 4) {
+			return null;
+		}
+		List<String> destinations = new ArrayList<>();
+		for (String destination : fields[2].split(",")) {
+			if (!destination.trim().isEmpty()) {
+				destinations.add(destination.trim());
+			}
+		}
+
+		// Invalid speed limits are kept as -1, so that validator reports them like the interactive runners.
+		Map<String, Integer> orbitSpeedLimitMap = new LinkedHashMap<>();
+		for (String orbitSpeedLimit : fields[3].split(",")) {
+			int separator = orbitSpeedLimit.indexOf('=');
+			if (separator < 0) {
+				if (!orbitSpeedLimit.trim().isEmpty()) {
+					return null;
+				}
+				continue;
+			}
+			orbitSpeedLimitMap.put(orbitSpeedLimit.substring(0, separator).trim(),
+					helper.parseOrbitSpeed(orbitSpeedLimit.substring(separator + 1).trim()));
+		}
+		return new TrafficQuery(fields[0].trim(), fields[1].trim(), destinations, orbitSpeedLimitMap);
+	}
+
+	/*
+	 * Solve the current batch, and write outputs in line number order.
+	 */
+	private void solveBatch(FileChannel pOutput) throws IOException {
+		List<String> results = trafficFinder.solveBatch(queries);
+		int resultIndex = 0;
+		for (Map.Entry<Long, String> lineError : lineErrors.entrySet()) {
+			while (resultIndex < results.size() && queryLineNumbers.get(resultIndex) < lineError.getKey()) {
+				write(queryLineNumbers.get(resultIndex), results.get(resultIndex), pOutput);
+				resultIndex++;
+			}
+			write(lineError.getKey(), lineError.getValue(), pOutput);
+		}
+		for (; resultIndex < results.size(); resultIndex++) {
+			write(queryLineNumbers.get(resultIndex), results.get(resultIndex), pOutput);
+		}
+		queries.clear();
+		queryLineNumbers.clear();
+		lineErrors.clear();
+	}
+
+	private void write(long pLineNumber, String pResult, FileChannel pOutput) throws IOException {
+		String line = pLineNumber + FIELD_SEPARATOR + LINE_BREAKS.matcher(pResult).replaceAll(" ").trim() + "\n";
+		byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+		int offset = 0;
+		while (offset < bytes.length) {
+			if (!writeBuffer.hasRemaining()) {
+				flush(pOutput);
+			}
+			int length = Math.min(writeBuffer.remaining(), bytes.length - offset);
+			writeBuffer.put(bytes, offset, length);
+			offset += length;
+		}
+	}
+
+	private void flush(FileChannel pOutput) throws IOException {
+		writeBuffer.flip();
+		while (writeBuffer.hasRemaining()) {
+			pOutput.write(writeBuffer);
+		}
+		writeBuffer.clear();
+	}
+}
@@ -5,13 +5,12 @@
 package in.geektrust.lengaburu.traffic;
 
 import java.util.LinkedHashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Scanner;
 import java.util.Set;
-import java.util.TreeSet;
 
-import in.geektrust.lengaburu.traffic.beans.Orbit;
+import in.geektrust.lengaburu.traffic.exception.BusinessException;
+import in.geektrust.lengaburu.traffic.utils.ObjectValidationUtils;
 
 /**
  * DESCRIPTION - This class is responsible to test Lengaburu Traffic problem 1.
@@ -32,11 +31,26 @@ import in.geektrust.lengaburu.traffic.beans.Orbit;
 public class RunLengaburuTrafficFirstProblem {
 
 	@SuppressWarnings("resource")
-	public static void main(String[] args) {
+	public static void main(String[] args) throws BusinessException {
 		
 		// Create an instance of LengaburuTrafficFinder, which will calculate optimum time.
 		LengaburuTrafficFinder trafficFinder = new LengaburuTrafficFinder();
 
+		/*
+		 * Input for source. For this problem, source and destination is always same.
+		 * i.e. King Shan wants to visit the suburb of Hallitharam from Silk Drob.
+		 * So source is 'Silk Drob' and destination is 'Hallitharam'
+		 */
+		String source = "Silk Drob";
+		String destination = "Hallitharam";
+		
+		/*
+		 * Prepare the query only once, as source and destination never change. Only weather and speed limits do.
+		 * i.e. all available sequence of routes/orbits between the source and destination are compiled once.
+		 * Here each orbit-sequence contains only one orbit, i.e. orbit between any source and destination.
+		 */
+		PreparedTrafficQuery preparedQuery = trafficFinder.prepare(source, ObjectValidationUtils.getList(destination));
+
 		// Create an instance of Scanner, to scan user inputs
 		Scanner scanner = new Scanner(System.in);
 
@@ -47,25 +61,8 @@ public class RunLengaburuTrafficFirstProblem {
 			System.out.print("Input: Enter weather in Lengaburu. Options ['Sunny', 'Rainy', 'Windy']: ");
 			String weather = scanner.nextLine();
 			
-			/*
-			 * Input for source. For this problem, source and destination is always same.
-			 * i.e. King Shan wants to visit the suburb of Hallitharam from Silk Drob.
-			 * So source is 'Silk Drob' and destination is 'Hallitharam'
-			 */
-			String source = "Silk Drob";
-			String destination = "Hallitharam";
-			
-			/*
-			 * Get all available sequence of routes/orbits between the source and destination.
-			 * Here each orbit-sequence contains only one orbit, i.e. orbit between any source and destination.
-			 */
-			List<List<Orbit>> availableOrbits = trafficFinder.getLengaburuTrafficHelper()
-					.getAvailableOrbits(source, destination);
-			
 			// Get all available orbit names and arrange them in sequence. Will be used while taking inputs from user.
-			Set<String> availableOrbitNames = new TreeSet<>();
-			availableOrbits.stream().forEach(orbitSequence -> orbitSequence.stream()
-					.forEach(orbit -> availableOrbitNames.add(orbit.getOrbitName())));
+			Set<String> availableOrbitNames = preparedQuery.getOrbitNames();
 
 			/*
 			 * This map is used to hold user inputs (orbit's speed limit) corresponding to orbit name.
@@ -82,7 +79,7 @@ public class RunLengaburuTrafficFirstProblem {
 			}
 			
 			// Display output
-			System.out.println("\nOutput: " + trafficFinder.calculateOptimumTimeForSingleDestination(weather, availableOrbits, orbitSpeedLimitMap));
+			System.out.println("\nOutput: " + preparedQuery.execute(weather, orbitSpeedLimitMap));
 			
 			System.out.println("\n***********************************************************");
 			// Control execution loop
@@ -5,13 +5,11 @@
 package in.geektrust.lengaburu.traffic;
 
 import java.util.LinkedHashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Scanner;
 import java.util.Set;
-import java.util.TreeSet;
 
-import in.geektrust.lengaburu.traffic.beans.Orbit;
+import in.geektrust.lengaburu.traffic.exception.BusinessException;
 import in.geektrust.lengaburu.traffic.utils.ObjectValidationUtils;
 
 /**
@@ -35,11 +33,27 @@ import in.geektrust.lengaburu.traffic.utils.ObjectValidationUtils;
 public class RunLengaburuTrafficSecondProblem {
 
 	@SuppressWarnings("resource")
-	public static void main(String[] args) {
+	public static void main(String[] args) throws BusinessException {
 		
 		// Create an instance of LengaburuTrafficFinder, which will calculate optimum time.
 		LengaburuTrafficFinder trafficFinder = new LengaburuTrafficFinder();
 
+		/*
+		 * Input for source. For this problem, source and destinations are always same.
+		 * i.e. King Shan now would like to visit Hallitharam and RK Puram on the same day.
+		 * So source is 'Silk Drob' and destinations are  'Hallitharam' and 'RK Puram'
+		 */
+		String source = "Silk Drob";
+		String firstDestination = "Hallitharam";
+		String secondDestination = "RK Puram";
+		
+		/*
+		 * Prepare the query only once, as source and destinations never change. Only weather and speed limits do.
+		 * i.e. all possible orbit-sequences to traverse multiple destination are compiled once.
+		 */
+		PreparedTrafficQuery preparedQuery = trafficFinder.prepare(source, 
+				ObjectValidationUtils.getList(firstDestination, secondDestination));
+
 		// Create an instance of Scanner, to scan user inputs
 		Scanner scanner = new Scanner(System.in);
 
@@ -50,26 +64,8 @@ public class RunLengaburuTrafficSecondProblem {
 			System.out.print("Input: Enter weather in Lengaburu. Options ['Sunny', 'Rainy', 'Windy']: ");
 			String weather = scanner.nextLine();
 			
-			/*
-			 * Input for source. For this problem, source and destinations are always same.
-			 * i.e. King Shan now would like to visit Hallitharam and RK Puram on the same day.
-			 * So source is 'Silk Drob' and destinations are  'Hallitharam' and 'RK Puram'
-			 */
-			String source = "Silk Drob";
-			String firstDestination = "Hallitharam";
-			String secondDestination = "RK Puram";
-			
-			/*
-			 * Get a list of destinations, to be traversed.
-			 * Get all possible orbit-sequences to traverse multiple destination. 
-			 */
-			List<List<Orbit>> availableOrbitSequences = trafficFinder.getLengaburuTrafficHelper()
-					.getAvailableOrbitSequences(source, ObjectValidationUtils.getList(firstDestination, secondDestination));
-		
 			// Get all available orbit names and arrange them in sequence. Will be used while getting from user input.
-			Set<String> availableOrbitNames = new TreeSet<>();
-			availableOrbitSequences.stream().forEach(orbitSequence -> orbitSequence.stream()
-					.forEach(orbit -> availableOrbitNames.add(orbit.getOrbitName())));
+			Set<String> availableOrbitNames = preparedQuery.getOrbitNames();
 
 			/*
 			 * This map is used to hold user inputs (orbit's speed limit) corresponding to orbit name.
@@ -86,7 +82,7 @@ public class RunLengaburuTrafficSecondProblem {
 			}
 			
 			// Display output
-			System.out.println("\nOutput: " + trafficFinder.calculateOptimumTimeForMultipleDestinations(weather, availableOrbitSequences, orbitSpeedLimitMap));
+			System.out.println("\nOutput: " + preparedQuery.execute(weather, orbitSpeedLimitMap));
 			
 			System.out.println("\n***********************************************************");
 			// Control execution loop
@@ -17,6 +17,9 @@ public class Orbit implements Serializable {
 	
 	private static final long serialVersionUID = 1L;
 	
+	// Index of the orbit in the RoadNetwork it belongs to. It is -1, when orbit is not part of any network.
+	private int orbitId = -1;
+	
 	private String orbitName;
 
 	private String source;
@@ -42,6 +45,19 @@ public class Orbit implements Serializable {
 		this.velocityLimit = velocityLimit;
 	}
 	
+	public Orbit(int orbitId, String orbitName, String source, String destination, int distance, int numberOfCraters, Velocity velocityLimit) {
+		this(orbitName, source, destination, distance, numberOfCraters, velocityLimit);
+		this.orbitId = orbitId;
+	}
+	
+	public int getOrbitId() {
+		return orbitId;
+	}
+
+	public void setOrbitId(int pOrbitId) {
+		orbitId = pOrbitId;
+	}
+
 	public String getOrbitName() {
 		return orbitName;
 	}
@@ -94,7 +110,8 @@ public class Orbit implements Serializable {
 	public String toString() {
 		StringBuilder orbit = new StringBuilder("Orbit");
 		orbit.append(": {")
-			.append("orbitName=").append(orbitName)
+			.append("orbitId=").append(orbitId)
+			.append(", orbitName=").append(orbitName)
 			.append(", source=").append(source)
 			.append(", destination=").append(destination)
 			.append(", distance=").append(distance)
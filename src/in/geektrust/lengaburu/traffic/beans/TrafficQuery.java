@@ -0,0 +1,87 @@
+/*
+* Copyright (c) 2017, Ritesh. All rights reserved.
+*
+*/
+package in.geektrust.lengaburu.traffic.beans;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * TrafficQuery Bean, which contains user inputs of a single query.
+ * 
+ * When there is single destination, it is solved as Problem 1. i.e. Through direct orbits between source and destination.
+ * When there are two destinations, it is solved as Problem 2. i.e. Through orbit-sequences to visit both destinations.
+ * 
+ * @author - Ritesh Bangal
+ * @version 1.0
+ * @since <17-October-2026>
+ */
+public class TrafficQuery implements Serializable {
+	
+	private static final long serialVersionUID = 1L;
+
+	private String weatherType;
+	private String source;
+	private List<String> destinations;
+	
+	// User inputs (orbit's speed limit) corresponding to orbit name
+	private Map<String, Integer> orbitSpeedLimitMap;
+	
+	public TrafficQuery() {
+		// Default constructor
+	}
+	
+	public TrafficQuery(String weatherType, String source, List<String> destinations, Map<String, Integer> orbitSpeedLimitMap) {
+		super();
+		this.weatherType = weatherType;
+		this.source = source;
+		this.destinations = destinations;
+		this.orbitSpeedLimitMap = orbitSpeedLimitMap;
+	}
+
+	public String getWeatherType() {
+		return weatherType;
+	}
+
+	public void setWeatherType(String pWeatherType) {
+		weatherType = pWeatherType;
+	}
+
+	public String getSource() {
+		return source;
+	}
+
+	public void setSource(String pSource) {
+		source = pSource;
+	}
+
+	public List<String> getDestinations() {
+		return destinations;
+	}
+
+	public void setDestinations(List<String> pDestinations) {
+		destinations = pDestinations;
+	}
+
+	public Map<String, Integer> getOrbitSpeedLimitMap() {
+		return orbitSpeedLimitMap;
+	}
+
+	public void setOrbitSpeedLimitMap(Map<String, Integer> pOrbitSpeedLimitMap) {
+		orbitSpeedLimitMap = pOrbitSpeedLimitMap;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder query = new StringBuilder("TrafficQuery");
+		query.append(": {")
+			.append("weatherType=").append(weatherType)
+			.append(", source=").append(source)
+			.append(", destinations=").append(destinations)
+			.append(", orbitSpeedLimitMap=").append(orbitSpeedLimitMap)
+			.append("}");
+		return query.toString();
+	}
+}
@@ -0,0 +1,290 @@
+/*
+* Copyright (c) 2017, Ritesh. All rights reserved.
+*
+*/
+package in.geektrust.lengaburu.traffic.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+import in.geektrust.lengaburu.traffic.LengaburuTrafficFinder;
+import in.geektrust.lengaburu.traffic.beans.Orbit;
+import in.geektrust.lengaburu.traffic.beans.TraverseDetail;
+import in.geektrust.lengaburu.traffic.beans.Vehicle;
+import in.geektrust.lengaburu.traffic.beans.Weather;
+import in.geektrust.lengaburu.traffic.beans.WeatherType;
+import in.geektrust.lengaburu.traffic.engine.ContractionHierarchies;
+import in.geektrust.lengaburu.traffic.engine.DynamicRouteOptimizer;
+import in.geektrust.lengaburu.traffic.exception.BusinessException;
+import in.geektrust.lengaburu.traffic.helper.LengaburuTrafficHelper;
+import in.geektrust.lengaburu.traffic.initializer.LengaburuTrafficInitializer;
+import in.geektrust.lengaburu.traffic.network.RoadNetwork;
+import in.geektrust.lengaburu.traffic.network.SpeedLimitOverlay;
+
+/**
+ * DESCRIPTION - This class is responsible to benchmark hot paths of the helper and the finder, on growing networks.
+ *
+ * For each network size (i.e. the sample network from the problem pdf, and networks from SyntheticNetworkGenerator),
+ * it measures following operations:
+ * 	-	LengaburuTrafficHelper		: getAvailableOrbits, getAvailableOrbitSequences, getTraverseDetails,
+ * 								  	  findOptimumTraverseDetail (on a list, and streaming).
+ * 	-	LengaburuTrafficFinder		: Problem 1, Problem 2, Route, Destinations, Matrix (source and destinations to each other)
+ * 								  	  and Pareto routes end-to-end.
+ * 	-	DynamicRouteOptimizer		: Repair of fastest routes after speed limit of one orbit changes.
+ * 	-	ContractionHierarchies		: Route and Matrix queries. Hierarchies are built before, i.e. the offline step isn't measured.
+ *
+ * Each benchmark runs warm-up iterations and then measurement iterations of a fixed duration, on a single thread.
+ * It reports throughput (ops/s, mean and standard deviation over iterations) and allocation rate (bytes per op).
+ * Allocation is taken from com.sun.management.ThreadMXBean, if the JVM supports it.
+ *
+ * Usage: java in.geektrust.lengaburu.traffic.benchmark.LengaburuTrafficBenchmark [key=value ...]
+ * 	-	orbits=sample,1000,100000,1000000 : Network sizes. 'sample' is the network from the problem pdf.
+ * 	-	suburbs=N						: Number of suburbs. Default is orbits / 4.
+ * 	-	vehicles=3, destinations=2		: Number of vehicles, and destinations of the Destinations benchmark.
+ * 	-	seed=2017						: Seed of the generator.
+ * 	-	warmup=3, iterations=5, time=1000 : Warm-up iterations, measurement iterations and duration of each (in ms).
+ * 	-	include=regex					: Run only the benchmarks whose name matches.
+ * 	-	hierarchyOrbits=1000			: Largest network, for which hierarchies are built and benchmarked.
+ *
+ * Note: This is a plain harness, as the project has no build module to run JMH from. Run it with a fixed heap
+ * 		 (e.g. -Xms4g -Xmx4g) and compare numbers of the same machine only.
+ *
+ * @author - Ritesh Bangal
+ * @version 1.0
+ * @since <17-October-2026>
+ */
+public class LengaburuTrafficBenchmark {
+
+	private static final String SAMPLE = "sample";
+
+	private static final String WEATHER_TYPE = WeatherType.WINDY.toString();
+
+	// Results are written here, so that JIT can't eliminate the benchmarked calls.
+	private static volatile Object sink;
+
+	private final Map<String, String> options;
+	private final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+
+	private LengaburuTrafficBenchmark(Map<String, String> pOptions) {
+		this.options = pOptions;
+	}
+
+	public static void main(String[] args) {
+		Map<String, String> options = new HashMap<>();
+		for (String arg : args) {
+			int separator = arg.indexOf('=');
+			if (separator > 0) {
+				options.put(arg.substring(0, separator).trim(), arg.substring(separator + 1).trim());
+			}
+		}
+		new LengaburuTrafficBenchmark(options).run();
+	}
+
+	private void run() {
+		LengaburuTrafficInitializer initializer = LengaburuTrafficInitializer.getInstance();
+		RoadNetwork sampleNetwork = initializer.getRoadNetwork();
+		System.out.println(String.format("%-34s %10s %14s %12s %14s", "Benchmark", "Orbits", "ops/s", "error", "B/op"));
+		try {
+			for (String size : getOption("orbits", SAMPLE + ",1000,100000,1000000").split(",")) {
+				if (SAMPLE.equalsIgnoreCase(size.trim())) {
+					initializer.replaceRoadNetwork(sampleNetwork);
+					runAll(SAMPLE, "Silk Drob", Arrays.asList("Hallitharam", "RK Puram"));
+				} else {
+					int orbitCount = Integer.parseInt(size.trim());
+					SyntheticNetworkGenerator generator = new SyntheticNetworkGenerator(getOption("seed", 2017),
+							getOption("suburbs", Math.max(getOption("destinations", 2) + 2, orbitCount / 4)), orbitCount,
+							getOption("vehicles", 3), getOption("destinations", 2));
+					initializer.replaceRoadNetwork(generator.generateNetwork());
+					runAll(String.valueOf(orbitCount), generator.getSource(), generator.getDestinations());
+				}
+			}
+		} finally {
+			initializer.replaceRoadNetwork(sampleNetwork);
+		}
+	}
+
+	/*
+	 * Prepare inputs of the network once, and run all benchmarks on them.
+	 */
+	private void runAll(String pSize, String pSource, List<String> pDestinations) {
+		LengaburuTrafficFinder finder = new LengaburuTrafficFinder();
+		LengaburuTrafficHelper helper = finder.getLengaburuTrafficHelper();
+		RoadNetwork network = LengaburuTrafficInitializer.getInstance().getRoadNetwork();
+		String destination = pDestinations.get(0);
+		List<String> twoDestinations = pDestinations.subList(0, Math.min(2, pDestinations.size()));
+
+		Weather weather = helper.getWeatherByType(WEATHER_TYPE);
+		List<Vehicle> vehicles = helper.getSuitableVehicles(weather.getSuitableVehicleNames());
+		List<List<Orbit>> availableOrbits = helper.getAvailableOrbits(pSource, destination);
+		List<List<Orbit>> availableOrbitSequences = helper.getAvailableOrbitSequences(pSource, twoDestinations);
+
+		// Speed limits of the query orbits (as entered by the runners), and of the whole network (for route queries).
+		Map<String, Integer> orbitSpeedLimitMap = getSpeedLimits(availableOrbits);
+		Map<String, Integer> sequenceSpeedLimitMap = getSpeedLimits(availableOrbitSequences);
+		Set<String> allOrbitNames = new TreeSet<>();
+		for (int orbitId = 0; orbitId < network.getOrbitCount(); orbitId++) {
+			allOrbitNames.add(network.getOrbit(orbitId).getOrbitName());
+		}
+		Map<String, Integer> networkSpeedLimitMap = getSpeedLimits(allOrbitNames);
+		SpeedLimitOverlay sequenceSpeedLimits = SpeedLimitOverlay.of(availableOrbitSequences, sequenceSpeedLimitMap);
+		List<TraverseDetail> traverseDetails = helper.getTraverseDetails(weather, vehicles, availableOrbitSequences,
+				sequenceSpeedLimits);
+
+		Map<String, Supplier<Object>> benchmarks = new LinkedHashMap<>();
+		benchmarks.put("helper.getAvailableOrbits", () -> helper.getAvailableOrbits(pSource, destination));
+		benchmarks.put("helper.getAvailableOrbitSequences",
+				() -> helper.getAvailableOrbitSequences(pSource, twoDestinations));
+		benchmarks.put("helper.getTraverseDetails",
+				() -> helper.getTraverseDetails(weather, vehicles, availableOrbitSequences, sequenceSpeedLimits));
+		benchmarks.put("helper.findOptimum(list)", () -> helper.findOptimumTraverseDetail(traverseDetails));
+		benchmarks.put("helper.findOptimum(comparator)", 
+				() -> helper.findOptimumTraverseDetail(traverseDetails, weather));
+		benchmarks.put("helper.findOptimum(stream)",
+				() -> helper.findOptimumTraverseDetail(weather, vehicles, availableOrbitSequences, sequenceSpeedLimits));
+		SpeedLimitOverlay networkSpeedLimits = SpeedLimitOverlay.of(network, sequenceSpeedLimitMap);
+		benchmarks.put("helper.findOptimum(lazy)", () -> helper.findOptimumTraverseDetail(weather, vehicles,
+				helper.streamOrbitSequences(network, pSource, twoDestinations), networkSpeedLimits));
+		benchmarks.put("finder.singleDestination", () -> finder.calculateOptimumTimeForSingleDestination(WEATHER_TYPE,
+				helper.getAvailableOrbits(pSource, destination), orbitSpeedLimitMap));
+		benchmarks.put("finder.multipleDestinations", () -> finder.calculateOptimumTimeForMultipleDestinations(
+				WEATHER_TYPE, helper.getAvailableOrbitSequences(pSource, twoDestinations), sequenceSpeedLimitMap));
+		benchmarks.put("finder.multipleDestinations(network)", () -> finder.calculateOptimumTimeForMultipleDestinations(
+				WEATHER_TYPE, pSource, twoDestinations, networkSpeedLimitMap));
+		benchmarks.put("finder.route", () -> finder.calculateOptimumTimeForRoute(WEATHER_TYPE, pSource, destination,
+				networkSpeedLimitMap));
+		benchmarks.put("finder.destinations", () -> finder.calculateOptimumTimeForDestinations(WEATHER_TYPE, pSource,
+				pDestinations, networkSpeedLimitMap));
+		List<String> matrixSuburbs = new ArrayList<>();
+		matrixSuburbs.add(pSource);
+		matrixSuburbs.addAll(pDestinations);
+		benchmarks.put("finder.matrix", () -> {
+			try {
+				return finder.calculateTravelTimeMatrix(WEATHER_TYPE, matrixSuburbs, matrixSuburbs, networkSpeedLimitMap);
+			} catch (BusinessException e) {
+				throw new IllegalStateException(e);
+			}
+		});
+		benchmarks.put("finder.paretoRoutes", () -> {
+			try {
+				return finder.calculateParetoRoutes(WEATHER_TYPE, pSource, destination, networkSpeedLimitMap);
+			} catch (BusinessException e) {
+				throw new IllegalStateException(e);
+			}
+		});
+		DynamicRouteOptimizer optimizer = DynamicRouteOptimizer.of(network, network.getSuburbId(pSource), 
+				SpeedLimitOverlay.of(network, networkSpeedLimitMap));
+		String[] orbitNames = allOrbitNames.toArray(new String[0]);
+		int[] updateCount = new int[1];
+		benchmarks.put("dynamic.updateSpeedLimit", () -> {
+			// Each orbit name in turn, with a speed limit of 1 to 20
+			int update = updateCount[0]++;
+			return optimizer.updateSpeedLimit(orbitNames[update % orbitNames.length], 1 + (update * 7) % 20);
+		});
+		if (network.getOrbitCount() <= getOption("hierarchyOrbits", 1000)) {
+			ContractionHierarchies hierarchies = ContractionHierarchies.build(network, networkSpeedLimitMap);
+			benchmarks.put("hierarchy.route", () -> hierarchies.findFastestRoute(weather.getWeatherType(),
+					network.getSuburbId(pSource), network.getSuburbId(destination)));
+			int[] matrixSuburbIds = matrixSuburbs.stream().mapToInt(network::getSuburbId).toArray();
+			benchmarks.put("hierarchy.matrix", () -> hierarchies.computeMatrix(weather.getWeatherType(), matrixSuburbIds,
+					matrixSuburbIds));
+		}
+
+		Pattern include = Pattern.compile(getOption("include", ".*"));
+		benchmarks.entrySet().stream()
+			.filter(benchmark -> include.matcher(benchmark.getKey()).find())
+			.forEach(benchmark -> measure(benchmark.getKey(), pSize, benchmark.getValue()));
+	}
+
+	private Map<String, Integer> getSpeedLimits(List<List<Orbit>> pOrbitSequences) {
+		Set<String> orbitNames = new TreeSet<>();
+		pOrbitSequences.stream().forEach(orbitSequence -> orbitSequence.stream()
+				.forEach(orbit -> orbitNames.add(orbit.getOrbitName())));
+		return getSpeedLimits(orbitNames);
+	}
+
+	private Map<String, Integer> getSpeedLimits(Set<String> pOrbitNames) {
+		return SyntheticNetworkGenerator.generateSpeedLimits(getOption("seed", 2017), pOrbitNames);
+	}
+
+	/*
+	 * Run warm-up and measurement iterations of a benchmark, and print the result.
+	 */
+	private void measure(String pName, String pSize, Supplier<Object> pBenchmark) {
+		long iterationNanos = TimeUnit.MILLISECONDS.toNanos(getOption("time", 1000));
+		for (int iteration = 0; iteration < getOption("warmup", 3); iteration++) {
+			runIteration(pBenchmark, iterationNanos);
+		}
+		int iterations = Math.max(1, getOption("iterations", 5));
+		double[] throughput = new double[iterations];
+		long totalOperations = 0;
+		long totalBytes = 0;
+		for (int iteration = 0; iteration < iterations; iteration++) {
+			long bytesBefore = getAllocatedBytes();
+			long startNanos = System.nanoTime();
+			long operations = runIteration(pBenchmark, iterationNanos);
+			long elapsedNanos = System.nanoTime() - startNanos;
+			totalBytes += getAllocatedBytes() - bytesBefore;
+			totalOperations += operations;
+			throughput[iteration] = operations * 1e9 / elapsedNanos;
+		}
+
+		double mean = 0;
+		for (double value : throughput) {
+			mean += value / iterations;
+		}
+		double variance = 0;
+		for (double value : throughput) {
+			variance += (value - mean) * (value - mean) / Math.max(1, iterations - 1);
+		}
+		String allocation = !isAllocationSupported() ? "n/a" : String.format("%.1f", (double) totalBytes / totalOperations);
+		System.out.println(String.format("%-34s %10s %14.1f %12.1f %14s", pName, pSize, mean, Math.sqrt(variance),
+				allocation));
+	}
+
+	private static long runIteration(Supplier<Object> pBenchmark, long pIterationNanos) {
+		long operations = 0;
+		long deadline = System.nanoTime() + pIterationNanos;
+		do {
+			sink = pBenchmark.get();
+			operations++;
+		} while (System.nanoTime() < deadline);
+		return operations;
+	}
+
+	private boolean isAllocationSupported() {
+		if (threadBean instanceof com.sun.management.ThreadMXBean) {
+			com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) threadBean;
+			return allocationBean.isThreadAllocatedMemorySupported() && allocationBean.isThreadAllocatedMemoryEnabled();
+		}
+		return false;
+	}
+
+	/*
+	 * Bytes allocated by the current thread so far, or 0 if the JVM can't tell.
+	 */
+	private long getAllocatedBytes() {
+		if (isAllocationSupported()) {
+			return ((com.sun.management.ThreadMXBean) threadBean).getThreadAllocatedBytes(Thread.currentThread().getId());
+		}
+		return 0;
+	}
+
+	private String getOption(String pKey, String pDefaultValue) {
+		return options.getOrDefault(pKey, pDefaultValue);
+	}
+
+	private int getOption(String pKey, int pDefaultValue) {
+		return Integer.parseInt(getOption(pKey, String.valueOf(pDefaultValue)));
+	}
+}
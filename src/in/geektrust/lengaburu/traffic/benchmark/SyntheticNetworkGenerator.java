@@ -0,0 +1,185 @@
+/*
+* Copyright (c) 2017, Ritesh. All rights reserved.
+*
+*/
+package in.geektrust.lengaburu.traffic.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import in.geektrust.lengaburu.traffic.beans.Orbit;
+import in.geektrust.lengaburu.traffic.beans.Vehicle;
+import in.geektrust.lengaburu.traffic.beans.Velocity;
+import in.geektrust.lengaburu.traffic.beans.Weather;
+import in.geektrust.lengaburu.traffic.beans.WeatherType;
+import in.geektrust.lengaburu.traffic.network.RoadNetwork;
+
+/**
+ * DESCRIPTION - This class generates synthetic Lengaburu networks, to measure the finder as data grows.
+ *
+ * Network is generated from a seed, so same inputs always generate the same network. Orbits are generated in this order,
+ * until the orbit count is reached:
+ * 	1.	ORBITS_PER_PAIR orbits from source (i.e. 'Suburb1') to each destination (i.e. 'Suburb2', 'Suburb3' ...).
+ * 	2.	ORBITS_PER_PAIR orbits between each two destinations, in both directions. So orbit-sequences exist for Problem 2.
+ * 	3.	A ring over all suburbs (i.e. Suburb1 -> Suburb2 -> ... -> Suburb1), so every suburb is reachable.
+ * 	4.	Orbits between random suburbs.
+ *
+ * Each orbit gets a unique name (i.e. 'Orbit1', 'Orbit2' ...), random distance and random number of craters.
+ * Vehicles get random speed and crater cross time. Weathers follow the problem pdf:
+ * 	-	Sunny - craters reduce by 10%. All vehicles except the last one.
+ * 	-	Rainy - craters increase by 20%. Second half of the vehicles.
+ * 	-	Windy - no change to number of craters. All vehicles.
+ *
+ * @author - Ritesh Bangal
+ * @version 1.0
+ * @since <17-October-2026>
+ */
+public class SyntheticNetworkGenerator {
+
+	public static final int ORBITS_PER_PAIR = 3;
+
+	private static final String SPEED_UNIT = "megamiles/hour";
+
+	private final long seed;
+	private final int suburbCount;
+	private final int orbitCount;
+	private final int vehicleCount;
+	private final int destinationCount;
+
+	/**
+	 * @param pSeed - Seed of the random generator
+	 * @param pSuburbCount - Number of suburbs. Should be more than number of destinations.
+	 * @param pOrbitCount - Number of orbits
+	 * @param pVehicleCount - Number of vehicles
+	 * @param pDestinationCount - Number of destinations of the generated query
+	 */
+	public SyntheticNetworkGenerator(long pSeed, int pSuburbCount, int pOrbitCount, int pVehicleCount,
+			int pDestinationCount) {
+		if (pDestinationCount < 1 || pSuburbCount <= pDestinationCount || pOrbitCount < 1 || pVehicleCount < 1) {
+			throw new IllegalArgumentException("Invalid network size: suburbs=" + pSuburbCount + ", orbits=" + pOrbitCount
+					+ ", vehicles=" + pVehicleCount + ", destinations=" + pDestinationCount);
+		}
+		this.seed = pSeed;
+		this.suburbCount = pSuburbCount;
+		this.orbitCount = pOrbitCount;
+		this.vehicleCount = pVehicleCount;
+		this.destinationCount = pDestinationCount;
+	}
+
+	/**
+	 * @return - Immutable, indexed snapshot of generated orbits, vehicles and weathers
+	 */
+	public RoadNetwork generateNetwork() {
+		return RoadNetwork.build(generateOrbits(), generateVehicles(), generateWeathers());
+	}
+
+	/**
+	 * @return - Generated orbits, in the order described above. Speed limit is initialized with -1.
+	 */
+	public List<Orbit> generateOrbits() {
+		Random random = new Random(seed);
+		List<Orbit> orbits = new ArrayList<>(orbitCount);
+
+		// Source to each destination
+		for (int destination = 1; destination <= destinationCount && orbits.size() < orbitCount; destination++) {
+			addOrbits(orbits, random, 0, destination, ORBITS_PER_PAIR);
+		}
+
+		// Between each two destinations
+		for (int from = 1; from <= destinationCount; from++) {
+			for (int to = 1; to <= destinationCount && orbits.size() < orbitCount; to++) {
+				if (from != to) {
+					addOrbits(orbits, random, from, to, ORBITS_PER_PAIR);
+				}
+			}
+		}
+
+		// Ring over all suburbs
+		for (int suburb = 0; suburb < suburbCount && orbits.size() < orbitCount; suburb++) {
+			addOrbits(orbits, random, suburb, (suburb + 1) % suburbCount, 1);
+		}
+
+		// Random suburbs
+		while (orbits.size() < orbitCount) {
+			int from = random.nextInt(suburbCount);
+			int to = random.nextInt(suburbCount - 1);
+			addOrbits(orbits, random, from, to < from ? to : to + 1, 1);
+		}
+		return orbits;
+	}
+
+	private void addOrbits(List<Orbit> pOrbits, Random pRandom, int pFrom, int pTo, int pCount) {
+		for (int i = 0; i < pCount && pOrbits.size() < orbitCount; i++) {
+			pOrbits.add(new Orbit("Orbit" + (pOrbits.size() + 1), getSuburbName(pFrom), getSuburbName(pTo),
+					5 + pRandom.nextInt(36), pRandom.nextInt(26), new Velocity(-1, SPEED_UNIT)));
+		}
+	}
+
+	/**
+	 * @return - Generated vehicles. i.e. 'Vehicle1', 'Vehicle2' ...
+	 */
+	public List<Vehicle> generateVehicles() {
+		Random random = new Random(seed + 1);
+		List<Vehicle> vehicles = new ArrayList<>(vehicleCount);
+		for (int vehicle = 1; vehicle <= vehicleCount; vehicle++) {
+			vehicles.add(new Vehicle("Vehicle" + vehicle, new Velocity(8 + random.nextInt(23), SPEED_UNIT),
+					1 + random.nextInt(4)));
+		}
+		return vehicles;
+	}
+
+	/**
+	 * @return - All possible weathers, with suitable vehicles from generateVehicles()
+	 */
+	public List<Weather> generateWeathers() {
+		List<String> vehicleNames = new ArrayList<>(vehicleCount);
+		for (int vehicle = 1; vehicle <= vehicleCount; vehicle++) {
+			vehicleNames.add("Vehicle" + vehicle);
+		}
+		List<Weather> weathers = new ArrayList<>();
+		weathers.add(new Weather(WeatherType.SUNNY, -10, vehicleNames.subList(0, Math.max(1, vehicleCount - 1))));
+		weathers.add(new Weather(WeatherType.RAINY, +20, vehicleNames.subList(vehicleCount / 2, vehicleCount)));
+		weathers.add(new Weather(WeatherType.WINDY, +0, vehicleNames));
+		return weathers;
+	}
+
+	/**
+	 * Generate random speed limits (between 5 and 30) for the given orbits.
+	 *
+	 * @param pSeed - Seed of the random generator
+	 * @param pOrbitNames - Orbit names. Same names in the same order get the same speed limits.
+	 * @return - Map of orbit's speed limit corresponding to orbit name
+	 */
+	public static Map<String, Integer> generateSpeedLimits(long pSeed, Collection<String> pOrbitNames) {
+		Random random = new Random(pSeed + 2);
+		Map<String, Integer> orbitSpeedLimitMap = new HashMap<>(pOrbitNames.size() * 2);
+		pOrbitNames.stream().forEach(orbitName -> orbitSpeedLimitMap.put(orbitName, 5 + random.nextInt(26)));
+		return orbitSpeedLimitMap;
+	}
+
+	/**
+	 * @return - Source of the generated query
+	 */
+	public String getSource() {
+		return getSuburbName(0);
+	}
+
+	/**
+	 * @return - Destinations of the generated query
+	 */
+	public List<String> getDestinations() {
+		List<String> destinations = new ArrayList<>(destinationCount);
+		for (int destination = 1; destination <= destinationCount; destination++) {
+			destinations.add(getSuburbName(destination));
+		}
+		return destinations;
+	}
+
+	private static String getSuburbName(int pSuburb) {
+		return "Suburb" + (pSuburb + 1);
+	}
+}
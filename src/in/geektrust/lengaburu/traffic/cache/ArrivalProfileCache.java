@@ -0,0 +1,182 @@
+/*
+* Copyright (c) 2017, Ritesh. All rights reserved.
+*
+*/
+package in.geektrust.lengaburu.traffic.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import in.geektrust.lengaburu.traffic.beans.TrafficQuery;
+import in.geektrust.lengaburu.traffic.beans.TraverseDetail;
+import in.geektrust.lengaburu.traffic.engine.ArrivalTimeProfile;
+import in.geektrust.lengaburu.traffic.engine.TimeDependentRouteEngine;
+import in.geektrust.lengaburu.traffic.initializer.LengaburuTrafficInitializer;
+import in.geektrust.lengaburu.traffic.network.RoadNetwork;
+import in.geektrust.lengaburu.traffic.network.SpeedLimitOverlay;
+import in.geektrust.lengaburu.traffic.network.SpeedProfileTable;
+import in.geektrust.lengaburu.traffic.network.WeatherCostTable;
+
+/**
+ * DESCRIPTION - This class answers departure time queries of TimeDependentRouteEngine, with precomputed arrival time profiles
+ * for the busiest (weather type, source, destination, speed limits) combinations.
+ *
+ * It performs following operations:
+ * 	1.	Each query is counted by its key (see QueryKey). Counters are kept in a bounded RouteResultCache,
+ * 		so only recently asked combinations are remembered.
+ * 	2.	Until a combination is asked precomputeThreshold times, each query is a fresh time-dependent search.
+ * 	3.	Then its ArrivalTimeProfile (fastest route of each departure minute) is built once, in the background
+ * 		(ForkJoinPool.commonPool()). Queries of the combination remain fresh searches until the profile is ready,
+ * 		so no query waits for all 1440 minute searches. Only one build of a combination runs at a time.
+ * 	4.	Once the profile is ready, following queries are a look-up. At most maximumProfiles profiles are kept,
+ * 		least recently used one is evicted. If a build fails, it is tried again by a later query.
+ *
+ * Profiles are tied to the RoadNetwork version and to the speed profiles they were computed with,
+ * so they are never used after a reload or after speed profiles are replaced.
+ *
+ * @author - Ritesh Bangal
+ * @version 1.0
+ * @since <17-October-2026>
+ */
+public class ArrivalProfileCache {
+
+	// Get the only object available for LengaburuTrafficInitializer
+	private static LengaburuTrafficInitializer initializer = LengaburuTrafficInitializer.getInstance();
+
+	// Get the only object available for TimeDependentRouteEngine
+	private static TimeDependentRouteEngine routeEngine = TimeDependentRouteEngine.getInstance();
+
+	private final int precomputeThreshold;
+	private final RouteResultCache<QueryKey, ArrivalTimeProfile> profiles;
+	private final RouteResultCache<QueryKey, AtomicInteger> demand;
+
+	// Profile builds in progress, by key
+	private final ConcurrentMap<QueryKey, CompletableFuture<Void>> builds = new ConcurrentHashMap<>();
+
+	/**
+	 * @param pMaximumProfiles - Maximum number of precomputed arrival time profiles
+	 * @param pPrecomputeThreshold - Number of queries of a combination, after which its profile is precomputed
+	 */
+	public ArrivalProfileCache(int pMaximumProfiles, int pPrecomputeThreshold) {
+		if (pPrecomputeThreshold < 1) {
+			throw new IllegalArgumentException("Precompute threshold should be +ve integer: " + pPrecomputeThreshold);
+		}
+		this.precomputeThreshold = pPrecomputeThreshold;
+		this.profiles = new RouteResultCache<>(pMaximumProfiles, 0, TimeUnit.SECONDS,
+				() -> initializer.getRoadNetwork().getVersion());
+		this.demand = new RouteResultCache<>(pMaximumProfiles * 4, 0, TimeUnit.SECONDS,
+				() -> initializer.getRoadNetwork().getVersion());
+	}
+
+	/**
+	 * Find out the fastest route from source to destination among all vehicles, departing at the given minute.
+	 * Result is exactly same as TimeDependentRouteEngine.findFastestRoute(), with or without a precomputed profile.
+	 *
+	 * @param pNetwork - Road network snapshot of the query
+	 * @param pCostTable - Orbit cost components for the weather
+	 * @param pSpeedLimits - Speed limits of the query, indexed by orbit id
+	 * @param pProfiles - Speed profiles by time of day, resolved for the network
+	 * @param pQuery - User inputs of the query, with single destination. Used as key of the combination.
+	 * @param pDepartureMinute - Departure minute. It is taken as minute of its day.
+	 * @return - Populated TraverseDetail object, or null if destination is not reachable.
+	 */
+	public TraverseDetail findFastestRoute(RoadNetwork pNetwork, WeatherCostTable pCostTable, SpeedLimitOverlay pSpeedLimits,
+			SpeedProfileTable pProfiles, TrafficQuery pQuery, int pDepartureMinute) {
+		int sourceId = pNetwork.getSuburbId(pQuery.getSource());
+		int destinationId = pNetwork.getSuburbId(pQuery.getDestinations().get(0));
+		QueryKey key = new QueryKey(pQuery);
+
+		ArrivalTimeProfile profile = getProfile(key, pProfiles);
+		if (null == profile && countQuery(key) >= precomputeThreshold) {
+			buildProfile(key, pNetwork, sourceId, destinationId, pCostTable, pSpeedLimits, pProfiles);
+		}
+		return (null == profile)
+				? routeEngine.findFastestRoute(pNetwork, sourceId, destinationId, pCostTable, pSpeedLimits, pProfiles,
+						pDepartureMinute)
+				: profile.getFastestRoute(pDepartureMinute);
+	}
+
+	/**
+	 * Precompute arrival time profile of a combination, without waiting for its demand. e.g. for known busy routes at start up.
+	 *
+	 * @param pNetwork - Road network snapshot
+	 * @param pCostTable - Orbit cost components for the weather
+	 * @param pSpeedLimits - Speed limits of the query, indexed by orbit id
+	 * @param pProfiles - Speed profiles by time of day, resolved for the network
+	 * @param pQuery - User inputs of the query, with single destination
+	 * @return - Arrival time profile
+	 */
+	public ArrivalTimeProfile precompute(RoadNetwork pNetwork, WeatherCostTable pCostTable, SpeedLimitOverlay pSpeedLimits,
+			SpeedProfileTable pProfiles, TrafficQuery pQuery) {
+		ArrivalTimeProfile profile = routeEngine.computeArrivalTimeProfile(pNetwork, pNetwork.getSuburbId(pQuery.getSource()),
+				pNetwork.getSuburbId(pQuery.getDestinations().get(0)), pCostTable, pSpeedLimits, pProfiles);
+		profiles.put(new QueryKey(pQuery), profile, pNetwork.getVersion());
+		return profile;
+	}
+
+	/*
+	 * Precomputed profile of the key, only if it was computed with the same speed profiles (and so the same network).
+	 */
+	private ArrivalTimeProfile getProfile(QueryKey pKey, SpeedProfileTable pProfiles) {
+		ArrivalTimeProfile profile = profiles.get(pKey);
+		return (null != profile && profile.getProfiles() == pProfiles) ? profile : null;
+	}
+
+	/*
+	 * Count the query, and return number of queries of the key so far.
+	 */
+	private int countQuery(QueryKey pKey) {
+		return demand.computeIfAbsent(pKey, key -> new AtomicInteger()).incrementAndGet();
+	}
+
+	/*
+	 * Start building the profile of the key in the background, unless its build is already in progress.
+	 * Profile is put before the build is removed, so there is no gap in which a second build can start.
+	 * If network is reloaded meanwhile, profile is dropped by the cache (see RouteResultCache.put()).
+	 */
+	private void buildProfile(QueryKey pKey, RoadNetwork pNetwork, int pSourceId, int pDestinationId,
+			WeatherCostTable pCostTable, SpeedLimitOverlay pSpeedLimits, SpeedProfileTable pProfiles) {
+		CompletableFuture<Void> build = new CompletableFuture<>();
+		if (null != builds.putIfAbsent(pKey, build)) {
+			return;
+		}
+		CompletableFuture.supplyAsync(() -> routeEngine.computeArrivalTimeProfile(pNetwork, pSourceId, pDestinationId,
+				pCostTable, pSpeedLimits, pProfiles), ForkJoinPool.commonPool())
+			.whenComplete((profile, failure) -> {
+				if (null == failure) {
+					profiles.put(pKey, profile, pNetwork.getVersion());
+				}
+				builds.remove(pKey, build);
+				build.complete(null);
+			});
+	}
+
+	public int getPrecomputeThreshold() {
+		return precomputeThreshold;
+	}
+
+	public RouteResultCache<QueryKey, ArrivalTimeProfile> getProfiles() {
+		return profiles;
+	}
+
+	/**
+	 * @return - Number of profile builds in progress
+	 */
+	public int getBuildCount() {
+		return builds.size();
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder cache = new StringBuilder("ArrivalProfileCache");
+		cache.append(": {")
+			.append("precomputeThreshold=").append(precomputeThreshold)
+			.append(", profiles=").append(profiles)
+			.append("}");
+		return cache.toString();
+	}
+}
@@ -0,0 +1,111 @@
+/*
+* Copyright (c) 2017, Ritesh. All rights reserved.
+*
+*/
+package in.geektrust.lengaburu.traffic.cache;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import in.geektrust.lengaburu.traffic.LengaburuTrafficFinder;
+import in.geektrust.lengaburu.traffic.beans.TrafficQuery;
+import in.geektrust.lengaburu.traffic.initializer.LengaburuTrafficInitializer;
+
+/**
+ * DESCRIPTION - This class puts a RouteResultCache in front of LengaburuTrafficFinder.
+ * 
+ * Same (weather type, source, destinations, speed limits) queries repeat all day, so their results are cached.
+ * Cache is tied to the RoadNetwork version, so all entries are invalidated when network data changes.
+ * 
+ * @author - Ritesh Bangal
+ * @version 1.0
+ * @since <17-October-2026>
+ */
+public class CachingTrafficFinder {
+
+	// Get the only object available for LengaburuTrafficInitializer
+	private static LengaburuTrafficInitializer initializer = LengaburuTrafficInitializer.getInstance();
+
+	private final LengaburuTrafficFinder finder;
+	private final RouteResultCache<QueryKey, String> cache;
+
+	/**
+	 * @param pFinder - Finder to compute results on cache miss
+	 * @param pMaximumSize - Maximum number of cached results
+	 * @param pTimeToLive - Time-to-live of each result. 0 or less means results never expire.
+	 * @param pTimeUnit - Unit of time-to-live
+	 */
+	public CachingTrafficFinder(LengaburuTrafficFinder pFinder, int pMaximumSize, long pTimeToLive, TimeUnit pTimeUnit) {
+		this.finder = pFinder;
+		this.cache = new RouteResultCache<>(pMaximumSize, pTimeToLive, pTimeUnit, 
+				() -> initializer.getRoadNetwork().getVersion());
+	}
+
+	/**
+	 * Solve a single query, from cache if possible.
+	 * 
+	 * @param pQuery - User inputs of the query
+	 * @return - Success or failure message after doing calculation for optimum time.
+	 */
+	public String solve(TrafficQuery pQuery) {
+		if (!QueryKey.isValid(pQuery)) {
+			// Not cached, finder rejects it
+			return finder.solve(pQuery);
+		}
+		QueryKey key = new QueryKey(pQuery);
+		String result = cache.get(key);
+		if (null == result) {
+			long version = cache.getDataVersion();
+			result = finder.solve(pQuery);
+			cache.put(key, result, version);
+		}
+		return result;
+	}
+
+	/**
+	 * Solve a batch of queries. Only cache misses are sent to the finder, as one batch.
+	 * 
+	 * @param pQueries - User inputs of all queries
+	 * @return - Success or failure message for each query, in input order.
+	 */
+	public List<String> solveBatch(List<TrafficQuery> pQueries) {
+		String[] results = new String[pQueries.size()];
+		List<Integer> missedIndexes = new ArrayList<>();
+		List<TrafficQuery> missedQueries = new ArrayList<>();
+		QueryKey[] keys = new QueryKey[pQueries.size()];
+		for (int queryIndex = 0; queryIndex < pQueries.size(); queryIndex++) {
+			// Invalid key isn't cached, finder rejects it
+			if (QueryKey.isValid(pQueries.get(queryIndex))) {
+				keys[queryIndex] = new QueryKey(pQueries.get(queryIndex));
+				results[queryIndex] = cache.get(keys[queryIndex]);
+			}
+			if (null == results[queryIndex]) {
+				missedIndexes.add(queryIndex);
+				missedQueries.add(pQueries.get(queryIndex));
+			}
+		}
+		
+		if (!missedQueries.isEmpty()) {
+			long version = cache.getDataVersion();
+			List<String> missedResults = finder.solveBatch(missedQueries);
+			for (int i = 0; i < missedIndexes.size(); i++) {
+				int queryIndex = missedIndexes.get(i);
+				results[queryIndex] = missedResults.get(i);
+				if (null != keys[queryIndex]) {
+					cache.put(keys[queryIndex], results[queryIndex], version);
+				}
+			}
+		}
+		return Arrays.asList(results);
+	}
+
+	public RouteResultCache<QueryKey, String> getCache() {
+		return cache;
+	}
+
+	public LengaburuTrafficFinder getFinder() {
+		return finder;
+	}
+}
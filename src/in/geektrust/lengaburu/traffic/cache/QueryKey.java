@@ -0,0 +1,102 @@
+/*
+* Copyright (c) 2017, Ritesh. All rights reserved.
+*
+*/
+package in.geektrust.lengaburu.traffic.cache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+import in.geektrust.lengaburu.traffic.beans.TrafficQuery;
+
+/**
+ * DESCRIPTION - This class is an immutable cache key for a TrafficQuery.
+ * 
+ * Weather type, source and destinations are compared case insensitive, same as look-ups.
+ * Destinations keep their order, as it decides the order of orbit-sequences (i.e. tie rule).
+ * Speed limits are copied (sorted by orbit name), so changing caller's map later doesn't affect the key.
+ * A query without orbit name for a speed limit can't be a key (see isValid), it isn't cached.
+ * 
+ * @author - Ritesh Bangal
+ * @version 1.0
+ * @since <17-October-2026>
+ */
+public final class QueryKey {
+
+	private final String weatherType;
+	private final String source;
+	private final List<String> destinations;
+	private final Map<String, Integer> orbitSpeedLimitMap;
+	private final int hash;
+
+	/**
+	 * @param pQuery - User inputs of the query. Should be valid as a key, see isValid().
+	 */
+	public QueryKey(TrafficQuery pQuery) {
+		if (!isValid(pQuery)) {
+			throw new IllegalArgumentException("Speed limit without orbit name can't be cached: " + pQuery.getOrbitSpeedLimitMap());
+		}
+		this.weatherType = normalize(pQuery.getWeatherType());
+		this.source = normalize(pQuery.getSource());
+		List<String> normalizedDestinations = new ArrayList<>();
+		if (null != pQuery.getDestinations()) {
+			pQuery.getDestinations().stream().forEach(destination -> normalizedDestinations.add(normalize(destination)));
+		}
+		this.destinations = Collections.unmodifiableList(normalizedDestinations);
+		this.orbitSpeedLimitMap = (null == pQuery.getOrbitSpeedLimitMap()) 
+				? Collections.emptyMap() : Collections.unmodifiableMap(new TreeMap<>(pQuery.getOrbitSpeedLimitMap()));
+		
+		this.hash = Objects.hash(weatherType, source, destinations, orbitSpeedLimitMap);
+	}
+
+	/**
+	 * @param pQuery - User inputs of the query
+	 * @return - true if the query can be a key, i.e. each speed limit has an orbit name. Others are left to the finder to reject.
+	 */
+	public static boolean isValid(TrafficQuery pQuery) {
+		return null == pQuery.getOrbitSpeedLimitMap() 
+				|| pQuery.getOrbitSpeedLimitMap().keySet().stream().allMatch(Objects::nonNull);
+	}
+
+	private static String normalize(String pValue) {
+		return null == pValue ? null : pValue.toLowerCase(Locale.ENGLISH);
+	}
+
+	@Override
+	public int hashCode() {
+		return hash;
+	}
+
+	@Override
+	public boolean equals(Object pObject) {
+		if (this == pObject) {
+			return true;
+		}
+		if (!(pObject instanceof QueryKey)) {
+			return false;
+		}
+		QueryKey other = (QueryKey) pObject;
+		return hash == other.hash
+				&& Objects.equals(weatherType, other.weatherType)
+				&& Objects.equals(source, other.source)
+				&& destinations.equals(other.destinations)
+				&& orbitSpeedLimitMap.equals(other.orbitSpeedLimitMap);
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder key = new StringBuilder("QueryKey");
+		key.append(": {")
+			.append("weatherType=").append(weatherType)
+			.append(", source=").append(source)
+			.append(", destinations=").append(destinations)
+			.append(", orbitSpeedLimitMap=").append(orbitSpeedLimitMap)
+			.append("}");
+		return key.toString();
+	}
+}
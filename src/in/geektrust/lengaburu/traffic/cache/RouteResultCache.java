@@ -0,0 +1,276 @@
+/*
+* Copyright (c) 2017, Ritesh. All rights reserved.
+*
+*/
+package in.geektrust.lengaburu.traffic.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * DESCRIPTION - This class is a bounded result cache, with LRU eviction and time-to-live.
+ * 
+ * It performs following operations:
+ * 	1.	Entries are spread over stripes by key hash. Each stripe is an access ordered LinkedHashMap with its own lock,
+ * 		so hits on different stripes never wait for each other.
+ * 	2.	When a stripe is full, its least recently used entry is evicted. Capacities of stripes add up to the maximum size,
+ * 		so the cache never holds more than that. But LRU is per stripe, i.e. evicted entry is the least recently used
+ * 		of its stripe, not necessarily of the whole cache.
+ * 	3.	Entries older than time-to-live are treated as miss and removed.
+ * 	4.	Each entry remembers the data version (e.g. RoadNetwork version) it was computed for. 
+ * 		When data version changes, all entries are invalidated.
+ * 
+ * Hit, miss, eviction and expiry counters are kept in LongAdder, so counting doesn't add any contention.
+ * 
+ * @param <K> - Key type. Should be immutable, with equals and hashCode.
+ * @param <V> - Value type
+ * 
+ * @author - Ritesh Bangal
+ * @version 1.0
+ * @since <17-October-2026>
+ */
+public final class RouteResultCache<K, V> {
+
+	private final Stripe<K, V>[] stripes;
+	private final int stripeMask;
+	private final long timeToLiveNanos;
+	private final LongSupplier dataVersion;
+	
+	// Data version, for which entries are currently held
+	private final AtomicLong currentVersion;
+	
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+	private final LongAdder expirations = new LongAdder();
+	private final LongAdder invalidations = new LongAdder();
+
+	/**
+	 * @param pMaximumSize - Maximum number of entries in the cache
+	 * @param pTimeToLive - Time-to-live of each entry. 0 or less means entries never expire.
+	 * @param pTimeUnit - Unit of time-to-live
+	 * @param pDataVersion - Supplier of current data version. Entries of an older version are never returned.
+	 */
+	@SuppressWarnings("unchecked")
+	public RouteResultCache(int pMaximumSize, long pTimeToLive, TimeUnit pTimeUnit, LongSupplier pDataVersion) {
+		if (pMaximumSize < 1) {
+			throw new IllegalArgumentException("Maximum size should be +ve integer: " + pMaximumSize);
+		}
+		
+		// Number of stripes is power of 2, around 4 per core, but not more than maximum size.
+		int stripeCount = Integer.highestOneBit(Math.min(pMaximumSize, Runtime.getRuntime().availableProcessors() * 4));
+		
+		// Remainder of maximum size is spread over the first stripes, one each. So capacities add up to maximum size.
+		int stripeCapacity = pMaximumSize / stripeCount;
+		int biggerStripes = pMaximumSize % stripeCount;
+		this.stripes = (Stripe<K, V>[]) new Stripe<?, ?>[stripeCount];
+		for (int stripeIndex = 0; stripeIndex < stripeCount; stripeIndex++) {
+			stripes[stripeIndex] = new Stripe<>(stripeIndex < biggerStripes ? stripeCapacity + 1 : stripeCapacity, evictions);
+		}
+		this.stripeMask = stripeCount - 1;
+		this.timeToLiveNanos = pTimeToLive > 0 ? pTimeUnit.toNanos(pTimeToLive) : Long.MAX_VALUE;
+		this.dataVersion = pDataVersion;
+		this.currentVersion = new AtomicLong(pDataVersion.getAsLong());
+	}
+
+	/**
+	 * @param pKey - Key
+	 * @return - Cached value, or null if there is no live entry for the current data version.
+	 */
+	public V get(K pKey) {
+		long version = checkVersion();
+		Stripe<K, V> stripe = stripeOf(pKey);
+		CachedResult<V> entry;
+		synchronized (stripe) {
+			entry = stripe.get(pKey);
+			if (null != entry && (entry.version != version || isExpired(entry))) {
+				stripe.remove(pKey);
+				if (entry.version == version) {
+					expirations.increment();
+				}
+				entry = null;
+			}
+		}
+		if (null == entry) {
+			misses.increment();
+			return null;
+		}
+		hits.increment();
+		return entry.value;
+	}
+
+	/**
+	 * Put a value, computed for the given data version. If data has changed meanwhile, value is dropped.
+	 * 
+	 * @param pKey - Key
+	 * @param pValue - Value
+	 * @param pVersion - Data version, which was current before computing the value (see getDataVersion)
+	 */
+	public void put(K pKey, V pValue, long pVersion) {
+		if (checkVersion() != pVersion) {
+			return;
+		}
+		Stripe<K, V> stripe = stripeOf(pKey);
+		synchronized (stripe) {
+			stripe.put(pKey, new CachedResult<>(pValue, pVersion, System.nanoTime()));
+		}
+	}
+
+	/**
+	 * Get the cached value, or compute and put it if there is no live entry for the current data version.
+	 * It is atomic for the key, so concurrent callers get the same value. Mapping function runs under the stripe's lock,
+	 * so it should be cheap (e.g. create a counter or a future), not the computation itself.
+	 * 
+	 * @param pKey - Key
+	 * @param pMappingFunction - Function to create the value of the key
+	 * @return - Cached or created value
+	 */
+	public V computeIfAbsent(K pKey, Function<? super K, ? extends V> pMappingFunction) {
+		long version = checkVersion();
+		Stripe<K, V> stripe = stripeOf(pKey);
+		synchronized (stripe) {
+			CachedResult<V> entry = stripe.get(pKey);
+			if (null != entry && entry.version == version && !isExpired(entry)) {
+				hits.increment();
+				return entry.value;
+			}
+			if (null != entry && entry.version == version) {
+				expirations.increment();
+			}
+			misses.increment();
+			V value = pMappingFunction.apply(pKey);
+			stripe.put(pKey, new CachedResult<>(value, version, System.nanoTime()));
+			return value;
+		}
+	}
+
+	/**
+	 * @return - Current data version. Should be read before computing a value to put.
+	 */
+	public long getDataVersion() {
+		return checkVersion();
+	}
+
+	/**
+	 * Remove all entries.
+	 */
+	public void invalidateAll() {
+		for (Stripe<K, V> stripe : stripes) {
+			synchronized (stripe) {
+				stripe.clear();
+			}
+		}
+		invalidations.increment();
+	}
+
+	public int size() {
+		int size = 0;
+		for (Stripe<K, V> stripe : stripes) {
+			synchronized (stripe) {
+				size += stripe.size();
+			}
+		}
+		return size;
+	}
+
+	public long getHitCount() {
+		return hits.sum();
+	}
+
+	public long getMissCount() {
+		return misses.sum();
+	}
+
+	public long getEvictionCount() {
+		return evictions.sum();
+	}
+
+	public long getExpiredCount() {
+		return expirations.sum();
+	}
+
+	public long getInvalidationCount() {
+		return invalidations.sum();
+	}
+
+	/*
+	 * If data version has changed, invalidate all entries once. Returns current data version.
+	 */
+	private long checkVersion() {
+		long version = dataVersion.getAsLong();
+		long knownVersion = currentVersion.get();
+		if (version != knownVersion && currentVersion.compareAndSet(knownVersion, version)) {
+			invalidateAll();
+		}
+		return version;
+	}
+
+	private boolean isExpired(CachedResult<V> pEntry) {
+		return System.nanoTime() - pEntry.createdNanos > timeToLiveNanos;
+	}
+
+	private Stripe<K, V> stripeOf(K pKey) {
+		int hash = pKey.hashCode();
+		return stripes[(hash ^ (hash >>> 16)) & stripeMask];
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder cache = new StringBuilder("RouteResultCache");
+		cache.append(": {")
+			.append("size=").append(size())
+			.append(", hits=").append(getHitCount())
+			.append(", misses=").append(getMissCount())
+			.append(", evictions=").append(getEvictionCount())
+			.append(", expired=").append(getExpiredCount())
+			.append("}");
+		return cache.toString();
+	}
+
+	/*
+	 * Cached value, along with its data version and creation time.
+	 */
+	private static final class CachedResult<V> {
+		
+		private final V value;
+		private final long version;
+		private final long createdNanos;
+		
+		private CachedResult(V pValue, long pVersion, long pCreatedNanos) {
+			this.value = pValue;
+			this.version = pVersion;
+			this.createdNanos = pCreatedNanos;
+		}
+	}
+
+	/*
+	 * Access ordered map, which evicts least recently used entry when it's full. Guarded by its own monitor.
+	 */
+	private static final class Stripe<K, V> extends LinkedHashMap<K, CachedResult<V>> {
+
+		private static final long serialVersionUID = 1L;
+		
+		private final int capacity;
+		private final transient LongAdder evictions;
+		
+		private Stripe(int pCapacity, LongAdder pEvictions) {
+			super(16, 0.75f, true);
+			this.capacity = pCapacity;
+			this.evictions = pEvictions;
+		}
+		
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<K, CachedResult<V>> pEldest) {
+			if (size() > capacity) {
+				evictions.increment();
+				return true;
+			}
+			return false;
+		}
+	}
+}
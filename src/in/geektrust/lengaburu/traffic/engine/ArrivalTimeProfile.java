@@ -0,0 +1,124 @@
+/*
+* Copyright (c) 2017, Ritesh. All rights reserved.
+*
+*/
+package in.geektrust.lengaburu.traffic.engine;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import in.geektrust.lengaburu.traffic.beans.TraverseDetail;
+import in.geektrust.lengaburu.traffic.network.SpeedProfile;
+import in.geektrust.lengaburu.traffic.network.SpeedProfileTable;
+
+/**
+ * DESCRIPTION - This class holds precomputed fastest routes from a source to a destination, for every departure minute of the day.
+ *
+ * Fastest route usually changes only a few times a day (e.g. before and after the evening jam), so distinct routes
+ * (vehicle and orbit-sequence) are kept once, and each minute refers to one of them:
+ * 	-	traverseTime[minute]	: Traverse time in minutes, or TraverseCost.INFINITE_TIME if destination is not reachable.
+ * 	-	routeIndex[minute]		: Index of the route in distinct routes, or -1 if destination is not reachable.
+ *
+ * It is computed by TimeDependentRouteEngine.computeArrivalTimeProfile(), for one weather and speed limits.
+ *
+ * Note: It is immutable, so any number of threads can look it up at once.
+ *
+ * @author - Ritesh Bangal
+ * @version 1.0
+ * @since <17-October-2026>
+ */
+public final class ArrivalTimeProfile {
+
+	private final int sourceId;
+	private final int destinationId;
+	private final SpeedProfileTable profiles;
+	private final int[] traverseTime = new int[SpeedProfile.MINUTES_PER_DAY];
+	private final int[] routeIndex = new int[SpeedProfile.MINUTES_PER_DAY];
+	private final List<TraverseDetail> routes;
+
+	ArrivalTimeProfile(int pSourceId, int pDestinationId, SpeedProfileTable pProfiles, List<TraverseDetail> pRoutes) {
+		this.sourceId = pSourceId;
+		this.destinationId = pDestinationId;
+		this.profiles = pProfiles;
+
+		List<TraverseDetail> distinctRoutes = new ArrayList<>();
+		for (int minute = 0; minute < SpeedProfile.MINUTES_PER_DAY; minute++) {
+			TraverseDetail route = pRoutes.get(minute);
+			if (null == route) {
+				traverseTime[minute] = TraverseCost.INFINITE_TIME;
+				routeIndex[minute] = -1;
+				continue;
+			}
+			traverseTime[minute] = route.getTraverseTime();
+			int index = distinctRoutes.size() - 1;
+			if (index < 0 || !isSameRoute(distinctRoutes.get(index), route)) {
+				index = indexOf(distinctRoutes, route);
+				if (index < 0) {
+					index = distinctRoutes.size();
+					distinctRoutes.add(route);
+				}
+			}
+			routeIndex[minute] = index;
+		}
+		this.routes = Collections.unmodifiableList(distinctRoutes);
+	}
+
+	private static boolean isSameRoute(TraverseDetail pRoute, TraverseDetail pOther) {
+		return pRoute.getVehicle() == pOther.getVehicle() && pRoute.getOrbits().equals(pOther.getOrbits());
+	}
+
+	private static int indexOf(List<TraverseDetail> pRoutes, TraverseDetail pRoute) {
+		for (int index = 0; index < pRoutes.size(); index++) {
+			if (isSameRoute(pRoutes.get(index), pRoute)) {
+				return index;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Look up the fastest route, departing at the given minute.
+	 *
+	 * @param pDepartureMinute - Departure minute. It is taken as minute of its day.
+	 * @return - Populated TraverseDetail object, or null if destination is not reachable.
+	 */
+	public TraverseDetail getFastestRoute(int pDepartureMinute) {
+		int minute = Math.floorMod(pDepartureMinute, SpeedProfile.MINUTES_PER_DAY);
+		if (routeIndex[minute] < 0) {
+			return null;
+		}
+		TraverseDetail route = routes.get(routeIndex[minute]);
+		return new TraverseDetail(traverseTime[minute], route.getOrbits(), route.getVehicle());
+	}
+
+	/**
+	 * @param pDepartureMinute - Departure minute. It is taken as minute of its day.
+	 * @return - Traverse time in minutes, or TraverseCost.INFINITE_TIME if destination is not reachable.
+	 */
+	public int getTraverseTime(int pDepartureMinute) {
+		return traverseTime[Math.floorMod(pDepartureMinute, SpeedProfile.MINUTES_PER_DAY)];
+	}
+
+	public int getSourceId() {
+		return sourceId;
+	}
+
+	public int getDestinationId() {
+		return destinationId;
+	}
+
+	/**
+	 * @return - Speed profiles, which this profile was computed with
+	 */
+	public SpeedProfileTable getProfiles() {
+		return profiles;
+	}
+
+	/**
+	 * @return - Distinct fastest routes over the day, in order of first departure minute
+	 */
+	public List<TraverseDetail> getRoutes() {
+		return routes;
+	}
+}
@@ -0,0 +1,428 @@
+/*
+* Copyright (c) 2017, Ritesh. All rights reserved.
+*
+*/
+package in.geektrust.lengaburu.traffic.engine;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.IntStream;
+
+import in.geektrust.lengaburu.traffic.beans.Orbit;
+import in.geektrust.lengaburu.traffic.beans.TraverseDetail;
+import in.geektrust.lengaburu.traffic.beans.WeatherType;
+import in.geektrust.lengaburu.traffic.exception.BusinessException;
+import in.geektrust.lengaburu.traffic.network.RoadNetwork;
+import in.geektrust.lengaburu.traffic.network.SpeedLimitOverlay;
+import in.geektrust.lengaburu.traffic.network.WeatherCostTable;
+
+/**
+ * DESCRIPTION - This class holds a ContractionHierarchy for each (weather, vehicle) cost metric of a network and its speed limits,
+ * and saves them into a binary file, so that they are built offline once and not at every start.
+ *
+ * It performs following operations:
+ * 	1.	build()	: Build hierarchies of all metrics in parallel, one metric per task (see ContractionHierarchyBuilder).
+ * 	2.	write()	: Write them into a file. It is written to a temporary file first and then moved.
+ * 	3.	open()	: Map the file and bulk copy its arrays. File is accepted only if it was built from the same orbit times,
+ * 				  i.e. fingerprint of the network, vehicles, weathers and its speed limits matches.
+ * 	4.	findFastestRoute()	: Query hierarchy of each vehicle of the weather, and keep the quickest one.
+ * 	5.	computeMatrix()		: Many to many times with buckets, for each vehicle of the weather, and keep the quickest one of each cell.
+ *
+ * File layout: MAGIC, FORMAT_VERSION, fingerprint, speed limits by orbit name, then for each metric its weather, vehicle index
+ * and arrays (each one is a count followed by the values), and MAGIC again so that a truncated file is detected.
+ *
+ * Note: Hierarchies are bound to the speed limits they were built with. Queries with other speed limits should
+ * 		 use ShortestTimeRouteEngine (see isBuiltFor()). It is immutable, so any number of threads can query it at once.
+ *
+ * @author - Ritesh Bangal
+ * @version 1.0
+ * @since <17-October-2026>
+ */
+public final class ContractionHierarchies {
+
+	// 'LNCH' in ASCII
+	public static final int MAGIC = 0x4C4E4348;
+
+	// Increment it whenever the layout changes. Files of other versions are rejected.
+	public static final int FORMAT_VERSION = 1;
+
+	private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+	private static final long FNV_PRIME = 0x100000001b3L;
+
+	private final RoadNetwork network;
+	private final Map<String, Integer> orbitSpeedLimitMap;
+	private final long fingerprint;
+	private final Map<WeatherType, ContractionHierarchy[]> hierarchies;
+
+	private ContractionHierarchies(RoadNetwork pNetwork, Map<String, Integer> pOrbitSpeedLimitMap, long pFingerprint,
+			Map<WeatherType, ContractionHierarchy[]> pHierarchies) {
+		this.network = pNetwork;
+		this.orbitSpeedLimitMap = pOrbitSpeedLimitMap;
+		this.fingerprint = pFingerprint;
+		this.hierarchies = pHierarchies;
+	}
+
+	/**
+	 * Build hierarchies of all (weather, vehicle) metrics of the network, in parallel.
+	 *
+	 * @param pNetwork - Road network snapshot
+	 * @param pOrbitSpeedLimitMap - Speed limit corresponding to orbit name. Orbits which are not in the map are closed.
+	 * @return - Contraction hierarchies
+	 */
+	public static ContractionHierarchies build(RoadNetwork pNetwork, Map<String, Integer> pOrbitSpeedLimitMap) {
+		int[] speedLimits = toSpeedLimits(pNetwork, pOrbitSpeedLimitMap);
+		List<WeatherType> weatherTypes = getWeatherTypes(pNetwork);
+
+		// Metric m is vehicle (m - metricStart[w]) of weather w
+		int[] metricStart = new int[weatherTypes.size() + 1];
+		for (int index = 0; index < weatherTypes.size(); index++) {
+			metricStart[index + 1] = metricStart[index] + pNetwork.getCostTable(weatherTypes.get(index)).getVehicleCount();
+		}
+		ContractionHierarchy[] metrics = IntStream.range(0, metricStart[weatherTypes.size()]).parallel()
+			.mapToObj(metric -> {
+				int weatherIndex = 0;
+				while (metricStart[weatherIndex + 1] <= metric) {
+					weatherIndex++;
+				}
+				return ContractionHierarchyBuilder.build(pNetwork, pNetwork.getCostTable(weatherTypes.get(weatherIndex)),
+						metric - metricStart[weatherIndex], speedLimits);
+			})
+			.toArray(ContractionHierarchy[]::new);
+
+		Map<WeatherType, ContractionHierarchy[]> hierarchies = new EnumMap<>(WeatherType.class);
+		for (int index = 0; index < weatherTypes.size(); index++) {
+			hierarchies.put(weatherTypes.get(index), Arrays.copyOfRange(metrics, metricStart[index], metricStart[index + 1]));
+		}
+		return new ContractionHierarchies(pNetwork, copyOf(pOrbitSpeedLimitMap),
+				fingerprint(pNetwork, weatherTypes, speedLimits), hierarchies);
+	}
+
+	/**
+	 * Open hierarchies from the file, if it exists and was built for the same network and speed limits.
+	 * Else build them, and write them into the file for the next start.
+	 *
+	 * @param pFile - Hierarchy file
+	 * @param pNetwork - Road network snapshot
+	 * @param pOrbitSpeedLimitMap - Speed limit corresponding to orbit name. Orbits which are not in the map are closed.
+	 * @return - Contraction hierarchies
+	 * @throws BusinessException - If hierarchies had to be built, and the file can't be written.
+	 */
+	public static ContractionHierarchies load(Path pFile, RoadNetwork pNetwork, Map<String, Integer> pOrbitSpeedLimitMap)
+			throws BusinessException {
+		if (Files.isRegularFile(pFile)) {
+			try {
+				ContractionHierarchies hierarchies = open(pFile, pNetwork);
+				if (hierarchies.isBuiltFor(pNetwork, pOrbitSpeedLimitMap)) {
+					return hierarchies;
+				}
+			} catch (BusinessException e) {
+				// Stale or corrupted file, so it is built again below.
+			}
+		}
+		ContractionHierarchies hierarchies = build(pNetwork, pOrbitSpeedLimitMap);
+		hierarchies.write(pFile);
+		return hierarchies;
+	}
+
+	/**
+	 * Write hierarchies into a file. Existing file is replaced.
+	 *
+	 * @param pFile - Hierarchy file
+	 * @throws BusinessException - If the file can't be written.
+	 */
+	public void write(Path pFile) throws BusinessException {
+		Path temporaryFile = pFile.resolveSibling(pFile.getFileName() + ".tmp");
+		try {
+			try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryFile,
+					StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING), 1 << 20))) {
+				output.writeInt(MAGIC);
+				output.writeInt(FORMAT_VERSION);
+				output.writeLong(fingerprint);
+				Map<String, Integer> sortedSpeedLimitMap = new TreeMap<>(orbitSpeedLimitMap);
+				output.writeInt(sortedSpeedLimitMap.size());
+				for (Map.Entry<String, Integer> entry : sortedSpeedLimitMap.entrySet()) {
+					byte[] orbitName = entry.getKey().getBytes(StandardCharsets.UTF_8);
+					output.writeInt(orbitName.length);
+					output.write(orbitName);
+					output.writeBoolean(null != entry.getValue());
+					output.writeInt(null == entry.getValue() ? 0 : entry.getValue());
+				}
+				output.writeInt(hierarchies.values().stream().mapToInt(metrics -> metrics.length).sum());
+				for (Map.Entry<WeatherType, ContractionHierarchy[]> entry : hierarchies.entrySet()) {
+					for (int vehicleIndex = 0; vehicleIndex < entry.getValue().length; vehicleIndex++) {
+						ContractionHierarchy hierarchy = entry.getValue()[vehicleIndex];
+						output.writeInt(entry.getKey().ordinal());
+						output.writeInt(vehicleIndex);
+						output.writeInt(hierarchy.getSuburbCount());
+						writeInts(output, hierarchy.edgeSource);
+						writeInts(output, hierarchy.edgeTarget);
+						writeInts(output, hierarchy.edgeWeight);
+						writeInts(output, hierarchy.edgeFirst);
+						writeInts(output, hierarchy.edgeSecond);
+						writeInts(output, hierarchy.upStart);
+						writeInts(output, hierarchy.upEdges);
+						writeInts(output, hierarchy.downStart);
+						writeInts(output, hierarchy.downEdges);
+					}
+				}
+				output.writeInt(MAGIC);
+			}
+			Files.move(temporaryFile, pFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			throw new BusinessException("Unable to write contraction hierarchies " + pFile + ": " + e.getMessage(), e);
+		} finally {
+			try {
+				Files.deleteIfExists(temporaryFile);
+			} catch (IOException e) {
+				// Nothing to do, temporary file is left behind.
+			}
+		}
+	}
+
+	private static void writeInts(DataOutputStream pOutput, int[] pValues) throws IOException {
+		pOutput.writeInt(pValues.length);
+		for (int value : pValues) {
+			pOutput.writeInt(value);
+		}
+	}
+
+	/**
+	 * Open hierarchies from a file, with the speed limits they were built with.
+	 *
+	 * @param pFile - Hierarchy file
+	 * @param pNetwork - Road network snapshot, which the file should be built for
+	 * @return - Contraction hierarchies
+	 * @throws BusinessException - If the file can't be read, isn't valid, or was built for another network.
+	 */
+	public static ContractionHierarchies open(Path pFile, RoadNetwork pNetwork) throws BusinessException {
+		List<WeatherType> weatherTypes = getWeatherTypes(pNetwork);
+		try (FileChannel channel = FileChannel.open(pFile, StandardOpenOption.READ)) {
+			if (channel.size() > Integer.MAX_VALUE) {
+				throw new BusinessException("Contraction hierarchies " + pFile + " are larger than 2 GB.");
+			}
+			ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			if (buffer.getInt() != MAGIC) {
+				throw new BusinessException(pFile + " is not a contraction hierarchies file.");
+			}
+			int formatVersion = buffer.getInt();
+			if (formatVersion != FORMAT_VERSION) {
+				throw new BusinessException("Contraction hierarchies " + pFile + " have format version " + formatVersion
+						+ ", but version " + FORMAT_VERSION + " is expected.");
+			}
+			long fingerprint = buffer.getLong();
+			Map<String, Integer> orbitSpeedLimitMap = new HashMap<>();
+			int speedLimitCount = buffer.getInt();
+			for (int index = 0; index < speedLimitCount; index++) {
+				byte[] orbitName = new byte[buffer.getInt()];
+				buffer.get(orbitName);
+				boolean hasSpeedLimit = buffer.get() != 0;
+				int speedLimit = buffer.getInt();
+				orbitSpeedLimitMap.put(new String(orbitName, StandardCharsets.UTF_8), hasSpeedLimit ? speedLimit : null);
+			}
+			if (fingerprint != fingerprint(pNetwork, weatherTypes, toSpeedLimits(pNetwork, orbitSpeedLimitMap))) {
+				throw new BusinessException("Contraction hierarchies " + pFile + " were built for another network.");
+			}
+
+			Map<WeatherType, ContractionHierarchy[]> hierarchies = new EnumMap<>(WeatherType.class);
+			for (WeatherType weatherType : weatherTypes) {
+				hierarchies.put(weatherType, new ContractionHierarchy[pNetwork.getCostTable(weatherType).getVehicleCount()]);
+			}
+			int metricCount = buffer.getInt();
+			for (int metric = 0; metric < metricCount; metric++) {
+				ContractionHierarchy[] metrics = hierarchies.get(WeatherType.of(buffer.getInt()));
+				int vehicleIndex = buffer.getInt();
+				metrics[vehicleIndex] = new ContractionHierarchy(buffer.getInt(), readInts(buffer), readInts(buffer),
+						readInts(buffer), readInts(buffer), readInts(buffer), readInts(buffer), readInts(buffer),
+						readInts(buffer), readInts(buffer));
+			}
+			if (buffer.getInt() != MAGIC) {
+				throw new BusinessException("Contraction hierarchies " + pFile + " are corrupted.");
+			}
+			for (ContractionHierarchy[] metrics : hierarchies.values()) {
+				if (Arrays.asList(metrics).contains(null)) {
+					throw new BusinessException("Contraction hierarchies " + pFile + " are incomplete.");
+				}
+			}
+			return new ContractionHierarchies(pNetwork, copyOf(orbitSpeedLimitMap), fingerprint, hierarchies);
+		} catch (IOException | RuntimeException e) {
+			throw new BusinessException("Unable to open contraction hierarchies " + pFile + ": " + e, e);
+		}
+	}
+
+	// Bulk copy, i.e. a memory copy of the section
+	private static int[] readInts(ByteBuffer pBuffer) {
+		int[] values = new int[pBuffer.getInt()];
+		pBuffer.asIntBuffer().get(values);
+		pBuffer.position(pBuffer.position() + values.length * Integer.BYTES);
+		return values;
+	}
+
+	/**
+	 * @param pNetwork - Road network snapshot of the query
+	 * @param pOrbitSpeedLimitMap - Speed limits of the query
+	 * @return - true, if hierarchies were built for the same network snapshot and speed limits. Else false.
+	 */
+	public boolean isBuiltFor(RoadNetwork pNetwork, Map<String, Integer> pOrbitSpeedLimitMap) {
+		return network == pNetwork && orbitSpeedLimitMap.equals(pOrbitSpeedLimitMap);
+	}
+
+	/**
+	 * Find out the fastest route from source to destination, among all vehicles of the weather.
+	 * If there is a tie in which vehicle to choose, vehicle comes first in the vehicles list is chosen.
+	 *
+	 * Note: Traverse time is same as ShortestTimeRouteEngine.findFastestRoute(). In case of a tie between routes
+	 * 		 of the same vehicle, orbit-sequence may be another one of the same time.
+	 *
+	 * @param pWeatherType - Weather type
+	 * @param pSourceId - Source suburb id
+	 * @param pDestinationId - Destination suburb id
+	 * @return - Populated TraverseDetail object, or null if destination is not reachable.
+	 */
+	public TraverseDetail findFastestRoute(WeatherType pWeatherType, int pSourceId, int pDestinationId) {
+		ContractionHierarchy[] metrics = hierarchies.get(pWeatherType);
+		if (null == metrics) {
+			return null;
+		}
+		int bestVehicleIndex = -1;
+		int bestTime = TraverseCost.INFINITE_TIME;
+		for (int vehicleIndex = 0; vehicleIndex < metrics.length; vehicleIndex++) {
+			int traverseTime = metrics[vehicleIndex].findTime(pSourceId, pDestinationId);
+			if (traverseTime < bestTime) {
+				bestTime = traverseTime;
+				bestVehicleIndex = vehicleIndex;
+			}
+		}
+		if (bestVehicleIndex < 0) {
+			return null;
+		}
+		List<Orbit> orbits = new ArrayList<>();
+		for (int orbitId : metrics[bestVehicleIndex].findOrbitIds(pSourceId, pDestinationId)) {
+			orbits.add(network.getOrbit(orbitId));
+		}
+		return new TraverseDetail(bestTime, orbits, network.getCostTable(pWeatherType).getVehicles().get(bestVehicleIndex));
+	}
+
+	/**
+	 * Find out fastest times from each origin to each destination, among all vehicles of the weather.
+	 * If there is a tie in which vehicle to choose, vehicle comes first in the vehicles list is chosen.
+	 *
+	 * Note: Times are same as TravelTimeMatrixEngine.computeMatrix() with the speed limits of the hierarchies.
+	 *
+	 * @param pWeatherType - Weather type
+	 * @param pOriginIds - Origin suburb ids, i.e. rows
+	 * @param pDestinationIds - Destination suburb ids, i.e. columns
+	 * @return - Travel time matrix. All cells are unreachable, if the network has no such weather.
+	 */
+	public TravelTimeMatrix computeMatrix(WeatherType pWeatherType, int[] pOriginIds, int[] pDestinationIds) {
+		ContractionHierarchy[] metrics = hierarchies.get(pWeatherType);
+		if (null == metrics) {
+			return new TravelTimeMatrix(network, Collections.emptyList(), pOriginIds, pDestinationIds);
+		}
+		TravelTimeMatrix matrix = new TravelTimeMatrix(network, network.getCostTable(pWeatherType).getVehicles(),
+				pOriginIds, pDestinationIds);
+		for (int vehicleIndex = 0; vehicleIndex < metrics.length; vehicleIndex++) {
+			int[][] times = metrics[vehicleIndex].computeTimes(pOriginIds, pDestinationIds);
+			for (int row = 0; row < pOriginIds.length; row++) {
+				for (int column = 0; column < pDestinationIds.length; column++) {
+					matrix.offer(row, column, vehicleIndex, times[row][column]);
+				}
+			}
+		}
+		return matrix;
+	}
+
+	/**
+	 * @param pWeatherType - Weather type
+	 * @param pVehicleIndex - Index of vehicle in cost table's vehicles of the weather
+	 * @return - Hierarchy of the metric
+	 */
+	public ContractionHierarchy getHierarchy(WeatherType pWeatherType, int pVehicleIndex) {
+		return hierarchies.get(pWeatherType)[pVehicleIndex];
+	}
+
+	public RoadNetwork getNetwork() {
+		return network;
+	}
+
+	public Map<String, Integer> getOrbitSpeedLimitMap() {
+		return orbitSpeedLimitMap;
+	}
+
+	private static int[] toSpeedLimits(RoadNetwork pNetwork, Map<String, Integer> pOrbitSpeedLimitMap) {
+		SpeedLimitOverlay overlay = SpeedLimitOverlay.of(pNetwork, pOrbitSpeedLimitMap);
+		return IntStream.range(0, pNetwork.getOrbitCount()).map(overlay::getSpeedLimit).toArray();
+	}
+
+	private static Map<String, Integer> copyOf(Map<String, Integer> pOrbitSpeedLimitMap) {
+		return Collections.unmodifiableMap(new HashMap<>(pOrbitSpeedLimitMap));
+	}
+
+	private static List<WeatherType> getWeatherTypes(RoadNetwork pNetwork) {
+		List<WeatherType> weatherTypes = new ArrayList<>();
+		for (WeatherType weatherType : WeatherType.values()) {
+			if (null != pNetwork.getCostTable(weatherType)) {
+				weatherTypes.add(weatherType);
+			}
+		}
+		return weatherTypes;
+	}
+
+	/*
+	 * FNV-1a hash of everything a hierarchy depends on: suburbs, orbit ends and orbit time of each open orbit for each metric.
+	 */
+	private static long fingerprint(RoadNetwork pNetwork, List<WeatherType> pWeatherTypes, int[] pSpeedLimits) {
+		long hash = FNV_OFFSET_BASIS;
+		hash = (hash ^ pNetwork.getSuburbCount()) * FNV_PRIME;
+		hash = (hash ^ pNetwork.getOrbitCount()) * FNV_PRIME;
+		for (int orbitId = 0; orbitId < pNetwork.getOrbitCount(); orbitId++) {
+			hash = (hash ^ pNetwork.getOrbitSource(orbitId)) * FNV_PRIME;
+			hash = (hash ^ pNetwork.getOrbitDestination(orbitId)) * FNV_PRIME;
+		}
+		for (WeatherType weatherType : pWeatherTypes) {
+			WeatherCostTable costTable = pNetwork.getCostTable(weatherType);
+			hash = (hash ^ weatherType.ordinal()) * FNV_PRIME;
+			hash = (hash ^ costTable.getVehicleCount()) * FNV_PRIME;
+			for (int vehicleIndex = 0; vehicleIndex < costTable.getVehicleCount(); vehicleIndex++) {
+				for (int orbitId = 0; orbitId < pSpeedLimits.length; orbitId++) {
+					int orbitTime = (pSpeedLimits[orbitId] >= 1)
+							? costTable.orbitTime(vehicleIndex, orbitId, pSpeedLimits[orbitId])
+							: TraverseCost.INFINITE_TIME;
+					hash = (hash ^ orbitTime) * FNV_PRIME;
+				}
+			}
+		}
+		return hash;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder description = new StringBuilder("ContractionHierarchies");
+		description.append(": {")
+			.append("weathers=").append(hierarchies.keySet());
+		for (Map.Entry<WeatherType, ContractionHierarchy[]> entry : hierarchies.entrySet()) {
+			int shortcutCount = 0;
+			for (ContractionHierarchy hierarchy : entry.getValue()) {
+				shortcutCount += hierarchy.getShortcutCount();
+			}
+			description.append(", ").append(entry.getKey()).append(".shortcuts=").append(shortcutCount);
+		}
+		description.append("}");
+		return description.toString();
+	}
+}
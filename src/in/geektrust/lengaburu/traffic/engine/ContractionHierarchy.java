@@ -0,0 +1,388 @@
+/*
+* Copyright (c) 2017, Ritesh. All rights reserved.
+*
+*/
+package in.geektrust.lengaburu.traffic.engine;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * DESCRIPTION - This class is a contraction hierarchy of one cost metric (i.e. orbit times of one (weather, vehicle)),
+ * to answer point to point shortest time queries with a small search.
+ *
+ * Each suburb has a rank (see ContractionHierarchyBuilder), and shortcuts keep shortest times between suburbs
+ * when lower ranked suburbs are left out. So every shortest route has an equally quick route which first goes up in rank,
+ * and then goes down. Query is a bidirectional search over such routes:
+ * 	-	Forward search from source, only over upward edges.
+ * 	-	Backward search from destination, only over downward edges (in reverse).
+ * 	-	Quickest suburb settled by both is the meeting point. Each side stops once it can't beat the best meeting point.
+ * 	-	Suburbs which are reached quicker from a higher ranked suburb are stalled, i.e. not expanded (stall on demand).
+ * Edges between uncontracted (core) suburbs are both upward and downward, so the search inside the core is a plain
+ * bidirectional search.
+ * Route is unpacked by replacing each shortcut with its two child edges, down to orbits.
+ *
+ * Many to many times (see computeTimes()) share the searches across rows and columns, with buckets:
+ * 	-	Backward search from each target, over downward edges, without a bound. Each settled suburb gets a bucket entry
+ * 		(target, time), i.e. it can reach the target by going down.
+ * 	-	Forward search from each source, over upward edges, without a bound. Bucket of each settled suburb is scanned,
+ * 		and the quickest (forward time + bucket time) of each target is kept.
+ * So it takes (sources + targets) small searches, instead of (sources * targets) queries.
+ *
+ * Edges are kept in primitive arrays, by edge id (see ContractionHierarchyBuilder).
+ * Upward edges of suburb 's' are upEdges[upStart[s]] ... upEdges[upStart[s + 1] - 1], and downward edges into
+ * suburb 's' are downEdges[downStart[s]] ... downEdges[downStart[s + 1] - 1].
+ *
+ * Note: It is immutable. Search state is kept per thread, so any number of threads can query it at once,
+ * 		 and a query doesn't allocate in proportion to the network size.
+ *
+ * @author - Ritesh Bangal
+ * @version 1.0
+ * @since <17-October-2026>
+ */
+public final class ContractionHierarchy {
+
+	private final int suburbCount;
+	final int[] edgeSource;
+	final int[] edgeTarget;
+	final int[] edgeWeight;
+	final int[] edgeFirst;
+	final int[] edgeSecond;
+	final int[] upStart;
+	final int[] upEdges;
+	final int[] downStart;
+	final int[] downEdges;
+
+	private final ThreadLocal<SearchSpace> searchSpace;
+
+	ContractionHierarchy(int pSuburbCount, int[] pEdgeSource, int[] pEdgeTarget, int[] pEdgeWeight, int[] pEdgeFirst,
+			int[] pEdgeSecond, int[] pUpStart, int[] pUpEdges, int[] pDownStart, int[] pDownEdges) {
+		this.suburbCount = pSuburbCount;
+		this.edgeSource = pEdgeSource;
+		this.edgeTarget = pEdgeTarget;
+		this.edgeWeight = pEdgeWeight;
+		this.edgeFirst = pEdgeFirst;
+		this.edgeSecond = pEdgeSecond;
+		this.upStart = pUpStart;
+		this.upEdges = pUpEdges;
+		this.downStart = pDownStart;
+		this.downEdges = pDownEdges;
+		this.searchSpace = ThreadLocal.withInitial(() -> new SearchSpace(suburbCount));
+	}
+
+	/**
+	 * @param pSourceId - Source suburb id
+	 * @param pDestinationId - Destination suburb id
+	 * @return - Shortest time in minutes, or TraverseCost.INFINITE_TIME if destination is not reachable.
+	 */
+	public int findTime(int pSourceId, int pDestinationId) {
+		SearchSpace space = searchSpace.get();
+		search(space, pSourceId, pDestinationId);
+		return space.bestTime;
+	}
+
+	/**
+	 * @param pSourceId - Source suburb id
+	 * @param pDestinationId - Destination suburb id
+	 * @return - Orbit ids of the shortest route in order, or null if destination is not reachable.
+	 */
+	public int[] findOrbitIds(int pSourceId, int pDestinationId) {
+		SearchSpace space = searchSpace.get();
+		if (space.sourceId != pSourceId || space.destinationId != pDestinationId) {
+			// Search of findTime() for the same pair is used as it is, e.g. when the quickest vehicle is unpacked
+			search(space, pSourceId, pDestinationId);
+		}
+		if (space.bestTime == TraverseCost.INFINITE_TIME) {
+			return null;
+		}
+
+		// Edges from source to meeting point (collected backwards, then reversed), followed by edges to destination.
+		// Both halves are simple paths meeting at one suburb, so they fit in suburbCount - 1 edges.
+		int[] route = space.edgeStack;
+		int routeSize = 0;
+		for (int edge = space.forwardEdge[space.meetingId]; edge >= 0; edge = space.forwardEdge[edgeSource[edge]]) {
+			route[routeSize++] = edge;
+		}
+		for (int low = 0, high = routeSize - 1; low < high; low++, high--) {
+			int edge = route[low];
+			route[low] = route[high];
+			route[high] = edge;
+		}
+		for (int edge = space.backwardEdge[space.meetingId]; edge >= 0; edge = space.backwardEdge[edgeTarget[edge]]) {
+			route[routeSize++] = edge;
+		}
+
+		// Unpack each edge down to orbits, in order
+		int[] orbitIds = new int[Math.max(8, routeSize)];
+		int orbitCount = 0;
+		int[] unpackStack = new int[64];
+		for (int index = 0; index < routeSize; index++) {
+			int unpackSize = 0;
+			unpackStack[unpackSize++] = route[index];
+			while (unpackSize > 0) {
+				int edge = unpackStack[--unpackSize];
+				if (edgeFirst[edge] < 0) {
+					if (orbitCount == orbitIds.length) {
+						orbitIds = Arrays.copyOf(orbitIds, orbitCount * 2);
+					}
+					orbitIds[orbitCount++] = edgeSecond[edge];
+				} else {
+					if (unpackSize + 2 > unpackStack.length) {
+						unpackStack = Arrays.copyOf(unpackStack, unpackStack.length * 2);
+					}
+					// Second child is pushed first, so that first child is unpacked first
+					unpackStack[unpackSize++] = edgeSecond[edge];
+					unpackStack[unpackSize++] = edgeFirst[edge];
+				}
+			}
+		}
+		return Arrays.copyOf(orbitIds, orbitCount);
+	}
+
+	/**
+	 * Find out shortest times from each source to each target (i.e. a matrix), using buckets. Searches of sources
+	 * (and of targets) are run in parallel.
+	 *
+	 * @param pSourceIds - Source suburb ids, i.e. rows
+	 * @param pTargetIds - Target suburb ids, i.e. columns
+	 * @return - Shortest times in minutes, by [source index][target index]. TraverseCost.INFINITE_TIME if not reachable.
+	 */
+	public int[][] computeTimes(int[] pSourceIds, int[] pTargetIds) {
+		// Backward search from each target. Settled suburbs with their times are bucket entries of the target.
+		int[][] targetSuburbs = new int[pTargetIds.length][];
+		int[][] targetTimes = new int[pTargetIds.length][];
+		IntStream.range(0, pTargetIds.length).parallel().forEach(column -> {
+			SearchSpace space = searchSpace.get();
+			int settledCount = searchAll(space, false, pTargetIds[column]);
+			targetSuburbs[column] = Arrays.copyOf(space.settled, settledCount);
+			targetTimes[column] = new int[settledCount];
+			for (int index = 0; index < settledCount; index++) {
+				targetTimes[column][index] = space.backwardTime[space.settled[index]];
+			}
+		});
+
+		// Buckets by suburb, i.e. entries of suburb 's' are at bucketStart[s] ... bucketStart[s + 1] - 1
+		int[] bucketStart = new int[suburbCount + 1];
+		for (int[] suburbs : targetSuburbs) {
+			for (int suburbId : suburbs) {
+				bucketStart[suburbId + 1]++;
+			}
+		}
+		for (int suburbId = 0; suburbId < suburbCount; suburbId++) {
+			bucketStart[suburbId + 1] += bucketStart[suburbId];
+		}
+		int[] bucketTarget = new int[bucketStart[suburbCount]];
+		int[] bucketTime = new int[bucketStart[suburbCount]];
+		int[] bucketEnd = Arrays.copyOf(bucketStart, suburbCount);
+		for (int column = 0; column < pTargetIds.length; column++) {
+			for (int index = 0; index < targetSuburbs[column].length; index++) {
+				int entry = bucketEnd[targetSuburbs[column][index]]++;
+				bucketTarget[entry] = column;
+				bucketTime[entry] = targetTimes[column][index];
+			}
+		}
+
+		// Forward search from each source, scanning buckets of its settled suburbs
+		int[][] times = new int[pSourceIds.length][];
+		IntStream.range(0, pSourceIds.length).parallel().forEach(row -> {
+			SearchSpace space = searchSpace.get();
+			int settledCount = searchAll(space, true, pSourceIds[row]);
+			int[] rowTimes = new int[pTargetIds.length];
+			Arrays.fill(rowTimes, TraverseCost.INFINITE_TIME);
+			for (int index = 0; index < settledCount; index++) {
+				int suburbId = space.settled[index];
+				int time = space.forwardTime[suburbId];
+				for (int entry = bucketStart[suburbId], end = bucketStart[suburbId + 1]; entry < end; entry++) {
+					int column = bucketTarget[entry];
+					if (time + bucketTime[entry] < rowTimes[column]) {
+						rowTimes[column] = time + bucketTime[entry];
+					}
+				}
+			}
+			times[row] = rowTimes;
+		});
+		return times;
+	}
+
+	/*
+	 * Bidirectional search. Sets best time and meeting point of the search space.
+	 */
+	private void search(SearchSpace pSpace, int pSourceId, int pDestinationId) {
+		int epoch = ++pSpace.epoch;
+		pSpace.sourceId = pSourceId;
+		pSpace.destinationId = pDestinationId;
+		pSpace.bestTime = TraverseCost.INFINITE_TIME;
+		pSpace.meetingId = -1;
+		IndexedMinHeap forwardHeap = pSpace.forwardHeap;
+		IndexedMinHeap backwardHeap = pSpace.backwardHeap;
+		pSpace.reach(true, pSourceId, 0, -1, epoch);
+		pSpace.reach(false, pDestinationId, 0, -1, epoch);
+
+		while (true) {
+			if (!forwardHeap.isEmpty() && forwardHeap.peekKey() >= pSpace.bestTime) {
+				forwardHeap.clear();
+			}
+			if (!backwardHeap.isEmpty() && backwardHeap.peekKey() >= pSpace.bestTime) {
+				backwardHeap.clear();
+			}
+			boolean forward;
+			if (forwardHeap.isEmpty()) {
+				if (backwardHeap.isEmpty()) {
+					return;
+				}
+				forward = false;
+			} else {
+				forward = backwardHeap.isEmpty() || forwardHeap.peekKey() <= backwardHeap.peekKey();
+			}
+
+			int suburbId = (forward ? forwardHeap : backwardHeap).poll();
+			int time = forward ? pSpace.forwardTime[suburbId] : pSpace.backwardTime[suburbId];
+			int otherTime = pSpace.getTime(!forward, suburbId, epoch);
+			if (otherTime != TraverseCost.INFINITE_TIME && time + otherTime < pSpace.bestTime) {
+				pSpace.bestTime = time + otherTime;
+				pSpace.meetingId = suburbId;
+			}
+
+			if (!isStalled(pSpace, forward, suburbId, time, epoch)) {
+				expand(pSpace, forward, suburbId, time, epoch);
+			}
+		}
+	}
+
+	/*
+	 * One side search without a bound, i.e. all suburbs reachable over upward (or downward) edges.
+	 * Settled suburbs which are not stalled are kept in settled array of the search space. Returns their count.
+	 *
+	 * Times of stalled suburbs aren't the shortest ones, so they are left out. Suburbs with the shortest times
+	 * are never stalled, so the meeting point of every shortest route is kept.
+	 */
+	private int searchAll(SearchSpace pSpace, boolean pForward, int pStartId) {
+		int epoch = ++pSpace.epoch;
+		// Edges of the last bidirectional search are overwritten
+		pSpace.sourceId = -1;
+		pSpace.destinationId = -1;
+		IndexedMinHeap heap = pForward ? pSpace.forwardHeap : pSpace.backwardHeap;
+		pSpace.reach(pForward, pStartId, 0, -1, epoch);
+
+		int settledCount = 0;
+		while (!heap.isEmpty()) {
+			int suburbId = heap.poll();
+			int time = pForward ? pSpace.forwardTime[suburbId] : pSpace.backwardTime[suburbId];
+			if (!isStalled(pSpace, pForward, suburbId, time, epoch)) {
+				pSpace.settled[settledCount++] = suburbId;
+				expand(pSpace, pForward, suburbId, time, epoch);
+			}
+		}
+		return settledCount;
+	}
+
+	/*
+	 * Relax upward edges (forward) or downward edges (backward) of the settled suburb.
+	 */
+	private void expand(SearchSpace pSpace, boolean pForward, int pSuburbId, int pTime, int pEpoch) {
+		int[] starts = pForward ? upStart : downStart;
+		int[] edges = pForward ? upEdges : downEdges;
+		int[] nextEnd = pForward ? edgeTarget : edgeSource;
+		for (int index = starts[pSuburbId], end = starts[pSuburbId + 1]; index < end; index++) {
+			int edge = edges[index];
+			int nextId = nextEnd[edge];
+			int nextTime = pTime + edgeWeight[edge];
+			if (nextTime < pSpace.getTime(pForward, nextId, pEpoch)) {
+				pSpace.reach(pForward, nextId, nextTime, edge, pEpoch);
+			}
+		}
+	}
+
+	/*
+	 * Stall on demand: suburb is reached quicker through a higher ranked suburb (of the same side), over an edge
+	 * which this side doesn't search. So its time isn't the shortest one, and its edges can't be on a shortest route.
+	 */
+	private boolean isStalled(SearchSpace pSpace, boolean pForward, int pSuburbId, int pTime, int pEpoch) {
+		int[] starts = pForward ? downStart : upStart;
+		int[] edges = pForward ? downEdges : upEdges;
+		int[] otherEnd = pForward ? edgeSource : edgeTarget;
+		for (int index = starts[pSuburbId], end = starts[pSuburbId + 1]; index < end; index++) {
+			int edge = edges[index];
+			int higherTime = pSpace.getTime(pForward, otherEnd[edge], pEpoch);
+			if (higherTime != TraverseCost.INFINITE_TIME && higherTime + edgeWeight[edge] < pTime) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	public int getSuburbCount() {
+		return suburbCount;
+	}
+
+	public int getEdgeCount() {
+		return edgeWeight.length;
+	}
+
+	/**
+	 * @return - Number of shortcut edges, i.e. edges which are not an orbit
+	 */
+	public int getShortcutCount() {
+		int shortcutCount = 0;
+		for (int first : edgeFirst) {
+			shortcutCount += (first >= 0) ? 1 : 0;
+		}
+		return shortcutCount;
+	}
+
+	/*
+	 * Search state of a thread. Times of a side are valid only if its epoch is the current one, so nothing is cleared.
+	 */
+	private static final class SearchSpace {
+
+		private final IndexedMinHeap forwardHeap;
+		private final IndexedMinHeap backwardHeap;
+		private final int[] forwardTime;
+		private final int[] backwardTime;
+		private final int[] forwardEdge;
+		private final int[] backwardEdge;
+		private final int[] forwardEpoch;
+		private final int[] backwardEpoch;
+		private final int[] edgeStack;
+		private final int[] settled;
+		private int epoch;
+		private int sourceId = -1;
+		private int destinationId = -1;
+		private int bestTime;
+		private int meetingId;
+
+		private SearchSpace(int pSuburbCount) {
+			this.forwardHeap = new IndexedMinHeap(pSuburbCount);
+			this.backwardHeap = new IndexedMinHeap(pSuburbCount);
+			this.forwardTime = new int[pSuburbCount];
+			this.backwardTime = new int[pSuburbCount];
+			this.forwardEdge = new int[pSuburbCount];
+			this.backwardEdge = new int[pSuburbCount];
+			this.forwardEpoch = new int[pSuburbCount];
+			this.backwardEpoch = new int[pSuburbCount];
+			this.edgeStack = new int[pSuburbCount];
+			this.settled = new int[pSuburbCount];
+		}
+
+		private int getTime(boolean pForward, int pSuburbId, int pEpoch) {
+			if (pForward) {
+				return forwardEpoch[pSuburbId] == pEpoch ? forwardTime[pSuburbId] : TraverseCost.INFINITE_TIME;
+			}
+			return backwardEpoch[pSuburbId] == pEpoch ? backwardTime[pSuburbId] : TraverseCost.INFINITE_TIME;
+		}
+
+		private void reach(boolean pForward, int pSuburbId, int pTime, int pEdge, int pEpoch) {
+			if (pForward) {
+				forwardTime[pSuburbId] = pTime;
+				forwardEdge[pSuburbId] = pEdge;
+				forwardEpoch[pSuburbId] = pEpoch;
+				forwardHeap.insertOrDecrease(pSuburbId, pTime);
+			} else {
+				backwardTime[pSuburbId] = pTime;
+				backwardEdge[pSuburbId] = pEdge;
+				backwardEpoch[pSuburbId] = pEpoch;
+				backwardHeap.insertOrDecrease(pSuburbId, pTime);
+			}
+		}
+	}
+}
@@ -0,0 +1,380 @@
+/*
+* Copyright (c) 2017, Ritesh. All rights reserved.
+*
+*/
+package in.geektrust.lengaburu.traffic.engine;
+
+import java.util.Arrays;
+
+import in.geektrust.lengaburu.traffic.network.RoadNetwork;
+import in.geektrust.lengaburu.traffic.network.WeatherCostTable;
+
+/**
+ * DESCRIPTION - This class builds a ContractionHierarchy for one cost metric, i.e. orbit times of one (weather, vehicle).
+ *
+ * Suburbs are contracted one by one, least important first:
+ * 	1.	Importance of a suburb = shortcuts needed to contract it - its remaining orbits + its contracted neighbours
+ * 		+ its level (i.e. depth of contracted suburbs below it). It keeps the hierarchy flat and the searches small.
+ * 		Importances are kept in a heap, and updated lazily (i.e. checked again when polled) and for the neighbours.
+ * 	2.	Contracting suburb 'v' removes it from the remaining graph. For each remaining u -> v -> w, a shortcut u -> w is added,
+ * 		unless a witness search from u (not through v) finds another route to w, which is not slower.
+ * 	3.	Order of contraction becomes rank of the suburb.
+ * Witness searches are limited to WITNESS_SETTLE_LIMIT suburbs, and stop once all targets are settled.
+ * A missed witness only adds a redundant shortcut.
+ *
+ * Contraction stops once the least important suburb has more than CORE_DEGREE_LIMIT remaining edges, i.e. when each
+ * next contraction would add a lot of shortcuts (e.g. densely connected networks). Remaining suburbs are the core:
+ * they share the highest rank, and edges between them are searched in both directions, like a plain bidirectional search.
+ *
+ * Edges are original orbits (quickest one of each suburb pair) and shortcuts. A shortcut keeps its two child edges,
+ * so a route can be unpacked into orbits.
+ *
+ * Note: It is not thread safe. Build each metric with its own builder (see ContractionHierarchies.build()).
+ *
+ * @author - Ritesh Bangal
+ * @version 1.0
+ * @since <17-October-2026>
+ */
+final class ContractionHierarchyBuilder {
+
+	// Witness searches stop after settling these many suburbs. Simulated contractions (i.e. importance) search less.
+	private static final int WITNESS_SETTLE_LIMIT = 64;
+	private static final int SIMULATION_SETTLE_LIMIT = 16;
+
+	// Suburbs with more remaining edges (in and out) than this, are left uncontracted in the core
+	private static final int CORE_DEGREE_LIMIT = 64;
+
+	private final int suburbCount;
+
+	// Edges, by edge id. For an original orbit, first is -1 and second is the orbit id. Else ids of the two child edges.
+	private int edgeCount;
+	private int[] edgeSource;
+	private int[] edgeTarget;
+	private int[] edgeWeight;
+	private int[] edgeFirst;
+	private int[] edgeSecond;
+	private boolean[] edgeDominated;
+
+	// Remaining graph, i.e. edge ids going out of and coming into each suburb
+	private final int[][] outEdges;
+	private final int[] outCount;
+	private final int[][] inEdges;
+	private final int[] inCount;
+
+	private final boolean[] contracted;
+	private final int[] contractedNeighbours;
+	private final int[] level;
+	private final int[] rank;
+
+	// Witness search
+	private final IndexedMinHeap witnessHeap;
+	private final int[] witnessTime;
+	private final int[] witnessEpoch;
+	private final int[] targetEpoch;
+	private int epoch;
+
+	private ContractionHierarchyBuilder(RoadNetwork pNetwork, WeatherCostTable pCostTable, int pVehicleIndex,
+			int[] pSpeedLimits) {
+		this.suburbCount = pNetwork.getSuburbCount();
+		int capacity = Math.max(16, pNetwork.getOrbitCount() * 2);
+		this.edgeSource = new int[capacity];
+		this.edgeTarget = new int[capacity];
+		this.edgeWeight = new int[capacity];
+		this.edgeFirst = new int[capacity];
+		this.edgeSecond = new int[capacity];
+		this.edgeDominated = new boolean[capacity];
+		this.outEdges = new int[suburbCount][];
+		this.outCount = new int[suburbCount];
+		this.inEdges = new int[suburbCount][];
+		this.inCount = new int[suburbCount];
+		for (int suburbId = 0; suburbId < suburbCount; suburbId++) {
+			outEdges[suburbId] = new int[4];
+			inEdges[suburbId] = new int[4];
+		}
+		this.contracted = new boolean[suburbCount];
+		this.contractedNeighbours = new int[suburbCount];
+		this.level = new int[suburbCount];
+		this.rank = new int[suburbCount];
+		this.witnessHeap = new IndexedMinHeap(suburbCount);
+		this.witnessTime = new int[suburbCount];
+		this.witnessEpoch = new int[suburbCount];
+		this.targetEpoch = new int[suburbCount];
+
+		// Quickest open orbit of each (source, destination) pair. Orbits of a source are sorted by destination.
+		for (int sourceId = 0; sourceId < suburbCount; sourceId++) {
+			int bestOrbit = -1;
+			int bestTime = TraverseCost.INFINITE_TIME;
+			for (int index = pNetwork.getOutgoingStart(sourceId), end = pNetwork.getOutgoingEnd(sourceId); index < end; index++) {
+				int orbitId = pNetwork.getOutgoingOrbit(index);
+				int destinationId = pNetwork.getOrbitDestination(orbitId);
+				int speedLimit = pSpeedLimits[orbitId];
+				if (destinationId != sourceId && speedLimit >= 1) {
+					int orbitTime = pCostTable.orbitTime(pVehicleIndex, orbitId, speedLimit);
+					if (orbitTime < bestTime) {
+						bestTime = orbitTime;
+						bestOrbit = orbitId;
+					}
+				}
+				boolean lastOfPair = index + 1 == end
+						|| pNetwork.getOrbitDestination(pNetwork.getOutgoingOrbit(index + 1)) != destinationId;
+				if (lastOfPair && bestOrbit >= 0) {
+					addEdge(sourceId, destinationId, bestTime, -1, bestOrbit);
+					bestOrbit = -1;
+					bestTime = TraverseCost.INFINITE_TIME;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Build the hierarchy of a (weather, vehicle) cost metric.
+	 *
+	 * @param pNetwork - Road network snapshot
+	 * @param pCostTable - Orbit cost components for the weather
+	 * @param pVehicleIndex - Index of vehicle in cost table's vehicles
+	 * @param pSpeedLimits - Speed limits, indexed by orbit id. Orbits with less than 1 are closed.
+	 * @return - Contraction hierarchy
+	 */
+	static ContractionHierarchy build(RoadNetwork pNetwork, WeatherCostTable pCostTable, int pVehicleIndex,
+			int[] pSpeedLimits) {
+		return new ContractionHierarchyBuilder(pNetwork, pCostTable, pVehicleIndex, pSpeedLimits).contractAll();
+	}
+
+	private ContractionHierarchy contractAll() {
+		IndexedMinHeap queue = new IndexedMinHeap(suburbCount);
+		for (int suburbId = 0; suburbId < suburbCount; suburbId++) {
+			queue.insertOrDecrease(suburbId, importance(suburbId));
+		}
+		int[] neighbourMark = new int[suburbCount];
+		int order = 0;
+		while (!queue.isEmpty()) {
+			int suburbId = queue.poll();
+			int importance = importance(suburbId);
+			if (!queue.isEmpty() && importance > queue.peekKey()) {
+				// Became more important meanwhile, so check it again later
+				queue.insertOrDecrease(suburbId, importance);
+				continue;
+			}
+			if (outCount[suburbId] + inCount[suburbId] > CORE_DEGREE_LIMIT) {
+				// Rest of the suburbs are the core
+				break;
+			}
+			contract(suburbId, false);
+			contracted[suburbId] = true;
+			rank[suburbId] = order++;
+
+			// Neighbours lose an orbit and may need other shortcuts now
+			for (int index = 0; index < outCount[suburbId]; index++) {
+				updateNeighbour(queue, suburbId, edgeTarget[outEdges[suburbId][index]], neighbourMark, order);
+			}
+			for (int index = 0; index < inCount[suburbId]; index++) {
+				updateNeighbour(queue, suburbId, edgeSource[inEdges[suburbId][index]], neighbourMark, order);
+			}
+		}
+		for (int suburbId = 0; suburbId < suburbCount; suburbId++) {
+			if (!contracted[suburbId]) {
+				rank[suburbId] = order;
+			}
+		}
+		return toHierarchy();
+	}
+
+	private void updateNeighbour(IndexedMinHeap pQueue, int pSuburbId, int pNeighbourId, int[] pNeighbourMark, int pOrder) {
+		if (!contracted[pNeighbourId] && pNeighbourMark[pNeighbourId] != pOrder) {
+			pNeighbourMark[pNeighbourId] = pOrder;
+			contractedNeighbours[pNeighbourId]++;
+			level[pNeighbourId] = Math.max(level[pNeighbourId], level[pSuburbId] + 1);
+			pQueue.remove(pNeighbourId);
+			pQueue.insertOrDecrease(pNeighbourId, importance(pNeighbourId));
+		}
+	}
+
+	private int importance(int pSuburbId) {
+		compact(pSuburbId);
+		return contract(pSuburbId, true) - outCount[pSuburbId] - inCount[pSuburbId] + contractedNeighbours[pSuburbId]
+				+ level[pSuburbId];
+	}
+
+	/*
+	 * Remove edges to contracted suburbs (and dominated edges) from the suburb's lists.
+	 */
+	private void compact(int pSuburbId) {
+		outCount[pSuburbId] = compact(outEdges[pSuburbId], outCount[pSuburbId], edgeTarget);
+		inCount[pSuburbId] = compact(inEdges[pSuburbId], inCount[pSuburbId], edgeSource);
+	}
+
+	private int compact(int[] pEdges, int pCount, int[] pOtherEnd) {
+		int count = 0;
+		for (int index = 0; index < pCount; index++) {
+			int edge = pEdges[index];
+			if (!contracted[pOtherEnd[edge]] && !edgeDominated[edge]) {
+				pEdges[count++] = edge;
+			}
+		}
+		return count;
+	}
+
+	/*
+	 * Find out shortcuts needed to contract the suburb, and add them unless it is a simulation.
+	 * Returns number of shortcuts.
+	 */
+	private int contract(int pSuburbId, boolean pSimulate) {
+		compact(pSuburbId);
+		int shortcutCount = 0;
+		int[] incoming = Arrays.copyOf(inEdges[pSuburbId], inCount[pSuburbId]);
+		int[] outgoing = Arrays.copyOf(outEdges[pSuburbId], outCount[pSuburbId]);
+		for (int inEdge : incoming) {
+			int fromId = edgeSource[inEdge];
+			int maximumTime = -1;
+			int targetCount = 0;
+			epoch++;
+			for (int outEdge : outgoing) {
+				int toId = edgeTarget[outEdge];
+				if (toId != fromId) {
+					maximumTime = Math.max(maximumTime, edgeWeight[inEdge] + edgeWeight[outEdge]);
+					if (targetEpoch[toId] != epoch) {
+						targetEpoch[toId] = epoch;
+						targetCount++;
+					}
+				}
+			}
+			if (maximumTime < 0) {
+				continue;
+			}
+			witnessSearch(fromId, pSuburbId, maximumTime, targetCount, pSimulate ? SIMULATION_SETTLE_LIMIT : WITNESS_SETTLE_LIMIT);
+			for (int outEdge : outgoing) {
+				int toId = edgeTarget[outEdge];
+				int viaTime = edgeWeight[inEdge] + edgeWeight[outEdge];
+				if (toId == fromId || (witnessEpoch[toId] == epoch && witnessTime[toId] <= viaTime)) {
+					continue;
+				}
+				shortcutCount++;
+				if (!pSimulate) {
+					addEdge(fromId, toId, viaTime, inEdge, outEdge);
+				}
+			}
+		}
+		return shortcutCount;
+	}
+
+	/*
+	 * Dijkstra from the source over the remaining graph, without the skipped suburb.
+	 * Stops once all targets (marked for the current epoch) are settled, after maximum time, or after WITNESS_SETTLE_LIMIT suburbs.
+	 * Times are kept for the current epoch.
+	 */
+	private void witnessSearch(int pSourceId, int pSkippedId, int pMaximumTime, int pTargetCount, int pSettleLimit) {
+		int remainingTargets = pTargetCount;
+		witnessTime[pSourceId] = 0;
+		witnessEpoch[pSourceId] = epoch;
+		witnessHeap.insertOrDecrease(pSourceId, 0);
+		int settled = 0;
+		while (!witnessHeap.isEmpty()) {
+			int suburbId = witnessHeap.poll();
+			int time = witnessTime[suburbId];
+			if (time > pMaximumTime || ++settled > pSettleLimit) {
+				break;
+			}
+			if (targetEpoch[suburbId] == epoch && --remainingTargets == 0) {
+				break;
+			}
+			// Scanning is a good time to drop edges to contracted suburbs, so that later scans are shorter
+			outCount[suburbId] = compact(outEdges[suburbId], outCount[suburbId], edgeTarget);
+			int[] edges = outEdges[suburbId];
+			for (int index = 0, count = outCount[suburbId]; index < count; index++) {
+				int edge = edges[index];
+				int nextId = edgeTarget[edge];
+				if (nextId == pSkippedId) {
+					continue;
+				}
+				int nextTime = time + edgeWeight[edge];
+				if (witnessEpoch[nextId] != epoch || nextTime < witnessTime[nextId]) {
+					witnessTime[nextId] = nextTime;
+					witnessEpoch[nextId] = epoch;
+					witnessHeap.insertOrDecrease(nextId, nextTime);
+				}
+			}
+		}
+		witnessHeap.clear();
+	}
+
+	/*
+	 * Add an edge to the remaining graph. If there is already a remaining edge between the suburbs, quicker one is kept.
+	 */
+	private void addEdge(int pSourceId, int pTargetId, int pWeight, int pFirst, int pSecond) {
+		int[] edges = outEdges[pSourceId];
+		for (int index = 0, count = outCount[pSourceId]; index < count; index++) {
+			int edge = edges[index];
+			if (edgeTarget[edge] == pTargetId && !edgeDominated[edge]) {
+				if (edgeWeight[edge] <= pWeight) {
+					return;
+				}
+				edgeDominated[edge] = true;
+			}
+		}
+		if (edgeCount == edgeSource.length) {
+			int capacity = edgeCount * 2;
+			edgeSource = Arrays.copyOf(edgeSource, capacity);
+			edgeTarget = Arrays.copyOf(edgeTarget, capacity);
+			edgeWeight = Arrays.copyOf(edgeWeight, capacity);
+			edgeFirst = Arrays.copyOf(edgeFirst, capacity);
+			edgeSecond = Arrays.copyOf(edgeSecond, capacity);
+			edgeDominated = Arrays.copyOf(edgeDominated, capacity);
+		}
+		int edge = edgeCount++;
+		edgeSource[edge] = pSourceId;
+		edgeTarget[edge] = pTargetId;
+		edgeWeight[edge] = pWeight;
+		edgeFirst[edge] = pFirst;
+		edgeSecond[edge] = pSecond;
+
+		if (outCount[pSourceId] == outEdges[pSourceId].length) {
+			outEdges[pSourceId] = Arrays.copyOf(outEdges[pSourceId], outCount[pSourceId] * 2);
+		}
+		outEdges[pSourceId][outCount[pSourceId]++] = edge;
+		if (inCount[pTargetId] == inEdges[pTargetId].length) {
+			inEdges[pTargetId] = Arrays.copyOf(inEdges[pTargetId], inCount[pTargetId] * 2);
+		}
+		inEdges[pTargetId][inCount[pTargetId]++] = edge;
+	}
+
+	/*
+	 * Upward edges (to a higher rank) are searched from the source, by their source suburb.
+	 * Downward edges (to a lower rank) are searched backwards from the destination, by their target suburb.
+	 * Edges between core suburbs are both.
+	 */
+	private ContractionHierarchy toHierarchy() {
+		int[] upStart = new int[suburbCount + 1];
+		int[] downStart = new int[suburbCount + 1];
+		for (int edge = 0; edge < edgeCount; edge++) {
+			if (!edgeDominated[edge]) {
+				if (rank[edgeSource[edge]] <= rank[edgeTarget[edge]]) {
+					upStart[edgeSource[edge] + 1]++;
+				}
+				if (rank[edgeSource[edge]] >= rank[edgeTarget[edge]]) {
+					downStart[edgeTarget[edge] + 1]++;
+				}
+			}
+		}
+		for (int suburbId = 0; suburbId < suburbCount; suburbId++) {
+			upStart[suburbId + 1] += upStart[suburbId];
+			downStart[suburbId + 1] += downStart[suburbId];
+		}
+		int[] upEdges = new int[upStart[suburbCount]];
+		int[] downEdges = new int[downStart[suburbCount]];
+		int[] upNext = Arrays.copyOf(upStart, suburbCount);
+		int[] downNext = Arrays.copyOf(downStart, suburbCount);
+		for (int edge = 0; edge < edgeCount; edge++) {
+			if (!edgeDominated[edge]) {
+				if (rank[edgeSource[edge]] <= rank[edgeTarget[edge]]) {
+					upEdges[upNext[edgeSource[edge]]++] = edge;
+				}
+				if (rank[edgeSource[edge]] >= rank[edgeTarget[edge]]) {
+					downEdges[downNext[edgeTarget[edge]]++] = edge;
+				}
+			}
+		}
+		return new ContractionHierarchy(suburbCount, Arrays.copyOf(edgeSource, edgeCount), Arrays.copyOf(edgeTarget, edgeCount),
+				Arrays.copyOf(edgeWeight, edgeCount), Arrays.copyOf(edgeFirst, edgeCount), Arrays.copyOf(edgeSecond, edgeCount),
+				upStart, upEdges, downStart, downEdges);
+	}
+}
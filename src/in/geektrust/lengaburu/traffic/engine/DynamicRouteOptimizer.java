@@ -0,0 +1,326 @@
+/*
+* Copyright (c) 2017, Ritesh. All rights reserved.
+*
+*/
+package in.geektrust.lengaburu.traffic.engine;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import in.geektrust.lengaburu.traffic.beans.TraverseDetail;
+import in.geektrust.lengaburu.traffic.beans.WeatherType;
+import in.geektrust.lengaburu.traffic.network.RoadNetwork;
+import in.geektrust.lengaburu.traffic.network.SpeedLimitOverlay;
+import in.geektrust.lengaburu.traffic.network.WeatherCostTable;
+
+/**
+ * DESCRIPTION - This class keeps fastest routes from a source suburb up to date, while speed limits of single orbits keep changing.
+ *
+ * It holds a ShortestTimeTree for each weather (i.e. for each (weather, vehicle) pair), and the fastest route of each
+ * destination. When speed limit of an orbit changes, only the affected part of the trees is repaired:
+ * 	-	Faster (or re-opened) orbit	: If it makes its destination suburb quicker, a Dijkstra-style search is started from
+ * 									  there. It only visits states which become quicker.
+ * 	-	Slower (or closed) orbit	: Only if it is on the tree (i.e. last orbit of its destination's fastest route).
+ * 									  Then the subtree below it is detached, each detached state takes the best time through
+ * 									  its incoming orbits from the rest of the tree, and a search settles the subtree again.
+ * Fastest routes are kept per destination, and only destinations of repaired states are found out again.
+ * So an update costs time in proportion to the repaired part, not to the network size.
+ *
+ * Times are always same as a full search (see ShortestTimeRouteEngine). If two routes have same time,
+ * route may differ from a full search, as it depends on the order of updates.
+ *
+ * Note: Incoming orbits (i.e. reverse adjacency lists) are built once, while creating it.
+ * 		 It is mutable, so its methods are synchronized. Create one per source, on a RoadNetwork snapshot.
+ *
+ * @author - Ritesh Bangal
+ * @version 1.0
+ * @since <17-October-2026>
+ */
+public final class DynamicRouteOptimizer {
+
+	// Get the only object available for ShortestTimeRouteEngine
+	private static ShortestTimeRouteEngine routeEngine = ShortestTimeRouteEngine.getInstance();
+
+	private final RoadNetwork network;
+	private final int sourceId;
+	private final int suburbCount;
+
+	// Current speed limits, indexed by orbit id. SpeedLimitOverlay.CLOSED if orbit is closed.
+	private final int[] speedLimits;
+
+	/*
+	 * Reverse adjacency lists in compressed form. Orbits coming into suburb 's' are
+	 * incomingOrbits[incomingStart[s]] ... incomingOrbits[incomingStart[s + 1] - 1].
+	 */
+	private final int[] incomingStart;
+	private final int[] incomingOrbits;
+
+	private final Map<WeatherType, WeatherRoutes> weatherRoutes = new EnumMap<>(WeatherType.class);
+
+	// Shared by all repairs. Heap is always empty in between.
+	private final IndexedMinHeap heap;
+	private final int[] detachedMark;
+	private final int[] detachedStates;
+	private int detachedEpoch;
+
+	private DynamicRouteOptimizer(RoadNetwork pNetwork, int pSourceId, SpeedLimitOverlay pSpeedLimits) {
+		this.network = pNetwork;
+		this.sourceId = pSourceId;
+		this.suburbCount = pNetwork.getSuburbCount();
+
+		int orbitCount = pNetwork.getOrbitCount();
+		this.speedLimits = new int[orbitCount];
+		this.incomingStart = new int[suburbCount + 1];
+		this.incomingOrbits = new int[orbitCount];
+		for (int orbitId = 0; orbitId < orbitCount; orbitId++) {
+			speedLimits[orbitId] = pSpeedLimits.getSpeedLimit(orbitId);
+			incomingStart[pNetwork.getOrbitDestination(orbitId) + 1]++;
+		}
+		for (int suburbId = 0; suburbId < suburbCount; suburbId++) {
+			incomingStart[suburbId + 1] += incomingStart[suburbId];
+		}
+		int[] next = new int[suburbCount];
+		System.arraycopy(incomingStart, 0, next, 0, suburbCount);
+		for (int orbitId = 0; orbitId < orbitCount; orbitId++) {
+			incomingOrbits[next[pNetwork.getOrbitDestination(orbitId)]++] = orbitId;
+		}
+
+		int stateCount = suburbCount * pNetwork.getVehicles().size();
+		this.heap = new IndexedMinHeap(stateCount);
+		this.detachedMark = new int[stateCount];
+		this.detachedStates = new int[stateCount];
+
+		for (WeatherType weatherType : WeatherType.values()) {
+			WeatherCostTable costTable = pNetwork.getCostTable(weatherType);
+			if (null != costTable) {
+				weatherRoutes.put(weatherType, new WeatherRoutes(costTable,
+						routeEngine.computeShortestTimeTree(pNetwork, pSourceId, costTable, pSpeedLimits), suburbCount));
+			}
+		}
+	}
+
+	/**
+	 * Create an optimizer with fastest routes from the source, for all weathers.
+	 *
+	 * @param pNetwork - Road network snapshot
+	 * @param pSourceId - Source suburb id
+	 * @param pSpeedLimits - Initial speed limits, indexed by orbit id
+	 * @return - Dynamic route optimizer
+	 */
+	public static DynamicRouteOptimizer of(RoadNetwork pNetwork, int pSourceId, SpeedLimitOverlay pSpeedLimits) {
+		return new DynamicRouteOptimizer(pNetwork, pSourceId, pSpeedLimits);
+	}
+
+	/**
+	 * Change speed limit of all orbits of the name, and repair fastest routes.
+	 *
+	 * @param pOrbitName - Orbit name, e.g. Orbit4 (which may have more than one orbit, e.g. one in each direction)
+	 * @param pSpeedLimit - New speed limit. null or less than 1 closes the orbit.
+	 * @return - Number of repaired (suburb, vehicle) states, of all weathers
+	 */
+	public synchronized int updateSpeedLimit(String pOrbitName, Integer pSpeedLimit) {
+		int speedLimit = (null == pSpeedLimit || pSpeedLimit < 1) ? SpeedLimitOverlay.CLOSED : pSpeedLimit;
+		int repairedStates = 0;
+		for (int orbitId : network.getOrbitIds(pOrbitName)) {
+			int oldSpeedLimit = speedLimits[orbitId];
+			if (oldSpeedLimit == speedLimit) {
+				continue;
+			}
+			speedLimits[orbitId] = speedLimit;
+			for (WeatherRoutes routes : weatherRoutes.values()) {
+				for (int vehicleIndex = 0; vehicleIndex < routes.costTable.getVehicleCount(); vehicleIndex++) {
+					int oldTime = orbitTime(routes.costTable, vehicleIndex, orbitId, oldSpeedLimit);
+					int newTime = orbitTime(routes.costTable, vehicleIndex, orbitId, speedLimit);
+					if (newTime < oldTime) {
+						repairedStates += repairQuicker(routes, vehicleIndex, orbitId, newTime);
+					} else if (newTime > oldTime) {
+						repairedStates += repairSlower(routes, vehicleIndex, orbitId);
+					}
+				}
+			}
+		}
+		return repairedStates;
+	}
+
+	/**
+	 * Get the fastest route to the destination among all vehicles, with current speed limits.
+	 * If there is a tie in which vehicle to choose, vehicle comes first in the weather's vehicles is chosen.
+	 *
+	 * @param pWeatherType - Weather type
+	 * @param pDestinationId - Destination suburb id
+	 * @return - Populated TraverseDetail object, or null if destination is not reachable (or weather is not known).
+	 */
+	public synchronized TraverseDetail getFastestRoute(WeatherType pWeatherType, int pDestinationId) {
+		WeatherRoutes routes = weatherRoutes.get(pWeatherType);
+		if (null == routes) {
+			return null;
+		}
+		if (!routes.known[pDestinationId]) {
+			routes.fastestRoutes[pDestinationId] = routes.tree.getFastestRoute(pDestinationId);
+			routes.known[pDestinationId] = true;
+		}
+		return routes.fastestRoutes[pDestinationId];
+	}
+
+	/**
+	 * @param pWeatherType - Weather type
+	 * @param pVehicleIndex - Index of vehicle in the weather's vehicles
+	 * @param pSuburbId - Destination suburb id
+	 * @return - Shortest time with current speed limits, or TraverseCost.INFINITE_TIME if suburb is not reachable.
+	 */
+	public synchronized int getTime(WeatherType pWeatherType, int pVehicleIndex, int pSuburbId) {
+		return weatherRoutes.get(pWeatherType).tree.getTime(pVehicleIndex, pSuburbId);
+	}
+
+	/**
+	 * @param pOrbitId - Orbit id
+	 * @return - Current speed limit of the orbit, or SpeedLimitOverlay.CLOSED
+	 */
+	public synchronized int getSpeedLimit(int pOrbitId) {
+		return speedLimits[pOrbitId];
+	}
+
+	public RoadNetwork getNetwork() {
+		return network;
+	}
+
+	public int getSourceId() {
+		return sourceId;
+	}
+
+	private static int orbitTime(WeatherCostTable pCostTable, int pVehicleIndex, int pOrbitId, int pSpeedLimit) {
+		return (pSpeedLimit < 1) ? TraverseCost.INFINITE_TIME : pCostTable.orbitTime(pVehicleIndex, pOrbitId, pSpeedLimit);
+	}
+
+	/*
+	 * Orbit got quicker. If it makes its destination quicker, search from there over the states which become quicker.
+	 */
+	private int repairQuicker(WeatherRoutes pRoutes, int pVehicleIndex, int pOrbitId, int pOrbitTime) {
+		int offset = pVehicleIndex * suburbCount;
+		int fromTime = pRoutes.tree.time[offset + network.getOrbitSource(pOrbitId)];
+		int state = offset + network.getOrbitDestination(pOrbitId);
+		if (fromTime == TraverseCost.INFINITE_TIME || fromTime + pOrbitTime >= pRoutes.tree.time[state]) {
+			return 0;
+		}
+		pRoutes.tree.time[state] = fromTime + pOrbitTime;
+		pRoutes.tree.prevOrbit[state] = pOrbitId;
+		heap.insertOrDecrease(state, fromTime + pOrbitTime);
+		return settle(pRoutes, pVehicleIndex);
+	}
+
+	/*
+	 * Orbit got slower. If it is on the tree, detach the subtree below it and settle the subtree again.
+	 */
+	private int repairSlower(WeatherRoutes pRoutes, int pVehicleIndex, int pOrbitId) {
+		int offset = pVehicleIndex * suburbCount;
+		int[] time = pRoutes.tree.time;
+		int[] prevOrbit = pRoutes.tree.prevOrbit;
+		int rootState = offset + network.getOrbitDestination(pOrbitId);
+		if (prevOrbit[rootState] != pOrbitId) {
+			return 0;
+		}
+
+		// Collect the subtree, i.e. states whose fastest route goes through the orbit
+		int epoch = ++detachedEpoch;
+		int detachedCount = 0;
+		detachedStates[detachedCount++] = rootState;
+		detachedMark[rootState] = epoch;
+		for (int index = 0; index < detachedCount; index++) {
+			int suburbId = detachedStates[index] - offset;
+			for (int slot = network.getOutgoingStart(suburbId), end = network.getOutgoingEnd(suburbId); slot < end; slot++) {
+				int orbitId = network.getOutgoingOrbit(slot);
+				int childState = offset + network.getOrbitDestination(orbitId);
+				if (prevOrbit[childState] == orbitId && detachedMark[childState] != epoch) {
+					detachedMark[childState] = epoch;
+					detachedStates[detachedCount++] = childState;
+				}
+			}
+		}
+		for (int index = 0; index < detachedCount; index++) {
+			time[detachedStates[index]] = TraverseCost.INFINITE_TIME;
+			prevOrbit[detachedStates[index]] = -1;
+		}
+
+		// Each detached state takes the best time through its incoming orbits from the rest of the tree
+		for (int index = 0; index < detachedCount; index++) {
+			int state = detachedStates[index];
+			int suburbId = state - offset;
+			for (int slot = incomingStart[suburbId], end = incomingStart[suburbId + 1]; slot < end; slot++) {
+				int orbitId = incomingOrbits[slot];
+				int fromState = offset + network.getOrbitSource(orbitId);
+				int orbitTime = orbitTime(pRoutes.costTable, pVehicleIndex, orbitId, speedLimits[orbitId]);
+				if (detachedMark[fromState] == epoch || time[fromState] == TraverseCost.INFINITE_TIME
+						|| orbitTime == TraverseCost.INFINITE_TIME) {
+					continue;
+				}
+				if (time[fromState] + orbitTime < time[state]) {
+					time[state] = time[fromState] + orbitTime;
+					prevOrbit[state] = orbitId;
+				}
+			}
+			if (time[state] != TraverseCost.INFINITE_TIME) {
+				heap.insertOrDecrease(state, time[state]);
+			}
+			pRoutes.forget(suburbId);
+		}
+		settle(pRoutes, pVehicleIndex);
+		return detachedCount;
+	}
+
+	/*
+	 * Run Dijkstra from the states in the heap, for the vehicle. Only states which become quicker are updated.
+	 * Returns number of settled states.
+	 */
+	private int settle(WeatherRoutes pRoutes, int pVehicleIndex) {
+		int offset = pVehicleIndex * suburbCount;
+		int[] time = pRoutes.tree.time;
+		int[] prevOrbit = pRoutes.tree.prevOrbit;
+		int settledStates = 0;
+		while (!heap.isEmpty()) {
+			int state = heap.poll();
+			int suburbId = state - offset;
+			int stateTime = time[state];
+			pRoutes.forget(suburbId);
+			settledStates++;
+			for (int slot = network.getOutgoingStart(suburbId), end = network.getOutgoingEnd(suburbId); slot < end; slot++) {
+				int orbitId = network.getOutgoingOrbit(slot);
+				int speedLimit = speedLimits[orbitId];
+				if (speedLimit < 1) {
+					// Closed orbit
+					continue;
+				}
+				int nextState = offset + network.getOrbitDestination(orbitId);
+				int nextTime = stateTime + pRoutes.costTable.orbitTime(pVehicleIndex, orbitId, speedLimit);
+				if (nextTime < time[nextState]) {
+					time[nextState] = nextTime;
+					prevOrbit[nextState] = orbitId;
+					heap.insertOrDecrease(nextState, nextTime);
+				}
+			}
+		}
+		return settledStates;
+	}
+
+	/*
+	 * Shortest time tree of a weather, along with fastest route of each destination (found out on first use).
+	 */
+	private static final class WeatherRoutes {
+
+		private final WeatherCostTable costTable;
+		private final ShortestTimeTree tree;
+		private final TraverseDetail[] fastestRoutes;
+		private final boolean[] known;
+
+		private WeatherRoutes(WeatherCostTable pCostTable, ShortestTimeTree pTree, int pSuburbCount) {
+			this.costTable = pCostTable;
+			this.tree = pTree;
+			this.fastestRoutes = new TraverseDetail[pSuburbCount];
+			this.known = new boolean[pSuburbCount];
+		}
+
+		private void forget(int pSuburbId) {
+			known[pSuburbId] = false;
+			fastestRoutes[pSuburbId] = null;
+		}
+	}
+}
@@ -0,0 +1,174 @@
+/*
+* Copyright (c) 2017, Ritesh. All rights reserved.
+*
+*/
+package in.geektrust.lengaburu.traffic.engine;
+
+import java.util.Arrays;
+
+/**
+ * DESCRIPTION - This class is an indexed binary min-heap, on primitive int arrays.
+ * 
+ * Items are int ids in range [0, capacity). Each item can be in the heap only once, with an int key.
+ * Items with same key are ordered by item id, so that the order of polling is deterministic.
+ * 
+ * Note: Time complexity of insert, decrease-key and poll is O(log n). It doesn't allocate after construction.
+ * 
+ * @author - Ritesh Bangal
+ * @version 1.0
+ * @since <17-October-2026>
+ */
+public final class IndexedMinHeap {
+
+	private final int[] heap;
+	private final int[] position;
+	private final int[] keys;
+	private int size;
+
+	public IndexedMinHeap(int pCapacity) {
+		this.heap = new int[pCapacity];
+		this.position = new int[pCapacity];
+		this.keys = new int[pCapacity];
+		Arrays.fill(position, -1);
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean contains(int pItem) {
+		return position[pItem] >= 0;
+	}
+
+	/**
+	 * @return - Item with minimum key. Heap should not be empty.
+	 */
+	public int peek() {
+		return heap[0];
+	}
+
+	/**
+	 * @return - Minimum key. Heap should not be empty.
+	 */
+	public int peekKey() {
+		return keys[heap[0]];
+	}
+
+	/**
+	 * Insert an item, or decrease its key if it's already in the heap. Larger keys are ignored.
+	 * 
+	 * @param pItem - Item id
+	 * @param pKey - Key of the item
+	 */
+	public void insertOrDecrease(int pItem, int pKey) {
+		int index = position[pItem];
+		if (index < 0) {
+			keys[pItem] = pKey;
+			heap[size] = pItem;
+			position[pItem] = size;
+			siftUp(size++);
+		} else if (pKey < keys[pItem]) {
+			keys[pItem] = pKey;
+			siftUp(index);
+		}
+	}
+
+	/**
+	 * Remove an item from the heap, if it is there.
+	 * 
+	 * @param pItem - Item id
+	 */
+	public void remove(int pItem) {
+		int index = position[pItem];
+		if (index < 0) {
+			return;
+		}
+		position[pItem] = -1;
+		size--;
+		if (index != size) {
+			int last = heap[size];
+			heap[index] = last;
+			position[last] = index;
+			siftDown(index);
+			siftUp(position[last]);
+		}
+	}
+
+	/**
+	 * Remove and return the item with minimum key. Heap should not be empty.
+	 * 
+	 * @return - Item with minimum key
+	 */
+	public int poll() {
+		int top = heap[0];
+		position[top] = -1;
+		size--;
+		if (size > 0) {
+			int last = heap[size];
+			heap[0] = last;
+			position[last] = 0;
+			siftDown(0);
+		}
+		return top;
+	}
+
+	/**
+	 * Remove all items, in time proportional to the current size.
+	 */
+	public void clear() {
+		for (int index = 0; index < size; index++) {
+			position[heap[index]] = -1;
+		}
+		size = 0;
+	}
+
+	private boolean isLess(int pFirstItem, int pSecondItem) {
+		int firstKey = keys[pFirstItem];
+		int secondKey = keys[pSecondItem];
+		return firstKey < secondKey || (firstKey == secondKey && pFirstItem < pSecondItem);
+	}
+
+	private void siftUp(int pIndex) {
+		int item = heap[pIndex];
+		int index = pIndex;
+		while (index > 0) {
+			int parentIndex = (index - 1) >>> 1;
+			int parent = heap[parentIndex];
+			if (!isLess(item, parent)) {
+				break;
+			}
+			heap[index] = parent;
+			position[parent] = index;
+			index = parentIndex;
+		}
+		heap[index] = item;
+		position[item] = index;
+	}
+
+	private void siftDown(int pIndex) {
+		int item = heap[pIndex];
+		int index = pIndex;
+		int half = size >>> 1;
+		while (index < half) {
+			int childIndex = 2 * index + 1;
+			int child = heap[childIndex];
+			int rightIndex = childIndex + 1;
+			if (rightIndex < size && isLess(heap[rightIndex], child)) {
+				childIndex = rightIndex;
+				child = heap[childIndex];
+			}
+			if (!isLess(child, item)) {
+				break;
+			}
+			heap[index] = child;
+			position[child] = index;
+			index = childIndex;
+		}
+		heap[index] = item;
+		position[item] = index;
+	}
+}
@@ -0,0 +1,642 @@
+/*
+* Copyright (c) 2017, Ritesh. All rights reserved.
+*
+*/
+package in.geektrust.lengaburu.traffic.engine;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntBinaryOperator;
+import java.util.stream.IntStream;
+
+import in.geektrust.lengaburu.traffic.beans.Orbit;
+import in.geektrust.lengaburu.traffic.beans.TraverseDetail;
+import in.geektrust.lengaburu.traffic.beans.Vehicle;
+import in.geektrust.lengaburu.traffic.network.RoadNetwork;
+import in.geektrust.lengaburu.traffic.network.SpeedLimitOverlay;
+import in.geektrust.lengaburu.traffic.network.WeatherCostTable;
+
+/**
+ * DESCRIPTION - This is an exact solver, to visit multiple destinations from a source in the quickest possible time.
+ *
+ * It performs following operations:
+ * 	1.	Compute shortest time tree from source and from each destination (i.e. stops), using ShortestTimeRouteEngine.
+ * 	2.	Get leg cost between each pair of stops, for each vehicle.
+ * 	3.	Run Held-Karp dynamic programming over (visited-set bitmask, current destination, vehicle).
+ * 		DP layers (i.e. number of visited destinations) are filled in parallel on a fork-join pool.
+ * 	4.	Trace back the order of destinations and join the legs into one orbit-sequence.
+ *
+ * It also solves Problem 2 for any number of destinations (see findFastestOrbitSequence()), i.e. one orbit to each 
+ * destination, with exactly same result as evaluating all orbit-sequences one by one.
+ *
+ * Note: You can choose only 1 vehicle for the entire trip. So each vehicle has its own DP table.
+ * 		 Time complexity is O(2^n * n^2 * vehicles) and memory is O(2^n * n * vehicles), where n = number of destinations.
+ *
+ * @author - Ritesh Bangal
+ * @version 1.0
+ * @since <17-October-2026>
+ */
+public final class MultiDestinationTourSolver {
+
+	// Maximum number of destinations supported by the solver
+	public static final int MAX_DESTINATIONS = 16;
+
+	// Masks of a DP layer are processed sequentially below this threshold
+	private static final int PARALLEL_THRESHOLD = 512;
+
+	private static final byte FROM_SOURCE = -1;
+
+	// Create an object of SingleObject
+	private static MultiDestinationTourSolver solverInstance = new MultiDestinationTourSolver();
+
+	// Get the only object available for ShortestTimeRouteEngine
+	private static ShortestTimeRouteEngine routeEngine = ShortestTimeRouteEngine.getInstance();
+
+	private MultiDestinationTourSolver() {
+		// Make the constructor private so that this class cannot be instantiated
+	}
+
+	// Get the only object available
+	public static MultiDestinationTourSolver getInstance() {
+		return solverInstance;
+	}
+
+	/**
+	 * Find out the fastest tour from source, which visits all destinations in any order.
+	 * If there is a tie in which vehicle to choose, vehicle comes first in the vehicles list is chosen.
+	 *
+	 * @param pNetwork - Road network snapshot
+	 * @param pSourceId - Source suburb id
+	 * @param pDestinationIds - Distinct destination suburb ids (different from source), at most MAX_DESTINATIONS
+	 * @param pCostTable - Orbit cost components for the weather. Sequence of its vehicles is used for the tie rule.
+	 * @param pSpeedLimits - Speed limits of the query, indexed by orbit id
+	 * @return - Populated TraverseDetail object, or null if any destination is not reachable.
+	 */
+	public TraverseDetail findFastestTour(RoadNetwork pNetwork, int pSourceId, int[] pDestinationIds,
+			WeatherCostTable pCostTable, SpeedLimitOverlay pSpeedLimits) {
+
+		int destinationCount = pDestinationIds.length;
+		int vehicleCount = pCostTable.getVehicleCount();
+		if (destinationCount == 0 || destinationCount > MAX_DESTINATIONS || vehicleCount == 0) {
+			return null;
+		}
+
+		// Stop 0 is the source, stop (i + 1) is destination i. Compute shortest time tree from each stop.
+		int[] stops = new int[destinationCount + 1];
+		stops[0] = pSourceId;
+		System.arraycopy(pDestinationIds, 0, stops, 1, destinationCount);
+		ShortestTimeTree[] trees = IntStream.range(0, stops.length).parallel()
+				.mapToObj(stop -> routeEngine.computeShortestTimeTree(pNetwork, stops[stop], pCostTable, pSpeedLimits))
+				.toArray(ShortestTimeTree[]::new);
+
+		// Leg cost from stop i to destination j for vehicle v, at index (v * stops + i) * destinations + j
+		int[] legTime = new int[vehicleCount * stops.length * destinationCount];
+		for (int vehicleIndex = 0; vehicleIndex < vehicleCount; vehicleIndex++) {
+			for (int stop = 0; stop < stops.length; stop++) {
+				for (int destination = 0; destination < destinationCount; destination++) {
+					legTime[(vehicleIndex * stops.length + stop) * destinationCount + destination] =
+							trees[stop].getTime(vehicleIndex, pDestinationIds[destination]);
+				}
+			}
+		}
+
+		TourTable table = new TourTable(destinationCount, vehicleCount, legTime);
+		table.fill();
+
+		// Find out the best (vehicle, last destination) for the full visited-set.
+		int fullMask = (1 << destinationCount) - 1;
+		int bestTime = TraverseCost.INFINITE_TIME;
+		int bestVehicleIndex = -1;
+		int bestLast = -1;
+		for (int vehicleIndex = 0; vehicleIndex < vehicleCount; vehicleIndex++) {
+			for (int last = 0; last < destinationCount; last++) {
+				int tourTime = table.time[table.index(vehicleIndex, fullMask, last)];
+				if (tourTime < bestTime) {
+					bestTime = tourTime;
+					bestVehicleIndex = vehicleIndex;
+					bestLast = last;
+				}
+			}
+		}
+		if (bestVehicleIndex < 0) {
+			return null;
+		}
+
+		// Trace back the order of destinations, from last to first.
+		int[] order = new int[destinationCount];
+		int mask = fullMask;
+		int last = bestLast;
+		for (int position = destinationCount - 1; position >= 0; position--) {
+			order[position] = last;
+			int previous = table.parent[table.index(bestVehicleIndex, mask, last)];
+			mask ^= 1 << last;
+			last = previous;
+		}
+
+		// Join the legs into one orbit-sequence
+		List<Orbit> orbits = new ArrayList<>();
+		int fromStop = 0;
+		for (int destination : order) {
+			orbits.addAll(trees[fromStop].getOrbitPath(bestVehicleIndex, pDestinationIds[destination]));
+			fromStop = destination + 1;
+		}
+		return new TraverseDetail(bestTime, orbits, pCostTable.getVehicles().get(bestVehicleIndex));
+	}
+
+	/**
+	 * Find out the fastest orbit-sequence from source, which visits all destinations in any order with one orbit to each 
+	 * of them (i.e. Problem 2). Same as evaluating all orbit-sequences of LengaburuTrafficHelper.streamOrbitSequences(),
+	 * including the tie rule, but without enumerating them.
+	 * 
+	 * Traverse time of an orbit-sequence isn't a sum of its orbits, as the whole sequence is driven at its minimum speed limit
+	 * and craters are rounded on the total. So it performs following operations:
+	 * 	1.	For each speed limit threshold, run Held-Karp over (visited-set bitmask, current stop) with orbits of at least 
+	 * 		that speed limit, keeping Pareto set of (distance, craters) to visit the rest of destinations (see SequenceTable).
+	 * 		Time at a threshold takes the threshold as speed limit. So it is never less than the actual time of a sequence, 
+	 * 		and it is equal at the minimum speed limit of the sequence, i.e. minimum over the thresholds is exact.
+	 * 	2.	If there is a tie in which vehicle to choose, vehicle comes first in the vehicles list is chosen.
+	 * 	3.	Walk from source in the enumeration order (destinations in input order, and then orbits in orbit id order), 
+	 * 		taking the first orbit which can still finish in the optimum time. So on a tie, orbit-sequence comes first wins.
+	 * 
+	 * Note: Time complexity is O(thresholds * 2^n * n^2 * p log p), where p is number of orbits between two stops times 
+	 * 		 size of a Pareto set, instead of O(n! * p^n) for all orbit-sequences.
+	 * 
+	 * @param pNetwork - Road network snapshot
+	 * @param pSourceId - Source suburb id
+	 * @param pDestinationIds - Destination suburb ids, in input order. At most MAX_DESTINATIONS.
+	 * @param pVehicles - Suitable vehicles for the weather, in order of preference
+	 * @param pCraterChangeRate - Crater change rate of the weather
+	 * @param pSpeedLimits - Speed limits of the query, indexed by orbit id
+	 * @return - Populated TraverseDetail object, or null if there is no orbit-sequence.
+	 */
+	public TraverseDetail findFastestOrbitSequence(RoadNetwork pNetwork, int pSourceId, int[] pDestinationIds,
+			List<Vehicle> pVehicles, int pCraterChangeRate, SpeedLimitOverlay pSpeedLimits) {
+
+		int destinationCount = pDestinationIds.length;
+		int vehicleCount = pVehicles.size();
+		if (destinationCount == 0 || destinationCount > MAX_DESTINATIONS || vehicleCount == 0) {
+			return null;
+		}
+		int[] vehicleSpeed = pVehicles.stream().mapToInt(vehicle -> vehicle.getVelocity().getSpeed()).toArray();
+		int[] timeToCrossCrater = pVehicles.stream().mapToInt(Vehicle::getTimeToCrossCrater).toArray();
+		int topVehicleSpeed = Arrays.stream(vehicleSpeed).max().getAsInt();
+		int quickestCraterCrossTime = Arrays.stream(timeToCrossCrater).min().getAsInt();
+		SequenceTable table = new SequenceTable(pNetwork, pSourceId, pDestinationIds, pSpeedLimits);
+		int[] thresholds = table.getThresholds(topVehicleSpeed);
+
+		// Optimum time of each (threshold, vehicle). Highest threshold first, as it gives a tight bound quickly.
+		int[][] thresholdTimes = new int[thresholds.length][];
+		int bestTime = Integer.MAX_VALUE;
+		for (int threshold = thresholds.length - 1; threshold >= 0; threshold--) {
+			int speedLimit = thresholds[threshold];
+			table.fill(speedLimit, getLowerBound(Math.min(speedLimit, topVehicleSpeed), quickestCraterCrossTime, 
+					pCraterChangeRate), bestTime);
+			thresholdTimes[threshold] = new int[vehicleCount];
+			for (int vehicleIndex = 0; vehicleIndex < vehicleCount; vehicleIndex++) {
+				thresholdTimes[threshold][vehicleIndex] = table.getOptimumTime(getTraverseTime(
+						Math.min(speedLimit, vehicleSpeed[vehicleIndex]), timeToCrossCrater[vehicleIndex], pCraterChangeRate));
+				bestTime = Math.min(bestTime, thresholdTimes[threshold][vehicleIndex]);
+			}
+		}
+		if (bestTime == Integer.MAX_VALUE) {
+			return null;
+		}
+		int bestVehicleIndex = getFirstVehicleIndex(thresholdTimes, bestTime);
+
+		// First orbit-sequence in the enumeration order, among the thresholds at which the vehicle finishes in optimum time
+		int[] bestPath = null;
+		for (int threshold = 0; threshold < thresholds.length; threshold++) {
+			if (thresholdTimes[threshold][bestVehicleIndex] != bestTime) {
+				continue;
+			}
+			int speedLimit = thresholds[threshold];
+			table.fill(speedLimit, getLowerBound(Math.min(speedLimit, topVehicleSpeed), quickestCraterCrossTime, 
+					pCraterChangeRate), bestTime);
+			int[] path = table.walk(speedLimit, getTraverseTime(Math.min(speedLimit, vehicleSpeed[bestVehicleIndex]), 
+					timeToCrossCrater[bestVehicleIndex], pCraterChangeRate), bestTime);
+			if (null == bestPath || SequenceTable.comparePaths(path, bestPath) < 0) {
+				bestPath = path;
+			}
+		}
+		return new TraverseDetail(bestTime, table.getOrbits(bestPath), pVehicles.get(bestVehicleIndex));
+	}
+
+	// Vehicle comes first in the list, which finishes in pTime at any threshold
+	private static int getFirstVehicleIndex(int[][] pThresholdTimes, int pTime) {
+		int vehicleIndex = 0;
+		while (true) {
+			for (int[] times : pThresholdTimes) {
+				if (times[vehicleIndex] == pTime) {
+					return vehicleIndex;
+				}
+			}
+			vehicleIndex++;
+		}
+	}
+
+	// Traverse time of (distance, craters) of an orbit-sequence, same as TraverseTimeKernel.evaluate()
+	private static IntBinaryOperator getTraverseTime(int pApplicableMaxSpeed, int pTimeToCrossCrater, int pCraterChangeRate) {
+		return (distance, craters) -> (distance * TraverseCost.MINUTES_PER_HOUR) / pApplicableMaxSpeed
+				+ TraverseCost.actualNumberOfCraters(craters, pCraterChangeRate) * pTimeToCrossCrater;
+	}
+
+	// Lower bound of traverse time of (distance, craters), for any vehicle, same as TraverseTimeKernel.lowerBound()
+	private static IntBinaryOperator getLowerBound(int pTopSpeed, int pQuickestCraterCrossTime, int pCraterChangeRate) {
+		return (distance, craters) -> (int) Math.min(Integer.MAX_VALUE, 
+				((long) distance * TraverseCost.MINUTES_PER_HOUR) / pTopSpeed
+				+ (long) TraverseCost.actualNumberOfCraters(craters, pCraterChangeRate) * pQuickestCraterCrossTime);
+	}
+
+	/*
+	 * Masks of pDestinationCount bits (except 0), grouped by number of visited destinations (i.e. DP layers).
+	 * Masks of layer l are masks[layerStart[l], layerStart[l + 1]).
+	 */
+	private static int[] groupMasksByLayer(int pDestinationCount, int[] pLayerStart) {
+		int maskCount = 1 << pDestinationCount;
+		for (int mask = 1; mask < maskCount; mask++) {
+			pLayerStart[Integer.bitCount(mask) + 1]++;
+		}
+		for (int layer = 1; layer <= pDestinationCount; layer++) {
+			pLayerStart[layer + 1] += pLayerStart[layer];
+		}
+		int[] masks = new int[maskCount - 1];
+		int[] position = Arrays.copyOf(pLayerStart, pDestinationCount + 1);
+		for (int mask = 1; mask < maskCount; mask++) {
+			masks[position[Integer.bitCount(mask)]++] = mask;
+		}
+		return masks;
+	}
+
+	/*
+	 * Held-Karp DP table, on primitive arrays.
+	 * time[index(v, mask, last)] is the shortest time to visit destinations in mask, ending at last, with vehicle v.
+	 * parent[] holds the destination visited before last, or FROM_SOURCE.
+	 */
+	private static final class TourTable {
+
+		private final int destinationCount;
+		private final int vehicleCount;
+		private final int stopCount;
+		private final int[] legTime;
+		private final int[] time;
+		private final byte[] parent;
+
+		private TourTable(int pDestinationCount, int pVehicleCount, int[] pLegTime) {
+			this.destinationCount = pDestinationCount;
+			this.vehicleCount = pVehicleCount;
+			this.stopCount = pDestinationCount + 1;
+			this.legTime = pLegTime;
+			int size = pVehicleCount * (1 << pDestinationCount) * pDestinationCount;
+			this.time = new int[size];
+			this.parent = new byte[size];
+			Arrays.fill(time, TraverseCost.INFINITE_TIME);
+		}
+
+		private int index(int pVehicleIndex, int pMask, int pLast) {
+			return ((pVehicleIndex << destinationCount) + pMask) * destinationCount + pLast;
+		}
+
+		private int leg(int pVehicleIndex, int pFromStop, int pToDestination) {
+			return legTime[(pVehicleIndex * stopCount + pFromStop) * destinationCount + pToDestination];
+		}
+
+		private void fill() {
+			// First layer: directly from source
+			for (int vehicleIndex = 0; vehicleIndex < vehicleCount; vehicleIndex++) {
+				for (int last = 0; last < destinationCount; last++) {
+					int cell = index(vehicleIndex, 1 << last, last);
+					time[cell] = leg(vehicleIndex, 0, last);
+					parent[cell] = FROM_SOURCE;
+				}
+			}
+
+			// Group masks by number of visited destinations, i.e. DP layers.
+			int[] layerStart = new int[destinationCount + 2];
+			int[] masks = groupMasksByLayer(destinationCount, layerStart);
+
+			// Each layer only reads from the previous one, so masks of a layer can be filled in parallel.
+			ForkJoinPool pool = ForkJoinPool.commonPool();
+			for (int layer = 2; layer <= destinationCount; layer++) {
+				pool.invoke(new LayerTask(this, masks, layerStart[layer], layerStart[layer + 1]));
+			}
+		}
+
+		private void fillMask(int pMask) {
+			for (int vehicleIndex = 0; vehicleIndex < vehicleCount; vehicleIndex++) {
+				for (int last = 0; last < destinationCount; last++) {
+					if ((pMask & (1 << last)) == 0) {
+						continue;
+					}
+					int previousMask = pMask ^ (1 << last);
+					long bestTime = TraverseCost.INFINITE_TIME;
+					int bestPrevious = FROM_SOURCE;
+					for (int previous = 0; previous < destinationCount; previous++) {
+						if ((previousMask & (1 << previous)) == 0) {
+							continue;
+						}
+						int previousTime = time[index(vehicleIndex, previousMask, previous)];
+						int legTime = leg(vehicleIndex, previous + 1, last);
+						if (previousTime == TraverseCost.INFINITE_TIME || legTime == TraverseCost.INFINITE_TIME) {
+							continue;
+						}
+						long tourTime = (long) previousTime + legTime;
+						if (tourTime < bestTime) {
+							bestTime = tourTime;
+							bestPrevious = previous;
+						}
+					}
+					int cell = index(vehicleIndex, pMask, last);
+					time[cell] = (int) Math.min(bestTime, TraverseCost.INFINITE_TIME);
+					parent[cell] = (byte) bestPrevious;
+				}
+			}
+		}
+	}
+
+	/*
+	 * Held-Karp table of Problem 2, for a speed limit threshold, i.e. only orbits with at least that speed limit.
+	 * frontier[index(mask, stop)] is the Pareto set of (distance, craters) to visit the destinations not in mask from stop, 
+	 * as {distance0, craters0, distance1, craters1 ...} by distance ascending and craters descending.
+	 * Stop 0 is the source (only with mask 0), stop (i + 1) is destination i.
+	 */
+	private static final class SequenceTable {
+
+		private static final int[] NONE = new int[0];
+
+		private final RoadNetwork network;
+		private final int destinationCount;
+		private final int stopCount;
+
+		// Orbit ids from stop to destination, at legOrbits[stop * destinations + destination], in enumeration order
+		private final int[][] legOrbits;
+		private final int[] speedLimits;
+		private final int[][] frontier;
+
+		// Least distance and least craters (each on its own) to reach (mask, stop) from source, i.e. lower bound of a prefix
+		private final int[] prefixDistance;
+		private final int[] prefixCraters;
+		private final int[] masks;
+		private final int[] layerStart;
+
+		private SequenceTable(RoadNetwork pNetwork, int pSourceId, int[] pDestinationIds, SpeedLimitOverlay pSpeedLimits) {
+			this.network = pNetwork;
+			this.destinationCount = pDestinationIds.length;
+			this.stopCount = destinationCount + 1;
+			this.legOrbits = new int[stopCount * destinationCount][];
+			this.speedLimits = new int[pNetwork.getOrbitCount()];
+			for (int stop = 0; stop < stopCount; stop++) {
+				int suburbId = (stop == 0) ? pSourceId : pDestinationIds[stop - 1];
+				for (int destination = 0; destination < destinationCount; destination++) {
+					int slot = (suburbId < 0 || pDestinationIds[destination] < 0) 
+							? -1 : pNetwork.findPair(suburbId, pDestinationIds[destination]);
+					int[] orbits = NONE;
+					if (slot >= 0) {
+						orbits = new int[pNetwork.getPairEnd(slot) - pNetwork.getPairStart(slot)];
+						for (int position = 0; position < orbits.length; position++) {
+							orbits[position] = pNetwork.getOutgoingOrbit(pNetwork.getPairStart(slot) + position);
+							speedLimits[orbits[position]] = pSpeedLimits.getSpeedLimit(orbits[position]);
+						}
+					}
+					legOrbits[stop * destinationCount + destination] = orbits;
+				}
+			}
+			this.frontier = new int[(1 << destinationCount) * stopCount][];
+			this.prefixDistance = new int[frontier.length];
+			this.prefixCraters = new int[frontier.length];
+			this.layerStart = new int[destinationCount + 2];
+			this.masks = groupMasksByLayer(destinationCount, layerStart);
+		}
+
+		private int index(int pMask, int pStop) {
+			return pMask * stopCount + pStop;
+		}
+
+		/*
+		 * Distinct speed limits of the legs, ascending. Thresholds above the top vehicle speed give the same speed,
+		 * so only the lowest of them is kept.
+		 */
+		private int[] getThresholds(int pTopVehicleSpeed) {
+			int[] thresholds = Arrays.stream(legOrbits).flatMapToInt(Arrays::stream).map(orbitId -> speedLimits[orbitId])
+					.filter(speedLimit -> speedLimit > 0).distinct().sorted().toArray();
+			int count = 0;
+			while (count < thresholds.length && thresholds[count] < pTopVehicleSpeed) {
+				count++;
+			}
+			return Arrays.copyOf(thresholds, Math.min(thresholds.length, count + 1));
+		}
+
+		/*
+		 * Fill the table for the threshold, from the full visited-set down to the source. Layers are filled in parallel.
+		 * Points whose lower bound (along with the least prefix to reach them) exceeds pBestTime can't be part of an optimum,
+		 * so they are dropped.
+		 */
+		private void fill(int pThreshold, IntBinaryOperator pLowerBound, int pBestTime) {
+			fillPrefixes(pThreshold);
+			int fullMask = (1 << destinationCount) - 1;
+			for (int stop = 1; stop < stopCount; stop++) {
+				frontier[index(fullMask, stop)] = new int[] {0, 0};
+			}
+			for (int layer = destinationCount - 1; layer >= 1; layer--) {
+				IntStream layerMasks = Arrays.stream(masks, layerStart[layer], layerStart[layer + 1]);
+				(layerStart[layer + 1] - layerStart[layer] > PARALLEL_THRESHOLD ? layerMasks.parallel() : layerMasks)
+					.forEach(mask -> {
+						for (int destination = 0; destination < destinationCount; destination++) {
+							if ((mask & (1 << destination)) != 0) {
+								frontier[index(mask, destination + 1)] = 
+										combine(mask, destination + 1, pThreshold, pLowerBound, pBestTime);
+							}
+						}
+					});
+			}
+			frontier[index(0, 0)] = combine(0, 0, pThreshold, pLowerBound, pBestTime);
+		}
+
+		// Least distance and least craters to reach each (mask, stop) from source, from the source up to the full visited-set
+		private void fillPrefixes(int pThreshold) {
+			Arrays.fill(prefixDistance, Integer.MAX_VALUE);
+			Arrays.fill(prefixCraters, Integer.MAX_VALUE);
+			prefixDistance[index(0, 0)] = 0;
+			prefixCraters[index(0, 0)] = 0;
+			for (int mask : masks) {
+				for (int destination = 0; destination < destinationCount; destination++) {
+					if ((mask & (1 << destination)) == 0) {
+						continue;
+					}
+					int previousMask = mask ^ (1 << destination);
+					int cell = index(mask, destination + 1);
+					for (int previousStop = 0; previousStop < stopCount; previousStop++) {
+						int previous = index(previousMask, previousStop);
+						if (prefixDistance[previous] == Integer.MAX_VALUE) {
+							continue;
+						}
+						for (int orbitId : legOrbits[previousStop * destinationCount + destination]) {
+							if (speedLimits[orbitId] >= pThreshold) {
+								prefixDistance[cell] = Math.min(prefixDistance[cell], 
+										prefixDistance[previous] + network.getOrbitDistance(orbitId));
+								prefixCraters[cell] = Math.min(prefixCraters[cell], 
+										prefixCraters[previous] + network.getOrbitCraters(orbitId));
+							}
+						}
+					}
+				}
+			}
+		}
+
+		// Pareto set of (distance, craters) from stop, over each next destination and each open orbit to it
+		private int[] combine(int pMask, int pStop, int pThreshold, IntBinaryOperator pLowerBound, int pBestTime) {
+			int cell = index(pMask, pStop);
+			if (prefixDistance[cell] == Integer.MAX_VALUE) {
+				// Not reachable from source
+				return NONE;
+			}
+			int count = 0;
+			long[] points = new long[8];
+			for (int destination = 0; destination < destinationCount; destination++) {
+				if ((pMask & (1 << destination)) != 0) {
+					continue;
+				}
+				int[] rest = frontier[index(pMask | (1 << destination), destination + 1)];
+				for (int orbitId : legOrbits[pStop * destinationCount + destination]) {
+					if (speedLimits[orbitId] < pThreshold) {
+						continue;
+					}
+					for (int point = 0; point < rest.length; point += 2) {
+						int distance = rest[point] + network.getOrbitDistance(orbitId);
+						int craters = rest[point + 1] + network.getOrbitCraters(orbitId);
+						if (pLowerBound.applyAsInt(prefixDistance[cell] + distance, prefixCraters[cell] + craters) > pBestTime) {
+							continue;
+						}
+						if (count == points.length) {
+							points = Arrays.copyOf(points, count * 2);
+						}
+						points[count++] = ((long) distance << 32) | craters;
+					}
+				}
+			}
+			if (count == 0) {
+				return NONE;
+			}
+
+			// Keep only the points with fewer craters than every shorter one
+			Arrays.sort(points, 0, count);
+			int[] pareto = new int[2 * count];
+			int size = 0;
+			int fewestCraters = Integer.MAX_VALUE;
+			for (int point = 0; point < count; point++) {
+				int craters = (int) points[point];
+				if (craters < fewestCraters) {
+					fewestCraters = craters;
+					pareto[size++] = (int) (points[point] >>> 32);
+					pareto[size++] = craters;
+				}
+			}
+			return Arrays.copyOf(pareto, size);
+		}
+
+		// Optimum time from source, by traverse time of (distance, craters). Integer.MAX_VALUE if there is no sequence.
+		private int getOptimumTime(IntBinaryOperator pTraverseTime) {
+			int[] points = frontier[index(0, 0)];
+			int optimumTime = Integer.MAX_VALUE;
+			for (int point = 0; point < points.length; point += 2) {
+				optimumTime = Math.min(optimumTime, pTraverseTime.applyAsInt(points[point], points[point + 1]));
+			}
+			return optimumTime;
+		}
+
+		/*
+		 * First orbit-sequence in the enumeration order, which finishes in pTime. Table should be filled for the threshold.
+		 * Path is {destination0, orbit position0, destination1, orbit position1 ...}, i.e. comparable in enumeration order.
+		 */
+		private int[] walk(int pThreshold, IntBinaryOperator pTraverseTime, int pTime) {
+			int[] path = new int[2 * destinationCount];
+			int mask = 0;
+			int stop = 0;
+			int distance = 0;
+			int craters = 0;
+			for (int level = 0; level < destinationCount; level++) {
+				search:
+				for (int destination = 0; destination < destinationCount; destination++) {
+					if ((mask & (1 << destination)) != 0) {
+						continue;
+					}
+					int[] rest = frontier[index(mask | (1 << destination), destination + 1)];
+					int[] orbits = legOrbits[stop * destinationCount + destination];
+					for (int position = 0; position < orbits.length; position++) {
+						if (speedLimits[orbits[position]] < pThreshold) {
+							continue;
+						}
+						int nextDistance = distance + network.getOrbitDistance(orbits[position]);
+						int nextCraters = craters + network.getOrbitCraters(orbits[position]);
+						for (int point = 0; point < rest.length; point += 2) {
+							if (pTraverseTime.applyAsInt(nextDistance + rest[point], nextCraters + rest[point + 1]) <= pTime) {
+								path[2 * level] = destination;
+								path[2 * level + 1] = position;
+								mask |= 1 << destination;
+								stop = destination + 1;
+								distance = nextDistance;
+								craters = nextCraters;
+								break search;
+							}
+						}
+					}
+				}
+			}
+			return path;
+		}
+
+		private static int comparePaths(int[] pFirst, int[] pSecond) {
+			for (int index = 0; index < pFirst.length; index++) {
+				if (pFirst[index] != pSecond[index]) {
+					return Integer.compare(pFirst[index], pSecond[index]);
+				}
+			}
+			return 0;
+		}
+
+		private List<Orbit> getOrbits(int[] pPath) {
+			List<Orbit> orbits = new ArrayList<>(destinationCount);
+			int stop = 0;
+			for (int level = 0; level < destinationCount; level++) {
+				int destination = pPath[2 * level];
+				orbits.add(network.getOrbit(legOrbits[stop * destinationCount + destination][pPath[2 * level + 1]]));
+				stop = destination + 1;
+			}
+			return orbits;
+		}
+	}
+
+	/*
+	 * Fork-join task to fill masks[from, to) of a DP layer.
+	 */
+	private static final class LayerTask extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final transient TourTable table;
+		private final int[] masks;
+		private final int from;
+		private final int to;
+
+		private LayerTask(TourTable pTable, int[] pMasks, int pFrom, int pTo) {
+			this.table = pTable;
+			this.masks = pMasks;
+			this.from = pFrom;
+			this.to = pTo;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from <= PARALLEL_THRESHOLD) {
+				for (int index = from; index < to; index++) {
+					table.fillMask(masks[index]);
+				}
+			} else {
+				int middle = (from + to) >>> 1;
+				invokeAll(new LayerTask(table, masks, from, middle), new LayerTask(table, masks, middle, to));
+			}
+		}
+	}
+}
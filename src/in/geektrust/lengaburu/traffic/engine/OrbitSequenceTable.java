@@ -0,0 +1,141 @@
+/*
+* Copyright (c) 2017, Ritesh. All rights reserved.
+*
+*/
+package in.geektrust.lengaburu.traffic.engine;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
+import in.geektrust.lengaburu.traffic.beans.Orbit;
+
+/**
+ * DESCRIPTION - This class is a compiled form of orbit-sequences, i.e. the part of TraverseTimeKernel which depends
+ * neither on the weather nor on the speed limits. So it is compiled once and shared by any number of queries.
+ *
+ * Details are kept in primitive arrays:
+ * 	-	Orbits			: distinct orbits of all sequences. Each slot of a sequence refers to one of them by its index.
+ * 						  Slots of sequence 's' are at [sequenceStart[s], sequenceStart[s + 1]).
+ * 	-	Sequences		: total distance and total craters, summed once while compiling.
+ *
+ * Speed limits of a query are given per distinct orbit (see getSpeedLimits()), so the sequence speed limits
+ * of a query cost a single pass over the slots.
+ *
+ * Note: It is immutable, so any number of threads can use it at once.
+ *
+ * @author - Ritesh Bangal
+ * @version 1.0
+ * @since <17-October-2026>
+ */
+public final class OrbitSequenceTable {
+
+	private final List<List<Orbit>> orbitSequences;
+
+	// Distinct orbits (by identity), in order of first appearance
+	private final List<Orbit> orbits;
+
+	private final int sequenceCount;
+	private final int[] sequenceStart;
+	private final int[] slotOrbit;
+	private final int[] sequenceDistance;
+	private final int[] sequenceCraters;
+
+	private OrbitSequenceTable(List<List<Orbit>> pOrbitSequences) {
+		this.orbitSequences = Collections.unmodifiableList(pOrbitSequences);
+		this.sequenceCount = pOrbitSequences.size();
+		this.sequenceStart = new int[sequenceCount + 1];
+		for (int sequenceIndex = 0; sequenceIndex < sequenceCount; sequenceIndex++) {
+			sequenceStart[sequenceIndex + 1] = sequenceStart[sequenceIndex] + pOrbitSequences.get(sequenceIndex).size();
+		}
+		this.slotOrbit = new int[sequenceStart[sequenceCount]];
+		this.sequenceDistance = new int[sequenceCount];
+		this.sequenceCraters = new int[sequenceCount];
+
+		List<Orbit> distinctOrbits = new ArrayList<>();
+		Map<Orbit, Integer> orbitIndexes = new IdentityHashMap<>();
+		for (int sequenceIndex = 0; sequenceIndex < sequenceCount; sequenceIndex++) {
+			int slot = sequenceStart[sequenceIndex];
+			for (Orbit orbit : pOrbitSequences.get(sequenceIndex)) {
+				Integer orbitIndex = orbitIndexes.get(orbit);
+				if (null == orbitIndex) {
+					orbitIndex = distinctOrbits.size();
+					orbitIndexes.put(orbit, orbitIndex);
+					distinctOrbits.add(orbit);
+				}
+				slotOrbit[slot++] = orbitIndex;
+				sequenceDistance[sequenceIndex] += orbit.getDistance();
+				sequenceCraters[sequenceIndex] += orbit.getNumberOfCraters();
+			}
+		}
+		this.orbits = Collections.unmodifiableList(distinctOrbits);
+	}
+
+	/**
+	 * Compile orbit-sequences into primitive arrays.
+	 *
+	 * @param pOrbitSequences - Available orbits/routes sequences. List must not be modified afterwards.
+	 * @return - Compiled table
+	 */
+	public static OrbitSequenceTable compile(List<List<Orbit>> pOrbitSequences) {
+		return new OrbitSequenceTable(pOrbitSequences);
+	}
+
+	/**
+	 * Speed limit of each distinct orbit, i.e. input of TraverseTimeKernel.compile(pVehicles, this, speedLimits).
+	 *
+	 * @param pSpeedLimit - Speed limit of an orbit, e.g. from SpeedLimitOverlay
+	 * @return - Speed limits, by orbit index
+	 */
+	public int[] getSpeedLimits(ToIntFunction<Orbit> pSpeedLimit) {
+		int[] speedLimits = new int[orbits.size()];
+		for (int orbitIndex = 0; orbitIndex < speedLimits.length; orbitIndex++) {
+			speedLimits[orbitIndex] = pSpeedLimit.applyAsInt(orbits.get(orbitIndex));
+		}
+		return speedLimits;
+	}
+
+	/**
+	 * @param pSpeedLimits - Speed limits of a query, by orbit index
+	 * @param pSequenceIndex - Index of orbit-sequence
+	 * @return - Minimum orbit's speed limit among the sequence
+	 */
+	int getSpeedLimit(int[] pSpeedLimits, int pSequenceIndex) {
+		int speedLimit = Integer.MAX_VALUE;
+		for (int slot = sequenceStart[pSequenceIndex], end = sequenceStart[pSequenceIndex + 1]; slot < end; slot++) {
+			int orbitLimit = pSpeedLimits[slotOrbit[slot]];
+			speedLimit = orbitLimit < speedLimit ? orbitLimit : speedLimit;
+		}
+		return speedLimit;
+	}
+
+	public List<List<Orbit>> getOrbitSequences() {
+		return orbitSequences;
+	}
+
+	/**
+	 * @return - Distinct orbits of all sequences, by orbit index
+	 */
+	public List<Orbit> getOrbits() {
+		return orbits;
+	}
+
+	public int getSequenceCount() {
+		return sequenceCount;
+	}
+
+	public boolean isEmpty(int pSequenceIndex) {
+		return sequenceStart[pSequenceIndex] == sequenceStart[pSequenceIndex + 1];
+	}
+
+	public int getSequenceDistance(int pSequenceIndex) {
+		return sequenceDistance[pSequenceIndex];
+	}
+
+	public int getSequenceCraters(int pSequenceIndex) {
+		return sequenceCraters[pSequenceIndex];
+	}
+}
@@ -0,0 +1,105 @@
+/*
+* Copyright (c) 2017, Ritesh. All rights reserved.
+*
+*/
+package in.geektrust.lengaburu.traffic.engine;
+
+import java.util.Collections;
+import java.util.List;
+
+import in.geektrust.lengaburu.traffic.beans.TraverseDetail;
+
+/**
+ * DESCRIPTION - This class holds Pareto-optimal routes from source to destination, over traverse time and craters crossed.
+ *
+ * A route is Pareto-optimal, if no other route (with any vehicle) is as quick and crosses as few craters, and is better
+ * in at least one of them. Routes are ordered by traverse time, so craters strictly decrease along the front:
+ * 	-	First route is the fastest one (same time as ShortestTimeRouteEngine.findFastestRoute()), with the fewest craters.
+ * 	-	Last route crosses the fewest craters, with the shortest time.
+ * Craters are counted after applying weather's change rate (see WeatherCostTable.getActualCraters()).
+ * If there is a tie in which vehicle to choose for a point, vehicle comes first in the vehicles list is chosen.
+ *
+ * Note: It is immutable.
+ *
+ * @author - Ritesh Bangal
+ * @version 1.0
+ * @since <17-October-2026>
+ */
+public final class ParetoFront {
+
+	private final List<TraverseDetail> routes;
+	private final int[] craters;
+	private final int settledLabelCount;
+
+	ParetoFront(List<TraverseDetail> pRoutes, int[] pCraters, int pSettledLabelCount) {
+		this.routes = Collections.unmodifiableList(pRoutes);
+		this.craters = pCraters;
+		this.settledLabelCount = pSettledLabelCount;
+	}
+
+	public int size() {
+		return routes.size();
+	}
+
+	/**
+	 * @return - true, if destination is not reachable.
+	 */
+	public boolean isEmpty() {
+		return routes.isEmpty();
+	}
+
+	/**
+	 * @return - Pareto-optimal routes, ordered by traverse time
+	 */
+	public List<TraverseDetail> getRoutes() {
+		return routes;
+	}
+
+	/**
+	 * @param pIndex - Index of the point on the front
+	 * @return - Route of the point
+	 */
+	public TraverseDetail getRoute(int pIndex) {
+		return routes.get(pIndex);
+	}
+
+	/**
+	 * @param pIndex - Index of the point on the front
+	 * @return - Craters crossed on the route of the point
+	 */
+	public int getCraters(int pIndex) {
+		return craters[pIndex];
+	}
+
+	/**
+	 * @return - Fastest route, or null if destination is not reachable.
+	 */
+	public TraverseDetail getFastestRoute() {
+		return routes.isEmpty() ? null : routes.get(0);
+	}
+
+	/**
+	 * @return - Route with the fewest craters, or null if destination is not reachable.
+	 */
+	public TraverseDetail getLeastCratersRoute() {
+		return routes.isEmpty() ? null : routes.get(routes.size() - 1);
+	}
+
+	/**
+	 * @return - Number of labels the search settled, i.e. its size
+	 */
+	public int getSettledLabelCount() {
+		return settledLabelCount;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder front = new StringBuilder("ParetoFront: [");
+		for (int index = 0; index < routes.size(); index++) {
+			front.append(index == 0 ? "" : ", ").append("{traverseTime=").append(routes.get(index).getTraverseTime())
+				.append(", craters=").append(craters[index])
+				.append(", vehicle=").append(routes.get(index).getVehicle().getName()).append("}");
+		}
+		return front.append("]").toString();
+	}
+}
@@ -0,0 +1,305 @@
+/*
+* Copyright (c) 2017, Ritesh. All rights reserved.
+*
+*/
+package in.geektrust.lengaburu.traffic.engine;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import in.geektrust.lengaburu.traffic.beans.Orbit;
+import in.geektrust.lengaburu.traffic.beans.TraverseDetail;
+import in.geektrust.lengaburu.traffic.network.RoadNetwork;
+import in.geektrust.lengaburu.traffic.network.SpeedLimitOverlay;
+import in.geektrust.lengaburu.traffic.network.WeatherCostTable;
+
+/**
+ * DESCRIPTION - This is a multi-criteria route engine, to find out all Pareto-optimal routes over traverse time and
+ * craters crossed (see ParetoFront).
+ *
+ * Search runs over (suburb, vehicle) states, like ShortestTimeRouteEngine, but a state can have many labels.
+ * A label is a partial route (time, craters), with its previous label and orbit. It works as follows:
+ * 	1.	Lower bounds to the destination are found with reverse searches: craters (same for all vehicles), and time
+ * 		of each vehicle. States which can't reach the destination get no label at all.
+ * 	2.	Labels are settled in order of (time + time bound, craters + crater bound, vehicle), i.e. a bi-objective A*.
+ * 	3.	Dominance pruning, which needs one number per state as there are only two criteria:
+ * 		-	Labels of a state are settled in order of time, so a label is dominated if its craters are not lower than
+ * 			the last settled label of its state.
+ * 		-	Destination labels are settled in order of time, so a label is dominated if its craters plus crater bound are
+ * 			not lower than the last settled destination label (of any vehicle).
+ * 		Dominated labels are dropped when they are created, and again when they are polled.
+ * 	4.	Each settled destination label is a point of the front.
+ *
+ * Orbits without a valid speed limit (i.e. < 1) are treated as closed.
+ *
+ * Note: Labels are kept in primitive arrays, which grow as needed. Number of labels depends on the size of the front,
+ * 		 which is small in practice, as time and craters of orbits are mostly correlated.
+ *
+ * @author - Ritesh Bangal
+ * @version 1.0
+ * @since <17-October-2026>
+ */
+public final class ParetoRouteEngine {
+
+	// Create an object of SingleObject
+	private static ParetoRouteEngine engineInstance = new ParetoRouteEngine();
+
+	private ParetoRouteEngine() {
+		// Make the constructor private so that this class cannot be instantiated
+	}
+
+	// Get the only object available
+	public static ParetoRouteEngine getInstance() {
+		return engineInstance;
+	}
+
+	/**
+	 * Find out all Pareto-optimal (traverse time, craters) routes from source to destination, among all vehicles.
+	 *
+	 * @param pNetwork - Road network snapshot
+	 * @param pSourceId - Source suburb id
+	 * @param pDestinationId - Destination suburb id
+	 * @param pCostTable - Orbit cost components for the weather. Sequence of its vehicles is used for the tie rule.
+	 * @param pSpeedLimits - Speed limits of the query, indexed by orbit id
+	 * @return - Pareto front, ordered by traverse time. Empty if destination is not reachable.
+	 */
+	public ParetoFront findParetoRoutes(RoadNetwork pNetwork, int pSourceId, int pDestinationId,
+			WeatherCostTable pCostTable, SpeedLimitOverlay pSpeedLimits) {
+		int suburbCount = pNetwork.getSuburbCount();
+		int vehicleCount = pCostTable.getVehicleCount();
+
+		// Lower bounds to the destination. Time bound of state is at index (vehicleIndex * suburbCount + suburbId).
+		int[][] incoming = getIncomingOrbits(pNetwork);
+		int[] craterBound = reverseSearch(pNetwork, incoming, pDestinationId, pCostTable, pSpeedLimits, -1);
+		int[] timeBound = new int[vehicleCount * suburbCount];
+		for (int vehicleIndex = 0; vehicleIndex < vehicleCount; vehicleIndex++) {
+			System.arraycopy(reverseSearch(pNetwork, incoming, pDestinationId, pCostTable, pSpeedLimits, vehicleIndex),
+					0, timeBound, vehicleIndex * suburbCount, suburbCount);
+		}
+
+		Labels labels = new Labels(vehicleCount * suburbCount);
+		for (int vehicleIndex = 0; vehicleIndex < vehicleCount; vehicleIndex++) {
+			int state = vehicleIndex * suburbCount + pSourceId;
+			if (timeBound[state] != TraverseCost.INFINITE_TIME) {
+				labels.add(state, 0, 0, -1, -1, timeBound[state], craterBound[pSourceId]);
+			}
+		}
+
+		List<TraverseDetail> routes = new ArrayList<>();
+		int[] routeCraters = new int[8];
+		int destinationCraters = Integer.MAX_VALUE;
+		int settledLabelCount = 0;
+		while (!labels.isEmpty()) {
+			int label = labels.poll();
+			int state = labels.state[label];
+			int vehicleIndex = state / suburbCount;
+			int suburbId = state - vehicleIndex * suburbCount;
+			int craters = labels.craters[label];
+			if (craters >= labels.settledCraters[state] || craters + craterBound[suburbId] >= destinationCraters) {
+				// Dominated after it was created
+				continue;
+			}
+			labels.settledCraters[state] = craters;
+			settledLabelCount++;
+
+			if (suburbId == pDestinationId) {
+				destinationCraters = craters;
+				if (routes.size() == routeCraters.length) {
+					routeCraters = Arrays.copyOf(routeCraters, routeCraters.length * 2);
+				}
+				routeCraters[routes.size()] = craters;
+				routes.add(new TraverseDetail(labels.time[label], getOrbits(pNetwork, labels, label),
+						pCostTable.getVehicles().get(vehicleIndex)));
+				continue;
+			}
+
+			int offset = vehicleIndex * suburbCount;
+			int time = labels.time[label];
+			for (int index = pNetwork.getOutgoingStart(suburbId), end = pNetwork.getOutgoingEnd(suburbId); index < end; index++) {
+				int orbitId = pNetwork.getOutgoingOrbit(index);
+				int speedLimit = pSpeedLimits.getSpeedLimit(orbitId);
+				if (speedLimit < 1) {
+					// Closed orbit
+					continue;
+				}
+				int nextSuburbId = pNetwork.getOrbitDestination(orbitId);
+				int nextState = offset + nextSuburbId;
+				int nextCraters = craters + pCostTable.getActualCraters(orbitId);
+				if (timeBound[nextState] == TraverseCost.INFINITE_TIME || nextCraters >= labels.settledCraters[nextState]
+						|| nextCraters + craterBound[nextSuburbId] >= destinationCraters) {
+					continue;
+				}
+				int nextTime = time + pCostTable.orbitTime(vehicleIndex, orbitId, speedLimit);
+				labels.add(nextState, nextTime, nextCraters, label, orbitId, nextTime + timeBound[nextState],
+						nextCraters + craterBound[nextSuburbId]);
+			}
+		}
+		return new ParetoFront(routes, Arrays.copyOf(routeCraters, routes.size()), settledLabelCount);
+	}
+
+	/*
+	 * Orbit-sequence of the label, by following previous labels back to the source.
+	 */
+	private static List<Orbit> getOrbits(RoadNetwork pNetwork, Labels pLabels, int pLabel) {
+		List<Orbit> orbits = new ArrayList<>();
+		for (int label = pLabel; pLabels.orbit[label] >= 0; label = pLabels.previous[label]) {
+			orbits.add(pNetwork.getOrbit(pLabels.orbit[label]));
+		}
+		Collections.reverse(orbits);
+		return orbits;
+	}
+
+	/*
+	 * Reverse adjacency lists in compressed form. Orbits coming into suburb 's' are
+	 * incoming[1][incoming[0][s]] ... incoming[1][incoming[0][s + 1] - 1].
+	 */
+	private static int[][] getIncomingOrbits(RoadNetwork pNetwork) {
+		int suburbCount = pNetwork.getSuburbCount();
+		int orbitCount = pNetwork.getOrbitCount();
+		int[] incomingStart = new int[suburbCount + 1];
+		int[] incomingOrbits = new int[orbitCount];
+		for (int orbitId = 0; orbitId < orbitCount; orbitId++) {
+			incomingStart[pNetwork.getOrbitDestination(orbitId) + 1]++;
+		}
+		for (int suburbId = 0; suburbId < suburbCount; suburbId++) {
+			incomingStart[suburbId + 1] += incomingStart[suburbId];
+		}
+		int[] next = Arrays.copyOf(incomingStart, suburbCount);
+		for (int orbitId = 0; orbitId < orbitCount; orbitId++) {
+			incomingOrbits[next[pNetwork.getOrbitDestination(orbitId)]++] = orbitId;
+		}
+		return new int[][] { incomingStart, incomingOrbits };
+	}
+
+	/*
+	 * Shortest craters (if vehicle index is -1) or shortest time of the vehicle, from each suburb to the destination,
+	 * over open orbits. TraverseCost.INFINITE_TIME if destination is not reachable from the suburb.
+	 */
+	private static int[] reverseSearch(RoadNetwork pNetwork, int[][] pIncoming, int pDestinationId,
+			WeatherCostTable pCostTable, SpeedLimitOverlay pSpeedLimits, int pVehicleIndex) {
+		int[] cost = new int[pNetwork.getSuburbCount()];
+		Arrays.fill(cost, TraverseCost.INFINITE_TIME);
+		IndexedMinHeap heap = new IndexedMinHeap(cost.length);
+		cost[pDestinationId] = 0;
+		heap.insertOrDecrease(pDestinationId, 0);
+		while (!heap.isEmpty()) {
+			int suburbId = heap.poll();
+			for (int slot = pIncoming[0][suburbId], end = pIncoming[0][suburbId + 1]; slot < end; slot++) {
+				int orbitId = pIncoming[1][slot];
+				int speedLimit = pSpeedLimits.getSpeedLimit(orbitId);
+				if (speedLimit < 1) {
+					// Closed orbit
+					continue;
+				}
+				int previousId = pNetwork.getOrbitSource(orbitId);
+				int previousCost = cost[suburbId] + ((pVehicleIndex < 0) ? pCostTable.getActualCraters(orbitId)
+						: pCostTable.orbitTime(pVehicleIndex, orbitId, speedLimit));
+				if (previousCost < cost[previousId]) {
+					cost[previousId] = previousCost;
+					heap.insertOrDecrease(previousId, previousCost);
+				}
+			}
+		}
+		return cost;
+	}
+
+	/*
+	 * Labels of a search, by label id, and a binary heap of unsettled label ids by (time key, craters key, state).
+	 * As state is vehicleIndex * suburbCount + suburbId, ties are polled in vehicles list order.
+	 */
+	private static final class Labels {
+
+		private int[] state = new int[64];
+		private int[] time = new int[64];
+		private int[] craters = new int[64];
+		private int[] previous = new int[64];
+		private int[] orbit = new int[64];
+		private int[] timeKey = new int[64];
+		private int[] cratersKey = new int[64];
+		private int size;
+
+		private int[] heap = new int[64];
+		private int heapSize;
+
+		// Craters of the last settled label of each state, or Integer.MAX_VALUE if none
+		private final int[] settledCraters;
+
+		private Labels(int pStateCount) {
+			this.settledCraters = new int[pStateCount];
+			Arrays.fill(settledCraters, Integer.MAX_VALUE);
+		}
+
+		private boolean isEmpty() {
+			return heapSize == 0;
+		}
+
+		private void add(int pState, int pTime, int pCraters, int pPrevious, int pOrbit, int pTimeKey, int pCratersKey) {
+			if (size == state.length) {
+				int capacity = size * 2;
+				state = Arrays.copyOf(state, capacity);
+				time = Arrays.copyOf(time, capacity);
+				craters = Arrays.copyOf(craters, capacity);
+				previous = Arrays.copyOf(previous, capacity);
+				orbit = Arrays.copyOf(orbit, capacity);
+				timeKey = Arrays.copyOf(timeKey, capacity);
+				cratersKey = Arrays.copyOf(cratersKey, capacity);
+			}
+			int label = size++;
+			state[label] = pState;
+			time[label] = pTime;
+			craters[label] = pCraters;
+			previous[label] = pPrevious;
+			orbit[label] = pOrbit;
+			timeKey[label] = pTimeKey;
+			cratersKey[label] = pCratersKey;
+
+			if (heapSize == heap.length) {
+				heap = Arrays.copyOf(heap, heapSize * 2);
+			}
+			int position = heapSize++;
+			while (position > 0) {
+				int parent = (position - 1) >>> 1;
+				if (!isBefore(label, heap[parent])) {
+					break;
+				}
+				heap[position] = heap[parent];
+				position = parent;
+			}
+			heap[position] = label;
+		}
+
+		private int poll() {
+			int first = heap[0];
+			int last = heap[--heapSize];
+			int position = 0;
+			while (true) {
+				int child = 2 * position + 1;
+				if (child >= heapSize) {
+					break;
+				}
+				if (child + 1 < heapSize && isBefore(heap[child + 1], heap[child])) {
+					child++;
+				}
+				if (!isBefore(heap[child], last)) {
+					break;
+				}
+				heap[position] = heap[child];
+				position = child;
+			}
+			heap[position] = last;
+			return first;
+		}
+
+		private boolean isBefore(int pLabel, int pOther) {
+			if (timeKey[pLabel] != timeKey[pOther]) {
+				return timeKey[pLabel] < timeKey[pOther];
+			}
+			if (cratersKey[pLabel] != cratersKey[pOther]) {
+				return cratersKey[pLabel] < cratersKey[pOther];
+			}
+			return state[pLabel] < state[pOther];
+		}
+	}
+}
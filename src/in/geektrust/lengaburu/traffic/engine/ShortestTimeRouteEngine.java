@@ -0,0 +1,176 @@
+/*
+* Copyright (c) 2017, Ritesh. All rights reserved.
+*
+*/
+package in.geektrust.lengaburu.traffic.engine;
+
+import java.util.Arrays;
+import java.util.List;
+
+import in.geektrust.lengaburu.traffic.beans.TraverseDetail;
+import in.geektrust.lengaburu.traffic.beans.Vehicle;
+import in.geektrust.lengaburu.traffic.network.RoadNetwork;
+import in.geektrust.lengaburu.traffic.network.SpeedLimitOverlay;
+import in.geektrust.lengaburu.traffic.network.WeatherCostTable;
+
+/**
+ * DESCRIPTION - This is a Dijkstra-style route engine, to find out fastest multi-orbit route between suburbs.
+ * 
+ * Search runs over (suburb, vehicle) states, as vehicle can't be changed on the way. All suitable vehicles
+ * start together from the source, so one search answers the query for every vehicle.
+ * 
+ * Cost of each orbit follows the same rules as LengaburuTrafficHelper (see TraverseCost):
+ * 	-	Distance is covered with lower of vehicle's speed and orbit's speed limit.
+ * 	-	Craters are scaled by weather's change rate, and crossed with vehicle's crater cross time.
+ * Route time is sum of its orbit's times, i.e. each orbit is traversed with its own speed limit.
+ * Speed limit independent terms are precomputed in WeatherCostTable, so relaxing an orbit is a division and an addition.
+ * 
+ * Orbits without a valid speed limit (i.e. < 1) are treated as closed.
+ * 
+ * Note: It uses a binary heap and primitive arrays. Time complexity is O((V + E) log V), 
+ * 		 where V = suburbs * vehicles and E = orbits * vehicles.
+ * 
+ * @author - Ritesh Bangal
+ * @version 1.0
+ * @since <17-October-2026>
+ */
+public final class ShortestTimeRouteEngine {
+
+	// Create an object of SingleObject
+	private static ShortestTimeRouteEngine engineInstance = new ShortestTimeRouteEngine();
+
+	private ShortestTimeRouteEngine() {
+		// Make the constructor private so that this class cannot be instantiated
+	}
+
+	// Get the only object available
+	public static ShortestTimeRouteEngine getInstance() {
+		return engineInstance;
+	}
+
+	/**
+	 * Find out shortest time from source to all suburbs, for each vehicle.
+	 * 
+	 * @param pNetwork - Road network snapshot
+	 * @param pSourceId - Source suburb id
+	 * @param pCostTable - Orbit cost components for the weather. Sequence of its vehicles is used for the tie rule.
+	 * @param pSpeedLimits - Speed limits of the query, indexed by orbit id
+	 * @return - Shortest time tree from the source
+	 */
+	public ShortestTimeTree computeShortestTimeTree(RoadNetwork pNetwork, int pSourceId, WeatherCostTable pCostTable, 
+			SpeedLimitOverlay pSpeedLimits) {
+		ShortestTimeTree tree = newTree(pNetwork, pSourceId, pCostTable.getVehicles());
+		search(tree, pCostTable, pSpeedLimits, null, 0);
+		return tree;
+	}
+
+	/**
+	 * Find out shortest time from source to the given suburbs, for each vehicle.
+	 * Search stops as soon as all of them are settled, for all vehicles.
+	 * 
+	 * Note: Times (and routes) of the other suburbs in the tree may not be the shortest ones.
+	 * 
+	 * @param pNetwork - Road network snapshot
+	 * @param pSourceId - Source suburb id
+	 * @param pCostTable - Orbit cost components for the weather. Sequence of its vehicles is used for the tie rule.
+	 * @param pSpeedLimits - Speed limits of the query, indexed by orbit id
+	 * @param pTargetIds - Suburb ids to settle. Repeated ids are allowed.
+	 * @return - Shortest time tree from the source
+	 */
+	public ShortestTimeTree computeShortestTimeTree(RoadNetwork pNetwork, int pSourceId, WeatherCostTable pCostTable, 
+			SpeedLimitOverlay pSpeedLimits, int[] pTargetIds) {
+		ShortestTimeTree tree = newTree(pNetwork, pSourceId, pCostTable.getVehicles());
+		boolean[] targets = new boolean[pNetwork.getSuburbCount()];
+		int targetCount = 0;
+		for (int targetId : pTargetIds) {
+			if (!targets[targetId]) {
+				targets[targetId] = true;
+				targetCount++;
+			}
+		}
+		search(tree, pCostTable, pSpeedLimits, targets, targetCount * pCostTable.getVehicleCount());
+		return tree;
+	}
+
+	/**
+	 * Find out the fastest route from source to destination, among all vehicles.
+	 * If there is a tie in which vehicle to choose, vehicle comes first in the vehicles list is chosen.
+	 * 
+	 * @param pNetwork - Road network snapshot
+	 * @param pSourceId - Source suburb id
+	 * @param pDestinationId - Destination suburb id
+	 * @param pCostTable - Orbit cost components for the weather. Sequence of its vehicles is used for the tie rule.
+	 * @param pSpeedLimits - Speed limits of the query, indexed by orbit id
+	 * @return - Populated TraverseDetail object, or null if destination is not reachable.
+	 */
+	public TraverseDetail findFastestRoute(RoadNetwork pNetwork, int pSourceId, int pDestinationId, 
+			WeatherCostTable pCostTable, SpeedLimitOverlay pSpeedLimits) {
+		ShortestTimeTree tree = newTree(pNetwork, pSourceId, pCostTable.getVehicles());
+		boolean[] targets = new boolean[pNetwork.getSuburbCount()];
+		targets[pDestinationId] = true;
+		int vehicleIndex = search(tree, pCostTable, pSpeedLimits, targets, 1);
+		return vehicleIndex < 0 ? null : tree.getRoute(vehicleIndex, pDestinationId);
+	}
+
+	private static ShortestTimeTree newTree(RoadNetwork pNetwork, int pSourceId, List<Vehicle> pVehicles) {
+		int stateCount = pNetwork.getSuburbCount() * pVehicles.size();
+		int[] time = new int[stateCount];
+		int[] prevOrbit = new int[stateCount];
+		Arrays.fill(time, TraverseCost.INFINITE_TIME);
+		Arrays.fill(prevOrbit, -1);
+		return new ShortestTimeTree(pNetwork, pVehicles, pSourceId, time, prevOrbit);
+	}
+
+	/*
+	 * Run the search on the tree. If targets are given, search stops as soon as the given number of target states
+	 * (i.e. (target suburb, vehicle)) are settled. As heap polls equal times in state order, first settled target state
+	 * is the fastest one with the first vehicle.
+	 * 
+	 * Returns vehicle index of the last settled target state, or -1.
+	 */
+	private static int search(ShortestTimeTree pTree, WeatherCostTable pCostTable, SpeedLimitOverlay pSpeedLimits, 
+			boolean[] pTargets, int pTargetStates) {
+		RoadNetwork network = pTree.getNetwork();
+		int suburbCount = network.getSuburbCount();
+		int vehicleCount = pCostTable.getVehicleCount();
+		
+		int[] time = pTree.time;
+		int[] prevOrbit = pTree.prevOrbit;
+		IndexedMinHeap heap = new IndexedMinHeap(suburbCount * vehicleCount);
+		for (int vehicleIndex = 0; vehicleIndex < vehicleCount; vehicleIndex++) {
+			int state = vehicleIndex * suburbCount + pTree.getSourceId();
+			time[state] = 0;
+			heap.insertOrDecrease(state, 0);
+		}
+		
+		int remainingStates = pTargetStates;
+		while (!heap.isEmpty()) {
+			int state = heap.poll();
+			int vehicleIndex = state / suburbCount;
+			int suburbId = state - vehicleIndex * suburbCount;
+			if (null != pTargets && pTargets[suburbId] && --remainingStates == 0) {
+				return vehicleIndex;
+			}
+			
+			int offset = vehicleIndex * suburbCount;
+			int stateTime = time[state];
+			for (int index = network.getOutgoingStart(suburbId), end = network.getOutgoingEnd(suburbId); index < end; index++) {
+				int orbitId = network.getOutgoingOrbit(index);
+				int speedLimit = pSpeedLimits.getSpeedLimit(orbitId);
+				if (speedLimit < 1) {
+					// Closed orbit
+					continue;
+				}
+				int orbitTime = pCostTable.orbitTime(vehicleIndex, orbitId, speedLimit);
+				int nextState = offset + network.getOrbitDestination(orbitId);
+				int nextTime = stateTime + orbitTime;
+				if (nextTime < time[nextState]) {
+					time[nextState] = nextTime;
+					prevOrbit[nextState] = orbitId;
+					heap.insertOrDecrease(nextState, nextTime);
+				}
+			}
+		}
+		return -1;
+	}
+}
@@ -0,0 +1,124 @@
+/*
+* Copyright (c) 2017, Ritesh. All rights reserved.
+*
+*/
+package in.geektrust.lengaburu.traffic.engine;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import in.geektrust.lengaburu.traffic.beans.Orbit;
+import in.geektrust.lengaburu.traffic.beans.TraverseDetail;
+import in.geektrust.lengaburu.traffic.beans.Vehicle;
+import in.geektrust.lengaburu.traffic.network.RoadNetwork;
+
+/**
+ * DESCRIPTION - This class holds result of a shortest time search from one source suburb, for each vehicle.
+ * 
+ * Search state is (suburb, vehicle), as vehicle can't be changed on the way. 
+ * Each state is stored at index (vehicleIndex * suburbCount + suburbId) of primitive arrays:
+ * 	-	time		: Shortest traverse time (in minutes) from source, or TraverseCost.INFINITE_TIME if not reached.
+ * 	-	prevOrbit	: Last orbit id on the shortest route, or -1 for source (and unreached suburbs).
+ * 
+ * @author - Ritesh Bangal
+ * @version 1.0
+ * @since <17-October-2026>
+ */
+public final class ShortestTimeTree {
+
+	private final RoadNetwork network;
+	private final List<Vehicle> vehicles;
+	private final int sourceId;
+	private final int suburbCount;
+	
+	final int[] time;
+	final int[] prevOrbit;
+
+	ShortestTimeTree(RoadNetwork pNetwork, List<Vehicle> pVehicles, int pSourceId, int[] pTime, int[] pPrevOrbit) {
+		this.network = pNetwork;
+		this.vehicles = pVehicles;
+		this.sourceId = pSourceId;
+		this.suburbCount = pNetwork.getSuburbCount();
+		this.time = pTime;
+		this.prevOrbit = pPrevOrbit;
+	}
+
+	public RoadNetwork getNetwork() {
+		return network;
+	}
+
+	public List<Vehicle> getVehicles() {
+		return vehicles;
+	}
+
+	public int getSourceId() {
+		return sourceId;
+	}
+
+	/**
+	 * @param pVehicleIndex - Index of vehicle in the vehicles list
+	 * @param pSuburbId - Destination suburb id
+	 * @return - Shortest traverse time in minutes, or TraverseCost.INFINITE_TIME if suburb is not reachable.
+	 */
+	public int getTime(int pVehicleIndex, int pSuburbId) {
+		return time[pVehicleIndex * suburbCount + pSuburbId];
+	}
+
+	/**
+	 * Get the sequence of orbits on the shortest route, from source to the suburb.
+	 * 
+	 * @param pVehicleIndex - Index of vehicle in the vehicles list
+	 * @param pSuburbId - Destination suburb id
+	 * @return - Orbit-sequence, or empty list if suburb is the source or not reachable.
+	 */
+	public List<Orbit> getOrbitPath(int pVehicleIndex, int pSuburbId) {
+		int offset = pVehicleIndex * suburbCount;
+		if (time[offset + pSuburbId] == TraverseCost.INFINITE_TIME) {
+			return Collections.emptyList();
+		}
+		List<Orbit> orbits = new ArrayList<>();
+		int suburbId = pSuburbId;
+		int orbitId = prevOrbit[offset + suburbId];
+		while (orbitId >= 0) {
+			orbits.add(network.getOrbit(orbitId));
+			suburbId = network.getOrbitSource(orbitId);
+			orbitId = prevOrbit[offset + suburbId];
+		}
+		Collections.reverse(orbits);
+		return orbits;
+	}
+
+	/**
+	 * Get the fastest route to the suburb, among all vehicles.
+	 * If there is a tie in which vehicle to choose, vehicle comes first in the vehicles list is chosen.
+	 * 
+	 * @param pSuburbId - Destination suburb id
+	 * @return - Populated TraverseDetail object, or null if suburb is not reachable.
+	 */
+	public TraverseDetail getFastestRoute(int pSuburbId) {
+		int bestVehicleIndex = -1;
+		int bestTime = TraverseCost.INFINITE_TIME;
+		for (int vehicleIndex = 0; vehicleIndex < vehicles.size(); vehicleIndex++) {
+			int traverseTime = getTime(vehicleIndex, pSuburbId);
+			if (traverseTime < bestTime) {
+				bestTime = traverseTime;
+				bestVehicleIndex = vehicleIndex;
+			}
+		}
+		return bestVehicleIndex < 0 ? null : getRoute(bestVehicleIndex, pSuburbId);
+	}
+
+	/**
+	 * @param pVehicleIndex - Index of vehicle in the vehicles list
+	 * @param pSuburbId - Destination suburb id
+	 * @return - Populated TraverseDetail object for the vehicle, or null if suburb is not reachable.
+	 */
+	public TraverseDetail getRoute(int pVehicleIndex, int pSuburbId) {
+		int traverseTime = getTime(pVehicleIndex, pSuburbId);
+		if (traverseTime == TraverseCost.INFINITE_TIME) {
+			return null;
+		}
+		return new TraverseDetail(traverseTime, getOrbitPath(pVehicleIndex, pSuburbId), vehicles.get(pVehicleIndex));
+	}
+}
@@ -0,0 +1,190 @@
+/*
+* Copyright (c) 2017, Ritesh. All rights reserved.
+*
+*/
+package in.geektrust.lengaburu.traffic.engine;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import in.geektrust.lengaburu.traffic.beans.TraverseDetail;
+import in.geektrust.lengaburu.traffic.beans.Vehicle;
+import in.geektrust.lengaburu.traffic.network.RoadNetwork;
+import in.geektrust.lengaburu.traffic.network.SpeedLimitOverlay;
+import in.geektrust.lengaburu.traffic.network.SpeedProfile;
+import in.geektrust.lengaburu.traffic.network.SpeedProfileTable;
+import in.geektrust.lengaburu.traffic.network.WeatherCostTable;
+
+/**
+ * DESCRIPTION - This is a time-dependent version of ShortestTimeRouteEngine, to find out fastest route departing at a given minute.
+ *
+ * Orbits may have a speed profile by time of day (see SpeedProfileTable). Then traverse time of an orbit depends on
+ * the minute it is entered, i.e. departure minute plus time taken so far (see TraverseCost.distanceTime()).
+ * Applicable speed limit of each minute is lower of user's speed limit and orbit's speed profile at that minute.
+ *
+ * Orbit times are FIFO (departing later never arrives earlier), so Dijkstra on arrival time stays exact:
+ * once a (suburb, vehicle) state is settled, no later arrival at it can lead to an earlier arrival anywhere.
+ * There is no waiting on the way. Without speed profiles, result is exactly same as ShortestTimeRouteEngine.
+ *
+ * Speed profiles repeat every day, so fastest route only depends on departure minute of the day. For busy source and
+ * destination pairs, computeArrivalTimeProfile() searches all minutes of the day once. Then a departure is a look-up.
+ *
+ * @author - Ritesh Bangal
+ * @version 1.0
+ * @since <17-October-2026>
+ */
+public final class TimeDependentRouteEngine {
+
+	// Create an object of SingleObject
+	private static TimeDependentRouteEngine engineInstance = new TimeDependentRouteEngine();
+
+	private TimeDependentRouteEngine() {
+		// Make the constructor private so that this class cannot be instantiated
+	}
+
+	// Get the only object available
+	public static TimeDependentRouteEngine getInstance() {
+		return engineInstance;
+	}
+
+	/**
+	 * Find out shortest time from source to all suburbs for each vehicle, departing at the given minute.
+	 *
+	 * @param pNetwork - Road network snapshot
+	 * @param pSourceId - Source suburb id
+	 * @param pCostTable - Orbit cost components for the weather. Sequence of its vehicles is used for the tie rule.
+	 * @param pSpeedLimits - Speed limits of the query, indexed by orbit id
+	 * @param pProfiles - Speed profiles by time of day, resolved for the network
+	 * @param pDepartureMinute - Departure minute (e.g. 17 * 60 for 17:00). It is taken as minute of its day.
+	 * @return - Shortest time tree from the source. Times are from the departure.
+	 */
+	public ShortestTimeTree computeShortestTimeTree(RoadNetwork pNetwork, int pSourceId, WeatherCostTable pCostTable,
+			SpeedLimitOverlay pSpeedLimits, SpeedProfileTable pProfiles, int pDepartureMinute) {
+		ShortestTimeTree tree = newTree(pNetwork, pSourceId, pCostTable.getVehicles());
+		search(tree, pCostTable, pSpeedLimits, pProfiles, pDepartureMinute, -1);
+		return tree;
+	}
+
+	/**
+	 * Find out the fastest route from source to destination among all vehicles, departing at the given minute.
+	 * If there is a tie in which vehicle to choose, vehicle comes first in the vehicles list is chosen.
+	 *
+	 * @param pNetwork - Road network snapshot
+	 * @param pSourceId - Source suburb id
+	 * @param pDestinationId - Destination suburb id
+	 * @param pCostTable - Orbit cost components for the weather. Sequence of its vehicles is used for the tie rule.
+	 * @param pSpeedLimits - Speed limits of the query, indexed by orbit id
+	 * @param pProfiles - Speed profiles by time of day, resolved for the network
+	 * @param pDepartureMinute - Departure minute (e.g. 17 * 60 for 17:00). It is taken as minute of its day.
+	 * @return - Populated TraverseDetail object, or null if destination is not reachable.
+	 */
+	public TraverseDetail findFastestRoute(RoadNetwork pNetwork, int pSourceId, int pDestinationId,
+			WeatherCostTable pCostTable, SpeedLimitOverlay pSpeedLimits, SpeedProfileTable pProfiles, int pDepartureMinute) {
+		ShortestTimeTree tree = newTree(pNetwork, pSourceId, pCostTable.getVehicles());
+		int vehicleIndex = search(tree, pCostTable, pSpeedLimits, pProfiles, pDepartureMinute, pDestinationId);
+		return vehicleIndex < 0 ? null : tree.getRoute(vehicleIndex, pDestinationId);
+	}
+
+	/**
+	 * Find out the fastest route from source to destination, for every departure minute of the day.
+	 * Minutes are independent searches, so they run in parallel.
+	 *
+	 * @param pNetwork - Road network snapshot
+	 * @param pSourceId - Source suburb id
+	 * @param pDestinationId - Destination suburb id
+	 * @param pCostTable - Orbit cost components for the weather. Sequence of its vehicles is used for the tie rule.
+	 * @param pSpeedLimits - Speed limits of the query, indexed by orbit id
+	 * @param pProfiles - Speed profiles by time of day, resolved for the network
+	 * @return - Arrival time profile, i.e. fastest route of each departure minute
+	 */
+	public ArrivalTimeProfile computeArrivalTimeProfile(RoadNetwork pNetwork, int pSourceId, int pDestinationId,
+			WeatherCostTable pCostTable, SpeedLimitOverlay pSpeedLimits, SpeedProfileTable pProfiles) {
+		TraverseDetail[] routes = new TraverseDetail[SpeedProfile.MINUTES_PER_DAY];
+		IntStream.range(0, SpeedProfile.MINUTES_PER_DAY).parallel().forEach(minute ->
+			routes[minute] = findFastestRoute(pNetwork, pSourceId, pDestinationId, pCostTable, pSpeedLimits, pProfiles, minute));
+		return new ArrivalTimeProfile(pSourceId, pDestinationId, pProfiles, Arrays.asList(routes));
+	}
+
+	/**
+	 * Traverse time of an orbit with a vehicle, entering it at the given minute.
+	 * Same as WeatherCostTable.orbitTime(), if orbit has no speed profile.
+	 *
+	 * @param pCostTable - Orbit cost components for the weather
+	 * @param pVehicleIndex - Index of vehicle in cost table's vehicles
+	 * @param pOrbitId - Orbit id
+	 * @param pSpeedLimit - Orbit's speed limit for the query. Should be +ve.
+	 * @param pProfile - Speed profile of the orbit, or null
+	 * @param pEntryMinute - Minute at which orbit is entered
+	 * @return - Traverse time in minutes
+	 */
+	public static int orbitTime(WeatherCostTable pCostTable, int pVehicleIndex, int pOrbitId, int pSpeedLimit,
+			SpeedProfile pProfile, int pEntryMinute) {
+		int speed = pCostTable.getVehicleSpeed(pVehicleIndex);
+		int applicableMaxSpeed = (pSpeedLimit > speed) ? speed : pSpeedLimit;
+		return TraverseCost.distanceTime(pCostTable.getDistanceMinutes(pOrbitId), applicableMaxSpeed, pProfile, pEntryMinute)
+				+ pCostTable.getCraterTime(pVehicleIndex, pOrbitId);
+	}
+
+	private static ShortestTimeTree newTree(RoadNetwork pNetwork, int pSourceId, List<Vehicle> pVehicles) {
+		int stateCount = pNetwork.getSuburbCount() * pVehicles.size();
+		int[] time = new int[stateCount];
+		int[] prevOrbit = new int[stateCount];
+		Arrays.fill(time, TraverseCost.INFINITE_TIME);
+		Arrays.fill(prevOrbit, -1);
+		return new ShortestTimeTree(pNetwork, pVehicles, pSourceId, time, prevOrbit);
+	}
+
+	/*
+	 * Run the search on the tree, same as ShortestTimeRouteEngine. Each orbit is timed from the minute it is entered.
+	 * If target is given (i.e. >= 0), search stops as soon as target is settled.
+	 *
+	 * Returns vehicle index of the settled target, or -1.
+	 */
+	private static int search(ShortestTimeTree pTree, WeatherCostTable pCostTable, SpeedLimitOverlay pSpeedLimits,
+			SpeedProfileTable pProfiles, int pDepartureMinute, int pTargetId) {
+		RoadNetwork network = pTree.getNetwork();
+		int suburbCount = network.getSuburbCount();
+		int vehicleCount = pCostTable.getVehicleCount();
+		int departureMinute = Math.floorMod(pDepartureMinute, SpeedProfile.MINUTES_PER_DAY);
+
+		int[] time = pTree.time;
+		int[] prevOrbit = pTree.prevOrbit;
+		IndexedMinHeap heap = new IndexedMinHeap(suburbCount * vehicleCount);
+		for (int vehicleIndex = 0; vehicleIndex < vehicleCount; vehicleIndex++) {
+			int state = vehicleIndex * suburbCount + pTree.getSourceId();
+			time[state] = 0;
+			heap.insertOrDecrease(state, 0);
+		}
+
+		while (!heap.isEmpty()) {
+			int state = heap.poll();
+			int vehicleIndex = state / suburbCount;
+			int suburbId = state - vehicleIndex * suburbCount;
+			if (suburbId == pTargetId) {
+				return vehicleIndex;
+			}
+
+			int offset = vehicleIndex * suburbCount;
+			int stateTime = time[state];
+			for (int index = network.getOutgoingStart(suburbId), end = network.getOutgoingEnd(suburbId); index < end; index++) {
+				int orbitId = network.getOutgoingOrbit(index);
+				int speedLimit = pSpeedLimits.getSpeedLimit(orbitId);
+				if (speedLimit < 1) {
+					// Closed orbit
+					continue;
+				}
+				int orbitTime = orbitTime(pCostTable, vehicleIndex, orbitId, speedLimit, pProfiles.getProfile(orbitId),
+						departureMinute + stateTime);
+				int nextState = offset + network.getOrbitDestination(orbitId);
+				int nextTime = stateTime + orbitTime;
+				if (nextTime < time[nextState]) {
+					time[nextState] = nextTime;
+					prevOrbit[nextState] = orbitId;
+					heap.insertOrDecrease(nextState, nextTime);
+				}
+			}
+		}
+		return -1;
+	}
+}
@@ -0,0 +1,183 @@
+/*
+* Copyright (c) 2017, Ritesh. All rights reserved.
+*
+*/
+package in.geektrust.lengaburu.traffic.engine;
+
+import java.util.function.IntBinaryOperator;
+
+/**
+ * DESCRIPTION - This class keeps the best K (vehicle, orbit-sequence) candidates, in a bounded binary max-heap on int arrays.
+ *
+ * Candidates are ranked by traverse time, and then on a tie by vehicle order and then by orbit-sequence order.
+ * Both orders are given by the caller (e.g. vehicle priority of the weather and input order, same as findOptimumTraverseDetail()),
+ * and default to the index, i.e. vehicle comes first in the list wins, and then orbit-sequence.
+ * Root of the heap is the worst kept candidate, so a new candidate is either rejected or replaces the root.
+ *
+ * Note: Time complexity of offer() is O(log K) and of ranking the kept candidates is O(K log K), with O(K) memory.
+ * 		 So the best K of N candidates take O(N log K), without sorting (or even keeping) all of them.
+ *
+ * @author - Ritesh Bangal
+ * @version 1.0
+ * @since <17-October-2026>
+ */
+public final class TopCandidateHeap {
+
+	private final int[] times;
+	private final int[] vehicleIndexes;
+	private final int[] sequenceIndexes;
+	private final IntBinaryOperator vehicleOrder;
+	private final IntBinaryOperator sequenceOrder;
+	private int size;
+
+	/**
+	 * @param pCapacity - Number of candidates to keep, i.e. K
+	 */
+	public TopCandidateHeap(int pCapacity) {
+		this(pCapacity, Integer::compare, Integer::compare);
+	}
+
+	/**
+	 * @param pCapacity - Number of candidates to keep, i.e. K
+	 * @param pVehicleOrder - Compares two vehicle indexes, for a tie in traverse time. 0 only for the same vehicle.
+	 * @param pSequenceOrder - Compares two orbit-sequence indexes, for a tie in traverse time and vehicle.
+	 * 			On 0, orbit-sequence index decides.
+	 */
+	public TopCandidateHeap(int pCapacity, IntBinaryOperator pVehicleOrder, IntBinaryOperator pSequenceOrder) {
+		if (pCapacity < 1) {
+			throw new IllegalArgumentException("Number of candidates to keep should be +ve integer.");
+		}
+		this.times = new int[pCapacity];
+		this.vehicleIndexes = new int[pCapacity];
+		this.sequenceIndexes = new int[pCapacity];
+		this.vehicleOrder = pVehicleOrder;
+		this.sequenceOrder = pSequenceOrder;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isFull() {
+		return size == times.length;
+	}
+
+	/**
+	 * @return - Traverse time of the worst kept candidate, or Integer.MAX_VALUE until the heap is full.
+	 * 			 Candidates slower than this can't be kept, so they can be skipped before they are evaluated.
+	 */
+	public int getThresholdTime() {
+		return isFull() ? times[0] : Integer.MAX_VALUE;
+	}
+
+	/**
+	 * Keep the candidate, if it is among the best K so far.
+	 *
+	 * @param pTime - Traverse time
+	 * @param pVehicleIndex - Index of the vehicle
+	 * @param pSequenceIndex - Index of the orbit-sequence
+	 * @return - true if the candidate is kept.
+	 */
+	public boolean offer(int pTime, int pVehicleIndex, int pSequenceIndex) {
+		if (size < times.length) {
+			set(size, pTime, pVehicleIndex, pSequenceIndex);
+			siftUp(size++);
+			return true;
+		}
+		if (!isBetter(pTime, pVehicleIndex, pSequenceIndex, 0)) {
+			return false;
+		}
+		set(0, pTime, pVehicleIndex, pSequenceIndex);
+		siftDown(0);
+		return true;
+	}
+
+	/**
+	 * Rank the kept candidates, best first. Heap is empty afterwards.
+	 *
+	 * @param pTimes - Traverse times, filled in rank order. Length should be at least size().
+	 * @param pVehicleIndexes - Vehicle indexes, filled in rank order
+	 * @param pSequenceIndexes - Orbit-sequence indexes, filled in rank order
+	 * @return - Number of ranked candidates
+	 */
+	public int drainRanked(int[] pTimes, int[] pVehicleIndexes, int[] pSequenceIndexes) {
+		int count = size;
+		// Root is the worst one, so the candidates are polled from the last rank to the first.
+		for (int rank = count - 1; rank >= 0; rank--) {
+			pTimes[rank] = times[0];
+			pVehicleIndexes[rank] = vehicleIndexes[0];
+			pSequenceIndexes[rank] = sequenceIndexes[0];
+			size--;
+			if (size > 0) {
+				set(0, times[size], vehicleIndexes[size], sequenceIndexes[size]);
+				siftDown(0);
+			}
+		}
+		return count;
+	}
+
+	private void set(int pIndex, int pTime, int pVehicleIndex, int pSequenceIndex) {
+		times[pIndex] = pTime;
+		vehicleIndexes[pIndex] = pVehicleIndex;
+		sequenceIndexes[pIndex] = pSequenceIndex;
+	}
+
+	// Is the candidate better (i.e. ranked before) than the one at pIndex
+	private boolean isBetter(int pTime, int pVehicleIndex, int pSequenceIndex, int pIndex) {
+		if (pTime != times[pIndex]) {
+			return pTime < times[pIndex];
+		}
+		if (pVehicleIndex != vehicleIndexes[pIndex]) {
+			return vehicleOrder.applyAsInt(pVehicleIndex, vehicleIndexes[pIndex]) < 0;
+		}
+		if (pSequenceIndex != sequenceIndexes[pIndex]) {
+			int result = sequenceOrder.applyAsInt(pSequenceIndex, sequenceIndexes[pIndex]);
+			return (result != 0) ? result < 0 : pSequenceIndex < sequenceIndexes[pIndex];
+		}
+		return false;
+	}
+
+	private boolean isWorse(int pIndex, int pOtherIndex) {
+		return isBetter(times[pOtherIndex], vehicleIndexes[pOtherIndex], sequenceIndexes[pOtherIndex], pIndex);
+	}
+
+	private void siftUp(int pIndex) {
+		int index = pIndex;
+		while (index > 0) {
+			int parent = (index - 1) >>> 1;
+			if (!isWorse(index, parent)) {
+				break;
+			}
+			swap(index, parent);
+			index = parent;
+		}
+	}
+
+	private void siftDown(int pIndex) {
+		int index = pIndex;
+		while (true) {
+			int worst = index;
+			int left = 2 * index + 1;
+			int right = left + 1;
+			if (left < size && isWorse(left, worst)) {
+				worst = left;
+			}
+			if (right < size && isWorse(right, worst)) {
+				worst = right;
+			}
+			if (worst == index) {
+				return;
+			}
+			swap(index, worst);
+			index = worst;
+		}
+	}
+
+	private void swap(int pIndex, int pOtherIndex) {
+		int time = times[pIndex];
+		int vehicleIndex = vehicleIndexes[pIndex];
+		int sequenceIndex = sequenceIndexes[pIndex];
+		set(pIndex, times[pOtherIndex], vehicleIndexes[pOtherIndex], sequenceIndexes[pOtherIndex]);
+		set(pOtherIndex, time, vehicleIndex, sequenceIndex);
+	}
+}
@@ -0,0 +1,140 @@
+/*
+* Copyright (c) 2017, Ritesh. All rights reserved.
+*
+*/
+package in.geektrust.lengaburu.traffic.engine;
+
+import java.util.Arrays;
+import java.util.List;
+
+import in.geektrust.lengaburu.traffic.beans.Vehicle;
+import in.geektrust.lengaburu.traffic.network.RoadNetwork;
+
+/**
+ * DESCRIPTION - This class holds fastest times from each origin to each destination, among all vehicles of a weather.
+ *
+ * Cell (row, column) is for origin at index 'row' and destination at index 'column', of the query. It has:
+ * 	-	times			: Fastest traverse time (in minutes), or TraverseCost.INFINITE_TIME if destination is not reachable.
+ * 	-	vehicleIndexes	: Index of the fastest vehicle in the vehicles list, or -1 if destination is not reachable.
+ * 						  If there is a tie in which vehicle to choose, vehicle comes first in the vehicles list is chosen.
+ * Time from a suburb to itself is 0, with the first vehicle.
+ *
+ * Note: It is filled by TravelTimeMatrixEngine or ContractionHierarchies, and is never modified after that.
+ * 		 Getters return copies, so it can be shared between threads.
+ *
+ * @author - Ritesh Bangal
+ * @version 1.0
+ * @since <17-October-2026>
+ */
+public final class TravelTimeMatrix {
+
+	private final RoadNetwork network;
+	private final List<Vehicle> vehicles;
+	private final int[] originIds;
+	private final int[] destinationIds;
+
+	private final int[][] times;
+	private final int[][] vehicleIndexes;
+
+	TravelTimeMatrix(RoadNetwork pNetwork, List<Vehicle> pVehicles, int[] pOriginIds, int[] pDestinationIds) {
+		this.network = pNetwork;
+		this.vehicles = pVehicles;
+		this.originIds = pOriginIds.clone();
+		this.destinationIds = pDestinationIds.clone();
+		this.times = new int[pOriginIds.length][pDestinationIds.length];
+		this.vehicleIndexes = new int[pOriginIds.length][pDestinationIds.length];
+		for (int row = 0; row < pOriginIds.length; row++) {
+			Arrays.fill(times[row], TraverseCost.INFINITE_TIME);
+			Arrays.fill(vehicleIndexes[row], -1);
+		}
+	}
+
+	public RoadNetwork getNetwork() {
+		return network;
+	}
+
+	public List<Vehicle> getVehicles() {
+		return vehicles;
+	}
+
+	public int getOriginCount() {
+		return originIds.length;
+	}
+
+	public int getDestinationCount() {
+		return destinationIds.length;
+	}
+
+	/**
+	 * @param pRow - Index of origin in the query
+	 * @return - Origin suburb id
+	 */
+	public int getOriginId(int pRow) {
+		return originIds[pRow];
+	}
+
+	/**
+	 * @param pColumn - Index of destination in the query
+	 * @return - Destination suburb id
+	 */
+	public int getDestinationId(int pColumn) {
+		return destinationIds[pColumn];
+	}
+
+	/**
+	 * @param pRow - Index of origin in the query
+	 * @param pColumn - Index of destination in the query
+	 * @return - Fastest traverse time in minutes, or TraverseCost.INFINITE_TIME if destination is not reachable.
+	 */
+	public int getTime(int pRow, int pColumn) {
+		return times[pRow][pColumn];
+	}
+
+	/**
+	 * @param pRow - Index of origin in the query
+	 * @param pColumn - Index of destination in the query
+	 * @return - Fastest vehicle, or null if destination is not reachable.
+	 */
+	public Vehicle getVehicle(int pRow, int pColumn) {
+		int vehicleIndex = vehicleIndexes[pRow][pColumn];
+		return vehicleIndex < 0 ? null : vehicles.get(vehicleIndex);
+	}
+
+	/**
+	 * @return - Copy of all fastest times, by [origin index][destination index]. TraverseCost.INFINITE_TIME if not reachable.
+	 */
+	public int[][] getTimes() {
+		return copy(times);
+	}
+
+	/**
+	 * @return - Copy of all fastest vehicle indexes, by [origin index][destination index]. -1 if not reachable.
+	 */
+	public int[][] getVehicleIndexes() {
+		return copy(vehicleIndexes);
+	}
+
+	/*
+	 * Keep the time for the vehicle, if it is quicker than the current one of the cell.
+	 * Vehicles are offered in the vehicles list order, so the tie rule holds.
+	 */
+	void offer(int pRow, int pColumn, int pVehicleIndex, int pTime) {
+		if (pTime < times[pRow][pColumn]) {
+			times[pRow][pColumn] = pTime;
+			vehicleIndexes[pRow][pColumn] = pVehicleIndex;
+		}
+	}
+
+	private static int[][] copy(int[][] pCells) {
+		int[][] cells = new int[pCells.length][];
+		for (int row = 0; row < pCells.length; row++) {
+			cells[row] = pCells[row].clone();
+		}
+		return cells;
+	}
+
+	@Override
+	public String toString() {
+		return "TravelTimeMatrix [origins=" + originIds.length + ", destinations=" + destinationIds.length + "]";
+	}
+}
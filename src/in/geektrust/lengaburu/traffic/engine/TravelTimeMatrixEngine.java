@@ -0,0 +1,86 @@
+/*
+* Copyright (c) 2017, Ritesh. All rights reserved.
+*
+*/
+package in.geektrust.lengaburu.traffic.engine;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import in.geektrust.lengaburu.traffic.network.RoadNetwork;
+import in.geektrust.lengaburu.traffic.network.SpeedLimitOverlay;
+import in.geektrust.lengaburu.traffic.network.WeatherCostTable;
+
+/**
+ * DESCRIPTION - This class is responsible to find out fastest times from many origins to many destinations (i.e. a matrix),
+ * for any speed limits.
+ *
+ * It performs following operations:
+ * 	1.	For each distinct origin (in parallel), search shortest times to all destinations using ShortestTimeRouteEngine.
+ * 		One search covers all vehicles and all destinations of the row, and stops once all of them are settled.
+ * 	2.	Fill the row with the fastest vehicle of each destination. Rows of repeated origins are filled from the same search.
+ * Tree of a row is dropped as soon as its row is filled, so memory is O(threads * suburbs * vehicles) apart from the matrix.
+ *
+ * Note: With hierarchies built for the speed limits, ContractionHierarchies.computeMatrix() is quicker.
+ *
+ * @author - Ritesh Bangal
+ * @version 1.0
+ * @since <17-October-2026>
+ */
+public final class TravelTimeMatrixEngine {
+
+	// Create an object of SingleObject
+	private static TravelTimeMatrixEngine engineInstance = new TravelTimeMatrixEngine();
+
+	// Get the only object available for ShortestTimeRouteEngine
+	private static ShortestTimeRouteEngine routeEngine = ShortestTimeRouteEngine.getInstance();
+
+	private TravelTimeMatrixEngine() {
+		// Make the constructor private so that this class cannot be instantiated
+	}
+
+	// Get the only object available
+	public static TravelTimeMatrixEngine getInstance() {
+		return engineInstance;
+	}
+
+	/**
+	 * Find out fastest times from each origin to each destination, among all vehicles.
+	 * If there is a tie in which vehicle to choose, vehicle comes first in the vehicles list is chosen.
+	 *
+	 * @param pNetwork - Road network snapshot
+	 * @param pOriginIds - Origin suburb ids, i.e. rows
+	 * @param pDestinationIds - Destination suburb ids, i.e. columns
+	 * @param pCostTable - Orbit cost components for the weather. Sequence of its vehicles is used for the tie rule.
+	 * @param pSpeedLimits - Speed limits of the query, indexed by orbit id
+	 * @return - Travel time matrix
+	 */
+	public TravelTimeMatrix computeMatrix(RoadNetwork pNetwork, int[] pOriginIds, int[] pDestinationIds,
+			WeatherCostTable pCostTable, SpeedLimitOverlay pSpeedLimits) {
+		TravelTimeMatrix matrix = new TravelTimeMatrix(pNetwork, pCostTable.getVehicles(), pOriginIds, pDestinationIds);
+
+		// Rows of each distinct origin, in the order of their first appearance
+		Map<Integer, List<Integer>> rowsByOrigin = new LinkedHashMap<>();
+		for (int row = 0; row < pOriginIds.length; row++) {
+			rowsByOrigin.computeIfAbsent(pOriginIds[row], originId -> new ArrayList<>()).add(row);
+		}
+		int[] origins = rowsByOrigin.keySet().stream().mapToInt(Integer::intValue).toArray();
+
+		int vehicleCount = pCostTable.getVehicleCount();
+		IntStream.range(0, origins.length).parallel().forEach(index -> {
+			ShortestTimeTree tree = routeEngine.computeShortestTimeTree(pNetwork, origins[index], pCostTable,
+					pSpeedLimits, pDestinationIds);
+			for (int row : rowsByOrigin.get(origins[index])) {
+				for (int column = 0; column < pDestinationIds.length; column++) {
+					for (int vehicleIndex = 0; vehicleIndex < vehicleCount; vehicleIndex++) {
+						matrix.offer(row, column, vehicleIndex, tree.getTime(vehicleIndex, pDestinationIds[column]));
+					}
+				}
+			}
+		});
+		return matrix;
+	}
+}
@@ -0,0 +1,103 @@
+/*
+* Copyright (c) 2017, Ritesh. All rights reserved.
+*
+*/
+package in.geektrust.lengaburu.traffic.engine;
+
+import in.geektrust.lengaburu.traffic.network.SpeedProfile;
+
+/**
+ * DESCRIPTION - This class holds the cost rules, to traverse an orbit (or orbit-sequence) with a vehicle.
+ * 
+ * Calculation steps:
+ *  	1.	Calculate maximum speed from orbit's speed limit and vehicle's maximum speed.
+ *  	2.	Apply change rate on given craters and get actual applicable crater's number.
+ *  	3. 	Calculate traverse time = distance/applicable speed + crater cross time * number of actual craters.
+ *  
+ * If orbit has a speed profile by time of day (see SpeedProfile), applicable speed changes on the way. 
+ * Then distance is covered minute by minute, each minute with the speed applicable in that minute (see distanceTime()).
+ *  
+ * Assumption: Unit of speed limit of orbit and vechicle's speed should be same. Default unit is megamiles/hour.
+ * 			   Default unit of traverse time is minutes.
+ * 
+ * @author - Ritesh Bangal
+ * @version 1.0
+ * @since <17-October-2026>
+ */
+public final class TraverseCost {
+
+	public static final int MINUTES_PER_HOUR = 60;
+	
+	// Used for unreachable suburbs and closed orbits
+	public static final int INFINITE_TIME = Integer.MAX_VALUE;
+
+	// Restrict instantiation
+	private TraverseCost() {
+		super();
+	}
+	
+	/**
+	 * Apply weather's change rate on given craters and get actual applicable crater's number.
+	 * 
+	 * @param pNumberOfCraters - Number of craters on orbit (or orbit-sequence)
+	 * @param pCraterChangeRate - Weather's crater change rate. +ve (if increase) or -ve (if reduce) percentage
+	 * @return - Actual number of craters
+	 */
+	public static int actualNumberOfCraters(int pNumberOfCraters, int pCraterChangeRate) {
+		return (int) Math.round(pNumberOfCraters * (100 + pCraterChangeRate) / 100.00);
+	}
+	
+	/**
+	 * Calculate traverse time in minutes.
+	 * A vehicle cannot travel faster than the traffic speed limit of an orbit (or orbit-sequence).
+	 * 
+	 * @param pDistance - Distance in megamiles
+	 * @param pActualNumberOfCraters - Number of craters after applying weather's change rate
+	 * @param pSpeedLimit - Orbit's speed limit in megamiles/hour
+	 * @param pVehicleSpeed - Vehicle's maximum speed in megamiles/hour
+	 * @param pTimeToCrossCrater - Vehicle's time to cross a crater in minutes
+	 * @return - Traverse time in minutes
+	 */
+	public static int traverseTime(int pDistance, int pActualNumberOfCraters, int pSpeedLimit, 
+			int pVehicleSpeed, int pTimeToCrossCrater) {
+		int applicableMaxSpeed = (pSpeedLimit > pVehicleSpeed) ? pVehicleSpeed : pSpeedLimit;
+		return ((pDistance * MINUTES_PER_HOUR) / applicableMaxSpeed) 
+				+ (pActualNumberOfCraters * pTimeToCrossCrater);
+	}
+	
+	/**
+	 * Calculate time (in minutes) to cover the distance of an orbit, departing at the given minute,
+	 * when orbit's speed limit follows a speed profile by time of day.
+	 * 
+	 * Each minute covers (applicable speed of that minute / 60) megamiles, where applicable speed is the lowest of
+	 * vehicle's speed, orbit's speed limit and speed profile at that minute. Last partial minute is dropped, same as
+	 * traverseTime(). So with a flat profile, it is exactly (distance * 60) / applicable speed.
+	 * 
+	 * Result is FIFO, i.e. departing later never arrives earlier. Flat parts of the profile are covered in one step.
+	 * 
+	 * @param pDistanceMinutes - Orbit's distance * minutes per hour
+	 * @param pMaximumSpeed - Lower of vehicle's speed and orbit's speed limit. Should be +ve.
+	 * @param pProfile - Speed profile of the orbit, or null if it has only static speed limit
+	 * @param pDepartureMinute - Departure minute. It is taken as minute of its day, for the speed profile.
+	 * @return - Time to cover the distance in minutes, excluding craters
+	 */
+	public static int distanceTime(int pDistanceMinutes, int pMaximumSpeed, SpeedProfile pProfile, int pDepartureMinute) {
+		if (null == pProfile || pMaximumSpeed <= pProfile.getMinimumSpeedLimit()) {
+			// Profile never slows down the vehicle
+			return pDistanceMinutes / pMaximumSpeed;
+		}
+		int remaining = pDistanceMinutes;
+		int minute = pDepartureMinute;
+		while (true) {
+			int profileSpeed = pProfile.getSpeedLimit(minute);
+			int speed = (profileSpeed > pMaximumSpeed) ? pMaximumSpeed : profileSpeed;
+			int runLength = pProfile.getRunLength(minute);
+			int coveredMinutes = remaining / speed;
+			if (coveredMinutes < runLength) {
+				return minute + coveredMinutes - pDepartureMinute;
+			}
+			remaining -= runLength * speed;
+			minute += runLength;
+		}
+	}
+}
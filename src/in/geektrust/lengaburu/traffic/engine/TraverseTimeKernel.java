@@ -0,0 +1,160 @@
+/*
+* Copyright (c) 2017, Ritesh. All rights reserved.
+*
+*/
+package in.geektrust.lengaburu.traffic.engine;
+
+import java.util.List;
+
+import in.geektrust.lengaburu.traffic.beans.Orbit;
+import in.geektrust.lengaburu.traffic.beans.Vehicle;
+import in.geektrust.lengaburu.traffic.network.SpeedLimitOverlay;
+
+/**
+ * DESCRIPTION - This class is a compiled form of vehicles and orbit-sequences, to calculate traverse times in a tight loop.
+ *
+ * Details are kept in parallel primitive arrays (i.e. struct of arrays):
+ * 	-	Vehicles		: maximum speed and crater cross time, indexed by vehicle index.
+ * 	-	Sequences		: total distance and total craters (see OrbitSequenceTable), and minimum speed limit of the query.
+ *
+ * OrbitSequenceTable doesn't depend on the query, so it can be compiled once and shared (e.g. by PreparedTrafficQuery).
+ * Compiling a kernel for a query then only costs the speed limits, i.e. a single pass over the orbits of the sequences.
+ *
+ * Calculation steps for an orbit-sequence and vehicle (same as TraverseCost):
+ *  	1. 	Get total distance for all the orbits in the sequence.
+ *  	2.	Calculate maximum speed from minimum orbit's speed limit and vehicle's maximum speed.
+ *  	3.	Apply change rate on total craters and get actual applicable crater's number.
+ *  	4. 	Calculate traverse time = distance/applicable speed + crater cross time * number of actual craters.
+ *
+ * Note: evaluate() doesn't allocate. It calculates a sequence with all vehicles, in one loop.
+ * 		 Without any vehicle, there is no candidate to evaluate, so the kernel has no sequences.
+ *
+ * @author - Ritesh Bangal
+ * @version 1.0
+ * @since <17-October-2026>
+ */
+public final class TraverseTimeKernel {
+
+	// Vehicle details, indexed by vehicle index
+	private final int vehicleCount;
+	private final int[] vehicleSpeed;
+	private final int[] timeToCrossCrater;
+	private final int topVehicleSpeed;
+	private final int quickestCraterCrossTime;
+
+	// Compiled orbit-sequences, along with minimum speed limit of each of them
+	private final OrbitSequenceTable table;
+	private final int[] sequenceSpeedLimit;
+
+	private TraverseTimeKernel(List<Vehicle> pVehicles, OrbitSequenceTable pTable, int[] pSpeedLimits) {
+		this.vehicleCount = pVehicles.size();
+		this.vehicleSpeed = new int[vehicleCount];
+		this.timeToCrossCrater = new int[vehicleCount];
+		int topSpeed = 0;
+		int quickestCrossTime = Integer.MAX_VALUE;
+		for (int vehicleIndex = 0; vehicleIndex < vehicleCount; vehicleIndex++) {
+			Vehicle vehicle = pVehicles.get(vehicleIndex);
+			vehicleSpeed[vehicleIndex] = vehicle.getVelocity().getSpeed();
+			timeToCrossCrater[vehicleIndex] = vehicle.getTimeToCrossCrater();
+			topSpeed = Math.max(topSpeed, vehicleSpeed[vehicleIndex]);
+			quickestCrossTime = Math.min(quickestCrossTime, timeToCrossCrater[vehicleIndex]);
+		}
+		this.topVehicleSpeed = topSpeed;
+		this.quickestCraterCrossTime = quickestCrossTime;
+
+		this.table = pTable;
+		this.sequenceSpeedLimit = new int[(vehicleCount == 0) ? 0 : pTable.getSequenceCount()];
+		for (int sequenceIndex = 0; sequenceIndex < sequenceSpeedLimit.length; sequenceIndex++) {
+			sequenceSpeedLimit[sequenceIndex] = pTable.getSpeedLimit(pSpeedLimits, sequenceIndex);
+		}
+	}
+
+	/**
+	 * Compile vehicles and orbit-sequences (along with speed limits of the query) into primitive arrays.
+	 *
+	 * @param pVehicles - Suitable vehicles for the weather
+	 * @param pOrbitSequences - Available orbits/routes sequences
+	 * @param pSpeedLimits - Speed limits of the query, indexed by orbit id
+	 * @return - Compiled kernel
+	 */
+	public static TraverseTimeKernel compile(List<Vehicle> pVehicles, List<List<Orbit>> pOrbitSequences, 
+			SpeedLimitOverlay pSpeedLimits) {
+		OrbitSequenceTable table = OrbitSequenceTable.compile(pOrbitSequences);
+		return new TraverseTimeKernel(pVehicles, table, table.getSpeedLimits(pSpeedLimits::getSpeedLimit));
+	}
+
+	/**
+	 * Compile vehicles along with already compiled orbit-sequences, and speed limits of the query.
+	 *
+	 * @param pVehicles - Suitable vehicles for the weather
+	 * @param pTable - Compiled orbits/routes sequences
+	 * @param pSpeedLimits - Speed limits of the query, by orbit index of the table (see OrbitSequenceTable.getOrbits())
+	 * @return - Compiled kernel
+	 */
+	public static TraverseTimeKernel compile(List<Vehicle> pVehicles, OrbitSequenceTable pTable, int[] pSpeedLimits) {
+		return new TraverseTimeKernel(pVehicles, pTable, pSpeedLimits);
+	}
+
+	public int getVehicleCount() {
+		return vehicleCount;
+	}
+
+	public int getSequenceCount() {
+		return sequenceSpeedLimit.length;
+	}
+
+	public boolean isEmpty(int pSequenceIndex) {
+		return table.isEmpty(pSequenceIndex);
+	}
+
+	/**
+	 * @param pSequenceIndex - Index of orbit-sequence
+	 * @return - Minimum orbit's speed limit among the sequence
+	 */
+	public int getSpeedLimit(int pSequenceIndex) {
+		return sequenceSpeedLimit[pSequenceIndex];
+	}
+
+	/**
+	 * @param pSequenceIndex - Index of orbit-sequence
+	 * @param pCraterChangeRate - Weather's crater change rate
+	 * @return - Actual number of craters on the sequence, after applying change rate
+	 */
+	public int getActualNumberOfCraters(int pSequenceIndex, int pCraterChangeRate) {
+		return TraverseCost.actualNumberOfCraters(table.getSequenceCraters(pSequenceIndex), pCraterChangeRate);
+	}
+
+	/**
+	 * Lower bound of traverse time on the sequence, for any of the vehicles.
+	 * i.e. distance over top possible speed plus actual craters with the quickest crater cross time.
+	 * It is calculated in long, so it can't overflow for long sequences.
+	 *
+	 * @param pSequenceIndex - Index of orbit-sequence
+	 * @param pActualNumberOfCraters - Actual number of craters on the sequence
+	 * @param pSpeedLimit - Minimum orbit's speed limit among the sequence
+	 * @return - Lower bound of traverse time in minutes
+	 */
+	public long lowerBound(int pSequenceIndex, int pActualNumberOfCraters, int pSpeedLimit) {
+		int applicableMaxSpeed = (pSpeedLimit > topVehicleSpeed) ? topVehicleSpeed : pSpeedLimit;
+		return ((long) table.getSequenceDistance(pSequenceIndex) * TraverseCost.MINUTES_PER_HOUR) / applicableMaxSpeed
+				+ (long) pActualNumberOfCraters * quickestCraterCrossTime;
+	}
+
+	/**
+	 * Calculate traverse time of the sequence, for all vehicles.
+	 *
+	 * @param pSequenceIndex - Index of orbit-sequence
+	 * @param pActualNumberOfCraters - Actual number of craters on the sequence
+	 * @param pSpeedLimit - Minimum orbit's speed limit among the sequence
+	 * @param pTimes - Output. Traverse time in minutes, indexed by vehicle index. Length should be at least vehicle count.
+	 */
+	public void evaluate(int pSequenceIndex, int pActualNumberOfCraters, int pSpeedLimit, int[] pTimes) {
+		int distanceInMinutes = table.getSequenceDistance(pSequenceIndex) * TraverseCost.MINUTES_PER_HOUR;
+		for (int vehicleIndex = 0; vehicleIndex < vehicleCount; vehicleIndex++) {
+			int speed = vehicleSpeed[vehicleIndex];
+			int applicableMaxSpeed = (pSpeedLimit > speed) ? speed : pSpeedLimit;
+			pTimes[vehicleIndex] = distanceInMinutes / applicableMaxSpeed
+					+ pActualNumberOfCraters * timeToCrossCrater[vehicleIndex];
+		}
+	}
+}
@@ -6,15 +6,30 @@ package in.geektrust.lengaburu.traffic.helper;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.BinaryOperator;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import in.geektrust.lengaburu.traffic.beans.Orbit;
 import in.geektrust.lengaburu.traffic.beans.TraverseDetail;
 import in.geektrust.lengaburu.traffic.beans.Vehicle;
 import in.geektrust.lengaburu.traffic.beans.Weather;
+import in.geektrust.lengaburu.traffic.engine.OrbitSequenceTable;
+import in.geektrust.lengaburu.traffic.engine.TopCandidateHeap;
+import in.geektrust.lengaburu.traffic.engine.TraverseTimeKernel;
+import in.geektrust.lengaburu.traffic.helper.OptimumTraverseTask.Candidate;
+import in.geektrust.lengaburu.traffic.helper.OptimumTraverseTask.CandidateOrder;
 import in.geektrust.lengaburu.traffic.initializer.LengaburuTrafficInitializer;
-import in.geektrust.lengaburu.traffic.validator.LengaburuTrafficValidator;
+import in.geektrust.lengaburu.traffic.metrics.TrafficMetrics;
+import in.geektrust.lengaburu.traffic.metrics.TrafficMetrics.Phase;
+import in.geektrust.lengaburu.traffic.network.OrbitSequenceSpliterator;
+import in.geektrust.lengaburu.traffic.network.RoadNetwork;
+import in.geektrust.lengaburu.traffic.network.SpeedLimitOverlay;
 
 /**
  * DESCRIPTION - This is a helper class injected in LengaburuTrafficFinder.
@@ -23,8 +38,10 @@ import in.geektrust.lengaburu.traffic.validator.LengaburuTrafficValidator;
  * 	1.	Get all suitable vehicle names for the weather and get their corresponding Vehicle objects.
  * 	2.	Get all possible orbits/route between any source and destination or get orbit sequences, in case of multiple destinations. 
  * 	3.	Identify actual number of craters and suitable vehicles on any orbit, based on weather.
+ * 		Speed limits come from the query's SpeedLimitOverlay (or user inputs, converted into one). Orbits are never modified.
+ * 		Overloads without them still read speed limits from Orbit.getVelocityLimit(), for callers which set it on own orbits.
  * 	4.	Calculate optimum traverse time, for each route and vehicle and populate list of TraverseDetail objects.
- * 	5.	Compare these traverse times and find out the optimized one.
+ * 	5.	Compare these traverse times and find out the optimized one, or the best K of them (ranked alternatives).
  * 
  * @author - Ritesh Bangal
  * @version 1.0
@@ -35,13 +52,11 @@ public class LengaburuTrafficHelper {
 	// Create an object of SingleObject
 	private static LengaburuTrafficHelper helperInstance = new LengaburuTrafficHelper();
 	
-	private static final int MINUTES_PER_HOUR = 60;
-	
 	// Get the only object available for LengaburuTrafficInitializer
 	private static LengaburuTrafficInitializer initializer = LengaburuTrafficInitializer.getInstance();
-
-	// Get the only object available for LengaburuTrafficValidator
-	private static LengaburuTrafficValidator validator = LengaburuTrafficValidator.getInstance();
+	
+	// Get the only object available for TrafficMetrics
+	private static TrafficMetrics metrics = TrafficMetrics.getInstance();
 
 	private LengaburuTrafficHelper() {
 		// Make the constructor private so that this class cannot be instantiated
@@ -73,9 +88,21 @@ public class LengaburuTrafficHelper {
 	 * @return - Matched Weather.
 	 */
 	public Weather getWeatherByType(String pWeatherType) {
-		return initializer.getAllWeatherDetails().parallelStream()
-				.filter(weather -> pWeatherType.equalsIgnoreCase(weather.getWeatherType().toString()))
-				.findAny().orElse(null);
+		return getWeatherByType(initializer.getRoadNetwork(), pWeatherType);
+	}
+	
+	/**
+	 * Find weather by weather type, from all weathers of the given network.
+	 * 
+	 * @param pNetwork - Network of the query
+	 * @param pWeatherType - User input
+	 * @return - Matched Weather.
+	 */
+	public Weather getWeatherByType(RoadNetwork pNetwork, String pWeatherType) {
+		long startTime = metrics.startTime();
+		Weather weather = pNetwork.getWeather(pWeatherType);
+		metrics.record(Phase.GET_WEATHER_BY_TYPE, startTime);
+		return weather;
 	}
 	
 	/**
@@ -85,9 +112,23 @@ public class LengaburuTrafficHelper {
 	 * @return - List of Vehicle objects
 	 */
 	public List<Vehicle> getSuitableVehicles(List<String> pVehicleNames) {
-		return initializer.getAllVehicles().stream()
+		return getSuitableVehicles(initializer.getRoadNetwork(), pVehicleNames);
+	}
+	
+	/**
+	 * Get vehicle objects of the given network, corresponding to vehicle names.
+	 * 
+	 * @param pNetwork - Network of the query
+	 * @param pVehicleNames - suitable vehicle names for the weather
+	 * @return - List of Vehicle objects
+	 */
+	public List<Vehicle> getSuitableVehicles(RoadNetwork pNetwork, List<String> pVehicleNames) {
+		long startTime = metrics.startTime();
+		List<Vehicle> vehicles = pNetwork.getVehicles().stream()
 				.filter(vehicle -> pVehicleNames.contains(vehicle.getName()))
 				.collect(Collectors.toList());
+		metrics.record(Phase.GET_SUITABLE_VEHICLES, startTime);
+		return vehicles;
 	}
 	
 	/**
@@ -102,11 +143,24 @@ public class LengaburuTrafficHelper {
 	 * @return - all possible orbit/route - sequence between any source and destination.
 	 */
 	public List<List<Orbit>> getAvailableOrbits(String pSource, String pDestination) {
-		return initializer.getAllOrbits().stream()
-				.filter(orbit -> orbit.getSource().equalsIgnoreCase(pSource)
-							  && orbit.getDestination().equalsIgnoreCase(pDestination))
+		return getAvailableOrbits(initializer.getRoadNetwork(), pSource, pDestination);
+	}
+	
+	/**
+	 * Find out all available sequence of routes/orbits between any source and destination, in the given network.
+	 * 
+	 * @param pNetwork - Network of the query
+	 * @param pSource - User input
+	 * @param pDestination - User input
+	 * @return - all possible orbit/route - sequence between any source and destination.
+	 */
+	public List<List<Orbit>> getAvailableOrbits(RoadNetwork pNetwork, String pSource, String pDestination) {
+		long startTime = metrics.startTime();
+		List<List<Orbit>> orbitSequences = pNetwork.getOrbits(pSource, pDestination).stream()
 				.map(Arrays::asList)
 				.collect(Collectors.toList());
+		metrics.record(Phase.ENUMERATE_ORBIT_SEQUENCES, startTime);
+		return orbitSequences;
 	}
 	
 	/**
@@ -115,92 +169,96 @@ public class LengaburuTrafficHelper {
 	 * 		- 	Populate TraverseDetail object with the traverse time, orbit-sequence and vehicle.
 	 * 		-	Add all populated TraverseDetail objects into a list and return it back.
 	 * 
+	 * Traverse times are calculated with TraverseTimeKernel, i.e. one sequence with all vehicles at a time.
+	 * 
 	 * @param pWeather - User input
 	 * @param pVehicles - Suitable vehicles for input weather
 	 * @param pAvailableOrbitSequences - Available orbits/routes sequences, to traverse multiple destinations
+	 * @param pOrbitSpeedLimitMap - User inputs (orbit's speed limit) corresponding to orbit name. Orbits without it are closed.
 	 * 
 	 * @return List of TraverseDetailForMultiSuburbs objects for these vehicles and orbit-sequences
 	 */
+	public List<TraverseDetail> getTraverseDetails(Weather pWeather, List<Vehicle> pVehicles, 
+			List<List<Orbit>> pAvailableOrbitSequences, Map<String, Integer> pOrbitSpeedLimitMap) {
+		return getTraverseDetails(pWeather, pVehicles, pAvailableOrbitSequences,
+				SpeedLimitOverlay.of(pAvailableOrbitSequences, pOrbitSpeedLimitMap));
+	}
+
+	/**
+	 * Same as getTraverseDetails(pWeather, pVehicles, pAvailableOrbitSequences, pOrbitSpeedLimitMap), 
+	 * but speed limit of each orbit is taken from Orbit.getVelocityLimit(), i.e. set by the caller on its own orbits.
+	 * 
+	 * @param pWeather - User input
+	 * @param pVehicles - Suitable vehicles for input weather
+	 * @param pAvailableOrbitSequences - Available orbits/routes sequences (with user's speed limit in Orbit.getVelocityLimit())
+	 * 
+	 * @return List of TraverseDetail objects for these vehicles and orbit-sequences
+	 */
 	public List<TraverseDetail> getTraverseDetails(Weather pWeather,
 			List<Vehicle> pVehicles, List<List<Orbit>> pAvailableOrbitSequences) {
-
-		List<TraverseDetail> traverseDetails = new ArrayList<>();
-		pVehicles.stream()
-				.forEach(vehicle -> pAvailableOrbitSequences.stream()
-						.forEach(orbitSequence -> {
-							// Populate TraverseDetailForMultiSuburbs object with the traverse time, orbit-sequence and vehicle.
-							TraverseDetail traverseDetail = new TraverseDetail();
-							
-							// Get optimized time to traverse an orbit with a vehicle, 
-							traverseDetail.setTraverseTime(calculateOptimizedTraverseTime(pWeather, vehicle, orbitSequence));
-							traverseDetail.setOrbit(orbitSequence);
-							traverseDetail.setVehicle(vehicle);
-							
-							// Add all populated TraverseDetailForMultiSuburbs objects into a list
-							traverseDetails.add(traverseDetail);
-							//System.out.println(traverseDetail);
-						})
-				);
-		return traverseDetails;
+		return getTraverseDetails(pWeather, pVehicles, pAvailableOrbitSequences, 
+				getVelocityLimits(pAvailableOrbitSequences));
 	}
 
 	/**
-	 * This method is responsible for:
-	 * 		-	Identify actual number of craters based on weather.
-	 * 		-	Calculate optimum traverse time for any orbit and vehicle combination.
-	 * 
-	 * Calculation steps:
-	 *  	1. 	Get total distance for all the orbits in the sequence.
-	 *  	2.	Calculate maximum speed from orbit's speed limit and vehicle's maximum speed.
-	 *  	3.	Apply change rate on given craters and get actual applicable crater's number.
-	 *  	4. 	Convert crater cross time into velocity time unit.
-	 *  	5. 	Calculate traverse time = distance/applicable speed + crater cross time * number of actual craters.
-	 *  
-	 *  Assumption: Unit of speed limit of orbit-sequence and vechicle's speed should be same. Default unit is megamiles/hour.
-	 *  
-	 * @param pWeather - Weather object
-	 * @param pVehicle - Vehicle object
-	 * @param pOrbit - Sequence of Orbit objects
-	 * 
-	 * @return Optimized traverse time for orbit-sequence with a vehicle
+	 * Same as getTraverseDetails(pWeather, pVehicles, pAvailableOrbitSequences, pOrbitSpeedLimitMap), 
+	 * but speed limits are already converted into the query's overlay.
+	 * 
+	 * @param pWeather - User input
+	 * @param pVehicles - Suitable vehicles for input weather
+	 * @param pAvailableOrbitSequences - Available orbits/routes sequences, to traverse multiple destinations
+	 * @param pSpeedLimits - User inputs (speed limits) of the query, indexed by orbit id
+	 * 
+	 * @return List of TraverseDetail objects for these vehicles and orbit-sequences
 	 */
-	private static Integer calculateOptimizedTraverseTime(Weather pWeather, Vehicle pVehicle, List<Orbit> pOrbitSequence) {
-		
-		// Get distance of the orbit. Default unit is megamiles. 
-		int distance = pOrbitSequence.stream()
-				.mapToInt(Orbit::getDistance).sum();
-		
-		// Get number of craters from orbit-sequence. 
-		int numberOfCratersFromOrbitSequence = pOrbitSequence.stream()
-				.mapToInt(Orbit::getNumberOfCraters).sum();
-		
-		// Get minimum orbit's speed limit among those sequence. Default unit is megamiles/hour.
-		int orbitSpeedLimit = pOrbitSequence.stream()
-				.mapToInt(orbit -> orbit.getVelocityLimit().getSpeed())
-				.min().getAsInt();
-		
-		// Get vehicle's maximum speed. Default unit is megamiles/hour.
-		int vehicleMaxSpeed = pVehicle.getVelocity().getSpeed();
+	public List<TraverseDetail> getTraverseDetails(Weather pWeather, List<Vehicle> pVehicles, 
+			List<List<Orbit>> pAvailableOrbitSequences, SpeedLimitOverlay pSpeedLimits) {
+		return getTraverseDetails(pWeather, pVehicles, pAvailableOrbitSequences,
+				TraverseTimeKernel.compile(pVehicles, pAvailableOrbitSequences, pSpeedLimits));
+	}
+
+	private static List<TraverseDetail> getTraverseDetails(Weather pWeather, List<Vehicle> pVehicles, 
+			List<List<Orbit>> pAvailableOrbitSequences, TraverseTimeKernel kernel) {
+
+		long startTime = metrics.startTime();
+		int vehicleCount = kernel.getVehicleCount();
+		int sequenceCount = kernel.getSequenceCount();
 		
-		/*
-		 * A vehicle cannot travel faster than the traffic speed limit of an orbit-sequence.
-		 * Calculate maximum speed, which is applicable for the orbit-sequence with that vehicle.
-		 */
-		int applicableMaxSpeed = (orbitSpeedLimit > vehicleMaxSpeed) ? vehicleMaxSpeed : orbitSpeedLimit;
+		// Traverse time, indexed by (vehicle index * sequence count + sequence index)
+		int[] traverseTimes = new int[vehicleCount * sequenceCount];
 		
-		// Apply change rate on given craters and get actual applicable crater's number.
-		int actualNumberOfCraters = (int) Math.round(numberOfCratersFromOrbitSequence * (100 + pWeather.getCraterChangeRate()) / 100.00);
+		// Each chunk of orbit-sequences writes only its own slots, so chunks are evaluated in parallel for huge inputs
+		int chunkCount = (sequenceCount + OptimumTraverseTask.SEQUENCES_PER_TASK - 1) / OptimumTraverseTask.SEQUENCES_PER_TASK;
+		IntStream chunks = IntStream.range(0, chunkCount);
+		(chunkCount > 1 ? chunks.parallel() : chunks).forEach(chunk -> {
+			int[] times = new int[vehicleCount];
+			int toSequence = Math.min(sequenceCount, (chunk + 1) * OptimumTraverseTask.SEQUENCES_PER_TASK);
+			for (int sequenceIndex = chunk * OptimumTraverseTask.SEQUENCES_PER_TASK; sequenceIndex < toSequence; sequenceIndex++) {
+				kernel.evaluate(sequenceIndex, kernel.getActualNumberOfCraters(sequenceIndex, pWeather.getCraterChangeRate()), 
+						kernel.getSpeedLimit(sequenceIndex), times);
+				for (int vehicleIndex = 0; vehicleIndex < vehicleCount; vehicleIndex++) {
+					traverseTimes[vehicleIndex * sequenceCount + sequenceIndex] = times[vehicleIndex];
+				}
+			}
+		});
 		
-		/*
-		 * Calculate traverse time in minutes. Default unit for crossing craters with a vehicle is in minutes.
-		 * Return optimized traverse time for an orbit-sequence with a vehicle
-		 */
-		return ((distance * MINUTES_PER_HOUR) / applicableMaxSpeed) 
-				+ (actualNumberOfCraters * pVehicle.getTimeToCrossCrater());
+		// Populate TraverseDetail objects in vehicle and then orbit-sequence order
+		List<TraverseDetail> traverseDetails = new ArrayList<>(traverseTimes.length);
+		for (int vehicleIndex = 0; vehicleIndex < vehicleCount; vehicleIndex++) {
+			for (int sequenceIndex = 0; sequenceIndex < sequenceCount; sequenceIndex++) {
+				traverseDetails.add(new TraverseDetail(traverseTimes[vehicleIndex * sequenceCount + sequenceIndex], 
+						pAvailableOrbitSequences.get(sequenceIndex), pVehicles.get(vehicleIndex)));
+			}
+		}
+		metrics.countCandidates(traverseTimes.length, 0);
+		metrics.record(Phase.GET_TRAVERSE_DETAILS, startTime);
+		return traverseDetails;
 	}
-	
+
 	/**
 	 * Compare TraverseDetail objects and find out the optimized one, based on traverse time.
+	 * On a tie, the one comes first in the list wins. i.e. the tie rule depends on the list order,
+	 * use findOptimumTraverseDetail(pTraverseDetails, pWeather) for a tie rule which doesn't.
 	 * 
 	 * Note: Time complexity of this solution is O(n).
 	 * 
@@ -209,6 +267,7 @@ public class LengaburuTrafficHelper {
 	 */
 	public TraverseDetail findOptimumTraverseDetail(List<TraverseDetail> pTraverseDetails) {
 		
+		long startTime = metrics.startTime();
 		TraverseDetail optimumTraverseDetail = null;
 		int minimumTime = Integer.MAX_VALUE;
 		for (int i = 0; i < pTraverseDetails.size(); i++) {
@@ -218,15 +277,277 @@ public class LengaburuTrafficHelper {
 				
 				// No new memory allocation is happening, it's just a change of reference
 				optimumTraverseDetail = pTraverseDetails.get(i); 
-			} else if (traverseTime == minimumTime) {
-				// If there is a tie in which vehicle to choose, use bike, auto/tuktuk, car in that order.
-				// TODO: Need to consider in case of parallel processing with huge records. Currently it's working fine.
-				//System.out.println("traverseTime == minimumTime");
 			}
 		}
+		metrics.record(Phase.FIND_OPTIMUM_TRAVERSE_DETAIL, startTime);
 		return optimumTraverseDetail;
 	}
 
+	/**
+	 * Compare TraverseDetail objects and find out the optimized one, by TraverseDetailComparator.
+	 * i.e. On a tie in traverse time, vehicle priority of the weather (bike, tuktuk, car) wins, 
+	 * and then the one comes first in the list (i.e. orbit-sequence which comes first in the input).
+	 * 
+	 * Huge lists are reduced in parallel chunks, with exactly the same result as a sequential run.
+	 * 
+	 * Note: Time complexity of this solution is O(n).
+	 * 
+	 * @param pTraverseDetails - List of all populated TraverseDetail objects
+	 * @param pWeather - User input, its suitable vehicle names give the vehicle priority
+	 * @return - Optimum TraverseDetail object among the list, or null if the list is empty.
+	 */
+	public TraverseDetail findOptimumTraverseDetail(List<TraverseDetail> pTraverseDetails, Weather pWeather) {
+		
+		long startTime = metrics.startTime();
+		Stream<TraverseDetail> traverseDetails = pTraverseDetails.stream();
+		if (pTraverseDetails.size() > OptimumTraverseTask.SEQUENCES_PER_TASK) {
+			traverseDetails = traverseDetails.parallel();
+		}
+		TraverseDetail optimumTraverseDetail = traverseDetails
+				.reduce(BinaryOperator.minBy(new TraverseDetailComparator(pWeather)))
+				.orElse(null);
+		metrics.record(Phase.FIND_OPTIMUM_TRAVERSE_DETAIL, startTime);
+		return optimumTraverseDetail;
+	}
+
+	/**
+	 * Find out the optimum (vehicle, orbit-sequence) combination, without materializing a TraverseDetail for each of them.
+	 * 
+	 * It performs following operations:
+	 * 	1.	Compile vehicles and orbit-sequences into TraverseTimeKernel. For each orbit-sequence get minimum speed limit.
+	 * 	2.	Calculate a cheap lower bound for the sequence, i.e. distance over top possible speed
+	 * 		plus actual craters with the quickest crater cross time. Skip the sequence if bound exceeds the current best.
+	 * 	3.	Otherwise calculate traverse time for each vehicle and keep only the running best.
+	 * 
+	 * Result is same as findOptimumTraverseDetail(getTraverseDetails(...), pWeather), including the tie rule. 
+	 * i.e. On a tie, vehicle priority of the weather wins, and then orbit-sequence which comes first in the input.
+	 * Huge number of orbit-sequences are searched in parallel chunks (see OptimumTraverseTask), with the same result.
+	 * 
+	 * Note: Time complexity of this solution is O(n), and memory is O(1) per chunk irrespective of number of candidates.
+	 * 
+	 * @param pWeather - User input
+	 * @param pVehicles - Suitable vehicles for input weather
+	 * @param pAvailableOrbitSequences - Available orbits/routes sequences
+	 * @param pOrbitSpeedLimitMap - User inputs (orbit's speed limit) corresponding to orbit name. Orbits without it are closed.
+	 * @return - Optimum TraverseDetail object, or null if there is no candidate.
+	 */
+	public TraverseDetail findOptimumTraverseDetail(Weather pWeather, List<Vehicle> pVehicles, 
+			List<List<Orbit>> pAvailableOrbitSequences, Map<String, Integer> pOrbitSpeedLimitMap) {
+		return findOptimumTraverseDetail(pWeather, pVehicles, pAvailableOrbitSequences,
+				SpeedLimitOverlay.of(pAvailableOrbitSequences, pOrbitSpeedLimitMap));
+	}
+
+	/**
+	 * Same as findOptimumTraverseDetail(pWeather, pVehicles, pAvailableOrbitSequences, pOrbitSpeedLimitMap), 
+	 * but speed limit of each orbit is taken from Orbit.getVelocityLimit(), i.e. set by the caller on its own orbits.
+	 * 
+	 * @param pWeather - User input
+	 * @param pVehicles - Suitable vehicles for input weather
+	 * @param pAvailableOrbitSequences - Available orbits/routes sequences (with user's speed limit in Orbit.getVelocityLimit())
+	 * @return - Optimum TraverseDetail object, or null if there is no candidate.
+	 */
+	public TraverseDetail findOptimumTraverseDetail(Weather pWeather, 
+			List<Vehicle> pVehicles, List<List<Orbit>> pAvailableOrbitSequences) {
+		return findOptimumTraverseDetail(pWeather, pVehicles, pAvailableOrbitSequences, 
+				getVelocityLimits(pAvailableOrbitSequences));
+	}
+
+	/**
+	 * Same as findOptimumTraverseDetail(pWeather, pVehicles, pAvailableOrbitSequences, pOrbitSpeedLimitMap), 
+	 * but speed limits are already converted into the query's overlay.
+	 * So shared Orbit objects are never modified, and any number of queries can run at once.
+	 * 
+	 * @param pWeather - User input
+	 * @param pVehicles - Suitable vehicles for input weather
+	 * @param pAvailableOrbitSequences - Available orbits/routes sequences
+	 * @param pSpeedLimits - User inputs (speed limits) of the query, indexed by orbit id
+	 * @return - Optimum TraverseDetail object, or null if there is no candidate.
+	 */
+	public TraverseDetail findOptimumTraverseDetail(Weather pWeather, List<Vehicle> pVehicles, 
+			List<List<Orbit>> pAvailableOrbitSequences, SpeedLimitOverlay pSpeedLimits) {
+		return findOptimumTraverseDetail(pWeather, pVehicles, pAvailableOrbitSequences,
+				TraverseTimeKernel.compile(pVehicles, pAvailableOrbitSequences, pSpeedLimits));
+	}
+
+	/**
+	 * Same as findOptimumTraverseDetail(pWeather, pVehicles, pAvailableOrbitSequences, pSpeedLimits), 
+	 * but orbit-sequences are already compiled (e.g. by PreparedTrafficQuery), so only the speed limits are compiled here.
+	 * 
+	 * @param pWeather - User input
+	 * @param pVehicles - Suitable vehicles for input weather
+	 * @param pOrbitSequences - Compiled orbits/routes sequences
+	 * @param pSpeedLimits - User inputs (speed limits) of the query, by orbit index of pOrbitSequences
+	 * @return - Optimum TraverseDetail object, or null if there is no candidate.
+	 */
+	public TraverseDetail findOptimumTraverseDetail(Weather pWeather, List<Vehicle> pVehicles, 
+			OrbitSequenceTable pOrbitSequences, int[] pSpeedLimits) {
+		return findOptimumTraverseDetail(pWeather, pVehicles, pOrbitSequences.getOrbitSequences(),
+				TraverseTimeKernel.compile(pVehicles, pOrbitSequences, pSpeedLimits));
+	}
+
+	private static TraverseDetail findOptimumTraverseDetail(Weather pWeather, List<Vehicle> pVehicles, 
+			List<List<Orbit>> pAvailableOrbitSequences, TraverseTimeKernel kernel) {
+		
+		long startTime = metrics.startTime();
+		int vehicleCount = kernel.getVehicleCount();
+		
+		// If there is a tie in which vehicle to choose, use bike, auto/tuktuk, car in that order, and then the first orbit-sequence.
+		Candidate optimum = OptimumTraverseTask.search(kernel, pWeather.getCraterChangeRate(), 
+				getCandidateOrder(pWeather, pVehicles), pAvailableOrbitSequences);
+		return toOptimumTraverseDetail(optimum, pVehicles, vehicleCount, startTime);
+	}
+
+	/**
+	 * Same as findOptimumTraverseDetail(pWeather, pVehicles, pAvailableOrbitSequences, pSpeedLimits), but orbit-sequences 
+	 * are consumed as they are enumerated (e.g. from streamOrbitSequences()), without building the full list.
+	 * 
+	 * Enumeration is split between parallel workers (see OrbitSequenceSearchTask), and each of them keeps 
+	 * only a block of orbit-sequences at a time. Result is same as searching the materialized list, including the tie rule.
+	 * 
+	 * @param pWeather - User input
+	 * @param pVehicles - Suitable vehicles for input weather
+	 * @param pOrbitSequences - Lazily enumerated orbits/routes sequences, consumed by this method
+	 * @param pSpeedLimits - User inputs (speed limits) of the query, indexed by orbit id
+	 * @return - Optimum TraverseDetail object, or null if there is no candidate.
+	 */
+	public TraverseDetail findOptimumTraverseDetail(Weather pWeather, List<Vehicle> pVehicles, 
+			Stream<List<Orbit>> pOrbitSequences, SpeedLimitOverlay pSpeedLimits) {
+		
+		long startTime = metrics.startTime();
+		Candidate optimum = OrbitSequenceSearchTask.search(pOrbitSequences.spliterator(), pVehicles, pSpeedLimits, 
+				pWeather.getCraterChangeRate(), getCandidateOrder(pWeather, pVehicles));
+		return toOptimumTraverseDetail(optimum, pVehicles, pVehicles.size(), startTime);
+	}
+
+	private static TraverseDetail toOptimumTraverseDetail(Candidate pOptimum, List<Vehicle> pVehicles, 
+			int pVehicleCount, long pStartTime) {
+		
+		// Candidates are counted per chunk, and added to metrics once
+		metrics.countCandidates(pOptimum.evaluatedSequences * pVehicleCount, pOptimum.prunedSequences * pVehicleCount);
+		metrics.record(Phase.FIND_OPTIMUM_TRAVERSE_DETAIL, pStartTime);
+		
+		if (pOptimum.vehicleIndex < 0) {
+			return null;
+		}
+		return new TraverseDetail(pOptimum.time, pOptimum.orbits, pVehicles.get(pOptimum.vehicleIndex));
+	}
+
+	private static CandidateOrder getCandidateOrder(Weather pWeather, List<Vehicle> pVehicles) {
+		return new CandidateOrder(new TraverseDetailComparator(pWeather).getVehiclePriorities(pVehicles), 
+				pVehicles.stream().map(Vehicle::getName).collect(Collectors.toList()));
+	}
+
+	/**
+	 * Find out the best pCount (vehicle, orbit-sequence) combinations, ranked. e.g. alternatives to fall back on,
+	 * when the optimum vehicle is not available.
+	 * 
+	 * It works same as findOptimumTraverseDetail(), but keeps a bounded heap of pCount candidates instead of the single best.
+	 * Sequences whose lower bound exceeds the worst kept candidate are skipped, so the full candidate list is never sorted.
+	 * Ranking is by traverse time, and on a tie same as findOptimumTraverseDetail(), i.e. vehicle priority of the weather,
+	 * and then orbit-sequence which comes first in the input. So first of them is always the optimum one.
+	 * 
+	 * Note: Time complexity of this solution is O(n log k), and memory is O(k).
+	 * 
+	 * @param pWeather - User input
+	 * @param pVehicles - Suitable vehicles for input weather
+	 * @param pAvailableOrbitSequences - Available orbits/routes sequences
+	 * @param pOrbitSpeedLimitMap - User inputs (orbit's speed limit) corresponding to orbit name. Orbits without it are closed.
+	 * @param pCount - Number of combinations to find, i.e. k
+	 * @return - Best combinations, ranked. Fewer than pCount, if there aren't that many candidates.
+	 */
+	public List<TraverseDetail> findTopTraverseDetails(Weather pWeather, List<Vehicle> pVehicles, 
+			List<List<Orbit>> pAvailableOrbitSequences, Map<String, Integer> pOrbitSpeedLimitMap, int pCount) {
+		return findTopTraverseDetails(pWeather, pVehicles, pAvailableOrbitSequences, 
+				SpeedLimitOverlay.of(pAvailableOrbitSequences, pOrbitSpeedLimitMap), pCount);
+	}
+
+	/**
+	 * Same as findTopTraverseDetails(pWeather, pVehicles, pAvailableOrbitSequences, pOrbitSpeedLimitMap, pCount), 
+	 * but speed limit of each orbit is taken from Orbit.getVelocityLimit(), i.e. set by the caller on its own orbits.
+	 * 
+	 * @param pWeather - User input
+	 * @param pVehicles - Suitable vehicles for input weather
+	 * @param pAvailableOrbitSequences - Available orbits/routes sequences (with user's speed limit in Orbit.getVelocityLimit())
+	 * @param pCount - Number of combinations to find, i.e. k
+	 * @return - Best combinations, ranked. Fewer than pCount, if there aren't that many candidates.
+	 */
+	public List<TraverseDetail> findTopTraverseDetails(Weather pWeather, List<Vehicle> pVehicles, 
+			List<List<Orbit>> pAvailableOrbitSequences, int pCount) {
+		return findTopTraverseDetails(pWeather, pVehicles, pAvailableOrbitSequences, 
+				getVelocityLimits(pAvailableOrbitSequences), pCount);
+	}
+
+	/**
+	 * Same as findTopTraverseDetails(pWeather, pVehicles, pAvailableOrbitSequences, pOrbitSpeedLimitMap, pCount), 
+	 * but speed limits are already converted into the query's overlay.
+	 * 
+	 * @param pWeather - User input
+	 * @param pVehicles - Suitable vehicles for input weather
+	 * @param pAvailableOrbitSequences - Available orbits/routes sequences
+	 * @param pSpeedLimits - User inputs (speed limits) of the query, indexed by orbit id
+	 * @param pCount - Number of combinations to find, i.e. k
+	 * @return - Best combinations, ranked. Fewer than pCount, if there aren't that many candidates.
+	 */
+	public List<TraverseDetail> findTopTraverseDetails(Weather pWeather, List<Vehicle> pVehicles, 
+			List<List<Orbit>> pAvailableOrbitSequences, SpeedLimitOverlay pSpeedLimits, int pCount) {
+		return findTopTraverseDetails(pWeather, pVehicles, pAvailableOrbitSequences, 
+				TraverseTimeKernel.compile(pVehicles, pAvailableOrbitSequences, pSpeedLimits), pCount);
+	}
+
+	private static List<TraverseDetail> findTopTraverseDetails(Weather pWeather, List<Vehicle> pVehicles, 
+			List<List<Orbit>> pAvailableOrbitSequences, TraverseTimeKernel kernel, int pCount) {
+		
+		long startTime = metrics.startTime();
+		int vehicleCount = kernel.getVehicleCount();
+		int[] times = new int[vehicleCount];
+		int[] vehiclePriorities = new TraverseDetailComparator(pWeather).getVehiclePriorities(pVehicles);
+		TopCandidateHeap topCandidates = new TopCandidateHeap(pCount, 
+				(first, second) -> (vehiclePriorities[first] != vehiclePriorities[second]) 
+						? Integer.compare(vehiclePriorities[first], vehiclePriorities[second]) 
+						: pVehicles.get(first).getName().compareTo(pVehicles.get(second).getName()),
+				Integer::compare);
+		
+		int evaluatedSequences = 0;
+		int prunedSequences = 0;
+		for (int sequenceIndex = 0; sequenceIndex < kernel.getSequenceCount(); sequenceIndex++) {
+			if (kernel.isEmpty(sequenceIndex)) {
+				continue;
+			}
+			int speedLimit = kernel.getSpeedLimit(sequenceIndex);
+			if (speedLimit < 1) {
+				// Sequence has a closed orbit (i.e. without speed limit)
+				continue;
+			}
+			int actualNumberOfCraters = kernel.getActualNumberOfCraters(sequenceIndex, pWeather.getCraterChangeRate());
+			
+			// No vehicle can beat the worst kept candidate. On equal, it may still win the tie, so it isn't skipped.
+			if (kernel.lowerBound(sequenceIndex, actualNumberOfCraters, speedLimit) > topCandidates.getThresholdTime()) {
+				prunedSequences++;
+				continue;
+			}
+			
+			evaluatedSequences++;
+			kernel.evaluate(sequenceIndex, actualNumberOfCraters, speedLimit, times);
+			for (int vehicleIndex = 0; vehicleIndex < vehicleCount; vehicleIndex++) {
+				topCandidates.offer(times[vehicleIndex], vehicleIndex, sequenceIndex);
+			}
+		}
+		
+		// Populate TraverseDetail objects only for the kept candidates, in rank order
+		int[] rankedTimes = new int[topCandidates.size()];
+		int[] rankedVehicleIndexes = new int[topCandidates.size()];
+		int[] rankedSequenceIndexes = new int[topCandidates.size()];
+		int count = topCandidates.drainRanked(rankedTimes, rankedVehicleIndexes, rankedSequenceIndexes);
+		List<TraverseDetail> traverseDetails = new ArrayList<>(count);
+		for (int rank = 0; rank < count; rank++) {
+			traverseDetails.add(new TraverseDetail(rankedTimes[rank], pAvailableOrbitSequences.get(rankedSequenceIndexes[rank]), 
+					pVehicles.get(rankedVehicleIndexes[rank])));
+		}
+		metrics.countCandidates((long) evaluatedSequences * vehicleCount, (long) prunedSequences * vehicleCount);
+		metrics.record(Phase.FIND_TOP_TRAVERSE_DETAILS, startTime);
+		return traverseDetails;
+	}
+
 	/**
 	 * This method gets all possible orbit-sequences to traverse multiple destination. 
 	 * It performs following operations:
@@ -234,54 +555,67 @@ public class LengaburuTrafficHelper {
 	 * 	2.	Get all next available orbits among different destinations and add them into corresponding orbit-sequence list.
 	 * 
 	 * This source and destinations are coming through user-input.
+	 * Orbits between any two suburbs are looked up from the indexed RoadNetwork, so the cost is in proportion to the result size.
 	 * Note: Here source and destination, can't be interchanged. As road could be two ways. 
-	 * 		
-	 * TODO: Currently it's supporting only for two destinations.
-	 * 		 This method needs more refactoring to make it more scalable, to support more than two destinations. 
+	 * 		 Any number of destinations are supported, each of them is visited once. 
+	 * 		 Use streamOrbitSequences(), to evaluate them without building the full list.
 	 * 
 	 * @param pSource - User input
 	 * @param pDestinations - User inputs, list of destinations
 	 * @return - All possible sequences of orbits/routes between any source and different destinations.
 	 */
 	public List<List<Orbit>> getAvailableOrbitSequences(String pSource, List<String> pDestinations) {
-		
-		List<List<Orbit>> orbitsSequences = new ArrayList<>();
-		
-		// Check and create a possible list of orbits between source and it's adjacent (i.e. first) destination.
-		List<Orbit> availableFirstOrbits = new ArrayList<>();
-		pDestinations.stream()
-			.filter(destination -> validator.isOrbitExists(pSource, destination))
-			.forEach(destination -> initializer.getAllOrbits().stream()
-					.filter(orbit -> orbit.getSource().equalsIgnoreCase(pSource)
-								  && orbit.getDestination().equalsIgnoreCase(destination))
-					.forEach(availableFirstOrbits::add));
-		
-		// Check and create list of orbits between via/intermediate destination (i.e. first) and final (i.e. second) destination.
-		availableFirstOrbits.stream()
-			.forEach(orbit -> pDestinations.stream()
-				.filter(nextDestination -> validator.isOrbitExists(orbit.getDestination(), nextDestination))
-				.forEach(nextDestination -> initializer.getAllOrbits().stream()
-					.filter(nextOrbit -> nextOrbit.getSource().equalsIgnoreCase(orbit.getDestination())
-									  && nextOrbit.getDestination().equalsIgnoreCase(nextDestination))
-					.forEach(nextOrbit -> {
-						List<Orbit> orbits = new ArrayList<>();
-						orbits.add(orbit);
-						orbits.add(nextOrbit);
-						
-						// Add all possible orbits.
-						orbitsSequences.add(orbits);
-						//System.out.println("Orbits: " + orbits);
-					})
-				)
-			);	
+		return getAvailableOrbitSequences(initializer.getRoadNetwork(), pSource, pDestinations);
+	}
+	
+	/**
+	 * Get all possible orbit-sequences to traverse multiple destination, in the given network.
+	 * See getAvailableOrbitSequences(String, List).
+	 * 
+	 * @param pNetwork - Network of the query
+	 * @param pSource - User input
+	 * @param pDestinations - User inputs, list of destinations
+	 * @return - All possible sequences of orbits/routes between any source and different destinations.
+	 */
+	public List<List<Orbit>> getAvailableOrbitSequences(RoadNetwork pNetwork, String pSource, List<String> pDestinations) {
+		long startTime = metrics.startTime();
+		List<List<Orbit>> orbitsSequences = streamOrbitSequences(pNetwork, pSource, pDestinations)
+				.collect(Collectors.toList());
+		metrics.record(Phase.ENUMERATE_ORBIT_SEQUENCES, startTime);
 		return orbitsSequences;
 	}
 
+	/**
+	 * Get all possible orbit-sequences to traverse the destinations (each of them once) lazily, in the given network.
+	 * Same sequences in the same order as getAvailableOrbitSequences(), and single orbits in case of single destination.
+	 * 
+	 * Sequences are enumerated only when the stream is consumed (see OrbitSequenceSpliterator), so memory stays flat.
+	 * Stream can be split between parallel workers, e.g. by findOptimumTraverseDetail(pWeather, pVehicles, stream, ...).
+	 * 
+	 * @param pNetwork - Network of the query
+	 * @param pSource - User input
+	 * @param pDestinations - User inputs, list of destinations
+	 * @return - Stream of all possible sequences of orbits/routes between any source and different destinations.
+	 */
+	public Stream<List<Orbit>> streamOrbitSequences(RoadNetwork pNetwork, String pSource, List<String> pDestinations) {
+		return StreamSupport.stream(new OrbitSequenceSpliterator(pNetwork, pSource, pDestinations), false);
+	}
+
+	/*
+	 * Speed limit of each orbit of the sequences, as set by the caller in Orbit.getVelocityLimit(), corresponding to orbit name.
+	 */
+	private static Map<String, Integer> getVelocityLimits(List<List<Orbit>> pOrbitSequences) {
+		Map<String, Integer> orbitSpeedLimitMap = new HashMap<>();
+		pOrbitSequences.stream().flatMap(List::stream)
+			.forEach(orbit -> orbitSpeedLimitMap.putIfAbsent(orbit.getOrbitName(), orbit.getVelocityLimit().getSpeed()));
+		return orbitSpeedLimitMap;
+	}
+
 	/**
 	 * This method is responsible to generate output message from optimized TraverseDetail object 
 	 * 
 	 * @param pOptimumTraverseDetail - Optimized TraverseDetail object
-	 * @param pProblemType - To make it generic, based on problem type (i.e. Problem1/Problem2), output will be generated.
+	 * @param pProblemType - To make it generic, based on problem type (i.e. Problem1/Problem2/Route), output will be generated.
 	 * 
 	 * @return - Output message from OptimumTraverseDetail object
 	 */
@@ -295,11 +629,13 @@ public class LengaburuTrafficHelper {
 				.forEach(orbit -> output.append(" on ").append(orbit.getOrbitName()));
 			break;
 		case "Problem2" :
-			Orbit firstOrbit = pOptimumTraverseDetail.getOrbits().get(0);
-			Orbit secondOrbit = pOptimumTraverseDetail.getOrbits().get(1);
-			output.append(" to ").append(firstOrbit.getDestination()).append(" via ").append(firstOrbit.getOrbitName())
-				.append(" and ")
-				.append(secondOrbit.getDestination()).append(" via ").append(secondOrbit.getOrbitName());
+		case "Route" :
+			// Each orbit of the sequence, along with the suburb it reaches
+			for (int i = 0; i < pOptimumTraverseDetail.getOrbits().size(); i++) {
+				Orbit orbit = pOptimumTraverseDetail.getOrbits().get(i);
+				output.append(i == 0 ? " to " : " and ")
+					.append(orbit.getDestination()).append(" via ").append(orbit.getOrbitName());
+			}
 			break;
 		default :
 			System.out.println("No output.");
@@ -0,0 +1,189 @@
+/*
+* Copyright (c) 2017, Ritesh. All rights reserved.
+*
+*/
+package in.geektrust.lengaburu.traffic.helper;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import in.geektrust.lengaburu.traffic.beans.Orbit;
+import in.geektrust.lengaburu.traffic.engine.TraverseTimeKernel;
+
+/**
+ * DESCRIPTION - This class finds the optimum (vehicle, orbit-sequence) candidate of a range of orbit-sequences, as a fork/join task.
+ *
+ * Range bigger than SEQUENCES_PER_TASK is split into halves. Halves are searched in parallel, and their winners are combined.
+ * Winner is the minimum by (traverse time, vehicle priority), same as TraverseDetailComparator, and then the orbit-sequence
+ * which comes first in the input. Left half is kept on equal, so combining is associative and the winner doesn't depend 
+ * on how the range is split, i.e. it is exactly same as searching all orbit-sequences one by one.
+ *
+ * Each range skips orbit-sequences whose lower bound exceeds its own best time, as they can't win overall either.
+ *
+ * @author - Ritesh Bangal
+ * @version 1.0
+ * @since <17-October-2026>
+ */
+final class OptimumTraverseTask extends RecursiveTask<OptimumTraverseTask.Candidate> {
+
+	private static final long serialVersionUID = 1L;
+
+	// Orbit-sequences searched by one task, without splitting further. Smaller inputs are searched on the caller's thread.
+	static final int SEQUENCES_PER_TASK = 1024;
+
+	private final TraverseTimeKernel kernel;
+	private final int craterChangeRate;
+	private final CandidateOrder order;
+	private final List<List<Orbit>> orbitSequences;
+	private final int fromSequence;
+	private final int toSequence;
+
+	private OptimumTraverseTask(TraverseTimeKernel pKernel, int pCraterChangeRate, CandidateOrder pOrder,
+			List<List<Orbit>> pOrbitSequences, int pFromSequence, int pToSequence) {
+		this.kernel = pKernel;
+		this.craterChangeRate = pCraterChangeRate;
+		this.order = pOrder;
+		this.orbitSequences = pOrbitSequences;
+		this.fromSequence = pFromSequence;
+		this.toSequence = pToSequence;
+	}
+
+	/**
+	 * Search all orbit-sequences of the kernel. In parallel (common fork/join pool), if there are more than SEQUENCES_PER_TASK.
+	 *
+	 * @param pKernel - Compiled vehicles and orbit-sequences
+	 * @param pCraterChangeRate - Crater change rate of the weather
+	 * @param pOrder - Tie rule of the weather, for vehicles of the kernel
+	 * @param pOrbitSequences - Orbit-sequences of the kernel
+	 * @return - Optimum candidate, along with evaluated and pruned counts
+	 */
+	static Candidate search(TraverseTimeKernel pKernel, int pCraterChangeRate, CandidateOrder pOrder,
+			List<List<Orbit>> pOrbitSequences) {
+		OptimumTraverseTask task = new OptimumTraverseTask(pKernel, pCraterChangeRate, pOrder, pOrbitSequences,
+				0, pKernel.getSequenceCount());
+		return (pKernel.getSequenceCount() > SEQUENCES_PER_TASK) ? ForkJoinPool.commonPool().invoke(task) : task.compute();
+	}
+
+	@Override
+	protected Candidate compute() {
+		if (toSequence - fromSequence <= SEQUENCES_PER_TASK) {
+			Candidate best = new Candidate();
+			searchRange(kernel, craterChangeRate, order, orbitSequences, fromSequence, toSequence, best);
+			return best;
+		}
+		int middle = (fromSequence + toSequence) >>> 1;
+		OptimumTraverseTask left = new OptimumTraverseTask(kernel, craterChangeRate, order, orbitSequences, fromSequence, middle);
+		OptimumTraverseTask right = new OptimumTraverseTask(kernel, craterChangeRate, order, orbitSequences, middle, toSequence);
+		left.fork();
+		Candidate rightBest = right.compute();
+		return order.combine(left.join(), rightBest);
+	}
+
+	/**
+	 * Search a range of orbit-sequences of the kernel one by one, and update pBest (along with its counts) on the way.
+	 *
+	 * @param pKernel - Compiled vehicles and orbit-sequences
+	 * @param pCraterChangeRate - Crater change rate of the weather
+	 * @param pOrder - Tie rule of the weather, for vehicles of the kernel
+	 * @param pOrbitSequences - Orbit-sequences of the kernel
+	 * @param pFromSequence - First orbit-sequence index (inclusive)
+	 * @param pToSequence - Last orbit-sequence index (exclusive)
+	 * @param pBest - Best candidate so far, updated in place
+	 */
+	static void searchRange(TraverseTimeKernel pKernel, int pCraterChangeRate, CandidateOrder pOrder,
+			List<List<Orbit>> pOrbitSequences, int pFromSequence, int pToSequence, Candidate pBest) {
+		int[] times = new int[pKernel.getVehicleCount()];
+		for (int sequenceIndex = pFromSequence; sequenceIndex < pToSequence; sequenceIndex++) {
+			if (pKernel.isEmpty(sequenceIndex)) {
+				continue;
+			}
+			int speedLimit = pKernel.getSpeedLimit(sequenceIndex);
+			if (speedLimit < 1) {
+				// Sequence has a closed orbit (i.e. without speed limit)
+				continue;
+			}
+			int actualNumberOfCraters = pKernel.getActualNumberOfCraters(sequenceIndex, pCraterChangeRate);
+
+			// No vehicle can do better than this bound. On equal, it may still win the tie, so it isn't skipped.
+			if (pKernel.lowerBound(sequenceIndex, actualNumberOfCraters, speedLimit) > pBest.time) {
+				pBest.prunedSequences++;
+				continue;
+			}
+
+			pBest.evaluatedSequences++;
+			pKernel.evaluate(sequenceIndex, actualNumberOfCraters, speedLimit, times);
+			List<Orbit> orbits = pOrbitSequences.get(sequenceIndex);
+			for (int vehicleIndex = 0; vehicleIndex < times.length; vehicleIndex++) {
+				if (pOrder.isBetter(times[vehicleIndex], vehicleIndex, pBest)) {
+					pBest.time = times[vehicleIndex];
+					pBest.vehicleIndex = vehicleIndex;
+					pBest.orbits = orbits;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Optimum candidate of a range, i.e. vehicle index -1 if there is none. Along with evaluated and pruned orbit-sequences.
+	 */
+	static final class Candidate {
+		int time = Integer.MAX_VALUE;
+		int vehicleIndex = -1;
+		List<Orbit> orbits;
+		long evaluatedSequences;
+		long prunedSequences;
+	}
+
+	/**
+	 * Tie rule of a weather for the candidates, by vehicle index. Same order as TraverseDetailComparator.
+	 */
+	static final class CandidateOrder {
+
+		private final int[] vehiclePriorities;
+		private final List<String> vehicleNames;
+
+		/**
+		 * @param pVehiclePriorities - Priority of each vehicle, for the weather (lower first)
+		 * @param pVehicleNames - Name of each vehicle
+		 */
+		CandidateOrder(int[] pVehiclePriorities, List<String> pVehicleNames) {
+			this.vehiclePriorities = pVehiclePriorities;
+			this.vehicleNames = pVehicleNames;
+		}
+
+		// Is the candidate better than pBest, by (traverse time, vehicle priority). Candidate always comes later in the input.
+		boolean isBetter(int pTime, int pVehicleIndex, Candidate pBest) {
+			if (pBest.vehicleIndex < 0 || pTime != pBest.time) {
+				return pTime < pBest.time;
+			}
+			if (pVehicleIndex != pBest.vehicleIndex) {
+				int result = Integer.compare(vehiclePriorities[pVehicleIndex], vehiclePriorities[pBest.vehicleIndex]);
+				if (result == 0) {
+					result = vehicleNames.get(pVehicleIndex).compareTo(vehicleNames.get(pBest.vehicleIndex));
+				}
+				if (result != 0) {
+					return result < 0;
+				}
+			}
+			// Orbit-sequence which comes first in the input is kept
+			return false;
+		}
+
+		/*
+		 * Better of the two winners, with counts of both. pFirst (i.e. earlier range of the input) is kept on equal, 
+		 * so it is associative.
+		 */
+		Candidate combine(Candidate pFirst, Candidate pSecond) {
+			Candidate best = (pSecond.vehicleIndex >= 0 && isBetter(pSecond.time, pSecond.vehicleIndex, pFirst))
+					? pSecond : pFirst;
+			Candidate combined = new Candidate();
+			combined.time = best.time;
+			combined.vehicleIndex = best.vehicleIndex;
+			combined.orbits = best.orbits;
+			combined.evaluatedSequences = pFirst.evaluatedSequences + pSecond.evaluatedSequences;
+			combined.prunedSequences = pFirst.prunedSequences + pSecond.prunedSequences;
+			return combined;
+		}
+	}
+}
@@ -0,0 +1,103 @@
+/*
+* Copyright (c) 2017, Ritesh. All rights reserved.
+*
+*/
+package in.geektrust.lengaburu.traffic.helper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import in.geektrust.lengaburu.traffic.beans.Orbit;
+import in.geektrust.lengaburu.traffic.beans.Vehicle;
+import in.geektrust.lengaburu.traffic.engine.TraverseTimeKernel;
+import in.geektrust.lengaburu.traffic.helper.OptimumTraverseTask.Candidate;
+import in.geektrust.lengaburu.traffic.helper.OptimumTraverseTask.CandidateOrder;
+import in.geektrust.lengaburu.traffic.network.SpeedLimitOverlay;
+
+/**
+ * DESCRIPTION - This class finds the optimum (vehicle, orbit-sequence) candidate of lazily enumerated orbit-sequences,
+ * as a fork/join task. e.g. from OrbitSequenceSpliterator, so the full list of orbit-sequences is never built.
+ *
+ * Enumeration is split (Spliterator.trySplit()) while it is estimated bigger than SEQUENCES_PER_TASK, and the parts are
+ * searched in parallel. Each part is consumed in blocks of SEQUENCES_PER_TASK orbit-sequences, compiled into
+ * TraverseTimeKernel and searched same as OptimumTraverseTask. So memory is one block per worker.
+ *
+ * Winners are combined by the same associative order, so the result is exactly same as searching the materialized list.
+ *
+ * @author - Ritesh Bangal
+ * @version 1.0
+ * @since <17-October-2026>
+ */
+final class OrbitSequenceSearchTask extends RecursiveTask<Candidate> {
+
+	private static final long serialVersionUID = 1L;
+
+	private final Spliterator<List<Orbit>> orbitSequences;
+	private final List<Vehicle> vehicles;
+	private final SpeedLimitOverlay speedLimits;
+	private final int craterChangeRate;
+	private final CandidateOrder order;
+
+	private OrbitSequenceSearchTask(Spliterator<List<Orbit>> pOrbitSequences, List<Vehicle> pVehicles,
+			SpeedLimitOverlay pSpeedLimits, int pCraterChangeRate, CandidateOrder pOrder) {
+		this.orbitSequences = pOrbitSequences;
+		this.vehicles = pVehicles;
+		this.speedLimits = pSpeedLimits;
+		this.craterChangeRate = pCraterChangeRate;
+		this.order = pOrder;
+	}
+
+	/**
+	 * Search all remaining orbit-sequences of the spliterator. In parallel, if it is estimated bigger than SEQUENCES_PER_TASK.
+	 *
+	 * @param pOrbitSequences - Orbit-sequences, consumed by this search
+	 * @param pVehicles - Suitable vehicles for the weather
+	 * @param pSpeedLimits - Speed limits of the query, indexed by orbit id
+	 * @param pCraterChangeRate - Crater change rate of the weather
+	 * @param pOrder - Tie rule of the weather, for the vehicles
+	 * @return - Optimum candidate, along with evaluated and pruned counts
+	 */
+	static Candidate search(Spliterator<List<Orbit>> pOrbitSequences, List<Vehicle> pVehicles,
+			SpeedLimitOverlay pSpeedLimits, int pCraterChangeRate, CandidateOrder pOrder) {
+		OrbitSequenceSearchTask task = new OrbitSequenceSearchTask(pOrbitSequences, pVehicles, pSpeedLimits,
+				pCraterChangeRate, pOrder);
+		return (pOrbitSequences.estimateSize() > OptimumTraverseTask.SEQUENCES_PER_TASK)
+				? ForkJoinPool.commonPool().invoke(task) : task.compute();
+	}
+
+	@Override
+	protected Candidate compute() {
+		Spliterator<List<Orbit>> prefix;
+		if (orbitSequences.estimateSize() > OptimumTraverseTask.SEQUENCES_PER_TASK
+				&& null != (prefix = orbitSequences.trySplit())) {
+			// Prefix comes first, so it is kept on equal
+			OrbitSequenceSearchTask left = new OrbitSequenceSearchTask(prefix, vehicles, speedLimits, craterChangeRate, order);
+			OrbitSequenceSearchTask right = new OrbitSequenceSearchTask(orbitSequences, vehicles, speedLimits,
+					craterChangeRate, order);
+			left.fork();
+			Candidate rightBest = right.compute();
+			return order.combine(left.join(), rightBest);
+		}
+
+		Candidate best = new Candidate();
+		List<List<Orbit>> block = new ArrayList<>(OptimumTraverseTask.SEQUENCES_PER_TASK);
+		while (orbitSequences.tryAdvance(block::add)) {
+			if (block.size() == OptimumTraverseTask.SEQUENCES_PER_TASK) {
+				searchBlock(block, best);
+				block.clear();
+			}
+		}
+		searchBlock(block, best);
+		return best;
+	}
+
+	private void searchBlock(List<List<Orbit>> pBlock, Candidate pBest) {
+		if (!pBlock.isEmpty()) {
+			TraverseTimeKernel kernel = TraverseTimeKernel.compile(vehicles, pBlock, speedLimits);
+			OptimumTraverseTask.searchRange(kernel, craterChangeRate, order, pBlock, 0, pBlock.size(), pBest);
+		}
+	}
+}
@@ -0,0 +1,85 @@
+/*
+* Copyright (c) 2017, Ritesh. All rights reserved.
+*
+*/
+package in.geektrust.lengaburu.traffic.helper;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import in.geektrust.lengaburu.traffic.beans.TraverseDetail;
+import in.geektrust.lengaburu.traffic.beans.Vehicle;
+import in.geektrust.lengaburu.traffic.beans.Weather;
+
+/**
+ * DESCRIPTION - This class orders TraverseDetail objects, best first.
+ *
+ * Order is:
+ * 	1.	Traverse time, lower first.
+ * 	2.	On a tie, vehicle priority, i.e. order of Weather.getSuitableVehicleNames(). e.g. bike, tuktuk, car.
+ * 		Vehicles which are not suitable for the weather come after, by name.
+ *
+ * On a tie in both, they are equal, and the one comes first in the list wins (e.g. with BinaryOperator.minBy() 
+ * or a stable sort). i.e. orbit-sequence which comes first in the input, same as the one by one scan always did.
+ * Minimum (first one on equal) is associative, so candidates can be evaluated in ordered chunks (e.g. in parallel) 
+ * and the chunk winners combined in the same order, with exactly the same winner as evaluating them one by one.
+ *
+ * @author - Ritesh Bangal
+ * @version 1.0
+ * @since <17-October-2026>
+ */
+public class TraverseDetailComparator implements Comparator<TraverseDetail> {
+
+	private final Map<String, Integer> vehiclePriorities = new HashMap<>();
+
+	/**
+	 * @param pWeather - Weather of the query. Its suitable vehicle names give the vehicle priority.
+	 */
+	public TraverseDetailComparator(Weather pWeather) {
+		List<String> vehicleNames = pWeather.getSuitableVehicleNames();
+		for (int priority = vehicleNames.size() - 1; priority >= 0; priority--) {
+			vehiclePriorities.put(vehicleNames.get(priority), priority);
+		}
+	}
+
+	@Override
+	public int compare(TraverseDetail pFirst, TraverseDetail pSecond) {
+		int result = Integer.compare(pFirst.getTraverseTime(), pSecond.getTraverseTime());
+		if (result == 0) {
+			result = compareVehicles(pFirst.getVehicle(), pSecond.getVehicle());
+		}
+		return result;
+	}
+
+	/**
+	 * @param pVehicle - Vehicle
+	 * @return - Priority of the vehicle for the weather, lower first. Integer.MAX_VALUE if it is not suitable.
+	 */
+	public int getVehiclePriority(Vehicle pVehicle) {
+		Integer priority = vehiclePriorities.get(pVehicle.getName());
+		return (null == priority) ? Integer.MAX_VALUE : priority;
+	}
+
+	/**
+	 * @param pVehicles - Vehicles, e.g. suitable vehicles of the query
+	 * @return - Priority of each vehicle, by its index in pVehicles
+	 */
+	public int[] getVehiclePriorities(List<Vehicle> pVehicles) {
+		int[] priorities = new int[pVehicles.size()];
+		for (int vehicleIndex = 0; vehicleIndex < priorities.length; vehicleIndex++) {
+			priorities[vehicleIndex] = getVehiclePriority(pVehicles.get(vehicleIndex));
+		}
+		return priorities;
+	}
+
+	private int compareVehicles(Vehicle pFirst, Vehicle pSecond) {
+		int result = Integer.compare(getVehiclePriority(pFirst), getVehiclePriority(pSecond));
+		if (result == 0 && pFirst != pSecond) {
+			result = pFirst.getName().compareTo(pSecond.getName());
+		}
+		return result;
+	}
+
+}
@@ -0,0 +1,520 @@
+/*
+* Copyright (c) 2017, Ritesh. All rights reserved.
+*
+*/
+package in.geektrust.lengaburu.traffic.initializer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import in.geektrust.lengaburu.traffic.beans.Orbit;
+import in.geektrust.lengaburu.traffic.beans.Vehicle;
+import in.geektrust.lengaburu.traffic.beans.Velocity;
+import in.geektrust.lengaburu.traffic.beans.Weather;
+import in.geektrust.lengaburu.traffic.beans.WeatherType;
+import in.geektrust.lengaburu.traffic.exception.BusinessException;
+import in.geektrust.lengaburu.traffic.network.RoadNetwork;
+
+/**
+ * DESCRIPTION - This class is responsible to load orbits, vehicles and weathers from data files, into a RoadNetwork.
+ *
+ * Each file has one record per line, either as CSV (default) or as JSON-lines (i.e. file name ends with .jsonl/.json).
+ * Blank lines and lines starting with '#' are skipped. First line of a CSV file may be a header.
+ * 	-	Orbits		: OrbitName,Source,Destination,Distance,Craters
+ * 					  {"orbitName":"Orbit1","source":"Silk Drob","destination":"Hallitharam","distance":18,"craters":20}
+ * 	-	Vehicles	: Name,Speed,TimeToCrossCrater. Sequence of the file is used for the tie rule.
+ * 					  {"name":"Bike","speed":10,"timeToCrossCrater":2}
+ * 	-	Weathers	: WeatherType,CraterChangeRate,SuitableVehicles (separated by ';'), for every weather type
+ * 					  {"weatherType":"Sunny","craterChangeRate":-10,"suitableVehicles":["Bike","Tuktuk","Car"]}
+ * 	-	Speed limits: OrbitName,SpeedLimit. e.g. for LengaburuTrafficHierarchyCompiler.
+ * 					  {"orbitName":"Orbit1","speedLimit":12}
+ *
+ * Each file is read in one pass, without loading it into memory first:
+ * 	1.	Split the file into chunks at line boundaries, using positional reads.
+ * 	2.	Map each chunk and parse its lines in parallel. Records are validated as they are parsed.
+ * 	3.	Join records of all chunks in file order (i.e. position of an orbit in the file becomes its orbit id).
+ * Suburb names are interned, so all orbits of a suburb share one String object.
+ *
+ * Note: If any record is invalid, BusinessException is thrown with line number of each invalid record (up to MAX_ERRORS).
+ *
+ * @author - Ritesh Bangal
+ * @version 1.0
+ * @since <17-October-2026>
+ */
+public class LengaburuTrafficFileLoader {
+
+	public static final int MAX_ERRORS = 100;
+
+	private static final int MIN_CHUNK_SIZE = 1 << 20;
+	private static final int MAX_CHUNK_SIZE = 1 << 30;
+
+	private static final String SPEED_UNIT = "megamiles/hour";
+	private static final String COMMENT = "#";
+	private static final String VEHICLE_SEPARATOR = ";";
+
+	private static final String[] ORBIT_FIELDS = { "orbitName", "source", "destination", "distance", "craters" };
+	private static final String[] VEHICLE_FIELDS = { "name", "speed", "timeToCrossCrater" };
+	private static final String[] WEATHER_FIELDS = { "weatherType", "craterChangeRate", "suitableVehicles" };
+	private static final String[] SPEED_LIMIT_FIELDS = { "orbitName", "speedLimit" };
+
+	// Create an object of SingleObject
+	private static LengaburuTrafficFileLoader loaderInstance = new LengaburuTrafficFileLoader();
+
+	private LengaburuTrafficFileLoader() {
+		// Make the constructor private so that this class cannot be instantiated
+	}
+
+	// Get the only object available
+	public static LengaburuTrafficFileLoader getInstance() {
+		return loaderInstance;
+	}
+
+	/**
+	 * Load orbits, vehicles and weathers from files, and build an immutable RoadNetwork snapshot.
+	 *
+	 * @param pOrbitsFile - Orbits file
+	 * @param pVehiclesFile - Vehicles file
+	 * @param pWeathersFile - Weathers file
+	 * @return - RoadNetwork snapshot
+	 * @throws BusinessException - If any file can't be read, or has invalid records.
+	 */
+	public RoadNetwork loadRoadNetwork(Path pOrbitsFile, Path pVehiclesFile, Path pWeathersFile) throws BusinessException {
+		List<Vehicle> vehicles = loadVehicles(pVehiclesFile);
+		List<Weather> weathers = loadWeathers(pWeathersFile, vehicles);
+		List<Orbit> orbits = loadOrbits(pOrbitsFile);
+		return RoadNetwork.build(orbits, vehicles, weathers);
+	}
+
+	/**
+	 * Load orbits from the file. Speed limit of each orbit is initialized with -1.
+	 *
+	 * @param pOrbitsFile - Orbits file
+	 * @return - List of orbits, in file order
+	 * @throws BusinessException - If the file can't be read, or has invalid records.
+	 */
+	public List<Orbit> loadOrbits(Path pOrbitsFile) throws BusinessException {
+		Map<String, String> suburbNames = new ConcurrentHashMap<>();
+		return loadRecords(pOrbitsFile, ORBIT_FIELDS, fields -> {
+			String orbitName = requireText(fields[0], "Orbit name");
+			String source = requireText(fields[1], "Source");
+			String destination = requireText(fields[2], "Destination");
+			if (source.equalsIgnoreCase(destination)) {
+				throw new BusinessException("Source and destination should be different.");
+			}
+			return new Orbit(orbitName, suburbNames.computeIfAbsent(source, name -> name),
+					suburbNames.computeIfAbsent(destination, name -> name), parseInt(fields[3], "Distance", 1),
+					parseInt(fields[4], "Craters", 0), new Velocity(-1, SPEED_UNIT));
+		});
+	}
+
+	/**
+	 * Load vehicles from the file.
+	 *
+	 * @param pVehiclesFile - Vehicles file
+	 * @return - List of vehicles, in file order
+	 * @throws BusinessException - If the file can't be read, or has invalid records.
+	 */
+	public List<Vehicle> loadVehicles(Path pVehiclesFile) throws BusinessException {
+		List<Vehicle> vehicles = loadRecords(pVehiclesFile, VEHICLE_FIELDS, fields -> new Vehicle(
+				requireText(fields[0], "Vehicle name"), new Velocity(parseInt(fields[1], "Speed", 1), SPEED_UNIT),
+				parseInt(fields[2], "Time to cross crater", 0)));
+
+		Set<String> vehicleNames = new HashSet<>();
+		List<String> duplicateNames = vehicles.stream().map(Vehicle::getName)
+				.filter(name -> !vehicleNames.add(name)).collect(Collectors.toList());
+		if (!duplicateNames.isEmpty()) {
+			throw new BusinessException(pVehiclesFile + ": Duplicate vehicle(s) " + duplicateNames);
+		}
+		return vehicles;
+	}
+
+	/**
+	 * Load weathers from the file. Each weather type should be defined exactly once, with at least one suitable vehicle.
+	 *
+	 * @param pWeathersFile - Weathers file
+	 * @param pVehicles - All available vehicles. Suitable vehicles of each weather should be one of them.
+	 * @return - List of weathers, in file order
+	 * @throws BusinessException - If the file can't be read, has invalid records, or doesn't define all weather types.
+	 */
+	public List<Weather> loadWeathers(Path pWeathersFile, List<Vehicle> pVehicles) throws BusinessException {
+		Set<String> vehicleNames = pVehicles.stream().map(Vehicle::getName).collect(Collectors.toSet());
+		List<Weather> weathers = loadRecords(pWeathersFile, WEATHER_FIELDS, fields -> {
+			String weatherName = requireText(fields[0], "Weather type");
+			WeatherType weatherType = Arrays.stream(WeatherType.values())
+					.filter(type -> type.toString().equalsIgnoreCase(weatherName))
+					.findFirst()
+					.orElseThrow(() -> new BusinessException("Invalid weather type '" + weatherName + "'."));
+			List<String> suitableVehicleNames = Arrays.stream(requireText(fields[2], "Suitable vehicles")
+					.split(VEHICLE_SEPARATOR)).map(String::trim).filter(name -> !name.isEmpty()).collect(Collectors.toList());
+			if (suitableVehicleNames.isEmpty()) {
+				throw new BusinessException("At least one suitable vehicle is required.");
+			}
+			List<String> unknownNames = suitableVehicleNames.stream()
+					.filter(name -> !vehicleNames.contains(name)).collect(Collectors.toList());
+			if (!unknownNames.isEmpty()) {
+				throw new BusinessException("Unknown vehicle(s) " + unknownNames + ".");
+			}
+			return new Weather(weatherType, parseInt(fields[1], "Crater change rate", -100), suitableVehicleNames);
+		});
+
+		Set<WeatherType> weatherTypes = new HashSet<>();
+		List<WeatherType> duplicateTypes = weathers.stream().map(Weather::getWeatherType)
+				.filter(type -> !weatherTypes.add(type)).collect(Collectors.toList());
+		if (!duplicateTypes.isEmpty()) {
+			throw new BusinessException(pWeathersFile + ": Duplicate weather(s) " + duplicateTypes);
+		}
+		List<WeatherType> missingTypes = Arrays.stream(WeatherType.values())
+				.filter(type -> !weatherTypes.contains(type)).collect(Collectors.toList());
+		if (!missingTypes.isEmpty()) {
+			throw new BusinessException(pWeathersFile + ": Missing weather(s) " + missingTypes);
+		}
+		return weathers;
+	}
+
+	/**
+	 * Load speed limits of orbits from the file.
+	 *
+	 * @param pSpeedLimitsFile - Speed limits file
+	 * @return - Speed limit corresponding to orbit name
+	 * @throws BusinessException - If the file can't be read, or has invalid records.
+	 */
+	public Map<String, Integer> loadSpeedLimits(Path pSpeedLimitsFile) throws BusinessException {
+		List<Map.Entry<String, Integer>> speedLimits = loadRecords(pSpeedLimitsFile, SPEED_LIMIT_FIELDS,
+				fields -> new AbstractMap.SimpleImmutableEntry<>(requireText(fields[0], "Orbit name"),
+						parseInt(fields[1], "Speed limit", 1)));
+
+		Map<String, Integer> orbitSpeedLimitMap = new HashMap<>();
+		List<String> duplicateNames = speedLimits.stream()
+				.filter(speedLimit -> null != orbitSpeedLimitMap.put(speedLimit.getKey(), speedLimit.getValue()))
+				.map(Map.Entry::getKey).collect(Collectors.toList());
+		if (!duplicateNames.isEmpty()) {
+			throw new BusinessException(pSpeedLimitsFile + ": Duplicate orbit(s) " + duplicateNames);
+		}
+		return orbitSpeedLimitMap;
+	}
+
+	private static String requireText(String pValue, String pFieldName) throws BusinessException {
+		if (null == pValue || pValue.trim().isEmpty()) {
+			throw new BusinessException(pFieldName + " is missing.");
+		}
+		return pValue.trim();
+	}
+
+	private static int parseInt(String pValue, String pFieldName, int pMinimum) throws BusinessException {
+		int value;
+		try {
+			value = Integer.parseInt(requireText(pValue, pFieldName));
+		} catch (NumberFormatException e) {
+			throw new BusinessException(pFieldName + " should be an integer, but it is '" + pValue.trim() + "'.");
+		}
+		if (value < pMinimum) {
+			throw new BusinessException(pFieldName + " should be at least " + pMinimum + ", but it is " + value + ".");
+		}
+		return value;
+	}
+
+	/*
+	 * Read records of the file in parallel chunks, and join them in file order.
+	 */
+	private static <T> List<T> loadRecords(Path pFile, String[] pFieldNames, RecordParser<T> pParser)
+			throws BusinessException {
+		boolean jsonLines = pFile.getFileName().toString().toLowerCase(Locale.ENGLISH).matches(".*\\.jsonl?$");
+		try (FileChannel channel = FileChannel.open(pFile, StandardOpenOption.READ)) {
+			long[] chunkStart = splitIntoChunks(channel);
+			List<Chunk<T>> chunks = IntStream.range(0, chunkStart.length - 1).parallel()
+					.mapToObj(chunk -> new Chunk<T>(chunk == 0).parse(channel, chunkStart[chunk], chunkStart[chunk + 1],
+							pFieldNames, jsonLines, pParser))
+					.collect(Collectors.toList());
+
+			// Convert chunk's line numbers into file's line numbers
+			List<String> errors = new ArrayList<>();
+			int recordCount = 0;
+			long lineOffset = 0;
+			for (Chunk<T> chunk : chunks) {
+				for (Map.Entry<Long, String> error : chunk.errors.entrySet()) {
+					if (errors.size() < MAX_ERRORS) {
+						errors.add("line " + (lineOffset + error.getKey()) + ": " + error.getValue());
+					}
+				}
+				recordCount += chunk.records.size();
+				lineOffset += chunk.lineCount;
+			}
+			if (!errors.isEmpty()) {
+				throw new BusinessException(pFile + " has invalid record(s):\n" + String.join("\n", errors));
+			}
+
+			List<T> records = new ArrayList<>(recordCount);
+			chunks.stream().forEach(chunk -> records.addAll(chunk.records));
+			return records;
+		} catch (IOException e) {
+			throw new BusinessException("Unable to read " + pFile + ": " + e.getMessage(), e);
+		}
+	}
+
+	/*
+	 * Returns start position of each chunk, and file size at the end. Each chunk (except the last) ends with a line break.
+	 */
+	private static long[] splitIntoChunks(FileChannel pChannel) throws IOException {
+		long size = pChannel.size();
+		long chunkCount = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors() * 4L, size / MIN_CHUNK_SIZE));
+		chunkCount = Math.max(chunkCount, (size + MAX_CHUNK_SIZE - 1) / MAX_CHUNK_SIZE);
+		List<Long> starts = new ArrayList<>();
+		starts.add(0L);
+		ByteBuffer buffer = ByteBuffer.allocate(8192);
+		for (long chunk = 1; chunk < chunkCount; chunk++) {
+			long position = Math.max(starts.get(starts.size() - 1), size * chunk / chunkCount);
+			long lineEnd = findLineEnd(pChannel, position, buffer);
+			if (lineEnd < size && lineEnd > starts.get(starts.size() - 1)) {
+				starts.add(lineEnd);
+			}
+		}
+		starts.add(size);
+		return starts.stream().mapToLong(Long::longValue).toArray();
+	}
+
+	/*
+	 * Position right after the next line break, from the given position. Or file size, if there is none.
+	 */
+	private static long findLineEnd(FileChannel pChannel, long pPosition, ByteBuffer pBuffer) throws IOException {
+		long position = pPosition;
+		while (true) {
+			pBuffer.clear();
+			int read = pChannel.read(pBuffer, position);
+			if (read <= 0) {
+				return pChannel.size();
+			}
+			for (int index = 0; index < read; index++) {
+				if (pBuffer.get(index) == '\n') {
+					return position + index + 1;
+				}
+			}
+			position += read;
+		}
+	}
+
+	/*
+	 * Parser of a single record. Fields are in order of the field names, and null if missing.
+	 */
+	@FunctionalInterface
+	private interface RecordParser<T> {
+		T parse(String[] pFields) throws BusinessException;
+	}
+
+	/*
+	 * Records, errors and number of lines of a chunk. Line numbers are local to the chunk, starting from 1.
+	 */
+	private static final class Chunk<T> {
+
+		private final boolean firstChunk;
+		private final List<T> records = new ArrayList<>();
+		private final Map<Long, String> errors = new LinkedHashMap<>();
+		private long lineCount;
+
+		private Chunk(boolean pFirstChunk) {
+			this.firstChunk = pFirstChunk;
+		}
+
+		private Chunk<T> parse(FileChannel pChannel, long pStart, long pEnd, String[] pFieldNames, boolean pJsonLines,
+				RecordParser<T> pParser) {
+			MappedByteBuffer buffer;
+			try {
+				buffer = pChannel.map(FileChannel.MapMode.READ_ONLY, pStart, pEnd - pStart);
+			} catch (IOException e) {
+				errors.put(1L, "Unable to read: " + e.getMessage());
+				return this;
+			}
+			byte[] lineBytes = new byte[256];
+			int lineLength = 0;
+			while (buffer.hasRemaining()) {
+				byte nextByte = buffer.get();
+				if (nextByte == '\n') {
+					parseLine(new String(lineBytes, 0, lineLength, StandardCharsets.UTF_8), pFieldNames, pJsonLines, pParser);
+					lineLength = 0;
+				} else {
+					if (lineLength == lineBytes.length) {
+						lineBytes = Arrays.copyOf(lineBytes, lineLength * 2);
+					}
+					lineBytes[lineLength++] = nextByte;
+				}
+			}
+			if (lineLength > 0) {
+				parseLine(new String(lineBytes, 0, lineLength, StandardCharsets.UTF_8), pFieldNames, pJsonLines, pParser);
+			}
+			return this;
+		}
+
+		private void parseLine(String pLine, String[] pFieldNames, boolean pJsonLines, RecordParser<T> pParser) {
+			lineCount++;
+			String line = pLine.trim();
+			if (line.isEmpty() || line.startsWith(COMMENT) || (firstChunk && lineCount == 1 && !pJsonLines
+					&& line.toLowerCase(Locale.ENGLISH).startsWith(pFieldNames[0].toLowerCase(Locale.ENGLISH)))) {
+				// Blank line, comment or CSV header
+				return;
+			}
+			try {
+				String[] fields = pJsonLines ? JsonLineReader.read(line, pFieldNames) : line.split(",", -1);
+				if (fields.length != pFieldNames.length) {
+					throw new BusinessException("Expected " + pFieldNames.length + " fields "
+							+ Arrays.toString(pFieldNames) + ", but found " + fields.length + ".");
+				}
+				records.add(pParser.parse(fields));
+			} catch (BusinessException e) {
+				if (errors.size() < MAX_ERRORS) {
+					errors.put(lineCount, e.getMessage());
+				}
+			}
+		}
+	}
+
+	/*
+	 * Reader of a flat JSON object, i.e. {"key": value, ...}. Value is a string, a number, true/false/null,
+	 * or an array of them (returned as values separated by ';').
+	 */
+	private static final class JsonLineReader {
+
+		private final String line;
+		private int position;
+
+		private JsonLineReader(String pLine) {
+			this.line = pLine;
+		}
+
+		private static String[] read(String pLine, String[] pFieldNames) throws BusinessException {
+			Map<String, String> values = new JsonLineReader(pLine).readObject();
+			String[] fields = new String[pFieldNames.length];
+			for (int index = 0; index < pFieldNames.length; index++) {
+				fields[index] = values.get(pFieldNames[index]);
+			}
+			return fields;
+		}
+
+		private Map<String, String> readObject() throws BusinessException {
+			Map<String, String> values = new LinkedHashMap<>();
+			expect('{');
+			if (peek() == '}') {
+				position++;
+			} else {
+				do {
+					String key = readString();
+					expect(':');
+					values.put(key, readValue());
+				} while (accept(','));
+				expect('}');
+			}
+			if (peek() != 0) {
+				throw invalid("Unexpected content after the object");
+			}
+			return values;
+		}
+
+		private String readValue() throws BusinessException {
+			char next = peek();
+			if (next == '"') {
+				return readString();
+			}
+			if (next == '[') {
+				position++;
+				List<String> items = new ArrayList<>();
+				if (peek() == ']') {
+					position++;
+					return "";
+				}
+				do {
+					items.add(readValue());
+				} while (accept(','));
+				expect(']');
+				return String.join(VEHICLE_SEPARATOR, items);
+			}
+			int start = position;
+			while (position < line.length() && ",}] \t".indexOf(line.charAt(position)) < 0) {
+				position++;
+			}
+			if (start == position) {
+				throw invalid("Value expected");
+			}
+			String token = line.substring(start, position);
+			return "null".equals(token) ? null : token;
+		}
+
+		private String readString() throws BusinessException {
+			expect('"');
+			StringBuilder value = new StringBuilder();
+			while (position < line.length()) {
+				char next = line.charAt(position++);
+				if (next == '"') {
+					return value.toString();
+				}
+				if (next == '\\' && position < line.length()) {
+					char escaped = line.charAt(position++);
+					switch (escaped) {
+						case 'n': value.append('\n'); break;
+						case 't': value.append('\t'); break;
+						case 'r': value.append('\r'); break;
+						case 'b': value.append('\b'); break;
+						case 'f': value.append('\f'); break;
+						case 'u':
+							value.append(readUnicodeEscape());
+							break;
+						default: value.append(escaped);
+					}
+				} else {
+					value.append(next);
+				}
+			}
+			throw invalid("Unterminated string");
+		}
+
+		private char readUnicodeEscape() throws BusinessException {
+			try {
+				char value = (char) Integer.parseInt(line.substring(position, position + 4), 16);
+				position += 4;
+				return value;
+			} catch (NumberFormatException | IndexOutOfBoundsException e) {
+				throw invalid("Invalid unicode escape");
+			}
+		}
+
+		private char peek() {
+			while (position < line.length() && Character.isWhitespace(line.charAt(position))) {
+				position++;
+			}
+			return position < line.length() ? line.charAt(position) : 0;
+		}
+
+		private boolean accept(char pExpected) {
+			if (peek() == pExpected) {
+				position++;
+				return true;
+			}
+			return false;
+		}
+
+		private void expect(char pExpected) throws BusinessException {
+			if (!accept(pExpected)) {
+				throw invalid("'" + pExpected + "' expected");
+			}
+		}
+
+		private BusinessException invalid(String pMessage) {
+			return new BusinessException("Invalid JSON. " + pMessage + " at position " + position + ".");
+		}
+	}
+}
@@ -0,0 +1,43 @@
+/*
+* Copyright (c) 2017, Ritesh. All rights reserved.
+*
+*/
+package in.geektrust.lengaburu.traffic.initializer;
+
+import java.nio.file.Paths;
+import java.util.Map;
+
+import in.geektrust.lengaburu.traffic.engine.ContractionHierarchies;
+import in.geektrust.lengaburu.traffic.exception.BusinessException;
+import in.geektrust.lengaburu.traffic.network.RoadNetwork;
+
+/**
+ * DESCRIPTION - This class is responsible to build contraction hierarchies of the network provided by LengaburuTrafficInitializer,
+ * for the given speed limits, and save them into a file. It is the offline preprocessing step, so later runs only open
+ * the file with -Dlengaburu.hierarchy.file=<hierarchy file>. Hierarchies of all (weather, vehicle) metrics are built in parallel.
+ *
+ * Usage: java [-Dlengaburu.snapshot.file=<snapshot file> | -Dlengaburu.data.dir=<data directory>] in.geektrust.lengaburu.traffic.initializer.LengaburuTrafficHierarchyCompiler <hierarchy file> <speed limits file>
+ *
+ * Speed limits file has one 'OrbitName,SpeedLimit' record per line (see LengaburuTrafficFileLoader). Other orbits are closed.
+ *
+ * @author - Ritesh Bangal
+ * @version 1.0
+ * @since <17-October-2026>
+ */
+public class LengaburuTrafficHierarchyCompiler {
+
+	public static void main(String[] args) throws BusinessException {
+		if (args.length < 2) {
+			System.out.println("Usage: java " + LengaburuTrafficHierarchyCompiler.class.getName()
+					+ " <hierarchy file> <speed limits file>");
+			return;
+		}
+		RoadNetwork network = LengaburuTrafficInitializer.getInstance().getRoadNetwork();
+		Map<String, Integer> orbitSpeedLimitMap = LengaburuTrafficFileLoader.getInstance().loadSpeedLimits(Paths.get(args[1]));
+		long startTime = System.nanoTime();
+		ContractionHierarchies hierarchies = ContractionHierarchies.build(network, orbitSpeedLimitMap);
+		hierarchies.write(Paths.get(args[0]));
+		System.out.println("Compiled " + hierarchies + " of " + network + " into " + args[0] + " in "
+				+ (System.nanoTime() - startTime) / 1_000_000 + " ms");
+	}
+}
@@ -4,9 +4,15 @@
 */
 package in.geektrust.lengaburu.traffic.initializer;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 import in.geektrust.lengaburu.traffic.beans.Orbit;
@@ -14,6 +20,12 @@ import in.geektrust.lengaburu.traffic.beans.Vehicle;
 import in.geektrust.lengaburu.traffic.beans.Velocity;
 import in.geektrust.lengaburu.traffic.beans.Weather;
 import in.geektrust.lengaburu.traffic.beans.WeatherType;
+import in.geektrust.lengaburu.traffic.engine.ContractionHierarchies;
+import in.geektrust.lengaburu.traffic.exception.BusinessException;
+import in.geektrust.lengaburu.traffic.network.RoadNetwork;
+import in.geektrust.lengaburu.traffic.network.RoadNetworkSnapshot;
+import in.geektrust.lengaburu.traffic.network.SpeedProfile;
+import in.geektrust.lengaburu.traffic.network.SpeedProfileTable;
 
 /**
  * DESCRIPTION - This class is responsible to initialize all data with hard coded values. Data has been initialized from the standard I/O in the problem pdf.
@@ -22,8 +34,16 @@ import in.geektrust.lengaburu.traffic.beans.WeatherType;
  * 	-	List of all possible weathers
  *  - 	List of available vehicles
  *  -  	List of routes/orbits, and its corresponding details.
+ *  -	Immutable, indexed RoadNetwork snapshot of all above details. It is built once, and can be replaced as a whole.
+ *  	Replacement is a single atomic reference swap (copy-on-write), so queries never wait for it (see LengaburuTrafficReloader).
+ *  -	Speed profiles of orbits by time of day (e.g. evening jam on Silk Drob), for time-dependent routes.
+ *  -	Contraction hierarchies of the network for a set of speed limits, if any. They are built offline
+ *  	(see LengaburuTrafficHierarchyCompiler), and opened from the file of system property 'lengaburu.hierarchy.file'.
  *  
  * Note: In real time application, these values will be retrieved from database or file system or through any third party web service.
+ * 		 If system property 'lengaburu.snapshot.file' is set, network is opened from that binary snapshot file
+ * 		 (see RoadNetworkSnapshot). Else if system property 'lengaburu.data.dir' is set, they are loaded from
+ * 		 orbits.csv, vehicles.csv and weathers.csv of that directory instead (see LengaburuTrafficFileLoader).
  *  
  * @author - Ritesh Bangal
  * @version 1.0
@@ -31,11 +51,64 @@ import in.geektrust.lengaburu.traffic.beans.WeatherType;
  */
 public class LengaburuTrafficInitializer {
 
+	// System property for the directory of data files
+	public static final String DATA_DIRECTORY_PROPERTY = "lengaburu.data.dir";
+
+	// System property for the binary snapshot file
+	public static final String SNAPSHOT_FILE_PROPERTY = "lengaburu.snapshot.file";
+
+	// System property for the contraction hierarchies file
+	public static final String HIERARCHY_FILE_PROPERTY = "lengaburu.hierarchy.file";
+
 	// Create an object of SingleObject
 	private static LengaburuTrafficInitializer initializerInstance = new LengaburuTrafficInitializer();
 
+	// Snapshot of orbits, vehicles and weathers. Used for all look-ups. Replaced only as a whole, never modified.
+	private final AtomicReference<RoadNetwork> roadNetwork = new AtomicReference<>();
+
+	// Speed profiles by orbit name, and the same resolved for the latest network. Each is replaced only as a whole.
+	private final AtomicReference<Map<String, SpeedProfile>> speedProfiles = new AtomicReference<>(getAllSpeedProfiles());
+	private final AtomicReference<SpeedProfileTable> speedProfileTable = new AtomicReference<>();
+
+	// Contraction hierarchies, or null if there are none. They are used only for the network and speed limits they were built for.
+	private final AtomicReference<ContractionHierarchies> contractionHierarchies = new AtomicReference<>();
+
 	private LengaburuTrafficInitializer() {
 		// Make the constructor private so that this class cannot be instantiated
+		String snapshotFile = System.getProperty(SNAPSHOT_FILE_PROPERTY);
+		String dataDirectory = System.getProperty(DATA_DIRECTORY_PROPERTY);
+		try {
+			if (null != snapshotFile) {
+				roadNetwork.set(RoadNetworkSnapshot.open(Paths.get(snapshotFile)));
+			} else if (null != dataDirectory) {
+				roadNetwork.set(loadRoadNetwork(Paths.get(dataDirectory)));
+			} else {
+				roadNetwork.set(RoadNetwork.build(getAllOrbits(), getAllVehicles(), getAllWeatherDetails()));
+			}
+		} catch (BusinessException e) {
+			throw new IllegalStateException("Unable to load road network: " + e.getMessage(), e);
+		}
+		String hierarchyFile = System.getProperty(HIERARCHY_FILE_PROPERTY);
+		try {
+			if (null != hierarchyFile) {
+				contractionHierarchies.set(ContractionHierarchies.open(Paths.get(hierarchyFile), roadNetwork.get()));
+			}
+		} catch (BusinessException e) {
+			throw new IllegalStateException("Unable to open contraction hierarchies: " + e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Load orbits.csv, vehicles.csv and weathers.csv from the directory, into a RoadNetwork snapshot.
+	 * Snapshot is not used until it is set with replaceRoadNetwork().
+	 * 
+	 * @param pDataDirectory - Directory of data files
+	 * @return - RoadNetwork snapshot
+	 * @throws BusinessException - If any file can't be read, or has invalid records.
+	 */
+	public RoadNetwork loadRoadNetwork(Path pDataDirectory) throws BusinessException {
+		return LengaburuTrafficFileLoader.getInstance().loadRoadNetwork(pDataDirectory.resolve("orbits.csv"),
+				pDataDirectory.resolve("vehicles.csv"), pDataDirectory.resolve("weathers.csv"));
 	}
 
 	// Get the only object available
@@ -43,6 +116,102 @@ public class LengaburuTrafficInitializer {
 		return initializerInstance;
 	}
 
+	/**
+	 * Returns the immutable, indexed snapshot of all orbits, vehicles and weathers.
+	 * Unlike getAllXXX() methods, it doesn't allocate anything on each call.
+	 * 
+	 * @return - RoadNetwork snapshot
+	 */
+	public RoadNetwork getRoadNetwork() {
+		return roadNetwork.get();
+	}
+
+	/**
+	 * Replaces the snapshot (e.g. with a network loaded from a file or generated for benchmarks) with one atomic swap, 
+	 * and returns the replaced one.
+	 * New snapshot is fully built before, so there is no lock and no pause for queries:
+	 * queries which are already running finish on the replaced snapshot, and new queries see the new one.
+	 * 
+	 * @param pRoadNetwork - New RoadNetwork snapshot
+	 * @return - Replaced RoadNetwork snapshot
+	 */
+	public RoadNetwork replaceRoadNetwork(RoadNetwork pRoadNetwork) {
+		if (null == pRoadNetwork) {
+			throw new IllegalArgumentException("Road network can't be null.");
+		}
+		return roadNetwork.getAndSet(pRoadNetwork);
+	}
+
+	/**
+	 * Returns speed profiles of orbits by time of day, resolved for the given network snapshot.
+	 * It is resolved once for each snapshot (and speed profiles), so repeated calls don't allocate.
+	 * 
+	 * @param pNetwork - RoadNetwork snapshot of the query
+	 * @return - Speed profile table of the network
+	 */
+	public SpeedProfileTable getSpeedProfileTable(RoadNetwork pNetwork) {
+		Map<String, SpeedProfile> orbitSpeedProfileMap = speedProfiles.get();
+		SpeedProfileTable table = speedProfileTable.get();
+		if (null == table || table.getNetwork() != pNetwork || table.getOrbitSpeedProfileMap() != orbitSpeedProfileMap) {
+			table = SpeedProfileTable.of(pNetwork, orbitSpeedProfileMap);
+			speedProfileTable.set(table);
+		}
+		return table;
+	}
+
+	/**
+	 * Returns contraction hierarchies, if any. Check ContractionHierarchies.isBuiltFor() before using them for a query.
+	 * 
+	 * @return - Contraction hierarchies, or null if there are none.
+	 */
+	public ContractionHierarchies getContractionHierarchies() {
+		return contractionHierarchies.get();
+	}
+
+	/**
+	 * Replaces contraction hierarchies, with one atomic swap. e.g. after building them for the latest network.
+	 * 
+	 * @param pContractionHierarchies - Contraction hierarchies, or null to stop using them.
+	 */
+	public void setContractionHierarchies(ContractionHierarchies pContractionHierarchies) {
+		contractionHierarchies.set(pContractionHierarchies);
+	}
+
+	public Map<String, SpeedProfile> getSpeedProfiles() {
+		return speedProfiles.get();
+	}
+
+	/**
+	 * Replaces speed profiles of all orbits, with one atomic swap. Orbits which are not in the map have only static speed limit.
+	 * 
+	 * @param pOrbitSpeedProfileMap - Speed profile corresponding to orbit name
+	 */
+	public void setSpeedProfiles(Map<String, SpeedProfile> pOrbitSpeedProfileMap) {
+		if (null == pOrbitSpeedProfileMap) {
+			throw new IllegalArgumentException("Speed profiles can't be null.");
+		}
+		speedProfiles.set(Collections.unmodifiableMap(new HashMap<>(pOrbitSpeedProfileMap)));
+	}
+
+	/**
+	 * This method is responsible for
+	 * 	-	Populate speed profiles of orbits by time of day, with hard coded values.
+	 * 
+	 * Evening jam on Silk Drob: Orbit1 and Orbit2 (Silk Drob to Hallitharam) slow down from 16:00, 
+	 * crawl at 6 megamiles/hour from 17:30 to 19:00, and are clear again by 20:00.
+	 * Rest of the time (and on other orbits), only user's speed limit applies.
+	 * 
+	 * @return - Speed profile corresponding to orbit name
+	 */
+	public Map<String, SpeedProfile> getAllSpeedProfiles() {
+		Map<String, SpeedProfile> orbitSpeedProfileMap = new HashMap<>();
+		SpeedProfile eveningJam = SpeedProfile.of(new int[] {16 * 60, 17 * 60 + 30, 19 * 60, 20 * 60}, 
+				new int[] {100, 6, 6, 100});
+		orbitSpeedProfileMap.put("Orbit1", eveningJam);
+		orbitSpeedProfileMap.put("Orbit2", eveningJam);
+		return Collections.unmodifiableMap(orbitSpeedProfileMap);
+	}
+
 	/**
 	 * This method is responsible for
 	 * 	-	Populate all Weather objects with hard coded values from the standard I/O in the problem pdf.
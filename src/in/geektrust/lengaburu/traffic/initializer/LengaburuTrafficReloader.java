@@ -0,0 +1,244 @@
+/*
+* Copyright (c) 2017, Ritesh. All rights reserved.
+*
+*/
+package in.geektrust.lengaburu.traffic.initializer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import in.geektrust.lengaburu.traffic.exception.BusinessException;
+import in.geektrust.lengaburu.traffic.network.RoadNetwork;
+import in.geektrust.lengaburu.traffic.network.RoadNetworkSnapshot;
+
+/**
+ * DESCRIPTION - This class is responsible to reload the road network, whenever its data source changes.
+ *
+ * Data source is either the data directory (orbits.csv, vehicles.csv and weathers.csv) or a binary snapshot file,
+ * same as LengaburuTrafficInitializer. It performs following operations, on a background (daemon) thread:
+ * 	1.	Watch the directory of the data source, with a WatchService.
+ * 	2.	Once data files have changed and then stayed unchanged for QUIET_PERIOD_MILLIS, build a new RoadNetwork.
+ * 	3.	Publish the new network with one atomic swap (LengaburuTrafficInitializer.replaceRoadNetwork()).
+ *
+ * Queries read the network only once, so queries which are already running finish on the old version
+ * and new queries see the new one. There is no lock on the query path, so throughput doesn't pause during a reload.
+ * If the new data is invalid (e.g. a file is still being written), old network is kept and the failure is reported
+ * through getFailureCount() and getLastError().
+ * Cached results of the old version are dropped by CachingTrafficFinder, as version of the network changes.
+ *
+ * Note: Snapshot file should be replaced with a move (as RoadNetworkSnapshot.write() does), not rewritten in place.
+ * 		 As old network keeps reading the file it was opened from, until its last query is finished.
+ *
+ * @author - Ritesh Bangal
+ * @version 1.0
+ * @since <17-October-2026>
+ */
+public class LengaburuTrafficReloader implements Closeable {
+
+	// Time to wait for more changes, before reloading. So a change of many files is reloaded only once.
+	public static final long QUIET_PERIOD_MILLIS = 500;
+
+	/**
+	 * Source of the road network, e.g. files of the data directory.
+	 */
+	@FunctionalInterface
+	public interface NetworkSource {
+
+		/**
+		 * @return - Newly built RoadNetwork
+		 * @throws BusinessException - If data can't be read, or has invalid records.
+		 */
+		RoadNetwork load() throws BusinessException;
+	}
+
+	// Get the only object available for LengaburuTrafficInitializer
+	private static LengaburuTrafficInitializer initializer = LengaburuTrafficInitializer.getInstance();
+
+	private final Path directory;
+	private final Set<Path> watchedFileNames;
+	private final NetworkSource source;
+
+	private final AtomicLong reloadCount = new AtomicLong();
+	private final AtomicLong failureCount = new AtomicLong();
+	private volatile String lastError;
+
+	private WatchService watchService;
+	private Thread watcherThread;
+
+	/**
+	 * @param pDirectory - Directory to watch
+	 * @param pWatchedFileNames - Names of files in the directory, whose change reloads the network
+	 * @param pSource - Source to build the new network from
+	 */
+	public LengaburuTrafficReloader(Path pDirectory, Set<Path> pWatchedFileNames, NetworkSource pSource) {
+		if (null == pDirectory || null == pWatchedFileNames || null == pSource) {
+			throw new IllegalArgumentException("Directory, file names and source of the network can't be null.");
+		}
+		this.directory = pDirectory.toAbsolutePath();
+		this.watchedFileNames = Collections.unmodifiableSet(new HashSet<>(pWatchedFileNames));
+		this.source = pSource;
+	}
+
+	/**
+	 * Reloader for orbits.csv, vehicles.csv and weathers.csv of the data directory.
+	 *
+	 * @param pDataDirectory - Directory of data files
+	 * @return - Reloader, not yet started
+	 */
+	public static LengaburuTrafficReloader forDataDirectory(Path pDataDirectory) {
+		return new LengaburuTrafficReloader(pDataDirectory,
+				new HashSet<>(Arrays.asList(Paths.get("orbits.csv"), Paths.get("vehicles.csv"), Paths.get("weathers.csv"))),
+				() -> initializer.loadRoadNetwork(pDataDirectory));
+	}
+
+	/**
+	 * Reloader for a binary snapshot file.
+	 *
+	 * @param pSnapshotFile - Snapshot file
+	 * @return - Reloader, not yet started
+	 */
+	public static LengaburuTrafficReloader forSnapshotFile(Path pSnapshotFile) {
+		Path snapshotFile = pSnapshotFile.toAbsolutePath();
+		return new LengaburuTrafficReloader(snapshotFile.getParent(), Collections.singleton(snapshotFile.getFileName()),
+				() -> RoadNetworkSnapshot.open(snapshotFile));
+	}
+
+	/**
+	 * Reloader for the data source LengaburuTrafficInitializer has loaded from, i.e. system property
+	 * 'lengaburu.snapshot.file' or 'lengaburu.data.dir'.
+	 *
+	 * @return - Reloader, not yet started. Or null, if network was initialized with hard coded values.
+	 */
+	public static LengaburuTrafficReloader forConfiguredSource() {
+		String snapshotFile = System.getProperty(LengaburuTrafficInitializer.SNAPSHOT_FILE_PROPERTY);
+		String dataDirectory = System.getProperty(LengaburuTrafficInitializer.DATA_DIRECTORY_PROPERTY);
+		if (null != snapshotFile) {
+			return forSnapshotFile(Paths.get(snapshotFile));
+		} else if (null != dataDirectory) {
+			return forDataDirectory(Paths.get(dataDirectory));
+		}
+		return null;
+	}
+
+	/**
+	 * Start watching the data source, on a daemon thread.
+	 *
+	 * @throws IOException - If the directory can't be watched.
+	 */
+	public synchronized void start() throws IOException {
+		if (null != watcherThread) {
+			throw new IllegalStateException("Reloader has already been started.");
+		}
+		watchService = FileSystems.getDefault().newWatchService();
+		directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+		watcherThread = new Thread(this::watch, "lengaburu-network-reloader");
+		watcherThread.setDaemon(true);
+		watcherThread.start();
+	}
+
+	/**
+	 * Build a new network from the data source, and publish it with one atomic swap.
+	 * Reloads are done one at a time, but queries are never blocked by them.
+	 *
+	 * @return - true if the network was replaced. false if it couldn't be built, and old network is kept.
+	 */
+	public synchronized boolean reload() {
+		try {
+			RoadNetwork newNetwork = source.load();
+			initializer.replaceRoadNetwork(newNetwork);
+			reloadCount.incrementAndGet();
+			lastError = null;
+			return true;
+		} catch (BusinessException | RuntimeException e) {
+			failureCount.incrementAndGet();
+			lastError = "Unable to reload road network, keeping version " + initializer.getRoadNetwork().getVersion()
+					+ ": " + e.getMessage();
+			return false;
+		}
+	}
+
+	/*
+	 * Wait for changes of watched files, and reload once they are quiet.
+	 */
+	private void watch() {
+		try {
+			while (true) {
+				boolean changed = isWatchedFileChanged(watchService.take());
+				while (changed) {
+					WatchKey nextKey = watchService.poll(QUIET_PERIOD_MILLIS, TimeUnit.MILLISECONDS);
+					if (null == nextKey) {
+						reload();
+						changed = false;
+					} else {
+						isWatchedFileChanged(nextKey);
+					}
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ClosedWatchServiceException e) {
+			// Reloader is closed
+		}
+	}
+
+	private boolean isWatchedFileChanged(WatchKey pKey) {
+		boolean changed = false;
+		for (WatchEvent<?> event : pKey.pollEvents()) {
+			if (event.kind() == StandardWatchEventKinds.OVERFLOW || watchedFileNames.contains(event.context())) {
+				changed = true;
+			}
+		}
+		pKey.reset();
+		return changed;
+	}
+
+	/**
+	 * Stop watching the data source. Current network is kept.
+	 */
+	@Override
+	public synchronized void close() throws IOException {
+		if (null != watchService) {
+			watchService.close();
+		}
+		if (null != watcherThread) {
+			watcherThread.interrupt();
+		}
+	}
+
+	public Path getDirectory() {
+		return directory;
+	}
+
+	public Set<Path> getWatchedFileNames() {
+		return watchedFileNames;
+	}
+
+	public long getReloadCount() {
+		return reloadCount.get();
+	}
+
+	public long getFailureCount() {
+		return failureCount.get();
+	}
+
+	/**
+	 * @return - Error of the last reload, with the network version which was kept. null if the last reload succeeded.
+	 */
+	public String getLastError() {
+		return lastError;
+	}
+}
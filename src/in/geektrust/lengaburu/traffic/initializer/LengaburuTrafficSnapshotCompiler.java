@@ -0,0 +1,34 @@
+/*
+* Copyright (c) 2017, Ritesh. All rights reserved.
+*
+*/
+package in.geektrust.lengaburu.traffic.initializer;
+
+import java.nio.file.Paths;
+
+import in.geektrust.lengaburu.traffic.exception.BusinessException;
+import in.geektrust.lengaburu.traffic.network.RoadNetwork;
+import in.geektrust.lengaburu.traffic.network.RoadNetworkSnapshot;
+
+/**
+ * DESCRIPTION - This class is responsible to compile the network provided by LengaburuTrafficInitializer,
+ * into a binary snapshot file. Later runs can open it with -Dlengaburu.snapshot.file=<snapshot file>.
+ *
+ * Usage: java [-Dlengaburu.data.dir=<data directory>] in.geektrust.lengaburu.traffic.initializer.LengaburuTrafficSnapshotCompiler <snapshot file>
+ *
+ * @author - Ritesh Bangal
+ * @version 1.0
+ * @since <17-October-2026>
+ */
+public class LengaburuTrafficSnapshotCompiler {
+
+	public static void main(String[] args) throws BusinessException {
+		if (args.length < 1) {
+			System.out.println("Usage: java " + LengaburuTrafficSnapshotCompiler.class.getName() + " <snapshot file>");
+			return;
+		}
+		RoadNetwork network = LengaburuTrafficInitializer.getInstance().getRoadNetwork();
+		RoadNetworkSnapshot.write(network, Paths.get(args[0]));
+		System.out.println("Compiled " + network + " into " + args[0]);
+	}
+}
@@ -0,0 +1,164 @@
+/*
+* Copyright (c) 2017, Ritesh. All rights reserved.
+*
+*/
+package in.geektrust.lengaburu.traffic.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * DESCRIPTION - This class is a lock-free histogram of latencies, in nanoseconds.
+ *
+ * Buckets are log-linear: each power of two is split into SUB_BUCKET_COUNT buckets, so any latency
+ * (from 1 ns to hundreds of years) fits in BUCKET_COUNT buckets, with at most 12.5% error.
+ * Recording is an index calculation and three atomic increments, so any number of threads can record at once.
+ *
+ * Note: Percentiles are read from the live counts, without stopping the recording threads.
+ * 		 So they can be slightly off while queries are running, which is fine for monitoring.
+ *
+ * @author - Ritesh Bangal
+ * @version 1.0
+ * @since <17-October-2026>
+ */
+public class LatencyHistogram implements LatencyHistogramMXBean {
+
+	private static final int SUB_BUCKET_BITS = 3;
+	private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+	private static final int BUCKET_COUNT = (64 - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT;
+
+	private final String phase;
+	private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+	private final LongAdder count = new LongAdder();
+	private final LongAdder totalNanos = new LongAdder();
+	private final AtomicLong maxNanos = new AtomicLong();
+
+	/**
+	 * @param pPhase - Name of the phase, whose latencies are recorded
+	 */
+	public LatencyHistogram(String pPhase) {
+		this.phase = pPhase;
+	}
+
+	/**
+	 * Record one latency.
+	 *
+	 * @param pNanos - Latency in nanoseconds. Negative values are recorded as 0.
+	 */
+	public void record(long pNanos) {
+		long nanos = Math.max(0, pNanos);
+		counts.incrementAndGet(indexOf(nanos));
+		count.increment();
+		totalNanos.add(nanos);
+		long max = maxNanos.get();
+		while (nanos > max && !maxNanos.compareAndSet(max, nanos)) {
+			max = maxNanos.get();
+		}
+	}
+
+	private static int indexOf(long pNanos) {
+		if (pNanos < SUB_BUCKET_COUNT) {
+			return (int) pNanos;
+		}
+		int exponent = 63 - Long.numberOfLeadingZeros(pNanos);
+		int subBucket = (int) (pNanos >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+		return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + subBucket;
+	}
+
+	// Highest latency, which falls in the bucket
+	private static long upperBoundOf(int pIndex) {
+		if (pIndex < SUB_BUCKET_COUNT) {
+			return pIndex;
+		}
+		int shift = pIndex / SUB_BUCKET_COUNT - 1;
+		long lowerBound = (long) (SUB_BUCKET_COUNT + pIndex % SUB_BUCKET_COUNT) << shift;
+		return lowerBound + (1L << shift) - 1;
+	}
+
+	/**
+	 * @param pPercentile - Percentile, from 0.0 to 1.0
+	 * @return - Latency in nanoseconds, which pPercentile of the recorded latencies don't exceed. 0 if nothing is recorded.
+	 */
+	public long getPercentileNanos(double pPercentile) {
+		long[] snapshot = new long[BUCKET_COUNT];
+		long total = 0;
+		for (int index = 0; index < BUCKET_COUNT; index++) {
+			snapshot[index] = counts.get(index);
+			total += snapshot[index];
+		}
+		long rank = Math.max(1, (long) Math.ceil(total * pPercentile));
+		long seen = 0;
+		for (int index = 0; index < BUCKET_COUNT; index++) {
+			seen += snapshot[index];
+			if (seen >= rank) {
+				return Math.min(upperBoundOf(index), maxNanos.get());
+			}
+		}
+		return 0;
+	}
+
+	@Override
+	public String getPhase() {
+		return phase;
+	}
+
+	@Override
+	public long getCount() {
+		return count.sum();
+	}
+
+	@Override
+	public double getMeanMicros() {
+		long recorded = count.sum();
+		return (recorded == 0) ? 0 : totalNanos.sum() / 1000.0 / recorded;
+	}
+
+	@Override
+	public double getMedianMicros() {
+		return getPercentileNanos(0.5) / 1000.0;
+	}
+
+	@Override
+	public double get90thPercentileMicros() {
+		return getPercentileNanos(0.9) / 1000.0;
+	}
+
+	@Override
+	public double get99thPercentileMicros() {
+		return getPercentileNanos(0.99) / 1000.0;
+	}
+
+	@Override
+	public double get999thPercentileMicros() {
+		return getPercentileNanos(0.999) / 1000.0;
+	}
+
+	@Override
+	public double getMaxMicros() {
+		return maxNanos.get() / 1000.0;
+	}
+
+	/**
+	 * Clear all recorded latencies. Latencies recorded at the same time may be partly kept.
+	 */
+	@Override
+	public void reset() {
+		for (int index = 0; index < BUCKET_COUNT; index++) {
+			counts.set(index, 0);
+		}
+		count.reset();
+		totalNanos.reset();
+		maxNanos.set(0);
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("LatencyHistogram [phase=").append(phase).append(", count=").append(getCount())
+			.append(", meanMicros=").append(getMeanMicros()).append(", medianMicros=").append(getMedianMicros())
+			.append(", 99thPercentileMicros=").append(get99thPercentileMicros())
+			.append(", maxMicros=").append(getMaxMicros()).append("]");
+		return builder.toString();
+	}
+}
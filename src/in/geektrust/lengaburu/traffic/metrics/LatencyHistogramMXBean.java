@@ -0,0 +1,35 @@
+/*
+* Copyright (c) 2017, Ritesh. All rights reserved.
+*
+*/
+package in.geektrust.lengaburu.traffic.metrics;
+
+/**
+ * DESCRIPTION - Management interface of LatencyHistogram, i.e. latency of one phase of the queries.
+ *
+ * Percentiles are upper bounds of their histogram bucket, i.e. within 12.5% of the actual value.
+ *
+ * @author - Ritesh Bangal
+ * @version 1.0
+ * @since <17-October-2026>
+ */
+public interface LatencyHistogramMXBean {
+
+	String getPhase();
+
+	long getCount();
+
+	double getMeanMicros();
+
+	double getMedianMicros();
+
+	double get90thPercentileMicros();
+
+	double get99thPercentileMicros();
+
+	double get999thPercentileMicros();
+
+	double getMaxMicros();
+
+	void reset();
+}
@@ -0,0 +1,235 @@
+/*
+* Copyright (c) 2017, Ritesh. All rights reserved.
+*
+*/
+package in.geektrust.lengaburu.traffic.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import in.geektrust.lengaburu.traffic.beans.WeatherType;
+
+/**
+ * DESCRIPTION - This class is responsible to record latency of each phase of the queries, along with query counters.
+ *
+ * It keeps following metrics:
+ * 	1.	A LatencyHistogram for each Phase, e.g. validateUserInputs, getSuitableVehicles, findOptimumTraverseDetail.
+ * 	2.	Counters of queries per weather type, and of (vehicle, orbit-sequence) candidates evaluated and pruned.
+ * All of them are lock-free (atomic and LongAdder increments), so recording never becomes a bottleneck.
+ *
+ * Phases are timed as below, so that nothing is read from the clock when metrics are disabled:
+ * 		long startTime = metrics.startTime();
+ * 		...
+ * 		metrics.record(Phase.GET_WEATHER_BY_TYPE, startTime);
+ *
+ * Metrics are exposed as MXBeans (domain 'in.geektrust.lengaburu.traffic'), once registerMXBeans() is called.
+ * Set system property 'lengaburu.metrics.enabled' to false, to turn off recording.
+ *
+ * @author - Ritesh Bangal
+ * @version 1.0
+ * @since <17-October-2026>
+ */
+public class TrafficMetrics implements TrafficMetricsMXBean {
+
+	// System property to turn off recording
+	public static final String ENABLED_PROPERTY = "lengaburu.metrics.enabled";
+
+	public static final String DOMAIN = "in.geektrust.lengaburu.traffic";
+
+	private static final String INVALID_WEATHER_TYPE = "Invalid";
+
+	private static final boolean ENABLED = !"false".equalsIgnoreCase(System.getProperty(ENABLED_PROPERTY));
+
+	private static final WeatherType[] WEATHER_TYPES = WeatherType.values();
+
+	/**
+	 * Phases of the queries, which are timed.
+	 */
+	public enum Phase {
+		VALIDATE_USER_INPUTS("validateUserInputs"),
+		GET_WEATHER_BY_TYPE("getWeatherByType"),
+		GET_SUITABLE_VEHICLES("getSuitableVehicles"),
+		ENUMERATE_ORBIT_SEQUENCES("getAvailableOrbitSequences"),
+		GET_TRAVERSE_DETAILS("getTraverseDetails"),
+		FIND_OPTIMUM_TRAVERSE_DETAIL("findOptimumTraverseDetail"),
+		FIND_TOP_TRAVERSE_DETAILS("findTopTraverseDetails"),
+		FIND_FASTEST_ROUTE("findFastestRoute"),
+		FIND_FASTEST_TOUR("findFastestTour"),
+		FIND_TIME_DEPENDENT_ROUTE("findTimeDependentRoute"),
+		COMPUTE_TRAVEL_TIME_MATRIX("computeTravelTimeMatrix"),
+		FIND_PARETO_ROUTES("findParetoRoutes");
+
+		private final String name;
+
+		private Phase(String pName) {
+			this.name = pName;
+		}
+
+		@Override
+		public String toString() {
+			return name;
+		}
+	}
+
+	// Create an object of SingleObject
+	private static TrafficMetrics metricsInstance = new TrafficMetrics();
+
+	private final LatencyHistogram[] histograms = new LatencyHistogram[Phase.values().length];
+
+	// Queries by weather type ordinal. Last one is for invalid weather types.
+	private final LongAdder[] weatherQueries = new LongAdder[WEATHER_TYPES.length + 1];
+	private final LongAdder candidatesEvaluated = new LongAdder();
+	private final LongAdder candidatesPruned = new LongAdder();
+
+	private boolean registered;
+
+	private TrafficMetrics() {
+		// Make the constructor private so that this class cannot be instantiated
+		for (Phase phase : Phase.values()) {
+			histograms[phase.ordinal()] = new LatencyHistogram(phase.toString());
+		}
+		for (int index = 0; index < weatherQueries.length; index++) {
+			weatherQueries[index] = new LongAdder();
+		}
+	}
+
+	// Get the only object available
+	public static TrafficMetrics getInstance() {
+		return metricsInstance;
+	}
+
+	/**
+	 * Register TrafficMetrics and a LatencyHistogram for each phase, with the platform MBeanServer.
+	 * It is done only once, further calls are ignored.
+	 *
+	 * @throws IllegalStateException - If MXBeans can't be registered.
+	 */
+	public synchronized void registerMXBeans() {
+		if (registered) {
+			return;
+		}
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		try {
+			server.registerMBean(this, new ObjectName(DOMAIN + ":type=TrafficMetrics"));
+			for (LatencyHistogram histogram : histograms) {
+				server.registerMBean(histogram, new ObjectName(DOMAIN + ":type=PhaseLatency,name=" + histogram.getPhase()));
+			}
+		} catch (JMException e) {
+			throw new IllegalStateException("Unable to register metrics MXBeans: " + e.getMessage(), e);
+		}
+		registered = true;
+	}
+
+	/**
+	 * @return - Current time in nanoseconds, to be passed to record(). 0 if metrics are disabled.
+	 */
+	public long startTime() {
+		return ENABLED ? System.nanoTime() : 0;
+	}
+
+	/**
+	 * Record latency of a phase, from its start time till now.
+	 *
+	 * @param pPhase - Phase which has finished
+	 * @param pStartTime - Value of startTime(), when the phase started
+	 */
+	public void record(Phase pPhase, long pStartTime) {
+		if (ENABLED) {
+			histograms[pPhase.ordinal()].record(System.nanoTime() - pStartTime);
+		}
+	}
+
+	/**
+	 * Count a query, by its weather type.
+	 *
+	 * @param pWeatherType - Weather type of the query (user input)
+	 */
+	public void countQuery(String pWeatherType) {
+		if (ENABLED) {
+			int index = WEATHER_TYPES.length;
+			for (WeatherType weatherType : WEATHER_TYPES) {
+				if (weatherType.toString().equalsIgnoreCase(pWeatherType)) {
+					index = weatherType.ordinal();
+					break;
+				}
+			}
+			weatherQueries[index].increment();
+		}
+	}
+
+	/**
+	 * Count candidates of a query. Callers add them up locally, and count once per query.
+	 *
+	 * @param pEvaluated - Candidates whose traverse time was calculated
+	 * @param pPruned - Candidates skipped by the lower bound
+	 */
+	public void countCandidates(long pEvaluated, long pPruned) {
+		if (ENABLED) {
+			candidatesEvaluated.add(pEvaluated);
+			candidatesPruned.add(pPruned);
+		}
+	}
+
+	/**
+	 * @param pPhase - Phase
+	 * @return - Latency histogram of the phase
+	 */
+	public LatencyHistogram getHistogram(Phase pPhase) {
+		return histograms[pPhase.ordinal()];
+	}
+
+	@Override
+	public boolean isEnabled() {
+		return ENABLED;
+	}
+
+	@Override
+	public long getQueryCount() {
+		long queryCount = 0;
+		for (LongAdder queries : weatherQueries) {
+			queryCount += queries.sum();
+		}
+		return queryCount;
+	}
+
+	@Override
+	public Map<String, Long> getQueriesPerWeatherType() {
+		Map<String, Long> queriesPerWeatherType = new LinkedHashMap<>();
+		for (WeatherType weatherType : WEATHER_TYPES) {
+			queriesPerWeatherType.put(weatherType.toString(), weatherQueries[weatherType.ordinal()].sum());
+		}
+		queriesPerWeatherType.put(INVALID_WEATHER_TYPE, weatherQueries[WEATHER_TYPES.length].sum());
+		return queriesPerWeatherType;
+	}
+
+	@Override
+	public long getCandidatesEvaluated() {
+		return candidatesEvaluated.sum();
+	}
+
+	@Override
+	public long getCandidatesPruned() {
+		return candidatesPruned.sum();
+	}
+
+	/**
+	 * Clear all counters and histograms.
+	 */
+	@Override
+	public void reset() {
+		for (LongAdder queries : weatherQueries) {
+			queries.reset();
+		}
+		candidatesEvaluated.reset();
+		candidatesPruned.reset();
+		for (LatencyHistogram histogram : histograms) {
+			histogram.reset();
+		}
+	}
+}
@@ -0,0 +1,32 @@
+/*
+* Copyright (c) 2017, Ritesh. All rights reserved.
+*
+*/
+package in.geektrust.lengaburu.traffic.metrics;
+
+import java.util.Map;
+
+/**
+ * DESCRIPTION - Management interface of TrafficMetrics, i.e. counters of all queries.
+ *
+ * @author - Ritesh Bangal
+ * @version 1.0
+ * @since <17-October-2026>
+ */
+public interface TrafficMetricsMXBean {
+
+	boolean isEnabled();
+
+	long getQueryCount();
+
+	// Queries by weather type. Unknown weather types are counted under "Invalid".
+	Map<String, Long> getQueriesPerWeatherType();
+
+	// (vehicle, orbit-sequence) candidates whose traverse time was calculated
+	long getCandidatesEvaluated();
+
+	// (vehicle, orbit-sequence) candidates skipped by the lower bound, without calculating their traverse time
+	long getCandidatesPruned();
+
+	void reset();
+}
@@ -0,0 +1,143 @@
+/*
+* Copyright (c) 2017, Ritesh. All rights reserved.
+*
+*/
+package in.geektrust.lengaburu.traffic.network;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * DESCRIPTION - This class is an immutable table of distinct names (e.g. suburb names), indexed by position.
+ *
+ * Names are kept as UTF-8 bytes in one buffer, along with an open addressing hash table from name to index.
+ * Buffer can be on heap (network built in memory) or a mapped file (network opened from a snapshot),
+ * so look-ups work in place, without building a HashMap first. Name Strings are decoded only when asked for.
+ *
+ * Note: Hash of a name is derived from String.hashCode(), which is same on every JVM. So the table can be persisted.
+ *
+ * @author - Ritesh Bangal
+ * @version 1.0
+ * @since <17-October-2026>
+ */
+final class NameTable {
+
+	static final int EMPTY_SLOT = -1;
+
+	private final boolean ignoreCase;
+	private final ByteBuffer bytes;
+	private final int[] offsets;
+	private final int[] slots;
+	private final AtomicReferenceArray<String> names;
+
+	NameTable(boolean pIgnoreCase, ByteBuffer pBytes, int[] pOffsets, int[] pSlots) {
+		this.ignoreCase = pIgnoreCase;
+		this.bytes = pBytes;
+		this.offsets = pOffsets;
+		this.slots = pSlots;
+		this.names = new AtomicReferenceArray<>(pOffsets.length - 1);
+	}
+
+	/**
+	 * Create a table of the names.
+	 *
+	 * @param pNames - Distinct names (case insensitive, if pIgnoreCase is true). Position becomes the index.
+	 * @param pIgnoreCase - Whether look-ups are case insensitive
+	 * @return - Name table
+	 */
+	static NameTable of(List<String> pNames, boolean pIgnoreCase) {
+		int[] offsets = new int[pNames.size() + 1];
+		byte[][] encoded = new byte[pNames.size()][];
+		for (int index = 0; index < pNames.size(); index++) {
+			encoded[index] = pNames.get(index).getBytes(StandardCharsets.UTF_8);
+			offsets[index + 1] = offsets[index] + encoded[index].length;
+		}
+		ByteBuffer bytes = ByteBuffer.allocate(offsets[pNames.size()]);
+		for (byte[] name : encoded) {
+			bytes.put(name);
+		}
+		bytes.flip();
+
+		int[] slots = new int[Integer.highestOneBit(Math.max(2, pNames.size()) * 2 - 1) << 1];
+		Arrays.fill(slots, EMPTY_SLOT);
+		int mask = slots.length - 1;
+		for (int index = 0; index < pNames.size(); index++) {
+			int slot = hash(pNames.get(index), pIgnoreCase) & mask;
+			while (slots[slot] != EMPTY_SLOT) {
+				slot = (slot + 1) & mask;
+			}
+			slots[slot] = index;
+		}
+		NameTable table = new NameTable(pIgnoreCase, bytes, offsets, slots);
+		for (int index = 0; index < pNames.size(); index++) {
+			table.names.set(index, pNames.get(index));
+		}
+		return table;
+	}
+
+	private static int hash(String pName, boolean pIgnoreCase) {
+		int hash = (pIgnoreCase ? pName.toLowerCase(Locale.ENGLISH) : pName).hashCode() * 0x9E3779B9;
+		return hash ^ (hash >>> 16);
+	}
+
+	int size() {
+		return offsets.length - 1;
+	}
+
+	/**
+	 * @param pIndex - Index of the name
+	 * @return - Name at the index
+	 */
+	String get(int pIndex) {
+		String name = names.get(pIndex);
+		if (null == name) {
+			byte[] encoded = new byte[offsets[pIndex + 1] - offsets[pIndex]];
+			ByteBuffer view = bytes.duplicate();
+			view.position(offsets[pIndex]);
+			view.get(encoded);
+			names.compareAndSet(pIndex, null, new String(encoded, StandardCharsets.UTF_8));
+			name = names.get(pIndex);
+		}
+		return name;
+	}
+
+	/**
+	 * @param pName - Name to look up
+	 * @return - Index of the name, or -1 if it doesn't exist.
+	 */
+	int indexOf(String pName) {
+		if (null == pName) {
+			return -1;
+		}
+		int mask = slots.length - 1;
+		int slot = hash(pName, ignoreCase) & mask;
+		while (slots[slot] != EMPTY_SLOT) {
+			String name = get(slots[slot]);
+			if (ignoreCase ? name.equalsIgnoreCase(pName) : name.equals(pName)) {
+				return slots[slot];
+			}
+			slot = (slot + 1) & mask;
+		}
+		return -1;
+	}
+
+	boolean isIgnoreCase() {
+		return ignoreCase;
+	}
+
+	ByteBuffer getBytes() {
+		return bytes.duplicate();
+	}
+
+	int[] getOffsets() {
+		return offsets;
+	}
+
+	int[] getSlots() {
+		return slots;
+	}
+}
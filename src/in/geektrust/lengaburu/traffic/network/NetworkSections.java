@@ -0,0 +1,50 @@
+/*
+* Copyright (c) 2017, Ritesh. All rights reserved.
+*
+*/
+package in.geektrust.lengaburu.traffic.network;
+
+import java.util.List;
+
+import in.geektrust.lengaburu.traffic.beans.Vehicle;
+import in.geektrust.lengaburu.traffic.beans.Weather;
+
+/**
+ * DESCRIPTION - This class holds raw sections of a RoadNetwork, i.e. everything it is made of.
+ *
+ * Sections are either indexed from orbits, vehicles and weathers (RoadNetwork.build),
+ * or read from a binary snapshot file (RoadNetworkSnapshot.open). RoadNetwork is then created from them, in both cases.
+ * See RoadNetwork for meaning of each section.
+ *
+ * @author - Ritesh Bangal
+ * @version 1.0
+ * @since <17-October-2026>
+ */
+final class NetworkSections {
+
+	// Suburb names, and distinct orbit names
+	NameTable suburbTable;
+	NameTable orbitNameTable;
+
+	// Orbit details, indexed by orbit id
+	int[] orbitNameIndex;
+	int[] orbitSource;
+	int[] orbitDestination;
+	int[] orbitDistance;
+	int[] orbitCraters;
+
+	// Orbit ids grouped by orbit name: ids of name 'n' are nameOrbits[nameStart[n]] ... nameOrbits[nameStart[n + 1] - 1]
+	int[] nameStart;
+	int[] nameOrbits;
+
+	// Adjacency lists, and (source, destination) pair index
+	int[] outgoingStart;
+	int[] outgoingOrbits;
+	long[] pairKeys;
+	int[] pairStart;
+	int[] pairEnd;
+
+	// Vehicle and weather details
+	List<Vehicle> vehicles;
+	List<Weather> weathers;
+}
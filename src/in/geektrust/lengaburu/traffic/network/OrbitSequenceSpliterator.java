@@ -0,0 +1,195 @@
+/*
+* Copyright (c) 2017, Ritesh. All rights reserved.
+*
+*/
+package in.geektrust.lengaburu.traffic.network;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import in.geektrust.lengaburu.traffic.beans.Orbit;
+
+/**
+ * DESCRIPTION - This class enumerates orbit-sequences from a source, visiting each destination once, lazily.
+ *
+ * An orbit-sequence has one orbit for each destination, i.e. source to a destination, then to another destination and so on.
+ * Sequences are produced in the same order as LengaburuTrafficHelper.getAvailableOrbitSequences() always did:
+ * next destination in input order, and orbits between two suburbs in orbit id order.
+ *
+ * Enumeration is a depth first walk over the CSR adjacency of RoadNetwork. Only the current path and the candidate orbits
+ * of each level are kept, so memory stays flat irrespective of number of sequences, and the first one is produced right away.
+ * trySplit() hands over the first half of the unvisited orbits of the shallowest level (along with the current path),
+ * so parallel workers share the enumeration space without building it.
+ *
+ * Note: It isn't thread safe, same as any Spliterator. Each split is consumed by a single thread at a time.
+ *
+ * @author - Ritesh Bangal
+ * @version 1.0
+ * @since <17-October-2026>
+ */
+public final class OrbitSequenceSpliterator implements Spliterator<List<Orbit>> {
+
+	private static final int[] NO_ORBITS = new int[0];
+
+	private final RoadNetwork network;
+	private final int[] destinationIds;
+
+	// Candidate orbit ids of each level, along with index of the destination they reach
+	private final int[][] levelOrbits;
+	private final int[][] levelDestinations;
+
+	// Unvisited candidates of each level are [next, end). Orbit of the current path is at next - 1.
+	private final int[] next;
+	private final int[] end;
+
+	// Levels below baseLevel are fixed for this split. Level is the deepest one being walked.
+	private int baseLevel;
+	private int level;
+	private long estimatedSize;
+
+	/**
+	 * @param pNetwork - Road network snapshot
+	 * @param pSource - Source suburb name
+	 * @param pDestinations - Destination suburb names. Each orbit-sequence visits all of them, in any order.
+	 */
+	public OrbitSequenceSpliterator(RoadNetwork pNetwork, String pSource, List<String> pDestinations) {
+		int levels = pDestinations.size();
+		this.network = pNetwork;
+		this.destinationIds = pDestinations.stream().mapToInt(pNetwork::getSuburbId).toArray();
+		this.levelOrbits = new int[levels][];
+		this.levelDestinations = new int[levels][];
+		this.next = new int[levels];
+		this.end = new int[levels];
+		if (levels == 0) {
+			this.level = -1;
+			return;
+		}
+		enter(0, pNetwork.getSuburbId(pSource));
+
+		// Roughly same number of orbits between any two suburbs, and one destination less on each level
+		long orbitsPerPair = Math.max(1, end[0] / levels);
+		long size = end[0];
+		for (int remainingDestinations = levels - 1; remainingDestinations > 0 && size > 0; remainingDestinations--) {
+			size = (size > Long.MAX_VALUE / (orbitsPerPair * remainingDestinations))
+					? Long.MAX_VALUE : size * orbitsPerPair * remainingDestinations;
+		}
+		this.estimatedSize = size;
+	}
+
+	private OrbitSequenceSpliterator(OrbitSequenceSpliterator pSpliterator) {
+		this.network = pSpliterator.network;
+		this.destinationIds = pSpliterator.destinationIds;
+		this.levelOrbits = pSpliterator.levelOrbits.clone();
+		this.levelDestinations = pSpliterator.levelDestinations.clone();
+		this.next = pSpliterator.next.clone();
+		this.end = pSpliterator.end.clone();
+		this.baseLevel = pSpliterator.baseLevel;
+		this.level = pSpliterator.level;
+		this.estimatedSize = pSpliterator.estimatedSize;
+	}
+
+	@Override
+	public boolean tryAdvance(Consumer<? super List<Orbit>> pAction) {
+		while (level >= baseLevel) {
+			if (next[level] == end[level]) {
+				// All candidates of this level are visited, go back to the previous one
+				level--;
+				continue;
+			}
+			int candidate = next[level]++;
+			if (level == levelOrbits.length - 1) {
+				pAction.accept(getCurrentOrbits());
+				return true;
+			}
+			enter(level + 1, network.getOrbitDestination(levelOrbits[level][candidate]));
+		}
+		return false;
+	}
+
+	@Override
+	public Spliterator<List<Orbit>> trySplit() {
+		for (int splitLevel = baseLevel; splitLevel <= level; splitLevel++) {
+			// Deepest level has no current path below it, so at least one candidate is kept on each side
+			int unvisited = end[splitLevel] - next[splitLevel];
+			if (unvisited > 1 || (unvisited == 1 && splitLevel < level)) {
+				int middle = next[splitLevel] + unvisited / 2;
+
+				// First half, along with the current path, is handed over
+				OrbitSequenceSpliterator prefix = new OrbitSequenceSpliterator(this);
+				prefix.end[splitLevel] = middle;
+
+				// Second half stays, from its first candidate
+				baseLevel = splitLevel;
+				level = splitLevel;
+				next[splitLevel] = middle;
+				estimatedSize >>>= 1;
+				prefix.estimatedSize = estimatedSize;
+				return prefix;
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public long estimateSize() {
+		return estimatedSize;
+	}
+
+	@Override
+	public int characteristics() {
+		return ORDERED | DISTINCT | NONNULL | IMMUTABLE;
+	}
+
+	/*
+	 * Populate candidates of the level, i.e. orbits from the suburb to each destination not yet on the current path.
+	 */
+	private void enter(int pLevel, int pSuburbId) {
+		int count = 0;
+		for (int destination = 0; destination < destinationIds.length; destination++) {
+			int slot = findPair(pLevel, pSuburbId, destination);
+			if (slot >= 0) {
+				count += network.getPairEnd(slot) - network.getPairStart(slot);
+			}
+		}
+		int[] orbits = (count == 0) ? NO_ORBITS : new int[count];
+		int[] destinations = (count == 0) ? NO_ORBITS : new int[count];
+		int index = 0;
+		for (int destination = 0; destination < destinationIds.length; destination++) {
+			int slot = findPair(pLevel, pSuburbId, destination);
+			if (slot >= 0) {
+				for (int pairIndex = network.getPairStart(slot); pairIndex < network.getPairEnd(slot); pairIndex++) {
+					orbits[index] = network.getOutgoingOrbit(pairIndex);
+					destinations[index++] = destination;
+				}
+			}
+		}
+		levelOrbits[pLevel] = orbits;
+		levelDestinations[pLevel] = destinations;
+		next[pLevel] = 0;
+		end[pLevel] = count;
+		level = pLevel;
+	}
+
+	// Pair slot from the suburb to the destination, or -1 if it is unknown or already on the current path
+	private int findPair(int pLevel, int pSuburbId, int pDestination) {
+		if (pSuburbId < 0 || destinationIds[pDestination] < 0) {
+			return -1;
+		}
+		for (int visitedLevel = 0; visitedLevel < pLevel; visitedLevel++) {
+			if (levelDestinations[visitedLevel][next[visitedLevel] - 1] == pDestination) {
+				return -1;
+			}
+		}
+		return network.findPair(pSuburbId, destinationIds[pDestination]);
+	}
+
+	private List<Orbit> getCurrentOrbits() {
+		List<Orbit> orbits = new ArrayList<>(levelOrbits.length);
+		for (int pathLevel = 0; pathLevel < levelOrbits.length; pathLevel++) {
+			orbits.add(network.getOrbit(levelOrbits[pathLevel][next[pathLevel] - 1]));
+		}
+		return orbits;
+	}
+}
@@ -0,0 +1,518 @@
+/*
+* Copyright (c) 2017, Ritesh. All rights reserved.
+*
+*/
+package in.geektrust.lengaburu.traffic.network;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import in.geektrust.lengaburu.traffic.beans.Orbit;
+import in.geektrust.lengaburu.traffic.beans.Vehicle;
+import in.geektrust.lengaburu.traffic.beans.Velocity;
+import in.geektrust.lengaburu.traffic.beans.Weather;
+import in.geektrust.lengaburu.traffic.beans.WeatherType;
+import in.geektrust.lengaburu.traffic.engine.TraverseCost;
+
+/**
+ * DESCRIPTION - This class is an immutable, indexed snapshot of the Lengaburu road network.
+ *
+ * It is built once from the orbits, vehicles and weathers (or opened from a RoadNetworkSnapshot file),
+ * and never changes afterwards. It holds:
+ * 	-	Suburb names interned to int ids (case insensitive, as user inputs are matched with equalsIgnoreCase).
+ * 	-	Orbit details in parallel primitive arrays, indexed by orbit id (i.e. position of the orbit in the input list).
+ * 	-	Adjacency lists keyed by source suburb, where orbits of a source are sorted by destination.
+ * 	-	An open addressing hash table from (source, destination) to the range of orbits in the adjacency list.
+ * 	-	Cost components of each orbit for each weather and its suitable vehicles (see WeatherCostTable).
+ *
+ * So any (source, destination) lookup is O(1) and costs time in proportion to its result size, not to the network size.
+ *
+ * Note: Here source and destination, can't be interchanged. As road could be two ways.
+ * 		 i.e. A to B is not same with B to A.
+ *
+ * @author - Ritesh Bangal
+ * @version 1.0
+ * @since <17-October-2026>
+ */
+public final class RoadNetwork {
+
+	private static final String DEFAULT_SPEED_UNIT = "megamiles/hour";
+
+	static final long EMPTY_PAIR_KEY = -1L;
+
+	private static final int[] NO_ORBIT_IDS = new int[0];
+
+	// Every snapshot gets a new version, so that derived data (e.g. cached results) can identify stale entries.
+	private static final AtomicLong VERSION_SEQUENCE = new AtomicLong();
+
+	private final long version;
+
+	// Suburb names, interned to int ids (i.e. position in the table)
+	private final NameTable suburbTable;
+
+	// Orbit details, indexed by orbit id
+	private final int[] orbitNameIndex;
+	private final int[] orbitSource;
+	private final int[] orbitDestination;
+	private final int[] orbitDistance;
+	private final int[] orbitCraters;
+
+	// Orbit objects are created on first use, so that a network opened from a snapshot doesn't create them upfront.
+	private final AtomicReferenceArray<Orbit> orbits;
+
+	/*
+	 * Orbit ids by orbit name. Name is not unique, e.g. 'Orbit4' connects both RK Puram to Hallitharam and vice versa.
+	 * Ids of the name at index 'n' of orbitNameTable are nameOrbits[nameStart[n]] ... nameOrbits[nameStart[n + 1] - 1].
+	 */
+	private final NameTable orbitNameTable;
+	private final int[] nameStart;
+	private final int[] nameOrbits;
+	private final AtomicReferenceArray<int[]> orbitIdsByName;
+
+	/*
+	 * Adjacency lists in compressed form. Orbits going out from suburb 's' are
+	 * outgoingOrbits[outgoingStart[s]] ... outgoingOrbits[outgoingStart[s + 1] - 1], sorted by destination.
+	 */
+	private final int[] outgoingStart;
+	private final int[] outgoingOrbits;
+
+	// Open addressing hash table: (source, destination) -> [pairStart, pairEnd) range in outgoingOrbits
+	private final long[] pairKeys;
+	private final int[] pairStart;
+	private final int[] pairEnd;
+	private final int pairMask;
+
+	// Vehicle and weather details
+	private final List<Vehicle> vehicles;
+	private final Map<WeatherType, Weather> weathers;
+
+	// Precomputed orbit cost components, for each weather
+	private final Map<WeatherType, WeatherCostTable> costTables;
+
+	RoadNetwork(NetworkSections pSections) {
+		this.version = VERSION_SEQUENCE.incrementAndGet();
+		this.suburbTable = pSections.suburbTable;
+		this.orbitNameIndex = pSections.orbitNameIndex;
+		this.orbitSource = pSections.orbitSource;
+		this.orbitDestination = pSections.orbitDestination;
+		this.orbitDistance = pSections.orbitDistance;
+		this.orbitCraters = pSections.orbitCraters;
+		this.orbits = new AtomicReferenceArray<>(orbitSource.length);
+		this.orbitNameTable = pSections.orbitNameTable;
+		this.nameStart = pSections.nameStart;
+		this.nameOrbits = pSections.nameOrbits;
+		this.orbitIdsByName = new AtomicReferenceArray<>(orbitNameTable.size());
+		this.outgoingStart = pSections.outgoingStart;
+		this.outgoingOrbits = pSections.outgoingOrbits;
+		this.pairKeys = pSections.pairKeys;
+		this.pairStart = pSections.pairStart;
+		this.pairEnd = pSections.pairEnd;
+		this.pairMask = pairKeys.length - 1;
+
+		// Vehicles and weathers
+		this.vehicles = Collections.unmodifiableList(new ArrayList<>(pSections.vehicles));
+		Map<WeatherType, Weather> weatherMap = new EnumMap<>(WeatherType.class);
+		pSections.weathers.stream().forEach(weather -> weatherMap.put(weather.getWeatherType(), weather));
+		this.weathers = Collections.unmodifiableMap(weatherMap);
+
+		// Precompute cost components, so that queries only compute the speed limit dependent term.
+		int orbitCount = orbitSource.length;
+		int[] distanceMinutes = new int[orbitCount];
+		for (int orbitId = 0; orbitId < orbitCount; orbitId++) {
+			distanceMinutes[orbitId] = orbitDistance[orbitId] * TraverseCost.MINUTES_PER_HOUR;
+		}
+		Map<WeatherType, WeatherCostTable> costTableMap = new EnumMap<>(WeatherType.class);
+		weatherMap.values().stream().forEach(weather -> costTableMap.put(weather.getWeatherType(),
+				new WeatherCostTable(weather, this.vehicles, distanceMinutes, orbitCraters)));
+		this.costTables = Collections.unmodifiableMap(costTableMap);
+	}
+
+	/**
+	 * Build an immutable snapshot of the road network.
+	 *
+	 * @param pOrbits - All available orbits. Position of an orbit in this list becomes its orbit id.
+	 * @param pVehicles - All available vehicles. Sequence should be maintained for the tie rule.
+	 * @param pWeathers - All possible weathers
+	 * @return - Road network snapshot
+	 */
+	public static RoadNetwork build(List<Orbit> pOrbits, List<Vehicle> pVehicles, List<Weather> pWeathers) {
+		NetworkSections sections = new NetworkSections();
+
+		// Intern suburb names and orbit names to int ids, in order of their first appearance.
+		List<String> suburbNames = new ArrayList<>();
+		Map<String, Integer> suburbIds = new HashMap<>();
+		List<String> orbitNames = new ArrayList<>();
+		Map<String, Integer> orbitNameIds = new HashMap<>();
+		int orbitCount = pOrbits.size();
+		sections.orbitNameIndex = new int[orbitCount];
+		sections.orbitSource = new int[orbitCount];
+		sections.orbitDestination = new int[orbitCount];
+		sections.orbitDistance = new int[orbitCount];
+		sections.orbitCraters = new int[orbitCount];
+		for (int orbitId = 0; orbitId < orbitCount; orbitId++) {
+			Orbit orbit = pOrbits.get(orbitId);
+			sections.orbitNameIndex[orbitId] = intern(orbit.getOrbitName(), orbit.getOrbitName(), orbitNames, orbitNameIds);
+			sections.orbitSource[orbitId] = intern(orbit.getSource(), normalize(orbit.getSource()), suburbNames, suburbIds);
+			sections.orbitDestination[orbitId] = intern(orbit.getDestination(), normalize(orbit.getDestination()),
+					suburbNames, suburbIds);
+			sections.orbitDistance[orbitId] = orbit.getDistance();
+			sections.orbitCraters[orbitId] = orbit.getNumberOfCraters();
+		}
+		sections.suburbTable = NameTable.of(suburbNames, true);
+		sections.orbitNameTable = NameTable.of(orbitNames, false);
+
+		// Group orbit ids by orbit name, using counting sort. So ids of each name are in orbit id order.
+		sections.nameStart = new int[orbitNames.size() + 1];
+		sections.nameOrbits = new int[orbitCount];
+		groupBy(sections.orbitNameIndex, sections.nameStart, sections.nameOrbits);
+
+		// Build adjacency lists, using counting sort on source and then stable sort on destination.
+		int suburbCount = suburbNames.size();
+		sections.outgoingStart = new int[suburbCount + 1];
+		sections.outgoingOrbits = new int[orbitCount];
+		groupBy(sections.orbitSource, sections.outgoingStart, sections.outgoingOrbits);
+		for (int suburbId = 0; suburbId < suburbCount; suburbId++) {
+			sortByDestination(sections.outgoingOrbits, sections.orbitDestination,
+					sections.outgoingStart[suburbId], sections.outgoingStart[suburbId + 1]);
+		}
+
+		// Index each (source, destination) range of the adjacency lists
+		int[] outgoingOrbits = sections.outgoingOrbits;
+		int pairCount = 0;
+		for (int index = 0; index < orbitCount; index++) {
+			if (index == 0 || !isSamePair(sections, outgoingOrbits[index - 1], outgoingOrbits[index])) {
+				pairCount++;
+			}
+		}
+		int capacity = Integer.highestOneBit(Math.max(2, pairCount) * 2 - 1) << 1;
+		sections.pairKeys = new long[capacity];
+		sections.pairStart = new int[capacity];
+		sections.pairEnd = new int[capacity];
+		Arrays.fill(sections.pairKeys, EMPTY_PAIR_KEY);
+		for (int index = 0; index < orbitCount; ) {
+			int orbitId = outgoingOrbits[index];
+			int end = index + 1;
+			while (end < orbitCount && isSamePair(sections, orbitId, outgoingOrbits[end])) {
+				end++;
+			}
+			long key = pairKey(sections.orbitSource[orbitId], sections.orbitDestination[orbitId]);
+			int slot = slotOf(key, capacity - 1);
+			while (sections.pairKeys[slot] != EMPTY_PAIR_KEY) {
+				slot = (slot + 1) & (capacity - 1);
+			}
+			sections.pairKeys[slot] = key;
+			sections.pairStart[slot] = index;
+			sections.pairEnd[slot] = end;
+			index = end;
+		}
+
+		sections.vehicles = pVehicles;
+		sections.weathers = pWeathers;
+		return new RoadNetwork(sections);
+	}
+
+	/*
+	 * Raw sections of this network, e.g. to write them into a snapshot file.
+	 */
+	NetworkSections getSections() {
+		NetworkSections sections = new NetworkSections();
+		sections.suburbTable = suburbTable;
+		sections.orbitNameTable = orbitNameTable;
+		sections.orbitNameIndex = orbitNameIndex;
+		sections.orbitSource = orbitSource;
+		sections.orbitDestination = orbitDestination;
+		sections.orbitDistance = orbitDistance;
+		sections.orbitCraters = orbitCraters;
+		sections.nameStart = nameStart;
+		sections.nameOrbits = nameOrbits;
+		sections.outgoingStart = outgoingStart;
+		sections.outgoingOrbits = outgoingOrbits;
+		sections.pairKeys = pairKeys;
+		sections.pairStart = pairStart;
+		sections.pairEnd = pairEnd;
+		sections.vehicles = vehicles;
+		sections.weathers = new ArrayList<>(weathers.values());
+		return sections;
+	}
+
+	private static int intern(String pName, String pKey, List<String> pNames, Map<String, Integer> pIds) {
+		Integer id = pIds.get(pKey);
+		if (null == id) {
+			id = pNames.size();
+			pNames.add(pName);
+			pIds.put(pKey, id);
+		}
+		return id;
+	}
+
+	private static String normalize(String pName) {
+		return pName.toLowerCase(Locale.ENGLISH);
+	}
+
+	/*
+	 * Counting sort of ids (i.e. positions of pKeys) by key. pStart gets start of each key's range in pIds.
+	 */
+	private static void groupBy(int[] pKeys, int[] pStart, int[] pIds) {
+		int keyCount = pStart.length - 1;
+		for (int key : pKeys) {
+			pStart[key + 1]++;
+		}
+		for (int key = 0; key < keyCount; key++) {
+			pStart[key + 1] += pStart[key];
+		}
+		int[] position = Arrays.copyOf(pStart, keyCount);
+		for (int id = 0; id < pKeys.length; id++) {
+			pIds[position[pKeys[id]]++] = id;
+		}
+	}
+
+	static long pairKey(int pSourceId, int pDestinationId) {
+		return ((long) pSourceId << 32) | (pDestinationId & 0xFFFFFFFFL);
+	}
+
+	static int slotOf(long pKey, int pMask) {
+		long hash = pKey * 0x9E3779B97F4A7C15L;
+		return (int) (hash ^ (hash >>> 32)) & pMask;
+	}
+
+	private static boolean isSamePair(NetworkSections pSections, int pFirstOrbitId, int pSecondOrbitId) {
+		return pSections.orbitSource[pFirstOrbitId] == pSections.orbitSource[pSecondOrbitId]
+				&& pSections.orbitDestination[pFirstOrbitId] == pSections.orbitDestination[pSecondOrbitId];
+	}
+
+	/*
+	 * Insertion sort by destination. Orbits with same destination keep their relative order (i.e. orbit id order).
+	 * Adjacency lists are short in practice, and the sort runs only once while building the snapshot.
+	 */
+	private static void sortByDestination(int[] pOutgoingOrbits, int[] pOrbitDestination, int pFrom, int pTo) {
+		for (int i = pFrom + 1; i < pTo; i++) {
+			int orbitId = pOutgoingOrbits[i];
+			int destinationId = pOrbitDestination[orbitId];
+			int j = i - 1;
+			while (j >= pFrom && pOrbitDestination[pOutgoingOrbits[j]] > destinationId) {
+				pOutgoingOrbits[j + 1] = pOutgoingOrbits[j];
+				j--;
+			}
+			pOutgoingOrbits[j + 1] = orbitId;
+		}
+	}
+
+	/**
+	 * Find the slot of (source, destination) pair, in the pair index.
+	 *
+	 * @param pSourceId - Source suburb id
+	 * @param pDestinationId - Destination suburb id
+	 * @return - Slot of the pair, or -1 if no orbit exists between them.
+	 */
+	public int findPair(int pSourceId, int pDestinationId) {
+		if (pSourceId < 0 || pDestinationId < 0) {
+			return -1;
+		}
+		long key = pairKey(pSourceId, pDestinationId);
+		int slot = slotOf(key, pairMask);
+		while (pairKeys[slot] != EMPTY_PAIR_KEY) {
+			if (pairKeys[slot] == key) {
+				return slot;
+			}
+			slot = (slot + 1) & pairMask;
+		}
+		return -1;
+	}
+
+	/**
+	 * @param pSlot - Slot returned by findPair
+	 * @return - First index (inclusive) in the adjacency lists, for orbits of the pair
+	 */
+	public int getPairStart(int pSlot) {
+		return pairStart[pSlot];
+	}
+
+	/**
+	 * @param pSlot - Slot returned by findPair
+	 * @return - Last index (exclusive) in the adjacency lists, for orbits of the pair
+	 */
+	public int getPairEnd(int pSlot) {
+		return pairEnd[pSlot];
+	}
+
+	/**
+	 * Get all orbits between any source and destination, in orbit id order.
+	 *
+	 * @param pSource - Source suburb name
+	 * @param pDestination - Destination suburb name
+	 * @return - Orbits between source and destination. Empty list, if there is none.
+	 */
+	public List<Orbit> getOrbits(String pSource, String pDestination) {
+		int slot = findPair(getSuburbId(pSource), getSuburbId(pDestination));
+		if (slot < 0) {
+			return Collections.emptyList();
+		}
+		List<Orbit> pairOrbits = new ArrayList<>(pairEnd[slot] - pairStart[slot]);
+		for (int index = pairStart[slot]; index < pairEnd[slot]; index++) {
+			pairOrbits.add(getOrbit(outgoingOrbits[index]));
+		}
+		return pairOrbits;
+	}
+
+	/**
+	 * Checks if any orbit exists for given source and destination combination.
+	 *
+	 * @param pSource - Source suburb name
+	 * @param pDestination - Destination suburb name
+	 * @return - If exists true, else false.
+	 */
+	public boolean hasOrbit(String pSource, String pDestination) {
+		return findPair(getSuburbId(pSource), getSuburbId(pDestination)) >= 0;
+	}
+
+	/**
+	 * Find weather by weather type.
+	 *
+	 * @param pWeatherType - Weather type, case insensitive
+	 * @return - Matched Weather, or null if there is no such weather.
+	 */
+	public Weather getWeather(String pWeatherType) {
+		for (WeatherType weatherType : WeatherType.values()) {
+			if (weatherType.toString().equalsIgnoreCase(pWeatherType)) {
+				return weathers.get(weatherType);
+			}
+		}
+		return null;
+	}
+
+	public Weather getWeather(WeatherType pWeatherType) {
+		return weathers.get(pWeatherType);
+	}
+
+	/**
+	 * @param pWeatherType - Weather type
+	 * @return - Precomputed orbit cost components for the weather, or null if there is no such weather.
+	 */
+	public WeatherCostTable getCostTable(WeatherType pWeatherType) {
+		return costTables.get(pWeatherType);
+	}
+
+	public long getVersion() {
+		return version;
+	}
+
+	public int getSuburbCount() {
+		return suburbTable.size();
+	}
+
+	/**
+	 * @param pSuburbName - Suburb name, case insensitive
+	 * @return - Suburb id, or -1 if suburb doesn't exist
+	 */
+	public int getSuburbId(String pSuburbName) {
+		return suburbTable.indexOf(pSuburbName);
+	}
+
+	public String getSuburbName(int pSuburbId) {
+		return suburbTable.get(pSuburbId);
+	}
+
+	public int getOrbitCount() {
+		return orbitSource.length;
+	}
+
+	/**
+	 * Network owns its own orbit objects, so that caller's objects are never shared across snapshots.
+	 * Speed limit of these orbits is always -1, as speed limits are kept per query (see SpeedLimitOverlay).
+	 *
+	 * @param pOrbitId - Orbit id
+	 * @return - Orbit object. Same object is returned for the same orbit id.
+	 */
+	public Orbit getOrbit(int pOrbitId) {
+		Orbit orbit = orbits.get(pOrbitId);
+		if (null == orbit) {
+			orbits.compareAndSet(pOrbitId, null, new Orbit(pOrbitId, orbitNameTable.get(orbitNameIndex[pOrbitId]),
+					getSuburbName(orbitSource[pOrbitId]), getSuburbName(orbitDestination[pOrbitId]),
+					orbitDistance[pOrbitId], orbitCraters[pOrbitId], new Velocity(-1, DEFAULT_SPEED_UNIT)));
+			orbit = orbits.get(pOrbitId);
+		}
+		return orbit;
+	}
+
+	/**
+	 * @param pOrbitName - Orbit name
+	 * @return - Ids of all orbits with this name, or empty array if there is none. Returned array must not be modified.
+	 */
+	public int[] getOrbitIds(String pOrbitName) {
+		int nameIndex = orbitNameTable.indexOf(pOrbitName);
+		if (nameIndex < 0) {
+			return NO_ORBIT_IDS;
+		}
+		int[] orbitIds = orbitIdsByName.get(nameIndex);
+		if (null == orbitIds) {
+			orbitIdsByName.compareAndSet(nameIndex, null,
+					Arrays.copyOfRange(nameOrbits, nameStart[nameIndex], nameStart[nameIndex + 1]));
+			orbitIds = orbitIdsByName.get(nameIndex);
+		}
+		return orbitIds;
+	}
+
+	public int getOrbitSource(int pOrbitId) {
+		return orbitSource[pOrbitId];
+	}
+
+	public int getOrbitDestination(int pOrbitId) {
+		return orbitDestination[pOrbitId];
+	}
+
+	public int getOrbitDistance(int pOrbitId) {
+		return orbitDistance[pOrbitId];
+	}
+
+	public int getOrbitCraters(int pOrbitId) {
+		return orbitCraters[pOrbitId];
+	}
+
+	/**
+	 * @param pSuburbId - Source suburb id
+	 * @return - First index (inclusive) in the adjacency lists, for orbits going out from the suburb
+	 */
+	public int getOutgoingStart(int pSuburbId) {
+		return outgoingStart[pSuburbId];
+	}
+
+	/**
+	 * @param pSuburbId - Source suburb id
+	 * @return - Last index (exclusive) in the adjacency lists, for orbits going out from the suburb
+	 */
+	public int getOutgoingEnd(int pSuburbId) {
+		return outgoingStart[pSuburbId + 1];
+	}
+
+	/**
+	 * @param pIndex - Index in the adjacency lists
+	 * @return - Orbit id at that index
+	 */
+	public int getOutgoingOrbit(int pIndex) {
+		return outgoingOrbits[pIndex];
+	}
+
+	public List<Vehicle> getVehicles() {
+		return vehicles;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder network = new StringBuilder("RoadNetwork");
+		network.append(": {")
+			.append("version=").append(version)
+			.append(", suburbs=").append(getSuburbCount())
+			.append(", orbits=").append(getOrbitCount())
+			.append(", vehicles=").append(vehicles.size())
+			.append("}");
+		return network.toString();
+	}
+}
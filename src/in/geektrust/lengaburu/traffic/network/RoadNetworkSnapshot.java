@@ -0,0 +1,345 @@
+/*
+* Copyright (c) 2017, Ritesh. All rights reserved.
+*
+*/
+package in.geektrust.lengaburu.traffic.network;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import in.geektrust.lengaburu.traffic.beans.Vehicle;
+import in.geektrust.lengaburu.traffic.beans.Velocity;
+import in.geektrust.lengaburu.traffic.beans.Weather;
+import in.geektrust.lengaburu.traffic.beans.WeatherType;
+import in.geektrust.lengaburu.traffic.exception.BusinessException;
+
+/**
+ * DESCRIPTION - This class writes a RoadNetwork into a versioned binary snapshot file, and opens it back.
+ *
+ * File is a sequence of sections, in little endian byte order:
+ * 	-	Header		: MAGIC, FORMAT_VERSION.
+ * 	-	Names		: Suburb and orbit name tables (UTF-8 bytes, offsets and hash slots). See NameTable.
+ * 	-	Orbits		: Orbit details, orbit ids grouped by name, adjacency lists and (source, destination) pair index.
+ * 	-	Vehicles and weathers.
+ * 	-	Footer		: MAGIC again, so that a truncated file is detected.
+ * Primitive sections are 8 byte aligned, and each of them is an int (or long) count followed by the values.
+ *
+ * Opening a snapshot maps the file with FileChannel.map and doesn't parse any record:
+ * 	-	Name tables are used in place, from the mapped file. Names are decoded only when asked for.
+ * 	-	Primitive sections are bulk copied into arrays, i.e. a memory copy of the section.
+ * 	-	Orbit objects are created only when asked for (see RoadNetwork.getOrbit).
+ * So opening time is bound by memory bandwidth, not by the number of orbits and suburbs.
+ *
+ * Note: File is written to a temporary file first and then moved, so that readers never see a partial snapshot.
+ * 		 A snapshot can be at most 2 GB, i.e. a single mapping.
+ *
+ * @author - Ritesh Bangal
+ * @version 1.0
+ * @since <17-October-2026>
+ */
+public final class RoadNetworkSnapshot {
+
+	// 'LNGB' in ASCII
+	public static final int MAGIC = 0x4C4E4742;
+
+	// Increment it whenever the layout changes. Files of other versions are rejected.
+	public static final int FORMAT_VERSION = 1;
+
+	private static final int ALIGNMENT = 8;
+	private static final int WRITE_BUFFER_SIZE = 1 << 20;
+
+	private RoadNetworkSnapshot() {
+		// Make the constructor private so that this class cannot be instantiated
+	}
+
+	/**
+	 * Write the network into a snapshot file. Existing file is replaced.
+	 *
+	 * @param pNetwork - Road network snapshot
+	 * @param pFile - Snapshot file
+	 * @throws BusinessException - If the file can't be written.
+	 */
+	public static void write(RoadNetwork pNetwork, Path pFile) throws BusinessException {
+		Path temporaryFile = pFile.resolveSibling(pFile.getFileName() + ".tmp");
+		try {
+			try (FileChannel channel = FileChannel.open(temporaryFile, StandardOpenOption.CREATE,
+					StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+				SectionWriter writer = new SectionWriter(channel);
+				NetworkSections sections = pNetwork.getSections();
+				writer.putInt(MAGIC);
+				writer.putInt(FORMAT_VERSION);
+
+				writer.putNameTable(sections.suburbTable);
+				writer.putNameTable(sections.orbitNameTable);
+
+				writer.putInts(sections.orbitNameIndex);
+				writer.putInts(sections.orbitSource);
+				writer.putInts(sections.orbitDestination);
+				writer.putInts(sections.orbitDistance);
+				writer.putInts(sections.orbitCraters);
+				writer.putInts(sections.nameStart);
+				writer.putInts(sections.nameOrbits);
+				writer.putInts(sections.outgoingStart);
+				writer.putInts(sections.outgoingOrbits);
+				writer.putLongs(sections.pairKeys);
+				writer.putInts(sections.pairStart);
+				writer.putInts(sections.pairEnd);
+
+				writer.putInt(sections.vehicles.size());
+				for (Vehicle vehicle : sections.vehicles) {
+					writer.putString(vehicle.getName());
+					writer.putInt(vehicle.getVelocity().getSpeed());
+					writer.putString(vehicle.getVelocity().getUnit());
+					writer.putInt(vehicle.getTimeToCrossCrater());
+				}
+				writer.putInt(sections.weathers.size());
+				for (Weather weather : sections.weathers) {
+					writer.putInt(weather.getWeatherType().ordinal());
+					writer.putInt(weather.getCraterChangeRate());
+					writer.putInt(weather.getSuitableVehicleNames().size());
+					for (String vehicleName : weather.getSuitableVehicleNames()) {
+						writer.putString(vehicleName);
+					}
+				}
+				writer.putInt(MAGIC);
+				writer.flush();
+				channel.force(true);
+			}
+			Files.move(temporaryFile, pFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			throw new BusinessException("Unable to write snapshot " + pFile + ": " + e.getMessage(), e);
+		} finally {
+			deleteQuietly(temporaryFile);
+		}
+	}
+
+	private static void deleteQuietly(Path pFile) {
+		try {
+			Files.deleteIfExists(pFile);
+		} catch (IOException e) {
+			// Nothing to do, temporary file is left behind.
+		}
+	}
+
+	/**
+	 * Open a snapshot file as a RoadNetwork.
+	 *
+	 * @param pFile - Snapshot file
+	 * @return - Road network snapshot
+	 * @throws BusinessException - If the file can't be read, or isn't a valid snapshot of this format version.
+	 */
+	public static RoadNetwork open(Path pFile) throws BusinessException {
+		try (FileChannel channel = FileChannel.open(pFile, StandardOpenOption.READ)) {
+			if (channel.size() > Integer.MAX_VALUE) {
+				throw new BusinessException("Snapshot " + pFile + " is larger than 2 GB.");
+			}
+			MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			SectionReader reader = new SectionReader(mapped);
+			if (reader.getInt() != MAGIC) {
+				throw new BusinessException(pFile + " is not a road network snapshot.");
+			}
+			int formatVersion = reader.getInt();
+			if (formatVersion != FORMAT_VERSION) {
+				throw new BusinessException("Snapshot " + pFile + " has format version " + formatVersion
+						+ ", but version " + FORMAT_VERSION + " is expected.");
+			}
+
+			NetworkSections sections = new NetworkSections();
+			sections.suburbTable = reader.getNameTable();
+			sections.orbitNameTable = reader.getNameTable();
+
+			sections.orbitNameIndex = reader.getInts();
+			sections.orbitSource = reader.getInts();
+			sections.orbitDestination = reader.getInts();
+			sections.orbitDistance = reader.getInts();
+			sections.orbitCraters = reader.getInts();
+			sections.nameStart = reader.getInts();
+			sections.nameOrbits = reader.getInts();
+			sections.outgoingStart = reader.getInts();
+			sections.outgoingOrbits = reader.getInts();
+			sections.pairKeys = reader.getLongs();
+			sections.pairStart = reader.getInts();
+			sections.pairEnd = reader.getInts();
+
+			int vehicleCount = reader.getInt();
+			sections.vehicles = new ArrayList<>(vehicleCount);
+			for (int vehicle = 0; vehicle < vehicleCount; vehicle++) {
+				String name = reader.getString();
+				int speed = reader.getInt();
+				String unit = reader.getString();
+				sections.vehicles.add(new Vehicle(name, new Velocity(speed, unit), reader.getInt()));
+			}
+			int weatherCount = reader.getInt();
+			sections.weathers = new ArrayList<>(weatherCount);
+			for (int weather = 0; weather < weatherCount; weather++) {
+				WeatherType weatherType = WeatherType.of(reader.getInt());
+				int craterChangeRate = reader.getInt();
+				int vehicleNameCount = reader.getInt();
+				List<String> vehicleNames = new ArrayList<>(vehicleNameCount);
+				for (int vehicleName = 0; vehicleName < vehicleNameCount; vehicleName++) {
+					vehicleNames.add(reader.getString());
+				}
+				sections.weathers.add(new Weather(weatherType, craterChangeRate, vehicleNames));
+			}
+			if (reader.getInt() != MAGIC) {
+				throw new BusinessException("Snapshot " + pFile + " is corrupted.");
+			}
+			return new RoadNetwork(sections);
+		} catch (IOException | RuntimeException e) {
+			throw new BusinessException("Unable to open snapshot " + pFile + ": " + e, e);
+		}
+	}
+
+	/*
+	 * Writes sections through a buffer, and keeps track of the position for alignment.
+	 */
+	private static final class SectionWriter {
+
+		private final FileChannel channel;
+		private final ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+		private long position;
+
+		private SectionWriter(FileChannel pChannel) {
+			this.channel = pChannel;
+		}
+
+		private void ensureRemaining(int pBytes) throws IOException {
+			if (buffer.remaining() < pBytes) {
+				flush();
+			}
+		}
+
+		private void flush() throws IOException {
+			buffer.flip();
+			while (buffer.hasRemaining()) {
+				channel.write(buffer);
+			}
+			buffer.clear();
+		}
+
+		private void putInt(int pValue) throws IOException {
+			ensureRemaining(Integer.BYTES);
+			buffer.putInt(pValue);
+			position += Integer.BYTES;
+		}
+
+		private void align() throws IOException {
+			while (position % ALIGNMENT != 0) {
+				ensureRemaining(1);
+				buffer.put((byte) 0);
+				position++;
+			}
+		}
+
+		private void putInts(int[] pValues) throws IOException {
+			putInt(pValues.length);
+			align();
+			for (int value : pValues) {
+				putInt(value);
+			}
+		}
+
+		private void putLongs(long[] pValues) throws IOException {
+			putInt(pValues.length);
+			align();
+			for (long value : pValues) {
+				ensureRemaining(Long.BYTES);
+				buffer.putLong(value);
+				position += Long.BYTES;
+			}
+		}
+
+		private void putBytes(ByteBuffer pBytes) throws IOException {
+			putInt(pBytes.remaining());
+			while (pBytes.hasRemaining()) {
+				ensureRemaining(1);
+				int length = Math.min(buffer.remaining(), pBytes.remaining());
+				ByteBuffer chunk = pBytes.duplicate();
+				chunk.limit(chunk.position() + length);
+				buffer.put(chunk);
+				pBytes.position(pBytes.position() + length);
+				position += length;
+			}
+		}
+
+		private void putString(String pValue) throws IOException {
+			putBytes(ByteBuffer.wrap(pValue.getBytes(StandardCharsets.UTF_8)));
+		}
+
+		private void putNameTable(NameTable pTable) throws IOException {
+			putInt(pTable.isIgnoreCase() ? 1 : 0);
+			putInts(pTable.getOffsets());
+			putInts(pTable.getSlots());
+			putBytes(pTable.getBytes());
+		}
+	}
+
+	/*
+	 * Reads sections from the mapped file.
+	 */
+	private static final class SectionReader {
+
+		private final ByteBuffer buffer;
+
+		private SectionReader(ByteBuffer pBuffer) {
+			this.buffer = pBuffer.order(ByteOrder.LITTLE_ENDIAN);
+		}
+
+		private int getInt() {
+			return buffer.getInt();
+		}
+
+		private void align() {
+			buffer.position((buffer.position() + ALIGNMENT - 1) / ALIGNMENT * ALIGNMENT);
+		}
+
+		private int[] getInts() {
+			int[] values = new int[getInt()];
+			align();
+			buffer.asIntBuffer().get(values);
+			buffer.position(buffer.position() + values.length * Integer.BYTES);
+			return values;
+		}
+
+		private long[] getLongs() {
+			long[] values = new long[getInt()];
+			align();
+			buffer.asLongBuffer().get(values);
+			buffer.position(buffer.position() + values.length * Long.BYTES);
+			return values;
+		}
+
+		// Slice of the mapped file, i.e. no copy
+		private ByteBuffer getBytes() {
+			int length = getInt();
+			ByteBuffer bytes = buffer.slice();
+			bytes.limit(length);
+			buffer.position(buffer.position() + length);
+			return bytes;
+		}
+
+		private String getString() {
+			ByteBuffer bytes = getBytes();
+			byte[] value = new byte[bytes.remaining()];
+			bytes.get(value);
+			return new String(value, StandardCharsets.UTF_8);
+		}
+
+		private NameTable getNameTable() {
+			boolean ignoreCase = getInt() == 1;
+			int[] offsets = getInts();
+			int[] slots = getInts();
+			return new NameTable(ignoreCase, getBytes(), offsets, slots);
+		}
+	}
+}
@@ -0,0 +1,121 @@
+/*
+* Copyright (c) 2017, Ritesh. All rights reserved.
+*
+*/
+package in.geektrust.lengaburu.traffic.network;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import in.geektrust.lengaburu.traffic.beans.Orbit;
+
+/**
+ * DESCRIPTION - This class holds user inputs (orbit's speed limit) of a single query, indexed by orbit id.
+ *
+ * Orbit topology of RoadNetwork is shared by all queries and never changes. Speed limits are different for each query,
+ * so they are kept in this overlay instead of Orbit.getVelocityLimit(). Overlay is immutable,
+ * so any number of threads can run queries at once, without locking and without copying the network.
+ *
+ * It has two forms:
+ * 	-	Dense	: One speed limit for each orbit of the network. Used by route engines, which may touch any orbit.
+ * 	-	Sparse	: Speed limits only for orbits of given orbit-sequences, looked up with binary search on orbit id.
+ * 				  Orbits without an orbit id (i.e. built by the caller, not taken from a RoadNetwork) are looked up by name,
+ * 				  same as the user inputs are keyed.
+ *
+ * Note: Orbits without a speed limit get CLOSED.
+ *
+ * @author - Ritesh Bangal
+ * @version 1.0
+ * @since <17-October-2026>
+ */
+public final class SpeedLimitOverlay {
+
+	public static final int CLOSED = -1;
+
+	// Sorted orbit ids, in case of sparse overlay. null in case of dense overlay.
+	private final int[] orbitIds;
+	private final int[] speedLimits;
+
+	// Speed limits of orbits without an orbit id, by orbit name. Empty in case of dense overlay.
+	private final Map<String, Integer> namedSpeedLimits;
+
+	private SpeedLimitOverlay(int[] pOrbitIds, int[] pSpeedLimits, Map<String, Integer> pNamedSpeedLimits) {
+		this.orbitIds = pOrbitIds;
+		this.speedLimits = pSpeedLimits;
+		this.namedSpeedLimits = pNamedSpeedLimits;
+	}
+
+	/**
+	 * Create a dense overlay for all orbits of the network.
+	 *
+	 * @param pNetwork - Road network snapshot
+	 * @param pOrbitSpeedLimitMap - User inputs (orbit's speed limit) corresponding to orbit name
+	 * @return - Speed limit overlay
+	 */
+	public static SpeedLimitOverlay of(RoadNetwork pNetwork, Map<String, Integer> pOrbitSpeedLimitMap) {
+		int[] speedLimits = new int[pNetwork.getOrbitCount()];
+		Arrays.fill(speedLimits, CLOSED);
+		pOrbitSpeedLimitMap.entrySet().stream()
+			.filter(entry -> null != entry.getValue())
+			.forEach(entry -> {
+				for (int orbitId : pNetwork.getOrbitIds(entry.getKey())) {
+					speedLimits[orbitId] = entry.getValue();
+				}
+			});
+		return new SpeedLimitOverlay(null, speedLimits, Collections.emptyMap());
+	}
+
+	/**
+	 * Create a sparse overlay for orbits of the given orbit-sequences only.
+	 *
+	 * @param pOrbitSequences - Orbit-sequences of a query, i.e. orbits of a RoadNetwork or orbits built by the caller
+	 * @param pOrbitSpeedLimitMap - User inputs (orbit's speed limit) corresponding to orbit name
+	 * @return - Speed limit overlay
+	 */
+	public static SpeedLimitOverlay of(List<List<Orbit>> pOrbitSequences, Map<String, Integer> pOrbitSpeedLimitMap) {
+		int[] orbitIds = pOrbitSequences.stream()
+				.flatMap(List::stream)
+				.mapToInt(Orbit::getOrbitId)
+				.filter(orbitId -> orbitId >= 0)
+				.distinct().sorted().toArray();
+		int[] speedLimits = new int[orbitIds.length];
+		Arrays.fill(speedLimits, CLOSED);
+		pOrbitSequences.stream()
+			.flatMap(List::stream)
+			.filter(orbit -> orbit.getOrbitId() >= 0 && null != pOrbitSpeedLimitMap.get(orbit.getOrbitName()))
+			.forEach(orbit -> speedLimits[Arrays.binarySearch(orbitIds, orbit.getOrbitId())] =
+					pOrbitSpeedLimitMap.get(orbit.getOrbitName()));
+		Map<String, Integer> namedSpeedLimits = new HashMap<>();
+		pOrbitSequences.stream()
+			.flatMap(List::stream)
+			.filter(orbit -> orbit.getOrbitId() < 0 && null != pOrbitSpeedLimitMap.get(orbit.getOrbitName()))
+			.forEach(orbit -> namedSpeedLimits.put(orbit.getOrbitName(), pOrbitSpeedLimitMap.get(orbit.getOrbitName())));
+		return new SpeedLimitOverlay(orbitIds, speedLimits, namedSpeedLimits);
+	}
+
+	/**
+	 * @param pOrbitId - Orbit id
+	 * @return - Speed limit of the orbit, or CLOSED if there is none.
+	 */
+	public int getSpeedLimit(int pOrbitId) {
+		if (null == orbitIds) {
+			return (pOrbitId >= 0 && pOrbitId < speedLimits.length) ? speedLimits[pOrbitId] : CLOSED;
+		}
+		int index = Arrays.binarySearch(orbitIds, pOrbitId);
+		return index >= 0 ? speedLimits[index] : CLOSED;
+	}
+
+	/**
+	 * @param pOrbit - Orbit of a RoadNetwork, or orbit built by the caller (looked up by name)
+	 * @return - Speed limit of the orbit, or CLOSED if there is none.
+	 */
+	public int getSpeedLimit(Orbit pOrbit) {
+		if (pOrbit.getOrbitId() < 0) {
+			return namedSpeedLimits.getOrDefault(pOrbit.getOrbitName(), CLOSED);
+		}
+		return getSpeedLimit(pOrbit.getOrbitId());
+	}
+}
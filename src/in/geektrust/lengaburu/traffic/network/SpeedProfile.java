@@ -0,0 +1,142 @@
+/*
+* Copyright (c) 2017, Ritesh. All rights reserved.
+*
+*/
+package in.geektrust.lengaburu.traffic.network;
+
+import java.util.Arrays;
+
+/**
+ * DESCRIPTION - This class holds speed limit of an orbit by time of day, i.e. a piecewise-linear speed profile.
+ *
+ * Profile is given as breakpoints (minute of day, speed limit). Speed limit between two breakpoints is linearly
+ * interpolated (rounded down), and profile repeats every day. i.e. after the last breakpoint, it goes towards the first
+ * breakpoint of next day. e.g. evening jam on Silk Drob:
+ * 		16:00 -> 100, 17:30 -> 6, 19:00 -> 6, 20:00 -> 100
+ *
+ * Profile is expanded into a speed limit for each minute of the day, once while creating it. So look-ups are an array access.
+ * For each minute, it also keeps the number of following minutes with the same speed limit (till end of day),
+ * so time-dependent search can cover a flat part of the profile in one step.
+ *
+ * Note: It is immutable, so it can be shared by any number of threads and networks.
+ *
+ * @author - Ritesh Bangal
+ * @version 1.0
+ * @since <17-October-2026>
+ */
+public final class SpeedProfile {
+
+	public static final int MINUTES_PER_DAY = 24 * 60;
+
+	private final int[] breakpointMinutes;
+	private final int[] breakpointSpeedLimits;
+
+	// Speed limit of each minute of the day, and number of minutes from it with the same speed limit (till end of day)
+	private final int[] speedLimits = new int[MINUTES_PER_DAY];
+	private final int[] runLengths = new int[MINUTES_PER_DAY];
+	private final int minimumSpeedLimit;
+
+	private SpeedProfile(int[] pMinutes, int[] pSpeedLimits) {
+		this.breakpointMinutes = pMinutes;
+		this.breakpointSpeedLimits = pSpeedLimits;
+
+		int last = pMinutes.length - 1;
+		for (int minute = 0; minute < MINUTES_PER_DAY; minute++) {
+			// Segment [fromMinute, toMinute), which contains this minute. Last segment wraps to the next day.
+			int index = Arrays.binarySearch(pMinutes, minute);
+			int from = (index >= 0) ? index : (-index - 2);
+			int fromMinute = (from >= 0) ? pMinutes[from] : pMinutes[last] - MINUTES_PER_DAY;
+			int fromSpeed = pSpeedLimits[(from >= 0) ? from : last];
+			int toMinute = (from < last) ? pMinutes[from + 1] : pMinutes[0] + MINUTES_PER_DAY;
+			int toSpeed = pSpeedLimits[(from < last) ? from + 1 : 0];
+			speedLimits[minute] = fromSpeed
+					+ Math.floorDiv((toSpeed - fromSpeed) * (minute - fromMinute), toMinute - fromMinute);
+		}
+
+		int minimum = Integer.MAX_VALUE;
+		for (int minute = MINUTES_PER_DAY - 1; minute >= 0; minute--) {
+			boolean sameAsNext = minute + 1 < MINUTES_PER_DAY && speedLimits[minute] == speedLimits[minute + 1];
+			runLengths[minute] = sameAsNext ? runLengths[minute + 1] + 1 : 1;
+			minimum = Math.min(minimum, speedLimits[minute]);
+		}
+		this.minimumSpeedLimit = minimum;
+	}
+
+	/**
+	 * Create a speed profile from its breakpoints.
+	 *
+	 * @param pMinutes - Minute of day of each breakpoint, i.e. [0, MINUTES_PER_DAY). Should be in increasing order.
+	 * @param pSpeedLimits - Speed limit (megamiles/hour) at each breakpoint. Should be +ve.
+	 * @return - Speed profile
+	 */
+	public static SpeedProfile of(int[] pMinutes, int[] pSpeedLimits) {
+		if (null == pMinutes || null == pSpeedLimits || pMinutes.length == 0 || pMinutes.length != pSpeedLimits.length) {
+			throw new IllegalArgumentException("Speed profile should have same number of (one or more) minutes and speed limits.");
+		}
+		for (int index = 0; index < pMinutes.length; index++) {
+			if (pMinutes[index] < 0 || pMinutes[index] >= MINUTES_PER_DAY
+					|| (index > 0 && pMinutes[index] <= pMinutes[index - 1])) {
+				throw new IllegalArgumentException("Speed profile minutes should be increasing, within a day: "
+						+ Arrays.toString(pMinutes));
+			}
+			if (pSpeedLimits[index] < 1) {
+				throw new IllegalArgumentException("Speed profile speed limits should be +ve integers: "
+						+ Arrays.toString(pSpeedLimits));
+			}
+		}
+		return new SpeedProfile(pMinutes.clone(), pSpeedLimits.clone());
+	}
+
+	/**
+	 * Create a flat speed profile, i.e. same speed limit all day.
+	 *
+	 * @param pSpeedLimit - Speed limit (megamiles/hour). Should be +ve.
+	 * @return - Speed profile
+	 */
+	public static SpeedProfile constant(int pSpeedLimit) {
+		return of(new int[] {0}, new int[] {pSpeedLimit});
+	}
+
+	/**
+	 * @param pMinute - Any minute (e.g. departure minute plus traverse time). It is taken as minute of its day.
+	 * @return - Speed limit at that minute
+	 */
+	public int getSpeedLimit(int pMinute) {
+		return speedLimits[Math.floorMod(pMinute, MINUTES_PER_DAY)];
+	}
+
+	/**
+	 * @param pMinute - Any minute. It is taken as minute of its day.
+	 * @return - Number of minutes from it (including it) with the same speed limit, till end of that day
+	 */
+	public int getRunLength(int pMinute) {
+		return runLengths[Math.floorMod(pMinute, MINUTES_PER_DAY)];
+	}
+
+	/**
+	 * @return - Lowest speed limit of the day. Vehicles not faster than this are never slowed down by the profile.
+	 */
+	public int getMinimumSpeedLimit() {
+		return minimumSpeedLimit;
+	}
+
+	public int[] getBreakpointMinutes() {
+		return breakpointMinutes.clone();
+	}
+
+	public int[] getBreakpointSpeedLimits() {
+		return breakpointSpeedLimits.clone();
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder profile = new StringBuilder("SpeedProfile");
+		profile.append(": {");
+		for (int index = 0; index < breakpointMinutes.length; index++) {
+			profile.append(index > 0 ? ", " : "")
+				.append(String.format("%02d:%02d", breakpointMinutes[index] / 60, breakpointMinutes[index] % 60))
+				.append("=").append(breakpointSpeedLimits[index]);
+		}
+		return profile.append("}").toString();
+	}
+}
@@ -0,0 +1,80 @@
+/*
+* Copyright (c) 2017, Ritesh. All rights reserved.
+*
+*/
+package in.geektrust.lengaburu.traffic.network;
+
+import java.util.Map;
+
+/**
+ * DESCRIPTION - This class holds speed profiles (by time of day) of a RoadNetwork's orbits, indexed by orbit id.
+ *
+ * Profiles are given by orbit name (same as user inputs), and resolved once for a network.
+ * Orbits without a profile have only their static speed limit, i.e. getProfile() returns null.
+ *
+ * Note: It is immutable, and bound to the network it was resolved for. Resolve again, for a reloaded network.
+ *
+ * @author - Ritesh Bangal
+ * @version 1.0
+ * @since <17-October-2026>
+ */
+public final class SpeedProfileTable {
+
+	private final RoadNetwork network;
+	private final Map<String, SpeedProfile> orbitSpeedProfileMap;
+	private final SpeedProfile[] profiles;
+	private final int profileCount;
+
+	private SpeedProfileTable(RoadNetwork pNetwork, Map<String, SpeedProfile> pOrbitSpeedProfileMap) {
+		this.network = pNetwork;
+		this.orbitSpeedProfileMap = pOrbitSpeedProfileMap;
+		this.profiles = new SpeedProfile[pNetwork.getOrbitCount()];
+		int count = 0;
+		for (Map.Entry<String, SpeedProfile> entry : pOrbitSpeedProfileMap.entrySet()) {
+			if (null != entry.getValue()) {
+				for (int orbitId : pNetwork.getOrbitIds(entry.getKey())) {
+					profiles[orbitId] = entry.getValue();
+					count++;
+				}
+			}
+		}
+		this.profileCount = count;
+	}
+
+	/**
+	 * Resolve speed profiles for all orbits of the network.
+	 *
+	 * @param pNetwork - Road network snapshot
+	 * @param pOrbitSpeedProfileMap - Speed profile corresponding to orbit name. Orbits which are not in network are ignored.
+	 * @return - Speed profile table
+	 */
+	public static SpeedProfileTable of(RoadNetwork pNetwork, Map<String, SpeedProfile> pOrbitSpeedProfileMap) {
+		return new SpeedProfileTable(pNetwork, pOrbitSpeedProfileMap);
+	}
+
+	/**
+	 * @param pOrbitId - Orbit id
+	 * @return - Speed profile of the orbit, or null if it has only static speed limit
+	 */
+	public SpeedProfile getProfile(int pOrbitId) {
+		return profiles[pOrbitId];
+	}
+
+	/**
+	 * @return - Number of orbits having a speed profile
+	 */
+	public int getProfileCount() {
+		return profileCount;
+	}
+
+	public RoadNetwork getNetwork() {
+		return network;
+	}
+
+	/**
+	 * @return - Speed profiles by orbit name, as the table was resolved from
+	 */
+	public Map<String, SpeedProfile> getOrbitSpeedProfileMap() {
+		return orbitSpeedProfileMap;
+	}
+}
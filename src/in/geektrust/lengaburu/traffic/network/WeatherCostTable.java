@@ -0,0 +1,138 @@
+/*
+* Copyright (c) 2017, Ritesh. All rights reserved.
+*
+*/
+package in.geektrust.lengaburu.traffic.network;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import in.geektrust.lengaburu.traffic.beans.Vehicle;
+import in.geektrust.lengaburu.traffic.beans.Weather;
+import in.geektrust.lengaburu.traffic.engine.TraverseCost;
+
+/**
+ * DESCRIPTION - This class holds precomputed cost components of each orbit, for a weather and its suitable vehicles.
+ *
+ * Weather's crater change rate and suitable vehicles are fixed, so following are computed once while loading the network:
+ * 	-	actualCraters[orbitId]								: Number of craters after applying weather's change rate.
+ * 	-	craterTime[vehicleIndex * orbitCount + orbitId]		: Time (in minutes) to cross those craters with the vehicle.
+ * 	-	distanceMinutes[orbitId] (shared by all weathers)	: Orbit's distance * minutes per hour.
+ *
+ * So at query time, only the speed limit dependent distance term is computed, i.e. a division and an addition.
+ *
+ * Note: Vehicles are in the order of Weather.getSuitableVehicleNames(), i.e. by vehicle priority of the weather 
+ * (see TraverseDetailComparator). So engines which keep the first vehicle index on a tie of time, follow the tie rule.
+ *
+ * @author - Ritesh Bangal
+ * @version 1.0
+ * @since <17-October-2026>
+ */
+public final class WeatherCostTable {
+
+	private final Weather weather;
+	private final List<Vehicle> vehicles;
+	private final int orbitCount;
+	private final int[] vehicleSpeed;
+	private final int[] timeToCrossCrater;
+	private final int[] distanceMinutes;
+	private final int[] actualCraters;
+	private final int[] craterTime;
+
+	WeatherCostTable(Weather pWeather, List<Vehicle> pAllVehicles, int[] pDistanceMinutes, int[] pOrbitCraters) {
+		this.weather = pWeather;
+		Map<String, Vehicle> vehicleMap = pAllVehicles.stream()
+				.collect(Collectors.toMap(Vehicle::getName, Function.identity(), (first, second) -> first));
+		this.vehicles = Collections.unmodifiableList(pWeather.getSuitableVehicleNames().stream()
+				.distinct()
+				.map(vehicleMap::get)
+				.filter(Objects::nonNull)
+				.collect(Collectors.toList()));
+		this.orbitCount = pOrbitCraters.length;
+		this.distanceMinutes = pDistanceMinutes;
+
+		int vehicleCount = vehicles.size();
+		this.vehicleSpeed = new int[vehicleCount];
+		this.timeToCrossCrater = new int[vehicleCount];
+		for (int vehicleIndex = 0; vehicleIndex < vehicleCount; vehicleIndex++) {
+			vehicleSpeed[vehicleIndex] = vehicles.get(vehicleIndex).getVelocity().getSpeed();
+			timeToCrossCrater[vehicleIndex] = vehicles.get(vehicleIndex).getTimeToCrossCrater();
+		}
+
+		this.actualCraters = new int[orbitCount];
+		for (int orbitId = 0; orbitId < orbitCount; orbitId++) {
+			actualCraters[orbitId] = TraverseCost.actualNumberOfCraters(pOrbitCraters[orbitId], pWeather.getCraterChangeRate());
+		}
+		this.craterTime = new int[vehicleCount * orbitCount];
+		for (int vehicleIndex = 0; vehicleIndex < vehicleCount; vehicleIndex++) {
+			int offset = vehicleIndex * orbitCount;
+			int crossTime = timeToCrossCrater[vehicleIndex];
+			for (int orbitId = 0; orbitId < orbitCount; orbitId++) {
+				craterTime[offset + orbitId] = actualCraters[orbitId] * crossTime;
+			}
+		}
+	}
+
+	/**
+	 * Traverse time of an orbit with a vehicle. Same as TraverseCost.traverseTime() for a single orbit.
+	 *
+	 * @param pVehicleIndex - Index of vehicle in getVehicles()
+	 * @param pOrbitId - Orbit id
+	 * @param pSpeedLimit - Orbit's speed limit for the query. Should be +ve.
+	 * @return - Traverse time in minutes
+	 */
+	public int orbitTime(int pVehicleIndex, int pOrbitId, int pSpeedLimit) {
+		int speed = vehicleSpeed[pVehicleIndex];
+		int applicableMaxSpeed = (pSpeedLimit > speed) ? speed : pSpeedLimit;
+		return distanceMinutes[pOrbitId] / applicableMaxSpeed + craterTime[pVehicleIndex * orbitCount + pOrbitId];
+	}
+
+	public Weather getWeather() {
+		return weather;
+	}
+
+	public List<Vehicle> getVehicles() {
+		return vehicles;
+	}
+
+	public int getVehicleCount() {
+		return vehicleSpeed.length;
+	}
+
+	public int getVehicleSpeed(int pVehicleIndex) {
+		return vehicleSpeed[pVehicleIndex];
+	}
+
+	public int getTimeToCrossCrater(int pVehicleIndex) {
+		return timeToCrossCrater[pVehicleIndex];
+	}
+
+	/**
+	 * @param pOrbitId - Orbit id
+	 * @return - Number of craters on the orbit, after applying weather's change rate
+	 */
+	public int getActualCraters(int pOrbitId) {
+		return actualCraters[pOrbitId];
+	}
+
+	/**
+	 * @param pVehicleIndex - Index of vehicle in getVehicles()
+	 * @param pOrbitId - Orbit id
+	 * @return - Time (in minutes) to cross actual craters of the orbit with the vehicle
+	 */
+	public int getCraterTime(int pVehicleIndex, int pOrbitId) {
+		return craterTime[pVehicleIndex * orbitCount + pOrbitId];
+	}
+
+	/**
+	 * @param pOrbitId - Orbit id
+	 * @return - Orbit's distance * minutes per hour
+	 */
+	public int getDistanceMinutes(int pOrbitId) {
+		return distanceMinutes[pOrbitId];
+	}
+}
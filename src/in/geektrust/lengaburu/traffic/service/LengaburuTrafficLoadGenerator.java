@@ -0,0 +1,276 @@
+/*
+* Copyright (c) 2017, Ritesh. All rights reserved.
+*
+*/
+package in.geektrust.lengaburu.traffic.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import in.geektrust.lengaburu.traffic.beans.Orbit;
+import in.geektrust.lengaburu.traffic.beans.TrafficQuery;
+import in.geektrust.lengaburu.traffic.beans.WeatherType;
+import in.geektrust.lengaburu.traffic.initializer.LengaburuTrafficInitializer;
+import in.geektrust.lengaburu.traffic.network.RoadNetwork;
+
+/**
+ * DESCRIPTION - This class is responsible to drive load against LengaburuTrafficService, and report throughput and latency.
+ *
+ * It performs following operations:
+ * 	1.	Generate random queries (with seed) from the road network, i.e. same data the service has been started with
+ * 		(system properties 'lengaburu.data.dir' or 'lengaburu.snapshot.file', else hard coded data).
+ * 		Queries have one or two destinations, random weather and random speed limits, so some of them are invalid.
+ * 	2.	Send them from 'connections' threads, each one on its own keep-alive connection, for 'warmup' and then 'duration' seconds.
+ * 	3.	Report requests per second, queries per second, latency percentiles and mean solve time reported by the service.
+ *
+ * Usage: java in.geektrust.lengaburu.traffic.service.LengaburuTrafficLoadGenerator [option=value ...]
+ * Options: url=http://localhost:8080, connections=8, duration=10, warmup=3, batch=1 (more than 1 uses POST /routes),
+ * 			queries=1000 (number of distinct queries), seed=2017
+ *
+ * @author - Ritesh Bangal
+ * @version 1.0
+ * @since <17-October-2026>
+ */
+public class LengaburuTrafficLoadGenerator {
+
+	// Latencies are recorded with 1 microsecond resolution, up to MAX_RECORDED_MICROS. Slower ones fall in the last bucket.
+	private static final int MAX_RECORDED_MICROS = 100000;
+
+	private final Map<String, String> options;
+
+	private LengaburuTrafficLoadGenerator(Map<String, String> pOptions) {
+		this.options = pOptions;
+	}
+
+	public static void main(String[] args) throws Exception {
+		Map<String, String> options = new HashMap<>();
+		for (String arg : args) {
+			int separator = arg.indexOf('=');
+			if (separator > 0) {
+				options.put(arg.substring(0, separator).trim(), arg.substring(separator + 1).trim());
+			}
+		}
+		new LengaburuTrafficLoadGenerator(options).run();
+	}
+
+	private void run() throws Exception {
+		int connections = getOption("connections", 8);
+		int batchSize = Math.max(1, getOption("batch", 1));
+		String url = options.getOrDefault("url", "http://localhost:8080");
+		URL target = new URL(url + ((batchSize == 1) ? LengaburuTrafficService.ROUTE_PATH : LengaburuTrafficService.ROUTES_PATH));
+
+		// Keep one idle connection per thread, so every request reuses its connection.
+		System.setProperty("http.keepAlive", "true");
+		System.setProperty("http.maxConnections", String.valueOf(connections));
+
+		List<byte[]> requests = generateRequests(getOption("queries", 1000), batchSize, getOption("seed", 2017));
+		System.out.println("Sending " + requests.size() + " distinct requests (" + batchSize + " queries each) to " + target
+				+ ", on " + connections + " connections.");
+
+		runPhase(target, requests, connections, getOption("warmup", 3));
+		LoadWorker[] workers = runPhase(target, requests, connections, getOption("duration", 10));
+
+		long[] latencies = new long[MAX_RECORDED_MICROS + 1];
+		long requestCount = 0;
+		long errorCount = 0;
+		long solveMicros = 0;
+		for (LoadWorker worker : workers) {
+			requestCount += worker.requestCount;
+			errorCount += worker.errorCount;
+			solveMicros += worker.solveMicros;
+			for (int micros = 0; micros < latencies.length; micros++) {
+				latencies[micros] += worker.latencies[micros];
+			}
+		}
+		double seconds = getOption("duration", 10);
+		System.out.println(String.format("Requests: %d, errors: %d, %.0f requests/s, %.0f queries/s", requestCount,
+				errorCount, requestCount / seconds, requestCount * batchSize / seconds));
+		System.out.println(String.format("Latency (ms): p50 %.3f, p90 %.3f, p99 %.3f, p99.9 %.3f, max %s%.3f",
+				percentile(latencies, requestCount, 0.5), percentile(latencies, requestCount, 0.9),
+				percentile(latencies, requestCount, 0.99), percentile(latencies, requestCount, 0.999),
+				(latencies[MAX_RECORDED_MICROS] > 0) ? ">" : "", percentile(latencies, requestCount, 1.0)));
+		System.out.println(String.format("Mean solve time reported by service (ms): %.3f",
+				(requestCount == 0) ? 0 : solveMicros / 1000.0 / requestCount));
+	}
+
+	/*
+	 * Send requests from all threads for the given seconds, and return the workers along with their measurements.
+	 */
+	private static LoadWorker[] runPhase(URL pTarget, List<byte[]> pRequests, int pConnections, int pSeconds)
+			throws InterruptedException {
+		long endTime = System.nanoTime() + pSeconds * 1000000000L;
+		LoadWorker[] workers = new LoadWorker[pConnections];
+		Thread[] threads = new Thread[pConnections];
+		for (int index = 0; index < pConnections; index++) {
+			// Each thread starts from a different request, so that they don't send same requests at same time.
+			workers[index] = new LoadWorker(pTarget, pRequests, (int) ((long) index * pRequests.size() / pConnections), endTime);
+			threads[index] = new Thread(workers[index], "lengaburu-load-" + index);
+			threads[index].start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		return workers;
+	}
+
+	private static double percentile(long[] pLatencies, long pCount, double pPercentile) {
+		long rank = Math.max(1, (long) Math.ceil(pCount * pPercentile));
+		long seen = 0;
+		for (int micros = 0; micros < pLatencies.length; micros++) {
+			seen += pLatencies[micros];
+			if (seen >= rank) {
+				return micros / 1000.0;
+			}
+		}
+		return 0;
+	}
+
+	/*
+	 * Generate request bodies, with pBatchSize random queries in each.
+	 */
+	private static List<byte[]> generateRequests(int pQueryCount, int pBatchSize, long pSeed) {
+		RoadNetwork network = LengaburuTrafficInitializer.getInstance().getRoadNetwork();
+		if (network.getOrbitCount() == 0) {
+			throw new IllegalStateException("Road network has no orbits to generate queries from.");
+		}
+		Random random = new Random(pSeed);
+		List<byte[]> requests = new ArrayList<>();
+		for (int requestIndex = 0; requestIndex < Math.max(1, pQueryCount / pBatchSize); requestIndex++) {
+			StringBuilder request = new StringBuilder();
+			for (int queryIndex = 0; queryIndex < pBatchSize; queryIndex++) {
+				String query = TrafficQueryJsonCodec.writeQuery(generateQuery(network, random));
+				if (pBatchSize == 1) {
+					request.append(query);
+				} else {
+					request.append((queryIndex == 0) ? '[' : ',').append(query);
+				}
+			}
+			if (pBatchSize > 1) {
+				request.append(']');
+			}
+			requests.add(request.toString().getBytes(StandardCharsets.UTF_8));
+		}
+		return requests;
+	}
+
+	/*
+	 * Random query along a random orbit, and one of the next orbits from its destination (for every other query).
+	 */
+	private static TrafficQuery generateQuery(RoadNetwork pNetwork, Random pRandom) {
+		int firstOrbitId = pRandom.nextInt(pNetwork.getOrbitCount());
+		String source = pNetwork.getSuburbName(pNetwork.getOrbitSource(firstOrbitId));
+		List<String> destinations = new ArrayList<>();
+		destinations.add(pNetwork.getSuburbName(pNetwork.getOrbitDestination(firstOrbitId)));
+
+		int viaId = pNetwork.getOrbitDestination(firstOrbitId);
+		int outgoingCount = pNetwork.getOutgoingEnd(viaId) - pNetwork.getOutgoingStart(viaId);
+		if (pRandom.nextBoolean() && outgoingCount > 0) {
+			int nextOrbitId = pNetwork.getOutgoingOrbit(pNetwork.getOutgoingStart(viaId) + pRandom.nextInt(outgoingCount));
+			String nextDestination = pNetwork.getSuburbName(pNetwork.getOrbitDestination(nextOrbitId));
+			if (!nextDestination.equals(source) && !destinations.contains(nextDestination)) {
+				destinations.add(nextDestination);
+			}
+		}
+
+		// Speed limits of all orbits among source and destinations, same as the interactive runners ask for.
+		List<String> suburbs = new ArrayList<>(destinations);
+		suburbs.add(0, source);
+		Map<String, Integer> orbitSpeedLimitMap = new LinkedHashMap<>();
+		for (String from : suburbs) {
+			for (String to : destinations) {
+				for (Orbit orbit : pNetwork.getOrbits(from, to)) {
+					orbitSpeedLimitMap.put(orbit.getOrbitName(), pRandom.nextInt(30) + 1);
+				}
+			}
+		}
+		WeatherType weatherType = WeatherType.values()[pRandom.nextInt(WeatherType.values().length)];
+		return new TrafficQuery(weatherType.toString(), source, destinations, orbitSpeedLimitMap);
+	}
+
+	private int getOption(String pKey, int pDefaultValue) {
+		return Integer.parseInt(options.getOrDefault(pKey, String.valueOf(pDefaultValue)));
+	}
+
+	/*
+	 * Sends requests one after another until end time, on its own keep-alive connection.
+	 */
+	private static final class LoadWorker implements Runnable {
+
+		private final URL target;
+		private final List<byte[]> requests;
+		private final long endTime;
+		private final long[] latencies = new long[MAX_RECORDED_MICROS + 1];
+		private final byte[] buffer = new byte[8192];
+		private int nextRequest;
+		private long requestCount;
+		private long errorCount;
+		private long solveMicros;
+
+		private LoadWorker(URL pTarget, List<byte[]> pRequests, int pFirstRequest, long pEndTime) {
+			this.target = pTarget;
+			this.requests = pRequests;
+			this.endTime = pEndTime;
+			this.nextRequest = pFirstRequest;
+		}
+
+		@Override
+		public void run() {
+			while (System.nanoTime() < endTime) {
+				byte[] request = requests.get(nextRequest);
+				nextRequest = (nextRequest + 1) % requests.size();
+				long startTime = System.nanoTime();
+				try {
+					HttpURLConnection connection = (HttpURLConnection) target.openConnection();
+					connection.setRequestMethod("POST");
+					connection.setDoOutput(true);
+					connection.setRequestProperty("Content-Type", "application/json; charset=utf-8");
+
+					// Body is buffered (not streamed), so headers and body go in one packet, without waiting for Nagle's algorithm.
+					try (OutputStream output = connection.getOutputStream()) {
+						output.write(request);
+					}
+					int status = connection.getResponseCode();
+					String timing = connection.getHeaderField(LengaburuTrafficService.TIMING_HEADER);
+
+					// Response is read fully and closed (not disconnected), so the connection goes back to the keep-alive pool.
+					try (InputStream input = (status < 400) ? connection.getInputStream() : connection.getErrorStream()) {
+						while (null != input && input.read(buffer) != -1) {
+							// Skip the response
+						}
+					}
+					if (status != 200) {
+						errorCount++;
+					}
+					solveMicros += parseTimingMicros(timing);
+				} catch (IOException e) {
+					errorCount++;
+				}
+				long micros = (System.nanoTime() - startTime) / 1000;
+				latencies[(int) Math.min(micros, MAX_RECORDED_MICROS)]++;
+				requestCount++;
+			}
+		}
+
+		private static long parseTimingMicros(String pTiming) {
+			int start = (null == pTiming) ? -1 : pTiming.indexOf("dur=");
+			if (start < 0) {
+				return 0;
+			}
+			try {
+				return (long) (Double.parseDouble(pTiming.substring(start + 4)) * 1000);
+			} catch (NumberFormatException e) {
+				return 0;
+			}
+		}
+	}
+}
@@ -0,0 +1,279 @@
+/*
+* Copyright (c) 2017, Ritesh. All rights reserved.
+*
+*/
+package in.geektrust.lengaburu.traffic.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import in.geektrust.lengaburu.traffic.LengaburuTrafficFinder;
+import in.geektrust.lengaburu.traffic.beans.TrafficQuery;
+import in.geektrust.lengaburu.traffic.cache.CachingTrafficFinder;
+import in.geektrust.lengaburu.traffic.exception.BusinessException;
+import in.geektrust.lengaburu.traffic.initializer.LengaburuTrafficInitializer;
+import in.geektrust.lengaburu.traffic.initializer.LengaburuTrafficReloader;
+import in.geektrust.lengaburu.traffic.metrics.TrafficMetrics;
+
+/**
+ * DESCRIPTION - This class is responsible to serve Lengaburu Traffic queries over HTTP, with the JDK's HttpServer.
+ *
+ * It serves following requests:
+ * 	1.	POST /route	 | Body is JSON object of a query (see TrafficQueryJsonCodec). Response is {"result": "..."}.
+ * 	2.	POST /routes | Body is JSON array of queries. They are solved as one batch (LengaburuTrafficFinder.solveBatch()).
+ * 				   	   Response is {"results": ["...", ...]}, in input order.
+ * 	3.	GET /health	 | Response is {"status": "UP", "networkVersion": N}.
+ * Invalid requests get status 400 and {"error": "..."}. Results of invalid queries are same as the interactive runners.
+ *
+ * Requests are run on a bounded pool of worker threads, with a bounded queue. Once the queue is full, dispatcher thread
+ * runs the request itself, so it stops accepting more requests until workers catch up (back pressure).
+ * Each response has length set, so connections are kept alive (HTTP/1.1) for next requests.
+ * main() also turns on TCP_NODELAY (system property 'sun.net.httpserver.nodelay'), else small responses are held back
+ * by Nagle's algorithm for up to ~40 ms. Set it before creating the service, when embedding it.
+ * Time to solve each request is reported in the 'Server-Timing' response header, e.g. Server-Timing: solve;dur=0.042
+ * Latency of each phase of the queries is exposed through JMX (see TrafficMetrics).
+ *
+ * Usage: java in.geektrust.lengaburu.traffic.service.LengaburuTrafficService [option=value ...]
+ * Options: port=8080, threads=(number of cores), queue=1024, cache=0 (maximum cached results, 0 means no cache),
+ * 			reload=false (reload the network whenever 'lengaburu.data.dir' or 'lengaburu.snapshot.file' changes)
+ *
+ * @author - Ritesh Bangal
+ * @version 1.0
+ * @since <17-October-2026>
+ */
+public class LengaburuTrafficService implements Closeable {
+
+	public static final String ROUTE_PATH = "/route";
+	public static final String ROUTES_PATH = "/routes";
+	public static final String HEALTH_PATH = "/health";
+
+	public static final String TIMING_HEADER = "Server-Timing";
+
+	// System property of HttpServer, to send responses without delay
+	private static final String NO_DELAY_PROPERTY = "sun.net.httpserver.nodelay";
+
+	// Maximum size of a request body. Bigger requests get status 413.
+	private static final int MAX_REQUEST_SIZE = 16 << 20;
+
+	private static final int STATUS_OK = 200;
+	private static final int STATUS_BAD_REQUEST = 400;
+	private static final int STATUS_METHOD_NOT_ALLOWED = 405;
+	private static final int STATUS_PAYLOAD_TOO_LARGE = 413;
+	private static final int STATUS_SERVER_ERROR = 500;
+
+	/*
+	 * Solves a request body into a response body.
+	 */
+	@FunctionalInterface
+	private interface RequestHandler {
+		String handle(String pBody) throws BusinessException;
+	}
+
+	// Get the only object available for LengaburuTrafficInitializer
+	private static LengaburuTrafficInitializer initializer = LengaburuTrafficInitializer.getInstance();
+
+	private final HttpServer server;
+	private final ThreadPoolExecutor workers;
+	private final Function<TrafficQuery, String> solver;
+	private final Function<List<TrafficQuery>, List<String>> batchSolver;
+
+	/**
+	 * @param pAddress - Address to listen on
+	 * @param pThreads - Number of worker threads
+	 * @param pQueueCapacity - Maximum number of requests waiting for a worker
+	 * @param pSolver - Solver of a single query, e.g. LengaburuTrafficFinder::solve
+	 * @param pBatchSolver - Solver of a batch of queries, e.g. LengaburuTrafficFinder::solveBatch
+	 * @throws IOException - If the address can't be bound.
+	 */
+	public LengaburuTrafficService(InetSocketAddress pAddress, int pThreads, int pQueueCapacity,
+			Function<TrafficQuery, String> pSolver, Function<List<TrafficQuery>, List<String>> pBatchSolver) throws IOException {
+		if (pThreads < 1 || pQueueCapacity < 1) {
+			throw new IllegalArgumentException("Number of threads and queue capacity should be +ve integers.");
+		}
+		this.solver = pSolver;
+		this.batchSolver = pBatchSolver;
+
+		AtomicInteger threadCount = new AtomicInteger();
+		this.workers = new ThreadPoolExecutor(pThreads, pThreads, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(pQueueCapacity), runnable -> {
+					Thread thread = new Thread(runnable, "lengaburu-service-" + threadCount.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				}, new ThreadPoolExecutor.CallerRunsPolicy());
+
+		this.server = HttpServer.create(pAddress, 0);
+		this.server.setExecutor(workers);
+		this.server.createContext(ROUTE_PATH, exchange -> handle(exchange, "POST", this::route));
+		this.server.createContext(ROUTES_PATH, exchange -> handle(exchange, "POST", this::routes));
+		this.server.createContext(HEALTH_PATH, exchange -> handle(exchange, "GET", this::health));
+	}
+
+	public static void main(String[] args) throws IOException {
+		if (null == System.getProperty(NO_DELAY_PROPERTY)) {
+			System.setProperty(NO_DELAY_PROPERTY, "true");
+		}
+		Map<String, String> options = new HashMap<>();
+		for (String arg : args) {
+			int separator = arg.indexOf('=');
+			if (separator > 0) {
+				options.put(arg.substring(0, separator).trim(), arg.substring(separator + 1).trim());
+			}
+		}
+		int port = Integer.parseInt(options.getOrDefault("port", "8080"));
+		int threads = Integer.parseInt(options.getOrDefault("threads", String.valueOf(Runtime.getRuntime().availableProcessors())));
+		int queueCapacity = Integer.parseInt(options.getOrDefault("queue", "1024"));
+		int cacheSize = Integer.parseInt(options.getOrDefault("cache", "0"));
+
+		LengaburuTrafficFinder finder = new LengaburuTrafficFinder();
+		LengaburuTrafficService service;
+		if (cacheSize > 0) {
+			CachingTrafficFinder cachingFinder = new CachingTrafficFinder(finder, cacheSize, 0, TimeUnit.SECONDS);
+			service = new LengaburuTrafficService(new InetSocketAddress(port), threads, queueCapacity,
+					cachingFinder::solve, cachingFinder::solveBatch);
+		} else {
+			service = new LengaburuTrafficService(new InetSocketAddress(port), threads, queueCapacity,
+					finder::solve, finder::solveBatch);
+		}
+
+		LengaburuTrafficReloader reloader = Boolean.parseBoolean(options.getOrDefault("reload", "false"))
+				? LengaburuTrafficReloader.forConfiguredSource() : null;
+		if (null != reloader) {
+			reloader.start();
+		}
+		TrafficMetrics.getInstance().registerMXBeans();
+		service.start();
+		Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+			try {
+				service.close();
+				if (null != reloader) {
+					reloader.close();
+				}
+			} catch (IOException e) {
+				// JVM is exiting anyway
+			}
+		}));
+		System.out.println("Lengaburu Traffic service is listening on port " + service.getPort() + ", with " + threads
+				+ " worker threads" + ((null == reloader) ? "." : ", reloading " + reloader.getDirectory() + "."));
+	}
+
+	public void start() {
+		server.start();
+	}
+
+	/**
+	 * Stop accepting requests, and stop the workers once running requests are finished.
+	 */
+	@Override
+	public void close() throws IOException {
+		server.stop(0);
+		workers.shutdown();
+	}
+
+	public int getPort() {
+		return server.getAddress().getPort();
+	}
+
+	private String route(String pBody) throws BusinessException {
+		StringBuilder response = new StringBuilder(128).append("{\"result\":");
+		return TrafficQueryJsonCodec.appendString(response, solver.apply(TrafficQueryJsonCodec.readQuery(pBody)))
+				.append('}').toString();
+	}
+
+	private String routes(String pBody) throws BusinessException {
+		List<String> results = batchSolver.apply(TrafficQueryJsonCodec.readQueries(pBody));
+		StringBuilder response = new StringBuilder(64 * (results.size() + 1)).append("{\"results\":[");
+		for (int index = 0; index < results.size(); index++) {
+			TrafficQueryJsonCodec.appendString((index == 0) ? response : response.append(','), results.get(index));
+		}
+		return response.append("]}").toString();
+	}
+
+	private String health(String pBody) {
+		return "{\"status\":\"UP\",\"networkVersion\":" + initializer.getRoadNetwork().getVersion() + "}";
+	}
+
+	/*
+	 * Read the request, solve it and write the response along with its solve time.
+	 * Request body is always read fully, so that the connection can be kept alive.
+	 */
+	private void handle(HttpExchange pExchange, String pMethod, RequestHandler pHandler) throws IOException {
+		try {
+			long startTime = System.nanoTime();
+			byte[] body = readBody(pExchange.getRequestBody());
+			int status;
+			String response;
+			if (!pMethod.equalsIgnoreCase(pExchange.getRequestMethod())) {
+				pExchange.getResponseHeaders().set("Allow", pMethod);
+				status = STATUS_METHOD_NOT_ALLOWED;
+				response = error("Method " + pExchange.getRequestMethod() + " is not allowed. Use " + pMethod + ".");
+			} else if (null == body) {
+				status = STATUS_PAYLOAD_TOO_LARGE;
+				response = error("Request is bigger than " + MAX_REQUEST_SIZE + " bytes.");
+			} else {
+				try {
+					response = pHandler.handle(new String(body, StandardCharsets.UTF_8));
+					status = STATUS_OK;
+				} catch (BusinessException e) {
+					status = STATUS_BAD_REQUEST;
+					response = error(e.getMessage());
+				} catch (RuntimeException e) {
+					status = STATUS_SERVER_ERROR;
+					response = error("System Error: " + e);
+				}
+			}
+			double elapsedMillis = (System.nanoTime() - startTime) / 1000000.0;
+			pExchange.getResponseHeaders().set(TIMING_HEADER, String.format(Locale.ENGLISH, "solve;dur=%.3f", elapsedMillis));
+			writeResponse(pExchange, status, response);
+		} finally {
+			pExchange.close();
+		}
+	}
+
+	/*
+	 * Read the whole body. Returns null if it is bigger than MAX_REQUEST_SIZE (rest of the body is skipped).
+	 */
+	private static byte[] readBody(InputStream pBody) throws IOException {
+		ByteArrayOutputStream body = new ByteArrayOutputStream(1024);
+		byte[] buffer = new byte[8192];
+		boolean tooLarge = false;
+		int length;
+		while ((length = pBody.read(buffer)) != -1) {
+			if (body.size() + length > MAX_REQUEST_SIZE) {
+				tooLarge = true;
+			} else {
+				body.write(buffer, 0, length);
+			}
+		}
+		return tooLarge ? null : body.toByteArray();
+	}
+
+	private static void writeResponse(HttpExchange pExchange, int pStatus, String pResponse) throws IOException {
+		byte[] response = pResponse.getBytes(StandardCharsets.UTF_8);
+		pExchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+		pExchange.sendResponseHeaders(pStatus, response.length);
+		try (OutputStream output = pExchange.getResponseBody()) {
+			output.write(response);
+		}
+	}
+
+	private static String error(String pMessage) {
+		return TrafficQueryJsonCodec.appendString(new StringBuilder("{\"error\":"), pMessage).append('}').toString();
+	}
+}
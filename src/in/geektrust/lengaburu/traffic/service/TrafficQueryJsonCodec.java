@@ -0,0 +1,295 @@
+/*
+* Copyright (c) 2017, Ritesh. All rights reserved.
+*
+*/
+package in.geektrust.lengaburu.traffic.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import in.geektrust.lengaburu.traffic.beans.TrafficQuery;
+import in.geektrust.lengaburu.traffic.exception.BusinessException;
+import in.geektrust.lengaburu.traffic.helper.LengaburuTrafficHelper;
+
+/**
+ * DESCRIPTION - This class is responsible to read queries from JSON and write results to JSON, for LengaburuTrafficService.
+ *
+ * Query is a JSON object, e.g.
+ * 		{"weather": "Sunny", "source": "Silk Drob", "destinations": ["Hallitharam"], "speedLimits": {"Orbit1": 12, "Orbit2": 10}}
+ * Batch of queries is a JSON array of such objects.
+ * 'destinations' can also be a single string. Speed limits which are not +ve integers are kept as -1,
+ * so that validator reports them like the interactive runners.
+ *
+ * Note: It is a minimal JSON reader (objects, arrays, strings, numbers, true/false/null), enough for queries.
+ *
+ * @author - Ritesh Bangal
+ * @version 1.0
+ * @since <17-October-2026>
+ */
+final class TrafficQueryJsonCodec {
+
+	static final String WEATHER = "weather";
+	static final String SOURCE = "source";
+	static final String DESTINATIONS = "destinations";
+	static final String SPEED_LIMITS = "speedLimits";
+
+	// Get the only object available for LengaburuTrafficHelper
+	private static LengaburuTrafficHelper helper = LengaburuTrafficHelper.getInstance();
+
+	private final String json;
+	private int position;
+
+	private TrafficQueryJsonCodec(String pJson) {
+		this.json = pJson;
+	}
+
+	/**
+	 * @param pJson - JSON object of a query
+	 * @return - Query
+	 * @throws BusinessException - If it is not valid JSON, or not a query.
+	 */
+	static TrafficQuery readQuery(String pJson) throws BusinessException {
+		return toQuery(read(pJson));
+	}
+
+	/**
+	 * @param pJson - JSON array of queries
+	 * @return - Queries, in input order
+	 * @throws BusinessException - If it is not valid JSON, or any item is not a query.
+	 */
+	static List<TrafficQuery> readQueries(String pJson) throws BusinessException {
+		Object value = read(pJson);
+		if (!(value instanceof List)) {
+			throw new BusinessException("Invalid request. JSON array of queries expected.");
+		}
+		List<TrafficQuery> queries = new ArrayList<>();
+		for (Object item : (List<?>) value) {
+			queries.add(toQuery(item));
+		}
+		return queries;
+	}
+
+	private static Object read(String pJson) throws BusinessException {
+		TrafficQueryJsonCodec reader = new TrafficQueryJsonCodec(pJson);
+		Object value = reader.readValue();
+		if (reader.peek() != 0) {
+			throw reader.invalid("Unexpected content after the value");
+		}
+		return value;
+	}
+
+	private static TrafficQuery toQuery(Object pValue) throws BusinessException {
+		if (!(pValue instanceof Map)) {
+			throw new BusinessException("Invalid request. JSON object of a query expected.");
+		}
+		Map<?, ?> fields = (Map<?, ?>) pValue;
+
+		List<String> destinations = new ArrayList<>();
+		Object destinationsValue = fields.get(DESTINATIONS);
+		if (destinationsValue instanceof List) {
+			for (Object destination : (List<?>) destinationsValue) {
+				destinations.add(textOf(destination));
+			}
+		} else if (null != destinationsValue) {
+			destinations.add(textOf(destinationsValue));
+		}
+
+		Map<String, Integer> orbitSpeedLimitMap = new LinkedHashMap<>();
+		Object speedLimitsValue = fields.get(SPEED_LIMITS);
+		if (speedLimitsValue instanceof Map) {
+			for (Map.Entry<?, ?> speedLimit : ((Map<?, ?>) speedLimitsValue).entrySet()) {
+				orbitSpeedLimitMap.put(String.valueOf(speedLimit.getKey()), helper.parseOrbitSpeed(textOf(speedLimit.getValue())));
+			}
+		} else if (null != speedLimitsValue) {
+			throw new BusinessException("Invalid request. '" + SPEED_LIMITS + "' should be an object of orbit name and speed limit.");
+		}
+		return new TrafficQuery(textOf(fields.get(WEATHER)), textOf(fields.get(SOURCE)), destinations, orbitSpeedLimitMap);
+	}
+
+	private static String textOf(Object pValue) {
+		return (null == pValue) ? null : String.valueOf(pValue).trim();
+	}
+
+	/**
+	 * @param pQuery - Query
+	 * @return - JSON object of the query, which readQuery() can read back.
+	 */
+	static String writeQuery(TrafficQuery pQuery) {
+		StringBuilder json = new StringBuilder(128);
+		json.append('{');
+		appendField(json, WEATHER).append(':');
+		appendString(json, pQuery.getWeatherType()).append(',');
+		appendField(json, SOURCE).append(':');
+		appendString(json, pQuery.getSource()).append(',');
+		appendField(json, DESTINATIONS).append(":[");
+		List<String> destinations = (null == pQuery.getDestinations()) ? Collections.emptyList() : pQuery.getDestinations();
+		for (int index = 0; index < destinations.size(); index++) {
+			appendString(index == 0 ? json : json.append(','), destinations.get(index));
+		}
+		json.append("],");
+		appendField(json, SPEED_LIMITS).append(":{");
+		if (null != pQuery.getOrbitSpeedLimitMap()) {
+			boolean first = true;
+			for (Map.Entry<String, Integer> speedLimit : pQuery.getOrbitSpeedLimitMap().entrySet()) {
+				appendString(first ? json : json.append(','), speedLimit.getKey()).append(':').append(speedLimit.getValue());
+				first = false;
+			}
+		}
+		return json.append("}}").toString();
+	}
+
+	private static StringBuilder appendField(StringBuilder pJson, String pName) {
+		return pJson.append('"').append(pName).append('"');
+	}
+
+	/**
+	 * Append a JSON string, with escapes.
+	 *
+	 * @param pJson - JSON being written
+	 * @param pValue - String value, or null
+	 * @return - pJson
+	 */
+	static StringBuilder appendString(StringBuilder pJson, String pValue) {
+		if (null == pValue) {
+			return pJson.append("null");
+		}
+		pJson.append('"');
+		for (int index = 0; index < pValue.length(); index++) {
+			char next = pValue.charAt(index);
+			switch (next) {
+				case '"': pJson.append("\\\""); break;
+				case '\\': pJson.append("\\\\"); break;
+				case '\n': pJson.append("\\n"); break;
+				case '\r': pJson.append("\\r"); break;
+				case '\t': pJson.append("\\t"); break;
+				default:
+					if (next < 0x20) {
+						pJson.append(String.format("\\u%04x", (int) next));
+					} else {
+						pJson.append(next);
+					}
+			}
+		}
+		return pJson.append('"');
+	}
+
+	private Object readValue() throws BusinessException {
+		char next = peek();
+		if (next == '{') {
+			position++;
+			Map<String, Object> values = new LinkedHashMap<>();
+			if (!accept('}')) {
+				do {
+					if (peek() != '"') {
+						throw invalid("'\"' expected");
+					}
+					String key = readString();
+					expect(':');
+					values.put(key, readValue());
+				} while (accept(','));
+				expect('}');
+			}
+			return values;
+		}
+		if (next == '[') {
+			position++;
+			List<Object> items = new ArrayList<>();
+			if (!accept(']')) {
+				do {
+					items.add(readValue());
+				} while (accept(','));
+				expect(']');
+			}
+			return items;
+		}
+		if (next == '"') {
+			return readString();
+		}
+		int start = position;
+		while (position < json.length() && ",}] \t\r\n".indexOf(json.charAt(position)) < 0) {
+			position++;
+		}
+		if (start == position) {
+			throw invalid("Value expected");
+		}
+		String token = json.substring(start, position);
+		if ("null".equals(token)) {
+			return null;
+		}
+		if ("true".equals(token) || "false".equals(token)) {
+			return Boolean.valueOf(token);
+		}
+		try {
+			return (token.indexOf('.') < 0 && token.indexOf('e') < 0 && token.indexOf('E') < 0)
+					? (Object) Long.valueOf(token) : (Object) Double.valueOf(token);
+		} catch (NumberFormatException e) {
+			throw invalid("Invalid value '" + token + "'");
+		}
+	}
+
+	private String readString() throws BusinessException {
+		expect('"');
+		StringBuilder value = new StringBuilder();
+		while (position < json.length()) {
+			char next = json.charAt(position++);
+			if (next == '"') {
+				return value.toString();
+			}
+			if (next == '\\' && position < json.length()) {
+				char escaped = json.charAt(position++);
+				switch (escaped) {
+					case 'n': value.append('\n'); break;
+					case 't': value.append('\t'); break;
+					case 'r': value.append('\r'); break;
+					case 'b': value.append('\b'); break;
+					case 'f': value.append('\f'); break;
+					case 'u':
+						value.append(readUnicodeEscape());
+						break;
+					default: value.append(escaped);
+				}
+			} else {
+				value.append(next);
+			}
+		}
+		throw invalid("Unterminated string");
+	}
+
+	private char readUnicodeEscape() throws BusinessException {
+		try {
+			char value = (char) Integer.parseInt(json.substring(position, position + 4), 16);
+			position += 4;
+			return value;
+		} catch (NumberFormatException | IndexOutOfBoundsException e) {
+			throw invalid("Invalid unicode escape");
+		}
+	}
+
+	private char peek() {
+		while (position < json.length() && Character.isWhitespace(json.charAt(position))) {
+			position++;
+		}
+		return position < json.length() ? json.charAt(position) : 0;
+	}
+
+	private boolean accept(char pExpected) {
+		if (peek() == pExpected) {
+			position++;
+			return true;
+		}
+		return false;
+	}
+
+	private void expect(char pExpected) throws BusinessException {
+		if (!accept(pExpected)) {
+			throw invalid("'" + pExpected + "' expected");
+		}
+	}
+
+	private BusinessException invalid(String pMessage) {
+		return new BusinessException("Invalid JSON. " + pMessage + " at position " + position + ".");
+	}
+}
@@ -6,10 +6,14 @@ package in.geektrust.lengaburu.traffic.validator;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 import in.geektrust.lengaburu.traffic.beans.WeatherType;
 import in.geektrust.lengaburu.traffic.initializer.LengaburuTrafficInitializer;
+import in.geektrust.lengaburu.traffic.metrics.TrafficMetrics;
+import in.geektrust.lengaburu.traffic.metrics.TrafficMetrics.Phase;
+import in.geektrust.lengaburu.traffic.network.RoadNetwork;
 import in.geektrust.lengaburu.traffic.utils.ObjectValidationUtils;
 
 /**
@@ -30,6 +34,9 @@ public class LengaburuTrafficValidator {
 	
 	// Get the only object available for LengaburuTrafficInitializer
 	private static LengaburuTrafficInitializer initializer = LengaburuTrafficInitializer.getInstance();
+	
+	// Get the only object available for TrafficMetrics
+	private static TrafficMetrics metrics = TrafficMetrics.getInstance();
 
 	private LengaburuTrafficValidator() {
 		// Make the constructor private so that this class cannot be instantiated
@@ -52,6 +59,7 @@ public class LengaburuTrafficValidator {
 	 */
 	public String validateUserInputs(String pWeatherType, Map<String, Integer> pOrbitSpeedLimitMap) {
 		
+		long startTime = metrics.startTime();
 		StringBuilder invalidMessage = new StringBuilder();
 		// Validate weather type
 		if (!WeatherType.contains(pWeatherType)) {
@@ -62,14 +70,126 @@ public class LengaburuTrafficValidator {
 		if (null == pOrbitSpeedLimitMap || pOrbitSpeedLimitMap.isEmpty()) {
 			invalidMessage.append("No route/orbit found for the given source-destination.");
 		} else {
-			List<String> invalidOrbitNames = pOrbitSpeedLimitMap.keySet().stream()
-				.filter(orbitName -> pOrbitSpeedLimitMap.get(orbitName) < 1).collect(Collectors.toList());
+			if (pOrbitSpeedLimitMap.keySet().stream().anyMatch(Objects::isNull)) {
+				invalidMessage.append("Invalid input(s) (orbit name). Each speed limit should have an orbit name.\n");
+			}
+			List<String> invalidOrbitNames = pOrbitSpeedLimitMap.entrySet().stream()
+				.filter(entry -> null == entry.getValue() || entry.getValue() < 1)
+				.map(Map.Entry::getKey).collect(Collectors.toList());
 			if (ObjectValidationUtils.isNotEmpty(invalidOrbitNames)) {
 				invalidMessage.append("Invalid input(s) (speed limit) for ")
 					.append(invalidOrbitNames).append(". It should be +ve integer.");
 			}
 		}
 		
+		metrics.record(Phase.VALIDATE_USER_INPUTS, startTime);
+		return invalidMessage.toString();
+	}
+
+	/**
+	 * Same as validateUserInputs(pWeatherType, pOrbitSpeedLimitMap), and also validates that the network of the query
+	 * defines the weather type (e.g. a network loaded from data files may not define all of them).
+	 * 
+	 * @param pNetwork - Network of the query
+	 * @param pWeatherType - User input
+	 * @param pOrbitSpeedLimitMap - Map for user's input (speed limit) and corresponding orbit name 
+	 * 
+	 * @return - If something invalid, it will have invalid message
+	 */
+	public String validateUserInputs(RoadNetwork pNetwork, String pWeatherType, Map<String, Integer> pOrbitSpeedLimitMap) {
+		String invalidMessage = validateUserInputs(pWeatherType, pOrbitSpeedLimitMap);
+		if (WeatherType.contains(pWeatherType) && null == pNetwork.getWeather(pWeatherType)) {
+			return "Please enter a valid weather type. Weather '" + pWeatherType + "' is not defined in the road network.\n"
+					+ invalidMessage;
+		}
+		return invalidMessage;
+	}
+
+	/**
+	 * This method is responsible to validate suburbs, for route based queries.
+	 * It performs following operations:
+	 * 	-	Validation for source and destinations (i.e. they should exist in the network and should be different)
+	 * 
+	 * @param pSource - User input
+	 * @param pDestinations - User inputs, list of destinations
+	 * 
+	 * @return - If something invalid, it will have invalid message
+	 */
+	public String validateSuburbs(String pSource, List<String> pDestinations) {
+		return validateSuburbs(initializer.getRoadNetwork(), pSource, pDestinations);
+	}
+
+	/**
+	 * This method is responsible to validate suburbs against the given network, for route based queries.
+	 * 
+	 * @param pNetwork - Network of the query
+	 * @param pSource - User input
+	 * @param pDestinations - User inputs, list of destinations
+	 * 
+	 * @return - If something invalid, it will have invalid message
+	 */
+	public String validateSuburbs(RoadNetwork pNetwork, String pSource, List<String> pDestinations) {
+		
+		StringBuilder invalidMessage = new StringBuilder();
+		if (pNetwork.getSuburbId(pSource) < 0) {
+			invalidMessage.append("Please enter a valid source. Suburb '").append(pSource).append("' doesn't exist.\n");
+		}
+		
+		if (ObjectValidationUtils.isEmpty(pDestinations)) {
+			invalidMessage.append("Please enter at least one destination.\n");
+		} else {
+			List<String> invalidDestinations = pDestinations.stream()
+				.filter(destination -> pNetwork.getSuburbId(destination) < 0).collect(Collectors.toList());
+			if (ObjectValidationUtils.isNotEmpty(invalidDestinations)) {
+				invalidMessage.append("Please enter valid destination(s). Suburb(s) ")
+					.append(invalidDestinations).append(" doesn't exist.\n");
+			}
+			if (pDestinations.stream().anyMatch(destination -> null != destination && destination.equalsIgnoreCase(pSource))) {
+				invalidMessage.append("Destination(s) should be different from source.\n");
+			}
+		}
+		
+		return invalidMessage.toString();
+	}
+
+	/**
+	 * This method is responsible to validate origins and destinations against the given network, for travel time matrix.
+	 * It performs following operations:
+	 * 	-	Validation for origins and destinations (i.e. at least one of each, and they should exist in the network)
+	 * 
+	 * Note: An origin can also be a destination. Its time to itself is 0.
+	 * 
+	 * @param pNetwork - Network of the query
+	 * @param pOrigins - User inputs, list of origins
+	 * @param pDestinations - User inputs, list of destinations
+	 * 
+	 * @return - If something invalid, it will have invalid message
+	 */
+	public String validateOriginsAndDestinations(RoadNetwork pNetwork, List<String> pOrigins, List<String> pDestinations) {
+		
+		StringBuilder invalidMessage = new StringBuilder();
+		if (ObjectValidationUtils.isEmpty(pOrigins)) {
+			invalidMessage.append("Please enter at least one origin.\n");
+		} else {
+			List<String> invalidOrigins = pOrigins.stream()
+				.filter(origin -> pNetwork.getSuburbId(origin) < 0).collect(Collectors.toList());
+			if (ObjectValidationUtils.isNotEmpty(invalidOrigins)) {
+				invalidMessage.append("Please enter valid origin(s). Suburb(s) ")
+					.append(invalidOrigins).append(" doesn't exist.\n");
+			}
+		}
+		
+		if (ObjectValidationUtils.isEmpty(pDestinations)) {
+			invalidMessage.append("Please enter at least one destination.\n");
+		} else {
+			List<String> invalidDestinations = pDestinations.stream()
+				.filter(destination -> pNetwork.getSuburbId(destination) < 0).collect(Collectors.toList());
+			if (ObjectValidationUtils.isNotEmpty(invalidDestinations)) {
+				invalidMessage.append("Please enter valid destination(s). Suburb(s) ")
+					.append(invalidDestinations).append(" doesn't exist.\n");
+			}
+		}
+		
 		return invalidMessage.toString();
 	}
 
@@ -83,7 +203,6 @@ public class LengaburuTrafficValidator {
 	 * @return - If exists true, else false.
 	 */
 	public boolean isOrbitExists(String pSource, String pDestination) {
-		return initializer.getAllOrbits().parallelStream().anyMatch(orbit -> orbit.getSource().equalsIgnoreCase(pSource)
-				&& orbit.getDestination().equalsIgnoreCase(pDestination));
+		return initializer.getRoadNetwork().hasOrbit(pSource, pDestination);
 	}
 }
@@ -0,0 +1,275 @@
+/*
+* Copyright (c) 2017, Ritesh. All rights reserved.
+*
+*/
+package in.geektrust.lengaburu.traffic;
+
+import static in.geektrust.lengaburu.traffic.TrafficTestHarness.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import in.geektrust.lengaburu.traffic.beans.Orbit;
+import in.geektrust.lengaburu.traffic.beans.TrafficQuery;
+import in.geektrust.lengaburu.traffic.beans.TraverseDetail;
+import in.geektrust.lengaburu.traffic.beans.Vehicle;
+import in.geektrust.lengaburu.traffic.beans.Velocity;
+import in.geektrust.lengaburu.traffic.beans.Weather;
+import in.geektrust.lengaburu.traffic.beans.WeatherType;
+import in.geektrust.lengaburu.traffic.exception.BusinessException;
+import in.geektrust.lengaburu.traffic.helper.LengaburuTrafficHelper;
+import in.geektrust.lengaburu.traffic.initializer.LengaburuTrafficInitializer;
+import in.geektrust.lengaburu.traffic.network.RoadNetwork;
+
+/**
+ * DESCRIPTION - Regression tests of Problem 1 and Problem 2, with orbit-sequences built by the caller.
+ *
+ * Orbits built by the caller (or taken from LengaburuTrafficInitializer.getAllOrbits()) have no orbit id,
+ * so their speed limits must be looked up by orbit name, same as before the speed limits were kept per query.
+ *
+ * @author - Ritesh Bangal
+ * @version 1.0
+ * @since <17-October-2026>
+ */
+public class LengaburuTrafficFinderTest {
+
+	private static LengaburuTrafficFinder finder = new LengaburuTrafficFinder();
+
+	public static void runTests(TrafficTestHarness pHarness) {
+		pHarness.test("LengaburuTrafficFinderTest.singleDestinationWithCallerBuiltOrbits",
+				LengaburuTrafficFinderTest::singleDestinationWithCallerBuiltOrbits);
+		pHarness.test("LengaburuTrafficFinderTest.multipleDestinationsWithInitializerOrbits",
+				LengaburuTrafficFinderTest::multipleDestinationsWithInitializerOrbits);
+		pHarness.test("LengaburuTrafficFinderTest.helperWithInitializerOrbits",
+				LengaburuTrafficFinderTest::helperWithInitializerOrbits);
+		pHarness.test("LengaburuTrafficFinderTest.helperWithVelocityLimits",
+				LengaburuTrafficFinderTest::helperWithVelocityLimits);
+		pHarness.test("LengaburuTrafficFinderTest.equalCostOrbitsKeepInputOrder",
+				LengaburuTrafficFinderTest::equalCostOrbitsKeepInputOrder);
+		pHarness.test("LengaburuTrafficFinderTest.multipleDestinationsFromNetwork",
+				LengaburuTrafficFinderTest::multipleDestinationsFromNetwork);
+		pHarness.test("LengaburuTrafficFinderTest.alternativesCountIsValidated",
+				LengaburuTrafficFinderTest::alternativesCountIsValidated);
+		pHarness.test("LengaburuTrafficFinderTest.batchMatchesSingleQueries",
+				LengaburuTrafficFinderTest::batchMatchesSingleQueries);
+	}
+
+	private static void singleDestinationWithCallerBuiltOrbits() {
+		List<List<Orbit>> availableOrbits = new ArrayList<>();
+		availableOrbits.add(Arrays.asList(new Orbit("Orbit1", "Silk Drob", "Hallitharam", 18, 20,
+				new Velocity(-1, "megamiles/hour"))));
+		availableOrbits.add(Arrays.asList(new Orbit("Orbit2", "Silk Drob", "Hallitharam", 20, 10,
+				new Velocity(-1, "megamiles/hour"))));
+		Map<String, Integer> orbitSpeedLimitMap = new HashMap<>();
+		orbitSpeedLimitMap.put("Orbit1", 12);
+		orbitSpeedLimitMap.put("Orbit2", 10);
+
+		assertEquals("Optimum of caller-built orbits", "Vehicle Tuktuk on Orbit1",
+				finder.calculateOptimumTimeForSingleDestination("Sunny", availableOrbits, orbitSpeedLimitMap));
+	}
+
+	private static void multipleDestinationsWithInitializerOrbits() {
+		List<Orbit> orbits = LengaburuTrafficInitializer.getInstance().getAllOrbits();
+		List<List<Orbit>> availableOrbitSequences = new ArrayList<>();
+		// Silk Drob -> Hallitharam -> RK Puram, and Silk Drob -> RK Puram -> Hallitharam
+		availableOrbitSequences.add(Arrays.asList(orbits.get(0), orbits.get(4)));
+		availableOrbitSequences.add(Arrays.asList(orbits.get(2), orbits.get(3)));
+		Map<String, Integer> orbitSpeedLimitMap = new HashMap<>();
+		orbitSpeedLimitMap.put("Orbit1", 20);
+		orbitSpeedLimitMap.put("Orbit2", 12);
+		orbitSpeedLimitMap.put("Orbit3", 15);
+		orbitSpeedLimitMap.put("Orbit4", 12);
+
+		assertEquals("Optimum of initializer orbit-sequences", "Vehicle Tuktuk to Hallitharam via Orbit1 and RK Puram via Orbit4",
+				finder.calculateOptimumTimeForMultipleDestinations("Sunny", availableOrbitSequences, orbitSpeedLimitMap));
+	}
+
+	private static void helperWithInitializerOrbits() {
+		LengaburuTrafficInitializer initializer = LengaburuTrafficInitializer.getInstance();
+		List<Orbit> orbits = initializer.getAllOrbits();
+		List<List<Orbit>> availableOrbits = new ArrayList<>();
+		availableOrbits.add(Arrays.asList(orbits.get(0)));
+		availableOrbits.add(Arrays.asList(orbits.get(1)));
+		Map<String, Integer> orbitSpeedLimitMap = new HashMap<>();
+		orbitSpeedLimitMap.put("Orbit1", 12);
+		orbitSpeedLimitMap.put("Orbit2", 10);
+
+		LengaburuTrafficHelper helper = LengaburuTrafficHelper.getInstance();
+		RoadNetwork network = initializer.getRoadNetwork();
+		Weather weather = helper.getWeatherByType(network, "Sunny");
+		List<Vehicle> vehicles = helper.getSuitableVehicles(network, weather.getSuitableVehicleNames());
+		TraverseDetail optimum = helper.findOptimumTraverseDetail(weather, vehicles, availableOrbits, orbitSpeedLimitMap);
+		assertEquals("Vehicle", "Tuktuk", optimum.getVehicle().getName());
+		assertEquals("Orbit", "Orbit1", optimum.getOrbits().get(0).getOrbitName());
+	}
+
+	private static void helperWithVelocityLimits() {
+		// Speed limits set on the caller's own orbits, as callers of the helper did before speed limits were kept per query
+		List<List<Orbit>> availableOrbits = new ArrayList<>();
+		availableOrbits.add(Arrays.asList(new Orbit("Orbit1", "Silk Drob", "Hallitharam", 18, 20,
+				new Velocity(12, "megamiles/hour"))));
+		availableOrbits.add(Arrays.asList(new Orbit("Orbit2", "Silk Drob", "Hallitharam", 20, 10,
+				new Velocity(10, "megamiles/hour"))));
+
+		LengaburuTrafficHelper helper = LengaburuTrafficHelper.getInstance();
+		RoadNetwork network = LengaburuTrafficInitializer.getInstance().getRoadNetwork();
+		Weather weather = helper.getWeatherByType(network, "Sunny");
+		List<Vehicle> vehicles = helper.getSuitableVehicles(network, weather.getSuitableVehicleNames());
+		List<TraverseDetail> traverseDetails = helper.getTraverseDetails(weather, vehicles, availableOrbits);
+		assertEquals("Number of traverse details", 6, traverseDetails.size());
+		assertEquals("Optimum of all traverse details", "Vehicle Tuktuk on Orbit1",
+				helper.generateOutputmessage(helper.findOptimumTraverseDetail(traverseDetails), "Problem1"));
+		assertEquals("Optimum with pruning", "Vehicle Tuktuk on Orbit1",
+				helper.generateOutputmessage(helper.findOptimumTraverseDetail(weather, vehicles, availableOrbits), "Problem1"));
+		assertEquals("Best alternative", "Vehicle Tuktuk on Orbit1",
+				helper.generateOutputmessage(helper.findTopTraverseDetails(weather, vehicles, availableOrbits, 2).get(0), "Problem1"));
+	}
+
+	private static void equalCostOrbitsKeepInputOrder() {
+		// Same cost on both orbits, so the orbit comes first in the input wins (not the one with smaller name)
+		List<List<Orbit>> availableOrbits = new ArrayList<>();
+		availableOrbits.add(Arrays.asList(new Orbit("Orbit2", "Silk Drob", "Hallitharam", 18, 20,
+				new Velocity(12, "megamiles/hour"))));
+		availableOrbits.add(Arrays.asList(new Orbit("Orbit10", "Silk Drob", "Hallitharam", 18, 20,
+				new Velocity(12, "megamiles/hour"))));
+		Map<String, Integer> orbitSpeedLimitMap = new HashMap<>();
+		orbitSpeedLimitMap.put("Orbit2", 12);
+		orbitSpeedLimitMap.put("Orbit10", 12);
+
+		assertEquals("Optimum of equal cost orbits", "Vehicle Tuktuk on Orbit2",
+				finder.calculateOptimumTimeForSingleDestination("Sunny", availableOrbits, orbitSpeedLimitMap));
+
+		LengaburuTrafficHelper helper = LengaburuTrafficHelper.getInstance();
+		RoadNetwork network = LengaburuTrafficInitializer.getInstance().getRoadNetwork();
+		Weather weather = helper.getWeatherByType(network, "Sunny");
+		List<Vehicle> vehicles = helper.getSuitableVehicles(network, weather.getSuitableVehicleNames());
+		assertEquals("Optimum of all traverse details", "Vehicle Tuktuk on Orbit2", helper.generateOutputmessage(
+				helper.findOptimumTraverseDetail(helper.getTraverseDetails(weather, vehicles, availableOrbits), weather), "Problem1"));
+		List<TraverseDetail> alternatives = helper.findTopTraverseDetails(weather, vehicles, availableOrbits, 2);
+		assertEquals("Best alternative", "Vehicle Tuktuk on Orbit2", helper.generateOutputmessage(alternatives.get(0), "Problem1"));
+		assertEquals("Second alternative", "Vehicle Tuktuk on Orbit10", helper.generateOutputmessage(alternatives.get(1), "Problem1"));
+
+		Collections.reverse(availableOrbits);
+		assertEquals("Optimum of equal cost orbits, reversed", "Vehicle Tuktuk on Orbit10",
+				finder.calculateOptimumTimeForSingleDestination("Sunny", availableOrbits, orbitSpeedLimitMap));
+	}
+
+	private static void multipleDestinationsFromNetwork() {
+		// Held-Karp from the network should answer same as all orbit-sequences, for each weather and speed limits
+		LengaburuTrafficHelper helper = LengaburuTrafficHelper.getInstance();
+		List<String> destinations = Arrays.asList("Hallitharam", "RK Puram");
+		int[][] speedLimits = {{20, 12, 15, 12}, {12, 10, 11, 12}, {10, 10, 10, 10}, {5, 30, 5, 30}};
+		for (String weatherType : Arrays.asList("Sunny", "Rainy", "Windy")) {
+			for (int[] limits : speedLimits) {
+				Map<String, Integer> orbitSpeedLimitMap = new HashMap<>();
+				for (int orbit = 0; orbit < limits.length; orbit++) {
+					orbitSpeedLimitMap.put("Orbit" + (orbit + 1), limits[orbit]);
+				}
+				for (List<String> order : Arrays.asList(destinations, Arrays.asList("RK Puram", "Hallitharam"))) {
+					assertEquals("Optimum of " + weatherType + " " + orbitSpeedLimitMap + " " + order,
+							finder.calculateOptimumTimeForMultipleDestinations(weatherType,
+									helper.getAvailableOrbitSequences("Silk Drob", order), orbitSpeedLimitMap),
+							finder.calculateOptimumTimeForMultipleDestinations(weatherType, "Silk Drob", order,
+									orbitSpeedLimitMap));
+				}
+			}
+		}
+		Map<String, Integer> orbitSpeedLimitMap = new HashMap<>();
+		orbitSpeedLimitMap.put("Orbit1", 20);
+		orbitSpeedLimitMap.put("Orbit2", 12);
+		orbitSpeedLimitMap.put("Orbit3", 15);
+		orbitSpeedLimitMap.put("Orbit4", 12);
+		assertEquals("Optimum from the network", "Vehicle Tuktuk to Hallitharam via Orbit1 and RK Puram via Orbit4",
+				finder.calculateOptimumTimeForMultipleDestinations("Sunny", "Silk Drob", destinations, orbitSpeedLimitMap));
+	}
+
+	private static void alternativesCountIsValidated() throws BusinessException {
+		Map<String, Integer> orbitSpeedLimitMap = new HashMap<>();
+		orbitSpeedLimitMap.put("Orbit1", 12);
+		orbitSpeedLimitMap.put("Orbit2", 10);
+		TrafficQuery query = new TrafficQuery("Sunny", "Silk Drob", Arrays.asList("Hallitharam"), orbitSpeedLimitMap);
+		for (int count : new int[] {0, -1}) {
+			String message = "";
+			try {
+				finder.findAlternatives(query, count);
+			} catch (BusinessException e) {
+				message = e.getMessage();
+			}
+			assertEquals("Validation of " + count + " alternatives",
+					"Validation failed. Error message(s): \nNumber of alternatives should be +ve integer.", message);
+		}
+		assertEquals("Number of alternatives", 1, finder.findAlternatives(query, 1).size());
+	}
+
+	private static void batchMatchesSingleQueries() {
+		/*
+		 * Random networks (few suburbs, few values, so there are many ties) and queries are generated with a fixed seed.
+		 * Queries of a batch share a few routes, so most of them are solved by PreparedTrafficQuery of their group,
+		 * while solve(query) solves each of them on its own. Some queries are invalid, to compare messages too.
+		 */
+		Random random = new Random(20171017L);
+		LengaburuTrafficInitializer initializer = LengaburuTrafficInitializer.getInstance();
+		RoadNetwork oldNetwork = initializer.getRoadNetwork();
+		try {
+			for (int round = 0; round < 20; round++) {
+				List<Orbit> orbits = new ArrayList<>();
+				for (int from = 0; from < 5; from++) {
+					for (int to = 0; to < 5; to++) {
+						for (int count = (from == to) ? 0 : random.nextInt(3); count > 0; count--) {
+							orbits.add(new Orbit("Orbit" + (orbits.size() + 1), "Suburb" + from, "Suburb" + to, 
+									1 + random.nextInt(4), random.nextInt(4), new Velocity(-1, "megamiles/hour")));
+						}
+					}
+				}
+				List<Vehicle> vehicles = new ArrayList<>();
+				List<String> vehicleNames = new ArrayList<>();
+				for (int vehicle = 1; vehicle <= 3; vehicle++) {
+					vehicles.add(new Vehicle("Vehicle" + vehicle, new Velocity(1 + random.nextInt(6), "megamiles/hour"),
+							random.nextInt(3)));
+					vehicleNames.add("Vehicle" + vehicle);
+				}
+				List<Weather> weathers = new ArrayList<>();
+				for (WeatherType weatherType : WeatherType.values()) {
+					Collections.shuffle(vehicleNames, random);
+					weathers.add(new Weather(weatherType, random.nextInt(61) - 30, 
+							new ArrayList<>(vehicleNames.subList(0, 1 + random.nextInt(3)))));
+				}
+				initializer.replaceRoadNetwork(RoadNetwork.build(orbits, vehicles, weathers));
+
+				// Few routes, each with one, two or (invalid) three destinations
+				List<List<String>> routes = new ArrayList<>();
+				for (int route = 0; route < 6; route++) {
+					List<String> suburbs = new ArrayList<>(Arrays.asList("Suburb0", "Suburb1", "Suburb2", "Suburb3", "Suburb4"));
+					Collections.shuffle(suburbs, random);
+					routes.add(suburbs.subList(0, (random.nextInt(10) == 0) ? 4 : 2 + random.nextInt(2)));
+				}
+				List<TrafficQuery> queries = new ArrayList<>();
+				for (int query = 0; query < 40; query++) {
+					List<String> route = routes.get(random.nextInt(routes.size()));
+					String weatherType = (random.nextInt(20) == 0) ? "Foggy" : WeatherType.values()[random.nextInt(3)].toString();
+					// Some orbits are closed, i.e. without speed limit, and few have invalid speed limit
+					Map<String, Integer> orbitSpeedLimitMap = new HashMap<>();
+					for (Orbit orbit : orbits) {
+						if (random.nextInt(8) > 0) {
+							orbitSpeedLimitMap.put(orbit.getOrbitName(), (random.nextInt(100) == 0) ? 0 : 1 + random.nextInt(6));
+						}
+					}
+					queries.add(new TrafficQuery(weatherType, route.get(0), route.subList(1, route.size()), orbitSpeedLimitMap));
+				}
+
+				List<String> results = finder.solveBatch(queries);
+				for (int query = 0; query < queries.size(); query++) {
+					assertEquals("Query " + query + " of round " + round + ": " + queries.get(query),
+							finder.solve(queries.get(query)), results.get(query));
+				}
+			}
+		} finally {
+			initializer.replaceRoadNetwork(oldNetwork);
+		}
+	}
+}
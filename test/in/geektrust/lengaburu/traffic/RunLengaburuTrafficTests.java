@@ -0,0 +1,44 @@
+/*
+* Copyright (c) 2017, Ritesh. All rights reserved.
+*
+*/
+package in.geektrust.lengaburu.traffic;
+
+import in.geektrust.lengaburu.traffic.cache.CachingTrafficFinderTest;
+import in.geektrust.lengaburu.traffic.engine.ContractionHierarchiesTest;
+import in.geektrust.lengaburu.traffic.engine.DynamicRouteOptimizerTest;
+import in.geektrust.lengaburu.traffic.engine.MultiDestinationTourSolverTest;
+import in.geektrust.lengaburu.traffic.engine.TraverseTimeKernelTest;
+import in.geektrust.lengaburu.traffic.initializer.LengaburuTrafficFileLoaderTest;
+import in.geektrust.lengaburu.traffic.network.WeatherCostTableTest;
+
+/**
+ * DESCRIPTION - This class is responsible to run all tests of Lengaburu Traffic.
+ * 
+ * Tests are compiled from 'test' source folder, along with 'src' (see .classpath). e.g.
+ * 		javac -d bin $(find src test -name '*.java')
+ * 		java -cp bin in.geektrust.lengaburu.traffic.RunLengaburuTrafficTests
+ * Exit status is 1, if any test has failed.
+ * 
+ * @author - Ritesh Bangal
+ * @version 1.0
+ * @since <17-October-2026>
+ */
+public class RunLengaburuTrafficTests {
+
+	public static void main(String[] args) {
+		TrafficTestHarness harness = new TrafficTestHarness();
+
+		LengaburuTrafficFinderTest.runTests(harness);
+		LengaburuTrafficFileLoaderTest.runTests(harness);
+		TraverseTimeKernelTest.runTests(harness);
+		MultiDestinationTourSolverTest.runTests(harness);
+		CachingTrafficFinderTest.runTests(harness);
+		WeatherCostTableTest.runTests(harness);
+		DynamicRouteOptimizerTest.runTests(harness);
+		ContractionHierarchiesTest.runTests(harness);
+
+		System.out.println(harness.getTestCount() + " tests, " + harness.getFailureCount() + " failures");
+		System.exit(harness.getFailureCount() == 0 ? 0 : 1);
+	}
+}
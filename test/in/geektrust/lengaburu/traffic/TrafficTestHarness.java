@@ -0,0 +1,69 @@
+/*
+* Copyright (c) 2017, Ritesh. All rights reserved.
+*
+*/
+package in.geektrust.lengaburu.traffic;
+
+import java.util.Objects;
+
+/**
+ * DESCRIPTION - This class is a minimal test harness, as the project is built without any build tool or test library.
+ * 
+ * Each test class has a static runTests(harness) method, which runs its tests with test(name, body).
+ * A test fails if its body throws anything, e.g. AssertionError from assertEquals()/assertTrue().
+ * All test classes are run by RunLengaburuTrafficTests, which exits with status 1 if any test has failed.
+ * 
+ * @author - Ritesh Bangal
+ * @version 1.0
+ * @since <17-October-2026>
+ */
+public final class TrafficTestHarness {
+
+	/**
+	 * Body of a test.
+	 */
+	@FunctionalInterface
+	public interface TestBody {
+		void run() throws Exception;
+	}
+
+	private int testCount;
+	private int failureCount;
+
+	/**
+	 * Run a test, and print its result.
+	 * 
+	 * @param pName - Name of the test, e.g. ClassName.methodName
+	 * @param pBody - Body of the test
+	 */
+	public void test(String pName, TestBody pBody) {
+		testCount++;
+		try {
+			pBody.run();
+			System.out.println("PASS " + pName);
+		} catch (Exception | AssertionError e) {
+			failureCount++;
+			System.out.println("FAIL " + pName + ": " + e);
+		}
+	}
+
+	public static void assertEquals(String pMessage, Object pExpected, Object pActual) {
+		if (!Objects.equals(pExpected, pActual)) {
+			throw new AssertionError(pMessage + ". Expected <" + pExpected + ">, but was <" + pActual + ">");
+		}
+	}
+
+	public static void assertTrue(String pMessage, boolean pCondition) {
+		if (!pCondition) {
+			throw new AssertionError(pMessage);
+		}
+	}
+
+	public int getTestCount() {
+		return testCount;
+	}
+
+	public int getFailureCount() {
+		return failureCount;
+	}
+}
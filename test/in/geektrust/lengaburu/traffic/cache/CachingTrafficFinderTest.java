@@ -0,0 +1,61 @@
+/*
+* Copyright (c) 2017, Ritesh. All rights reserved.
+*
+*/
+package in.geektrust.lengaburu.traffic.cache;
+
+import static in.geektrust.lengaburu.traffic.TrafficTestHarness.assertEquals;
+import static in.geektrust.lengaburu.traffic.TrafficTestHarness.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import in.geektrust.lengaburu.traffic.LengaburuTrafficFinder;
+import in.geektrust.lengaburu.traffic.TrafficTestHarness;
+import in.geektrust.lengaburu.traffic.beans.TrafficQuery;
+
+/**
+ * DESCRIPTION - Tests of RouteResultCache and CachingTrafficFinder, i.e. maximum size and keys of invalid queries.
+ *
+ * @author - Ritesh Bangal
+ * @version 1.0
+ * @since <17-October-2026>
+ */
+public class CachingTrafficFinderTest {
+
+	public static void runTests(TrafficTestHarness pHarness) {
+		pHarness.test("CachingTrafficFinderTest.sizeNeverExceedsMaximumSize",
+				CachingTrafficFinderTest::sizeNeverExceedsMaximumSize);
+		pHarness.test("CachingTrafficFinderTest.speedLimitWithoutOrbitNameIsNotCached",
+				CachingTrafficFinderTest::speedLimitWithoutOrbitNameIsNotCached);
+	}
+
+	private static void sizeNeverExceedsMaximumSize() {
+		// Maximum sizes which aren't a multiple of number of stripes
+		for (int maximumSize : new int[] {1, 3, 7, 10, 61, 100}) {
+			RouteResultCache<Integer, String> cache = new RouteResultCache<>(maximumSize, 0, TimeUnit.SECONDS, () -> 1L);
+			for (int key = 0; key < 20 * maximumSize; key++) {
+				cache.put(key, "Result" + key, 1L);
+				assertTrue("Size " + cache.size() + " is more than " + maximumSize, cache.size() <= maximumSize);
+			}
+		}
+	}
+
+	private static void speedLimitWithoutOrbitNameIsNotCached() {
+		CachingTrafficFinder cachingFinder = new CachingTrafficFinder(new LengaburuTrafficFinder(), 16, 0, TimeUnit.SECONDS);
+		Map<String, Integer> orbitSpeedLimitMap = new HashMap<>();
+		orbitSpeedLimitMap.put("Orbit1", 12);
+		orbitSpeedLimitMap.put(null, 10);
+		TrafficQuery query = new TrafficQuery("Sunny", "Silk Drob", Arrays.asList("Hallitharam"), orbitSpeedLimitMap);
+
+		String expected = "Validation failed. Error message(s): \n"
+				+ "Invalid input(s) (orbit name). Each speed limit should have an orbit name.\n";
+		assertEquals("Single query", expected, cachingFinder.solve(query));
+		List<String> results = cachingFinder.solveBatch(Arrays.asList(query, query));
+		assertEquals("Batch of queries", Arrays.asList(expected, expected), results);
+		assertEquals("Cached results", 0, cachingFinder.getCache().size());
+	}
+}
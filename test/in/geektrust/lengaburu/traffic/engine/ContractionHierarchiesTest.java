@@ -0,0 +1,158 @@
+/*
+* Copyright (c) 2017, Ritesh. All rights reserved.
+*
+*/
+package in.geektrust.lengaburu.traffic.engine;
+
+import static in.geektrust.lengaburu.traffic.TrafficTestHarness.assertEquals;
+import static in.geektrust.lengaburu.traffic.TrafficTestHarness.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import in.geektrust.lengaburu.traffic.TrafficTestHarness;
+import in.geektrust.lengaburu.traffic.beans.Orbit;
+import in.geektrust.lengaburu.traffic.beans.TraverseDetail;
+import in.geektrust.lengaburu.traffic.beans.Vehicle;
+import in.geektrust.lengaburu.traffic.beans.Velocity;
+import in.geektrust.lengaburu.traffic.beans.Weather;
+import in.geektrust.lengaburu.traffic.beans.WeatherType;
+import in.geektrust.lengaburu.traffic.network.RoadNetwork;
+import in.geektrust.lengaburu.traffic.network.SpeedLimitOverlay;
+import in.geektrust.lengaburu.traffic.network.WeatherCostTable;
+
+/**
+ * DESCRIPTION - Tests of ContractionHierarchies, against Dijkstra (i.e. ShortestTimeRouteEngine and TravelTimeMatrixEngine).
+ *
+ * Random networks (few values, so there are many ties) and speed limits are generated with a fixed seed.
+ * For each weather, fastest route between each pair of suburbs should have the same time and vehicle as Dijkstra.
+ * On a tie between routes of the same vehicle, route may differ, so it is checked to be a route of the same time.
+ * Matrix of all suburbs should be same as TravelTimeMatrixEngine, and hierarchies opened from a file same as built ones.
+ *
+ * @author - Ritesh Bangal
+ * @version 1.0
+ * @since <17-October-2026>
+ */
+public class ContractionHierarchiesTest {
+
+	private static final long SEED = 20171017L;
+	private static final int ROUNDS = 30;
+	private static final int SUBURBS = 12;
+	private static final String SPEED_UNIT = "megamiles/hour";
+
+	// Get the only object available for ShortestTimeRouteEngine
+	private static ShortestTimeRouteEngine routeEngine = ShortestTimeRouteEngine.getInstance();
+
+	// Get the only object available for TravelTimeMatrixEngine
+	private static TravelTimeMatrixEngine matrixEngine = TravelTimeMatrixEngine.getInstance();
+
+	public static void runTests(TrafficTestHarness pHarness) {
+		pHarness.test("ContractionHierarchiesTest.routesMatchDijkstra",
+				ContractionHierarchiesTest::routesMatchDijkstra);
+	}
+
+	private static void routesMatchDijkstra() throws Exception {
+		Random random = new Random(SEED);
+		for (int round = 0; round < ROUNDS; round++) {
+			List<Orbit> orbits = new ArrayList<>();
+			Map<String, Integer> orbitSpeedLimitMap = new HashMap<>();
+			for (int from = 0; from < SUBURBS; from++) {
+				for (int to = 0; to < SUBURBS; to++) {
+					// Sparse, so that most routes go through other suburbs
+					for (int count = (from == to) ? 0 : random.nextInt(12) - 9; count > 0; count--) {
+						String orbitName = "Orbit" + (orbits.size() + 1);
+						orbits.add(new Orbit(orbitName, "Suburb" + from, "Suburb" + to, 1 + random.nextInt(4),
+								random.nextInt(4), new Velocity(-1, SPEED_UNIT)));
+						// Some orbits are closed, i.e. without speed limit
+						if (random.nextInt(8) > 0) {
+							orbitSpeedLimitMap.put(orbitName, 1 + random.nextInt(6));
+						}
+					}
+				}
+			}
+			List<Vehicle> vehicles = new ArrayList<>();
+			List<String> vehicleNames = new ArrayList<>();
+			for (int vehicle = 1; vehicle <= 3; vehicle++) {
+				vehicles.add(new Vehicle("Vehicle" + vehicle, new Velocity(1 + random.nextInt(6), SPEED_UNIT),
+						random.nextInt(3)));
+				vehicleNames.add("Vehicle" + vehicle);
+			}
+			List<Weather> weathers = new ArrayList<>();
+			for (WeatherType weatherType : WeatherType.values()) {
+				Collections.shuffle(vehicleNames, random);
+				weathers.add(new Weather(weatherType, random.nextInt(61) - 30,
+						new ArrayList<>(vehicleNames.subList(0, 1 + random.nextInt(3)))));
+			}
+			RoadNetwork network = RoadNetwork.build(orbits, vehicles, weathers);
+			ContractionHierarchies hierarchies = ContractionHierarchies.build(network, orbitSpeedLimitMap);
+			assertSameAsDijkstra("Round " + round, network, hierarchies, orbitSpeedLimitMap);
+
+			if (round == 0) {
+				Path file = Files.createTempFile("hierarchies", ".ch");
+				try {
+					hierarchies.write(file);
+					assertSameAsDijkstra("Round " + round + " from file", network,
+							ContractionHierarchies.open(file, network), orbitSpeedLimitMap);
+				} finally {
+					Files.delete(file);
+				}
+			}
+		}
+	}
+
+	/*
+	 * Compare fastest routes between all pairs of suburbs, and matrix of all suburbs, with Dijkstra for each weather.
+	 */
+	private static void assertSameAsDijkstra(String pMessage, RoadNetwork pNetwork, ContractionHierarchies pHierarchies,
+			Map<String, Integer> pOrbitSpeedLimitMap) {
+		SpeedLimitOverlay speedLimits = SpeedLimitOverlay.of(pNetwork, pOrbitSpeedLimitMap);
+		int[] suburbIds = IntStream.range(0, pNetwork.getSuburbCount()).toArray();
+		for (WeatherType weatherType : WeatherType.values()) {
+			WeatherCostTable costTable = pNetwork.getCostTable(weatherType);
+			for (int sourceId : suburbIds) {
+				for (int destinationId : suburbIds) {
+					String message = pMessage + ", " + weatherType + " from suburb " + sourceId + " to suburb " + destinationId;
+					TraverseDetail expected = routeEngine.findFastestRoute(pNetwork, sourceId, destinationId, costTable,
+							speedLimits);
+					TraverseDetail actual = pHierarchies.findFastestRoute(weatherType, sourceId, destinationId);
+					if (null == expected || null == actual) {
+						assertEquals(message, expected, actual);
+						continue;
+					}
+					assertEquals(message + ", time", expected.getTraverseTime(), actual.getTraverseTime());
+					assertEquals(message + ", vehicle", expected.getVehicle().getName(), actual.getVehicle().getName());
+
+					// Route should go from the source to the destination, in its time
+					int vehicleIndex = costTable.getVehicles().indexOf(actual.getVehicle());
+					int currentId = sourceId;
+					int time = 0;
+					for (Orbit orbit : actual.getOrbits()) {
+						int orbitId = pNetwork.getOrbitIds(orbit.getOrbitName())[0];
+						assertEquals(message + ", source of " + orbit.getOrbitName(), currentId,
+								pNetwork.getOrbitSource(orbitId));
+						assertTrue(message + ", " + orbit.getOrbitName() + " is closed", speedLimits.getSpeedLimit(orbitId) > 0);
+						time += costTable.orbitTime(vehicleIndex, orbitId, speedLimits.getSpeedLimit(orbitId));
+						currentId = pNetwork.getOrbitDestination(orbitId);
+					}
+					assertEquals(message + ", destination of route", destinationId, currentId);
+					assertEquals(message + ", time of route", actual.getTraverseTime(), time);
+				}
+			}
+
+			TravelTimeMatrix expected = matrixEngine.computeMatrix(pNetwork, suburbIds, suburbIds, costTable, speedLimits);
+			TravelTimeMatrix actual = pHierarchies.computeMatrix(weatherType, suburbIds, suburbIds);
+			assertEquals(pMessage + ", " + weatherType + " matrix times", Arrays.deepToString(expected.getTimes()),
+					Arrays.deepToString(actual.getTimes()));
+			assertEquals(pMessage + ", " + weatherType + " matrix vehicles", Arrays.deepToString(expected.getVehicleIndexes()),
+					Arrays.deepToString(actual.getVehicleIndexes()));
+		}
+	}
+}
@@ -0,0 +1,152 @@
+/*
+* Copyright (c) 2017, Ritesh. All rights reserved.
+*
+*/
+package in.geektrust.lengaburu.traffic.engine;
+
+import static in.geektrust.lengaburu.traffic.TrafficTestHarness.assertEquals;
+import static in.geektrust.lengaburu.traffic.TrafficTestHarness.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import in.geektrust.lengaburu.traffic.TrafficTestHarness;
+import in.geektrust.lengaburu.traffic.beans.Orbit;
+import in.geektrust.lengaburu.traffic.beans.TraverseDetail;
+import in.geektrust.lengaburu.traffic.beans.Vehicle;
+import in.geektrust.lengaburu.traffic.beans.Velocity;
+import in.geektrust.lengaburu.traffic.beans.Weather;
+import in.geektrust.lengaburu.traffic.beans.WeatherType;
+import in.geektrust.lengaburu.traffic.network.RoadNetwork;
+import in.geektrust.lengaburu.traffic.network.SpeedLimitOverlay;
+import in.geektrust.lengaburu.traffic.network.WeatherCostTable;
+
+/**
+ * DESCRIPTION - Tests of DynamicRouteOptimizer, against a full search after each speed limit update.
+ *
+ * Random networks (few suburbs, few values, so there are many ties) and speed limit updates (quicker, slower, closed and
+ * re-opened orbits) are generated with a fixed seed. After each update, times of all (suburb, vehicle) states, and time
+ * and vehicle of each fastest route, should be same as ShortestTimeRouteEngine with the current speed limits.
+ * On a tie, route may differ, so it is checked to be a route from the source with the same time.
+ *
+ * @author - Ritesh Bangal
+ * @version 1.0
+ * @since <17-October-2026>
+ */
+public class DynamicRouteOptimizerTest {
+
+	private static final long SEED = 20171017L;
+	private static final int ROUNDS = 100;
+	private static final int UPDATES = 30;
+	private static final int SUBURBS = 7;
+	private static final String SPEED_UNIT = "megamiles/hour";
+
+	// Get the only object available for ShortestTimeRouteEngine
+	private static ShortestTimeRouteEngine routeEngine = ShortestTimeRouteEngine.getInstance();
+
+	public static void runTests(TrafficTestHarness pHarness) {
+		pHarness.test("DynamicRouteOptimizerTest.repairMatchesFullSearch",
+				DynamicRouteOptimizerTest::repairMatchesFullSearch);
+	}
+
+	private static void repairMatchesFullSearch() {
+		Random random = new Random(SEED);
+		for (int round = 0; round < ROUNDS; round++) {
+			List<Orbit> orbits = new ArrayList<>();
+			Map<String, Integer> orbitSpeedLimitMap = new HashMap<>();
+			for (int from = 0; from < SUBURBS; from++) {
+				for (int to = 0; to < SUBURBS; to++) {
+					for (int count = (from == to) ? 0 : random.nextInt(3) - 1; count > 0; count--) {
+						String orbitName = "Orbit" + (orbits.size() + 1);
+						orbits.add(new Orbit(orbitName, "Suburb" + from, "Suburb" + to, 1 + random.nextInt(4),
+								random.nextInt(4), new Velocity(-1, SPEED_UNIT)));
+						// Some orbits are closed, i.e. without speed limit
+						if (random.nextInt(8) > 0) {
+							orbitSpeedLimitMap.put(orbitName, 1 + random.nextInt(6));
+						}
+					}
+				}
+			}
+			List<Vehicle> vehicles = new ArrayList<>();
+			List<String> vehicleNames = new ArrayList<>();
+			for (int vehicle = 1; vehicle <= 3; vehicle++) {
+				vehicles.add(new Vehicle("Vehicle" + vehicle, new Velocity(1 + random.nextInt(6), SPEED_UNIT),
+						random.nextInt(3)));
+				vehicleNames.add("Vehicle" + vehicle);
+			}
+			List<Weather> weathers = new ArrayList<>();
+			for (WeatherType weatherType : WeatherType.values()) {
+				Collections.shuffle(vehicleNames, random);
+				weathers.add(new Weather(weatherType, random.nextInt(61) - 30,
+						new ArrayList<>(vehicleNames.subList(0, 1 + random.nextInt(3)))));
+			}
+			RoadNetwork network = RoadNetwork.build(orbits, vehicles, weathers);
+			if (network.getSuburbId("Suburb0") < 0) {
+				continue;
+			}
+			int sourceId = network.getSuburbId("Suburb0");
+			DynamicRouteOptimizer optimizer = DynamicRouteOptimizer.of(network, sourceId,
+					SpeedLimitOverlay.of(network, orbitSpeedLimitMap));
+			assertSameAsFullSearch("Round " + round, network, sourceId, optimizer, orbitSpeedLimitMap);
+
+			for (int update = 0; update < UPDATES && !orbits.isEmpty(); update++) {
+				String orbitName = orbits.get(random.nextInt(orbits.size())).getOrbitName();
+				Integer speedLimit = (random.nextInt(6) == 0) ? null : random.nextInt(7);
+				optimizer.updateSpeedLimit(orbitName, speedLimit);
+				if (null == speedLimit || speedLimit < 1) {
+					orbitSpeedLimitMap.remove(orbitName);
+				} else {
+					orbitSpeedLimitMap.put(orbitName, speedLimit);
+				}
+				assertSameAsFullSearch("Round " + round + ", update " + update + " (" + orbitName + "=" + speedLimit + ")",
+						network, sourceId, optimizer, orbitSpeedLimitMap);
+			}
+		}
+	}
+
+	/*
+	 * Compare all states and fastest routes of the optimizer with a full search, for each weather.
+	 */
+	private static void assertSameAsFullSearch(String pMessage, RoadNetwork pNetwork, int pSourceId,
+			DynamicRouteOptimizer pOptimizer, Map<String, Integer> pOrbitSpeedLimitMap) {
+		SpeedLimitOverlay speedLimits = SpeedLimitOverlay.of(pNetwork, pOrbitSpeedLimitMap);
+		for (WeatherType weatherType : WeatherType.values()) {
+			WeatherCostTable costTable = pNetwork.getCostTable(weatherType);
+			ShortestTimeTree tree = routeEngine.computeShortestTimeTree(pNetwork, pSourceId, costTable, speedLimits);
+			for (int suburbId = 0; suburbId < pNetwork.getSuburbCount(); suburbId++) {
+				String message = pMessage + ", " + weatherType + " to suburb " + suburbId;
+				for (int vehicleIndex = 0; vehicleIndex < costTable.getVehicleCount(); vehicleIndex++) {
+					assertEquals(message + " with vehicle " + vehicleIndex, tree.getTime(vehicleIndex, suburbId),
+							pOptimizer.getTime(weatherType, vehicleIndex, suburbId));
+				}
+
+				TraverseDetail expected = tree.getFastestRoute(suburbId);
+				TraverseDetail actual = pOptimizer.getFastestRoute(weatherType, suburbId);
+				if (null == expected || null == actual) {
+					assertEquals(message, expected, actual);
+					continue;
+				}
+				assertEquals(message + ", time", expected.getTraverseTime(), actual.getTraverseTime());
+				assertEquals(message + ", vehicle", expected.getVehicle().getName(), actual.getVehicle().getName());
+
+				// Route should go from the source to the suburb, in its time with current speed limits
+				int vehicleIndex = costTable.getVehicles().indexOf(actual.getVehicle());
+				int currentId = pSourceId;
+				int time = 0;
+				for (Orbit orbit : actual.getOrbits()) {
+					int orbitId = pNetwork.getOrbitIds(orbit.getOrbitName())[0];
+					assertEquals(message + ", source of " + orbit.getOrbitName(), currentId, pNetwork.getOrbitSource(orbitId));
+					assertTrue(message + ", " + orbit.getOrbitName() + " is closed", speedLimits.getSpeedLimit(orbitId) > 0);
+					time += costTable.orbitTime(vehicleIndex, orbitId, speedLimits.getSpeedLimit(orbitId));
+					currentId = pNetwork.getOrbitDestination(orbitId);
+				}
+				assertEquals(message + ", destination of route", suburbId, currentId);
+				assertEquals(message + ", time of route", actual.getTraverseTime(), time);
+			}
+		}
+	}
+}
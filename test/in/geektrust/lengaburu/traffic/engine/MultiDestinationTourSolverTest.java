@@ -0,0 +1,105 @@
+/*
+* Copyright (c) 2017, Ritesh. All rights reserved.
+*
+*/
+package in.geektrust.lengaburu.traffic.engine;
+
+import static in.geektrust.lengaburu.traffic.TrafficTestHarness.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import in.geektrust.lengaburu.traffic.TrafficTestHarness;
+import in.geektrust.lengaburu.traffic.beans.Orbit;
+import in.geektrust.lengaburu.traffic.beans.TraverseDetail;
+import in.geektrust.lengaburu.traffic.beans.Vehicle;
+import in.geektrust.lengaburu.traffic.beans.Velocity;
+import in.geektrust.lengaburu.traffic.beans.Weather;
+import in.geektrust.lengaburu.traffic.beans.WeatherType;
+import in.geektrust.lengaburu.traffic.helper.LengaburuTrafficHelper;
+import in.geektrust.lengaburu.traffic.network.RoadNetwork;
+import in.geektrust.lengaburu.traffic.network.SpeedLimitOverlay;
+
+/**
+ * DESCRIPTION - Tests of MultiDestinationTourSolver.findFastestOrbitSequence(), against evaluating all orbit-sequences.
+ *
+ * Random networks (few suburbs, few values, so there are many ties), speed limits and destinations are generated
+ * with a fixed seed. Held-Karp should find the same vehicle and orbit-sequence, in the same time, as
+ * LengaburuTrafficHelper.findOptimumTraverseDetail() over LengaburuTrafficHelper.streamOrbitSequences().
+ *
+ * @author - Ritesh Bangal
+ * @version 1.0
+ * @since <17-October-2026>
+ */
+public class MultiDestinationTourSolverTest {
+
+	private static final long SEED = 20171017L;
+	private static final int ROUNDS = 300;
+	private static final int SUBURBS = 6;
+	private static final String SPEED_UNIT = "megamiles/hour";
+
+	// Get the only object available for MultiDestinationTourSolver
+	private static MultiDestinationTourSolver tourSolver = MultiDestinationTourSolver.getInstance();
+
+	// Get the only object available for LengaburuTrafficHelper
+	private static LengaburuTrafficHelper helper = LengaburuTrafficHelper.getInstance();
+
+	public static void runTests(TrafficTestHarness pHarness) {
+		pHarness.test("MultiDestinationTourSolverTest.orbitSequenceMatchesAllSequences",
+				MultiDestinationTourSolverTest::orbitSequenceMatchesAllSequences);
+	}
+
+	private static void orbitSequenceMatchesAllSequences() {
+		Random random = new Random(SEED);
+		for (int round = 0; round < ROUNDS; round++) {
+			List<Orbit> orbits = new ArrayList<>();
+			Map<String, Integer> orbitSpeedLimitMap = new HashMap<>();
+			for (int from = 0; from < SUBURBS; from++) {
+				for (int to = 0; to < SUBURBS; to++) {
+					for (int count = (from == to) ? 0 : random.nextInt(4); count > 0; count--) {
+						String orbitName = "Orbit" + (orbits.size() + 1);
+						orbits.add(new Orbit(orbitName, "Suburb" + from, "Suburb" + to, 1 + random.nextInt(4),
+								random.nextInt(4), new Velocity(-1, SPEED_UNIT)));
+						// Some orbits are closed, i.e. without speed limit
+						if (random.nextInt(8) > 0) {
+							orbitSpeedLimitMap.put(orbitName, 1 + random.nextInt(6));
+						}
+					}
+				}
+			}
+			List<Vehicle> vehicles = new ArrayList<>();
+			List<String> vehicleNames = new ArrayList<>();
+			for (int vehicle = 1; vehicle <= 1 + random.nextInt(3); vehicle++) {
+				vehicles.add(new Vehicle("Vehicle" + vehicle, new Velocity(1 + random.nextInt(6), SPEED_UNIT),
+						random.nextInt(3)));
+				vehicleNames.add("Vehicle" + vehicle);
+			}
+			Weather weather = new Weather(WeatherType.SUNNY, random.nextInt(61) - 30, vehicleNames);
+			RoadNetwork network = RoadNetwork.build(orbits, vehicles, Arrays.asList(weather));
+
+			// Distinct destinations (other than source) in random order
+			List<String> destinations = new ArrayList<>();
+			for (int suburb = 1; suburb < SUBURBS; suburb++) {
+				destinations.add(random.nextInt(destinations.size() + 1), "Suburb" + suburb);
+			}
+			destinations = destinations.subList(0, 1 + random.nextInt(4));
+
+			SpeedLimitOverlay speedLimits = SpeedLimitOverlay.of(network, orbitSpeedLimitMap);
+			TraverseDetail expected = helper.findOptimumTraverseDetail(weather, network.getVehicles(),
+					helper.streamOrbitSequences(network, "Suburb0", destinations), speedLimits);
+			TraverseDetail actual = tourSolver.findFastestOrbitSequence(network, network.getSuburbId("Suburb0"),
+					destinations.stream().mapToInt(network::getSuburbId).toArray(), network.getVehicles(),
+					weather.getCraterChangeRate(), speedLimits);
+			assertEquals("Optimum of round " + round, toString(expected), toString(actual));
+		}
+	}
+
+	private static String toString(TraverseDetail pTraverseDetail) {
+		return (null == pTraverseDetail) ? "none" : pTraverseDetail.getTraverseTime() + " minutes, "
+				+ helper.generateOutputmessage(pTraverseDetail, "Problem2");
+	}
+}
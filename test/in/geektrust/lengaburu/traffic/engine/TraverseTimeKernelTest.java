@@ -0,0 +1,193 @@
+/*
+* Copyright (c) 2017, Ritesh. All rights reserved.
+*
+*/
+package in.geektrust.lengaburu.traffic.engine;
+
+import static in.geektrust.lengaburu.traffic.TrafficTestHarness.assertEquals;
+import static in.geektrust.lengaburu.traffic.TrafficTestHarness.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import in.geektrust.lengaburu.traffic.TrafficTestHarness;
+import in.geektrust.lengaburu.traffic.beans.Orbit;
+import in.geektrust.lengaburu.traffic.beans.TraverseDetail;
+import in.geektrust.lengaburu.traffic.beans.Vehicle;
+import in.geektrust.lengaburu.traffic.beans.Velocity;
+import in.geektrust.lengaburu.traffic.beans.Weather;
+import in.geektrust.lengaburu.traffic.beans.WeatherType;
+import in.geektrust.lengaburu.traffic.helper.LengaburuTrafficHelper;
+import in.geektrust.lengaburu.traffic.network.SpeedLimitOverlay;
+
+/**
+ * DESCRIPTION - Tests of TraverseTimeKernel, against the traverse time formula it has replaced.
+ *
+ * Random vehicles, orbit-sequences, speed limits and weathers are generated with a fixed seed, so a failure is repeatable.
+ * Each traverse time should be same as calculateTraverseTime() below (i.e. the stream based formula of the helper,
+ * before the kernel), and lower bound should never be more than any vehicle's traverse time.
+ *
+ * @author - Ritesh Bangal
+ * @version 1.0
+ * @since <17-October-2026>
+ */
+public class TraverseTimeKernelTest {
+
+	private static final long SEED = 20171017L;
+	private static final int ROUNDS = 500;
+
+	// Get the only object available for LengaburuTrafficHelper
+	private static LengaburuTrafficHelper helper = LengaburuTrafficHelper.getInstance();
+
+	public static void runTests(TrafficTestHarness pHarness) {
+		pHarness.test("TraverseTimeKernelTest.traverseTimesMatchFormula", TraverseTimeKernelTest::traverseTimesMatchFormula);
+		pHarness.test("TraverseTimeKernelTest.lowerBoundNeverExceedsTimes", TraverseTimeKernelTest::lowerBoundNeverExceedsTimes);
+		pHarness.test("TraverseTimeKernelTest.noVehiclesHasNoCandidates", TraverseTimeKernelTest::noVehiclesHasNoCandidates);
+		pHarness.test("TraverseTimeKernelTest.lowerBoundDoesNotOverflow", TraverseTimeKernelTest::lowerBoundDoesNotOverflow);
+	}
+
+	private static void traverseTimesMatchFormula() {
+		Random random = new Random(SEED);
+		for (int round = 0; round < ROUNDS; round++) {
+			RandomQuery query = new RandomQuery(random);
+			List<TraverseDetail> traverseDetails = helper.getTraverseDetails(query.weather, query.vehicles,
+					query.orbitSequences, query.orbitSpeedLimitMap);
+
+			// Vehicle and then orbit-sequence order, same as before
+			assertEquals("Number of traverse details", query.vehicles.size() * query.orbitSequences.size(),
+					traverseDetails.size());
+			int detailIndex = 0;
+			int minimumTime = Integer.MAX_VALUE;
+			TraverseDetail firstOptimum = null;
+			for (Vehicle vehicle : query.vehicles) {
+				for (List<Orbit> orbitSequence : query.orbitSequences) {
+					TraverseDetail traverseDetail = traverseDetails.get(detailIndex++);
+					int expectedTime = calculateTraverseTime(query.weather, vehicle, orbitSequence, query.orbitSpeedLimitMap);
+					assertEquals("Vehicle of round " + round, vehicle, traverseDetail.getVehicle());
+					assertEquals("Orbit-sequence of round " + round, orbitSequence, traverseDetail.getOrbits());
+					assertEquals("Traverse time of round " + round, expectedTime, traverseDetail.getTraverseTime());
+					// First minimum wins, vehicles of the weather order and then orbit-sequences of the input order
+					if (expectedTime < minimumTime) {
+						minimumTime = expectedTime;
+						firstOptimum = traverseDetail;
+					}
+				}
+			}
+
+			// Pruned search finds the same optimum, including the tie
+			TraverseDetail optimum = helper.findOptimumTraverseDetail(query.weather, query.vehicles, query.orbitSequences,
+					query.orbitSpeedLimitMap);
+			assertEquals("Optimum time of round " + round, minimumTime, optimum.getTraverseTime());
+			assertEquals("Optimum vehicle of round " + round, firstOptimum.getVehicle(), optimum.getVehicle());
+			assertTrue("Optimum orbit-sequence of round " + round, firstOptimum.getOrbits() == optimum.getOrbits());
+			assertTrue("Optimum of all traverse details of round " + round,
+					firstOptimum == helper.findOptimumTraverseDetail(traverseDetails, query.weather));
+		}
+	}
+
+	private static void lowerBoundNeverExceedsTimes() {
+		Random random = new Random(SEED + 1);
+		for (int round = 0; round < ROUNDS; round++) {
+			RandomQuery query = new RandomQuery(random);
+			TraverseTimeKernel kernel = TraverseTimeKernel.compile(query.vehicles, query.orbitSequences,
+					SpeedLimitOverlay.of(query.orbitSequences, query.orbitSpeedLimitMap));
+			int[] times = new int[kernel.getVehicleCount()];
+			for (int sequenceIndex = 0; sequenceIndex < kernel.getSequenceCount(); sequenceIndex++) {
+				int actualNumberOfCraters = kernel.getActualNumberOfCraters(sequenceIndex, query.weather.getCraterChangeRate());
+				int speedLimit = kernel.getSpeedLimit(sequenceIndex);
+				long lowerBound = kernel.lowerBound(sequenceIndex, actualNumberOfCraters, speedLimit);
+				kernel.evaluate(sequenceIndex, actualNumberOfCraters, speedLimit, times);
+				for (int time : times) {
+					assertTrue("Lower bound " + lowerBound + " is more than time " + time + " in round " + round,
+							lowerBound <= time);
+				}
+			}
+		}
+	}
+
+	private static void noVehiclesHasNoCandidates() {
+		RandomQuery query = new RandomQuery(new Random(SEED));
+		List<Vehicle> noVehicles = Collections.emptyList();
+		TraverseTimeKernel kernel = TraverseTimeKernel.compile(noVehicles, query.orbitSequences,
+				SpeedLimitOverlay.of(query.orbitSequences, query.orbitSpeedLimitMap));
+		assertEquals("Sequences without vehicles", 0, kernel.getSequenceCount());
+		assertEquals("Traverse details without vehicles", 0,
+				helper.getTraverseDetails(query.weather, noVehicles, query.orbitSequences, query.orbitSpeedLimitMap).size());
+		assertEquals("Optimum without vehicles", null,
+				helper.findOptimumTraverseDetail(query.weather, noVehicles, query.orbitSequences, query.orbitSpeedLimitMap));
+		assertEquals("Alternatives without vehicles", 0, helper.findTopTraverseDetails(query.weather, noVehicles,
+				query.orbitSequences, query.orbitSpeedLimitMap, 3).size());
+	}
+
+	private static void lowerBoundDoesNotOverflow() {
+		Orbit orbit = new Orbit("Orbit1", "Silk Drob", "Hallitharam", Integer.MAX_VALUE / 2, Integer.MAX_VALUE / 2,
+				new Velocity(-1, "megamiles/hour"));
+		List<List<Orbit>> orbitSequences = Arrays.asList(Arrays.asList(orbit));
+		Map<String, Integer> orbitSpeedLimitMap = Collections.singletonMap("Orbit1", 1);
+		TraverseTimeKernel kernel = TraverseTimeKernel.compile(Arrays.asList(new Vehicle("Bike",
+				new Velocity(10, "megamiles/hour"), 2)), orbitSequences, SpeedLimitOverlay.of(orbitSequences, orbitSpeedLimitMap));
+		long lowerBound = kernel.lowerBound(0, Integer.MAX_VALUE / 2, kernel.getSpeedLimit(0));
+		assertEquals("Lower bound of a long sequence", (Integer.MAX_VALUE / 2) * 60L + (Integer.MAX_VALUE / 2) * 2L, lowerBound);
+	}
+
+	/*
+	 * Traverse time of an orbit-sequence with a vehicle, as the helper calculated it before TraverseTimeKernel.
+	 */
+	private static int calculateTraverseTime(Weather pWeather, Vehicle pVehicle, List<Orbit> pOrbitSequence,
+			Map<String, Integer> pOrbitSpeedLimitMap) {
+		int distance = pOrbitSequence.stream().mapToInt(Orbit::getDistance).sum();
+		int numberOfCratersFromOrbitSequence = pOrbitSequence.stream().mapToInt(Orbit::getNumberOfCraters).sum();
+		int orbitSpeedLimit = pOrbitSequence.stream().mapToInt(orbit -> pOrbitSpeedLimitMap.get(orbit.getOrbitName()))
+				.min().getAsInt();
+		int vehicleMaxSpeed = pVehicle.getVelocity().getSpeed();
+		int applicableMaxSpeed = (orbitSpeedLimit > vehicleMaxSpeed) ? vehicleMaxSpeed : orbitSpeedLimit;
+		int actualNumberOfCraters = (int) Math.round(numberOfCratersFromOrbitSequence
+				* (100 + pWeather.getCraterChangeRate()) / 100.00);
+		return ((distance * 60) / applicableMaxSpeed) + (actualNumberOfCraters * pVehicle.getTimeToCrossCrater());
+	}
+
+	/*
+	 * Random vehicles, orbit-sequences (of 1 to 3 orbits, which may share orbits), speed limits and weather.
+	 */
+	private static final class RandomQuery {
+
+		private final Weather weather;
+		private final List<Vehicle> vehicles = new ArrayList<>();
+		private final List<List<Orbit>> orbitSequences = new ArrayList<>();
+		private final Map<String, Integer> orbitSpeedLimitMap = new HashMap<>();
+
+		private RandomQuery(Random pRandom) {
+			WeatherType weatherType = WeatherType.values()[pRandom.nextInt(WeatherType.values().length)];
+			List<String> vehicleNames = new ArrayList<>();
+			int vehicleCount = 1 + pRandom.nextInt(4);
+			for (int vehicleIndex = 0; vehicleIndex < vehicleCount; vehicleIndex++) {
+				vehicles.add(new Vehicle("Vehicle" + vehicleIndex, new Velocity(1 + pRandom.nextInt(40), "megamiles/hour"),
+						pRandom.nextInt(5)));
+				vehicleNames.add("Vehicle" + vehicleIndex);
+			}
+			weather = new Weather(weatherType, pRandom.nextInt(61) - 30, vehicleNames);
+
+			List<Orbit> orbits = new ArrayList<>();
+			int orbitCount = 1 + pRandom.nextInt(8);
+			for (int orbitIndex = 1; orbitIndex <= orbitCount; orbitIndex++) {
+				orbits.add(new Orbit("Orbit" + orbitIndex, "Suburb" + pRandom.nextInt(4), "Suburb" + (4 + pRandom.nextInt(4)),
+						1 + pRandom.nextInt(50), pRandom.nextInt(30), new Velocity(-1, "megamiles/hour")));
+				orbitSpeedLimitMap.put("Orbit" + orbitIndex, 1 + pRandom.nextInt(40));
+			}
+			int sequenceCount = 1 + pRandom.nextInt(12);
+			for (int sequenceIndex = 0; sequenceIndex < sequenceCount; sequenceIndex++) {
+				List<Orbit> orbitSequence = new ArrayList<>();
+				int length = 1 + pRandom.nextInt(3);
+				for (int position = 0; position < length; position++) {
+					orbitSequence.add(orbits.get(pRandom.nextInt(orbitCount)));
+				}
+				orbitSequences.add(orbitSequence);
+			}
+		}
+	}
+}
@@ -0,0 +1,94 @@
+/*
+* Copyright (c) 2017, Ritesh. All rights reserved.
+*
+*/
+package in.geektrust.lengaburu.traffic.initializer;
+
+import static in.geektrust.lengaburu.traffic.TrafficTestHarness.assertEquals;
+import static in.geektrust.lengaburu.traffic.TrafficTestHarness.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import in.geektrust.lengaburu.traffic.LengaburuTrafficFinder;
+import in.geektrust.lengaburu.traffic.TrafficTestHarness;
+import in.geektrust.lengaburu.traffic.beans.Orbit;
+import in.geektrust.lengaburu.traffic.beans.Vehicle;
+import in.geektrust.lengaburu.traffic.beans.Weather;
+import in.geektrust.lengaburu.traffic.beans.WeatherType;
+import in.geektrust.lengaburu.traffic.exception.BusinessException;
+import in.geektrust.lengaburu.traffic.network.RoadNetwork;
+
+/**
+ * DESCRIPTION - Tests of weathers file validation, and of queries on a network which doesn't define a weather type.
+ *
+ * @author - Ritesh Bangal
+ * @version 1.0
+ * @since <17-October-2026>
+ */
+public class LengaburuTrafficFileLoaderTest {
+
+	private static LengaburuTrafficFileLoader loader = LengaburuTrafficFileLoader.getInstance();
+
+	private static LengaburuTrafficInitializer initializer = LengaburuTrafficInitializer.getInstance();
+
+	public static void runTests(TrafficTestHarness pHarness) {
+		pHarness.test("LengaburuTrafficFileLoaderTest.missingWeatherTypeIsRejected",
+				LengaburuTrafficFileLoaderTest::missingWeatherTypeIsRejected);
+		pHarness.test("LengaburuTrafficFileLoaderTest.weatherWithoutVehiclesIsRejected",
+				LengaburuTrafficFileLoaderTest::weatherWithoutVehiclesIsRejected);
+		pHarness.test("LengaburuTrafficFileLoaderTest.undefinedWeatherIsValidationFailure",
+				LengaburuTrafficFileLoaderTest::undefinedWeatherIsValidationFailure);
+	}
+
+	private static void missingWeatherTypeIsRejected() throws Exception {
+		String message = loadWeathers("WeatherType,CraterChangeRate,SuitableVehicles\nSunny,-10,Bike;Tuktuk;Car\n"
+				+ "Rainy,20,Tuktuk;Car\n");
+		assertTrue("Missing Windy should be reported, but was: " + message, message.contains("Missing weather(s) [Windy]"));
+	}
+
+	private static void weatherWithoutVehiclesIsRejected() throws Exception {
+		String message = loadWeathers("Sunny,-10,Bike;Tuktuk;Car\nRainy,20,;\nWindy,0,Bike;Tuktuk;Car\n");
+		assertTrue("Rainy without vehicles should be reported, but was: " + message,
+				message.contains("line 2: At least one suitable vehicle is required."));
+	}
+
+	private static void undefinedWeatherIsValidationFailure() {
+		List<Weather> weathers = Arrays.asList(new Weather(WeatherType.SUNNY, -10, Arrays.asList("Bike", "Tuktuk", "Car")));
+		List<Orbit> orbits = initializer.getAllOrbits();
+		List<Vehicle> vehicles = initializer.getAllVehicles();
+		RoadNetwork oldNetwork = initializer.replaceRoadNetwork(RoadNetwork.build(orbits, vehicles, weathers));
+		try {
+			Map<String, Integer> orbitSpeedLimitMap = new HashMap<>();
+			orbitSpeedLimitMap.put("Orbit1", 12);
+			orbitSpeedLimitMap.put("Orbit2", 10);
+			assertEquals("Windy query on a network without Windy", "Validation failed. Error message(s): \n"
+					+ "Please enter a valid weather type. Weather 'Windy' is not defined in the road network.\n",
+					new LengaburuTrafficFinder().calculateOptimumTimeForSingleDestination("Windy",
+							Arrays.asList(Arrays.asList(orbits.get(0)), Arrays.asList(orbits.get(1))), orbitSpeedLimitMap));
+		} finally {
+			initializer.replaceRoadNetwork(oldNetwork);
+		}
+	}
+
+	/*
+	 * Load the weathers file with the content, and return the error message. Empty, if it was loaded.
+	 */
+	private static String loadWeathers(String pContent) throws Exception {
+		Path weathersFile = Files.createTempFile("weathers", ".csv");
+		try {
+			Files.write(weathersFile, pContent.getBytes(StandardCharsets.UTF_8));
+			loader.loadWeathers(weathersFile, initializer.getAllVehicles());
+			return "";
+		} catch (BusinessException e) {
+			return e.getMessage();
+		} finally {
+			Files.delete(weathersFile);
+		}
+	}
+}
@@ -0,0 +1,74 @@
+/*
+* Copyright (c) 2017, Ritesh. All rights reserved.
+*
+*/
+package in.geektrust.lengaburu.traffic.network;
+
+import static in.geektrust.lengaburu.traffic.TrafficTestHarness.assertEquals;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import in.geektrust.lengaburu.traffic.TrafficTestHarness;
+import in.geektrust.lengaburu.traffic.beans.Orbit;
+import in.geektrust.lengaburu.traffic.beans.TraverseDetail;
+import in.geektrust.lengaburu.traffic.beans.Vehicle;
+import in.geektrust.lengaburu.traffic.beans.Velocity;
+import in.geektrust.lengaburu.traffic.beans.Weather;
+import in.geektrust.lengaburu.traffic.beans.WeatherType;
+import in.geektrust.lengaburu.traffic.engine.ShortestTimeRouteEngine;
+import in.geektrust.lengaburu.traffic.helper.LengaburuTrafficHelper;
+
+/**
+ * DESCRIPTION - Tests of WeatherCostTable, i.e. order of its vehicles for the tie rule.
+ *
+ * Vehicles of the file are in a different order than suitable vehicles of the weather, and both take the same time.
+ * So the vehicle which comes first for the weather should win, same as LengaburuTrafficHelper.findOptimumTraverseDetail().
+ *
+ * @author - Ritesh Bangal
+ * @version 1.0
+ * @since <17-October-2026>
+ */
+public class WeatherCostTableTest {
+
+	private static final String SPEED_UNIT = "megamiles/hour";
+
+	// Get the only object available for ShortestTimeRouteEngine
+	private static ShortestTimeRouteEngine routeEngine = ShortestTimeRouteEngine.getInstance();
+
+	// Get the only object available for LengaburuTrafficHelper
+	private static LengaburuTrafficHelper helper = LengaburuTrafficHelper.getInstance();
+
+	public static void runTests(TrafficTestHarness pHarness) {
+		pHarness.test("WeatherCostTableTest.vehiclesInWeatherOrder",
+				WeatherCostTableTest::vehiclesInWeatherOrder);
+	}
+
+	private static void vehiclesInWeatherOrder() {
+		List<Orbit> orbits = Arrays.asList(new Orbit("Orbit1", "Silk Drob", "Hallitharam", 20, 5,
+				new Velocity(-1, SPEED_UNIT)));
+		// Same speed and time to cross a crater, so every orbit takes the same time with both vehicles
+		List<Vehicle> vehicles = Arrays.asList(new Vehicle("Car", new Velocity(20, SPEED_UNIT), 3),
+				new Vehicle("Bike", new Velocity(20, SPEED_UNIT), 3));
+		Weather weather = new Weather(WeatherType.SUNNY, -10, Arrays.asList("Bike", "Tuktuk", "Car"));
+		RoadNetwork network = RoadNetwork.build(orbits, vehicles, Arrays.asList(weather));
+		WeatherCostTable costTable = network.getCostTable(WeatherType.SUNNY);
+
+		assertEquals("Vehicles of cost table", Arrays.asList("Bike", "Car"),
+				costTable.getVehicles().stream().map(Vehicle::getName).collect(Collectors.toList()));
+
+		Map<String, Integer> orbitSpeedLimitMap = new HashMap<>();
+		orbitSpeedLimitMap.put("Orbit1", 10);
+		SpeedLimitOverlay speedLimits = SpeedLimitOverlay.of(network, orbitSpeedLimitMap);
+		TraverseDetail expected = helper.findOptimumTraverseDetail(weather, network.getVehicles(),
+				helper.streamOrbitSequences(network, "Silk Drob", Arrays.asList("Hallitharam")), speedLimits);
+		TraverseDetail actual = routeEngine.findFastestRoute(network, network.getSuburbId("Silk Drob"),
+				network.getSuburbId("Hallitharam"), costTable, speedLimits);
+		assertEquals("Vehicle of orbit-sequences", "Bike", expected.getVehicle().getName());
+		assertEquals("Vehicle of route", "Bike", actual.getVehicle().getName());
+		assertEquals("Time of route", expected.getTraverseTime(), actual.getTraverseTime());
+	}
+}